@@ -49,6 +49,17 @@ public class NbodyServiceClient {
         System.out.println(resultCode.getResultCode() + " " + resultCode.getMessage());
     }
 
+    /**
+     * set-queue-policy block|latest-wins|drop-oldest
+     */
+    private void setResultQueuePolicy(String [] args) {
+        ResultQueuePolicy.ResultQueuePolicyEnum policy =
+                ResultQueuePolicy.ResultQueuePolicyEnum.valueOf(args[1].toUpperCase().replace('-', '_'));
+        ResultQueuePolicy request = ResultQueuePolicy.newBuilder().setPolicy(policy).build();
+        ResultCode resultCode = blockingStub.setResultQueuePolicy(request);
+        System.out.println(resultCode.getResultCode() + " " + resultCode.getMessage());
+    }
+
     /**
      * set-time-scale
      */
@@ -69,6 +80,19 @@ public class NbodyServiceClient {
         System.out.println(resultCode.getResultCode() + " " + resultCode.getMessage());
     }
 
+    /**
+     * set-coarsening distance velocity max-members
+     */
+    private void setCoarsening(String [] args) {
+        float distance = Float.parseFloat(args[1]);
+        float velocity = Float.parseFloat(args[2]);
+        int maxMembers = Integer.parseInt(args[3]);
+        Coarsening request = Coarsening.newBuilder().setDistance(distance).setVelocity(velocity)
+                .setMaxMembers(maxMembers).build();
+        ResultCode resultCode = blockingStub.setCoarsening(request);
+        System.out.println(resultCode.getResultCode() + " " + resultCode.getMessage());
+    }
+
     /**
      * remove-bodies
      */
@@ -136,11 +160,16 @@ public class NbodyServiceClient {
         String result =
             "Bodies = %d\n" +
             "Result Queue Size = %d\n" +
+            "Result Queue Policy = %s\n" +
             "Computation Threads = %d\n" +
             "Smoothing Factor = %e\n" +
-            "Restitution Coefficient = %e\n";
-        result = String.format(result, config.getBodies(), config.getResultQueueSize(), config.getComputationThreads(),
-                config.getSmoothingFactor(), config.getRestitutionCoefficient());
+            "Restitution Coefficient = %e\n" +
+            "Coarsening Distance = %e\n" +
+            "Coarsening Velocity = %e\n" +
+            "Coarsening Max Members = %d\n";
+        result = String.format(result, config.getBodies(), config.getResultQueueSize(), config.getResultQueuePolicy(),
+                config.getComputationThreads(), config.getSmoothingFactor(), config.getRestitutionCoefficient(),
+                config.getCoarseningDistance(), config.getCoarseningVelocity(), config.getCoarseningMaxMembers());
         System.out.println(result);
     }
 
@@ -185,6 +214,35 @@ public class NbodyServiceClient {
         System.out.println(result);
     }
 
+    /**
+     * find-in-sphere x y z radius
+     */
+    private void findBodiesInSphere(String [] args) {
+        SphereQuery request = SphereQuery.newBuilder().setX(Float.parseFloat(args[1])).setY(Float.parseFloat(args[2]))
+                .setZ(Float.parseFloat(args[3])).setRadius(Float.parseFloat(args[4])).build();
+        printBodies(blockingStub.findBodiesInSphere(request));
+    }
+
+    /**
+     * find-nearest x y z count
+     */
+    private void findNearestBodies(String [] args) {
+        NearestQuery request = NearestQuery.newBuilder().setX(Float.parseFloat(args[1])).setY(Float.parseFloat(args[2]))
+                .setZ(Float.parseFloat(args[3])).setCount(Integer.parseInt(args[4])).build();
+        printBodies(blockingStub.findNearestBodies(request));
+    }
+
+    /**
+     * Prints one line per body found by a spatial query
+     */
+    private void printBodies(BodyList bodyList) {
+        for (BodyDescription bd : bodyList.getBodiesList()) {
+            System.out.println(String.format("id: %d x,y,z: %f,%f,%f radius: %f name: %s", bd.getId(),
+                    bd.getX(), bd.getY(), bd.getZ(), bd.getRadius(), bd.getName()));
+        }
+        System.out.println(String.format("%d bodies", bodyList.getBodiesCount()));
+    }
+
     /**
      * Adds one body with typed args
      */
@@ -371,12 +429,16 @@ public class NbodyServiceClient {
             switch (args[0].toLowerCase()) {
                 case "set-threads": client.setComputationThreads(args); break;
                 case "set-queue-size": client.setResultQueueSize(args); break;
+                case "set-queue-policy": client.setResultQueuePolicy(args); break;
                 case "set-time-scale": client.setSmoothing(args); break;
                 case "set-restitution": client.setRestitutionCoefficient(args); break;
+                case "set-coarsening": client.setCoarsening(args); break;
                 case "remove-bodies": client.removeBodies(args); break;
                 case "mod-body": case "mod-bodies": client.modBodies(args); break;
                 case "get-config": client.getCurrentConfig(); break;
                 case "get-body": client.getBody(args); break;
+                case "find-in-sphere": client.findBodiesInSphere(args); break;
+                case "find-nearest": client.findNearestBodies(args); break;
                 case "add-body": case "add-bodies":
                     client.addBodies(args); break;
                 default:
@@ -150,6 +150,8 @@ public enum BodyColorEnum
   }
 
   /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
    * @deprecated Use {@link #forNumber(int)} instead.
    */
   @java.lang.Deprecated
@@ -157,6 +159,10 @@ public enum BodyColorEnum
     return forNumber(value);
   }
 
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   */
   public static BodyColorEnum forNumber(int value) {
     switch (value) {
       case 0: return NOCOLOR;
@@ -201,8 +207,7 @@ public enum BodyColorEnum
   }
   public static final com.google.protobuf.Descriptors.EnumDescriptor
       getDescriptor() {
-    return org.ericace.grpcserver.Nbodyservice.getDescriptor()
-        .getEnumTypes().get(1);
+    return org.ericace.grpcserver.Nbodyservice.getDescriptor().getEnumTypes().get(1);
   }
 
   private static final BodyColorEnum[] VALUES = values();
@@ -14,42 +14,40 @@ public  final class BodyDescription extends
     com.google.protobuf.GeneratedMessageV3 implements
     // @@protoc_insertion_point(message_implements:nbodyservice.BodyDescription)
     BodyDescriptionOrBuilder {
+private static final long serialVersionUID = 0L;
   // Use BodyDescription.newBuilder() to construct.
   private BodyDescription(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
     super(builder);
   }
   private BodyDescription() {
-    id_ = 0L;
-    x_ = 0F;
-    y_ = 0F;
-    z_ = 0F;
-    vx_ = 0F;
-    vy_ = 0F;
-    vz_ = 0F;
-    mass_ = 0F;
-    radius_ = 0F;
-    isSun_ = false;
     collisionBehavior_ = 0;
     bodyColor_ = 0;
-    fragFactor_ = 0F;
-    fragStep_ = 0F;
-    withTelemetry_ = false;
     name_ = "";
     class__ = "";
-    pinned_ = false;
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new BodyDescription();
   }
 
   @java.lang.Override
   public final com.google.protobuf.UnknownFieldSet
   getUnknownFields() {
-    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    return this.unknownFields;
   }
   private BodyDescription(
       com.google.protobuf.CodedInputStream input,
       com.google.protobuf.ExtensionRegistryLite extensionRegistry)
       throws com.google.protobuf.InvalidProtocolBufferException {
     this();
-    int mutable_bitField0_ = 0;
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
     try {
       boolean done = false;
       while (!done) {
@@ -58,12 +56,6 @@ public  final class BodyDescription extends
           case 0:
             done = true;
             break;
-          default: {
-            if (!input.skipField(tag)) {
-              done = true;
-            }
-            break;
-          }
           case 8: {
 
             id_ = input.readInt64();
@@ -158,6 +150,13 @@ public  final class BodyDescription extends
             pinned_ = input.readBool();
             break;
           }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
         }
       }
     } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -166,6 +165,7 @@ public  final class BodyDescription extends
       throw new com.google.protobuf.InvalidProtocolBufferException(
           e).setUnfinishedMessage(this);
     } finally {
+      this.unknownFields = unknownFields.build();
       makeExtensionsImmutable();
     }
   }
@@ -174,6 +174,7 @@ public  final class BodyDescription extends
     return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_BodyDescription_descriptor;
   }
 
+  @java.lang.Override
   protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internalGetFieldAccessorTable() {
     return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_BodyDescription_fieldAccessorTable
@@ -188,7 +189,8 @@ public  final class BodyDescription extends
    * ignored on create
    * </pre>
    *
-   * <code>optional int64 id = 1;</code>
+   * <code>int64 id = 1;</code>
+   * @return The id.
    */
   public long getId() {
     return id_;
@@ -197,7 +199,8 @@ public  final class BodyDescription extends
   public static final int X_FIELD_NUMBER = 2;
   private float x_;
   /**
-   * <code>optional float x = 2;</code>
+   * <code>float x = 2;</code>
+   * @return The x.
    */
   public float getX() {
     return x_;
@@ -206,7 +209,8 @@ public  final class BodyDescription extends
   public static final int Y_FIELD_NUMBER = 3;
   private float y_;
   /**
-   * <code>optional float y = 3;</code>
+   * <code>float y = 3;</code>
+   * @return The y.
    */
   public float getY() {
     return y_;
@@ -215,7 +219,8 @@ public  final class BodyDescription extends
   public static final int Z_FIELD_NUMBER = 4;
   private float z_;
   /**
-   * <code>optional float z = 4;</code>
+   * <code>float z = 4;</code>
+   * @return The z.
    */
   public float getZ() {
     return z_;
@@ -224,7 +229,8 @@ public  final class BodyDescription extends
   public static final int VX_FIELD_NUMBER = 5;
   private float vx_;
   /**
-   * <code>optional float vx = 5;</code>
+   * <code>float vx = 5;</code>
+   * @return The vx.
    */
   public float getVx() {
     return vx_;
@@ -233,7 +239,8 @@ public  final class BodyDescription extends
   public static final int VY_FIELD_NUMBER = 6;
   private float vy_;
   /**
-   * <code>optional float vy = 6;</code>
+   * <code>float vy = 6;</code>
+   * @return The vy.
    */
   public float getVy() {
     return vy_;
@@ -242,7 +249,8 @@ public  final class BodyDescription extends
   public static final int VZ_FIELD_NUMBER = 7;
   private float vz_;
   /**
-   * <code>optional float vz = 7;</code>
+   * <code>float vz = 7;</code>
+   * @return The vz.
    */
   public float getVz() {
     return vz_;
@@ -251,7 +259,8 @@ public  final class BodyDescription extends
   public static final int MASS_FIELD_NUMBER = 8;
   private float mass_;
   /**
-   * <code>optional float mass = 8;</code>
+   * <code>float mass = 8;</code>
+   * @return The mass.
    */
   public float getMass() {
     return mass_;
@@ -260,7 +269,8 @@ public  final class BodyDescription extends
   public static final int RADIUS_FIELD_NUMBER = 9;
   private float radius_;
   /**
-   * <code>optional float radius = 9;</code>
+   * <code>float radius = 9;</code>
+   * @return The radius.
    */
   public float getRadius() {
     return radius_;
@@ -269,7 +279,8 @@ public  final class BodyDescription extends
   public static final int IS_SUN_FIELD_NUMBER = 10;
   private boolean isSun_;
   /**
-   * <code>optional bool is_sun = 10;</code>
+   * <code>bool is_sun = 10;</code>
+   * @return The isSun.
    */
   public boolean getIsSun() {
     return isSun_;
@@ -278,15 +289,18 @@ public  final class BodyDescription extends
   public static final int COLLISION_BEHAVIOR_FIELD_NUMBER = 11;
   private int collisionBehavior_;
   /**
-   * <code>optional .nbodyservice.CollisionBehaviorEnum collision_behavior = 11;</code>
+   * <code>.nbodyservice.CollisionBehaviorEnum collision_behavior = 11;</code>
+   * @return The enum numeric value on the wire for collisionBehavior.
    */
   public int getCollisionBehaviorValue() {
     return collisionBehavior_;
   }
   /**
-   * <code>optional .nbodyservice.CollisionBehaviorEnum collision_behavior = 11;</code>
+   * <code>.nbodyservice.CollisionBehaviorEnum collision_behavior = 11;</code>
+   * @return The collisionBehavior.
    */
   public org.ericace.grpcserver.CollisionBehaviorEnum getCollisionBehavior() {
+    @SuppressWarnings("deprecation")
     org.ericace.grpcserver.CollisionBehaviorEnum result = org.ericace.grpcserver.CollisionBehaviorEnum.valueOf(collisionBehavior_);
     return result == null ? org.ericace.grpcserver.CollisionBehaviorEnum.UNRECOGNIZED : result;
   }
@@ -294,15 +308,18 @@ public  final class BodyDescription extends
   public static final int BODY_COLOR_FIELD_NUMBER = 12;
   private int bodyColor_;
   /**
-   * <code>optional .nbodyservice.BodyColorEnum body_color = 12;</code>
+   * <code>.nbodyservice.BodyColorEnum body_color = 12;</code>
+   * @return The enum numeric value on the wire for bodyColor.
    */
   public int getBodyColorValue() {
     return bodyColor_;
   }
   /**
-   * <code>optional .nbodyservice.BodyColorEnum body_color = 12;</code>
+   * <code>.nbodyservice.BodyColorEnum body_color = 12;</code>
+   * @return The bodyColor.
    */
   public org.ericace.grpcserver.BodyColorEnum getBodyColor() {
+    @SuppressWarnings("deprecation")
     org.ericace.grpcserver.BodyColorEnum result = org.ericace.grpcserver.BodyColorEnum.valueOf(bodyColor_);
     return result == null ? org.ericace.grpcserver.BodyColorEnum.UNRECOGNIZED : result;
   }
@@ -310,7 +327,8 @@ public  final class BodyDescription extends
   public static final int FRAG_FACTOR_FIELD_NUMBER = 13;
   private float fragFactor_;
   /**
-   * <code>optional float frag_factor = 13;</code>
+   * <code>float frag_factor = 13;</code>
+   * @return The fragFactor.
    */
   public float getFragFactor() {
     return fragFactor_;
@@ -319,7 +337,8 @@ public  final class BodyDescription extends
   public static final int FRAG_STEP_FIELD_NUMBER = 14;
   private float fragStep_;
   /**
-   * <code>optional float frag_step = 14;</code>
+   * <code>float frag_step = 14;</code>
+   * @return The fragStep.
    */
   public float getFragStep() {
     return fragStep_;
@@ -328,7 +347,8 @@ public  final class BodyDescription extends
   public static final int WITH_TELEMETRY_FIELD_NUMBER = 15;
   private boolean withTelemetry_;
   /**
-   * <code>optional bool with_telemetry = 15;</code>
+   * <code>bool with_telemetry = 15;</code>
+   * @return The withTelemetry.
    */
   public boolean getWithTelemetry() {
     return withTelemetry_;
@@ -337,7 +357,8 @@ public  final class BodyDescription extends
   public static final int NAME_FIELD_NUMBER = 16;
   private volatile java.lang.Object name_;
   /**
-   * <code>optional string name = 16;</code>
+   * <code>string name = 16;</code>
+   * @return The name.
    */
   public java.lang.String getName() {
     java.lang.Object ref = name_;
@@ -352,7 +373,8 @@ public  final class BodyDescription extends
     }
   }
   /**
-   * <code>optional string name = 16;</code>
+   * <code>string name = 16;</code>
+   * @return The bytes for name.
    */
   public com.google.protobuf.ByteString
       getNameBytes() {
@@ -371,7 +393,8 @@ public  final class BodyDescription extends
   public static final int CLASS_FIELD_NUMBER = 17;
   private volatile java.lang.Object class__;
   /**
-   * <code>optional string class = 17;</code>
+   * <code>string class = 17;</code>
+   * @return The class.
    */
   public java.lang.String getClass_() {
     java.lang.Object ref = class__;
@@ -386,7 +409,8 @@ public  final class BodyDescription extends
     }
   }
   /**
-   * <code>optional string class = 17;</code>
+   * <code>string class = 17;</code>
+   * @return The bytes for class.
    */
   public com.google.protobuf.ByteString
       getClass_Bytes() {
@@ -405,13 +429,15 @@ public  final class BodyDescription extends
   public static final int PINNED_FIELD_NUMBER = 18;
   private boolean pinned_;
   /**
-   * <code>optional bool pinned = 18;</code>
+   * <code>bool pinned = 18;</code>
+   * @return The pinned.
    */
   public boolean getPinned() {
     return pinned_;
   }
 
   private byte memoizedIsInitialized = -1;
+  @java.lang.Override
   public final boolean isInitialized() {
     byte isInitialized = memoizedIsInitialized;
     if (isInitialized == 1) return true;
@@ -421,6 +447,7 @@ public  final class BodyDescription extends
     return true;
   }
 
+  @java.lang.Override
   public void writeTo(com.google.protobuf.CodedOutputStream output)
                       throws java.io.IOException {
     if (id_ != 0L) {
@@ -477,8 +504,10 @@ public  final class BodyDescription extends
     if (pinned_ != false) {
       output.writeBool(18, pinned_);
     }
+    unknownFields.writeTo(output);
   }
 
+  @java.lang.Override
   public int getSerializedSize() {
     int size = memoizedSize;
     if (size != -1) return size;
@@ -554,11 +583,11 @@ public  final class BodyDescription extends
       size += com.google.protobuf.CodedOutputStream
         .computeBoolSize(18, pinned_);
     }
+    size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
   }
 
-  private static final long serialVersionUID = 0L;
   @java.lang.Override
   public boolean equals(final java.lang.Object obj) {
     if (obj == this) {
@@ -569,62 +598,52 @@ public  final class BodyDescription extends
     }
     org.ericace.grpcserver.BodyDescription other = (org.ericace.grpcserver.BodyDescription) obj;
 
-    boolean result = true;
-    result = result && (getId()
-        == other.getId());
-    result = result && (
-        java.lang.Float.floatToIntBits(getX())
-        == java.lang.Float.floatToIntBits(
-            other.getX()));
-    result = result && (
-        java.lang.Float.floatToIntBits(getY())
-        == java.lang.Float.floatToIntBits(
-            other.getY()));
-    result = result && (
-        java.lang.Float.floatToIntBits(getZ())
-        == java.lang.Float.floatToIntBits(
-            other.getZ()));
-    result = result && (
-        java.lang.Float.floatToIntBits(getVx())
-        == java.lang.Float.floatToIntBits(
-            other.getVx()));
-    result = result && (
-        java.lang.Float.floatToIntBits(getVy())
-        == java.lang.Float.floatToIntBits(
-            other.getVy()));
-    result = result && (
-        java.lang.Float.floatToIntBits(getVz())
-        == java.lang.Float.floatToIntBits(
-            other.getVz()));
-    result = result && (
-        java.lang.Float.floatToIntBits(getMass())
-        == java.lang.Float.floatToIntBits(
-            other.getMass()));
-    result = result && (
-        java.lang.Float.floatToIntBits(getRadius())
-        == java.lang.Float.floatToIntBits(
-            other.getRadius()));
-    result = result && (getIsSun()
-        == other.getIsSun());
-    result = result && collisionBehavior_ == other.collisionBehavior_;
-    result = result && bodyColor_ == other.bodyColor_;
-    result = result && (
-        java.lang.Float.floatToIntBits(getFragFactor())
-        == java.lang.Float.floatToIntBits(
-            other.getFragFactor()));
-    result = result && (
-        java.lang.Float.floatToIntBits(getFragStep())
-        == java.lang.Float.floatToIntBits(
-            other.getFragStep()));
-    result = result && (getWithTelemetry()
-        == other.getWithTelemetry());
-    result = result && getName()
-        .equals(other.getName());
-    result = result && getClass_()
-        .equals(other.getClass_());
-    result = result && (getPinned()
-        == other.getPinned());
-    return result;
+    if (getId()
+        != other.getId()) return false;
+    if (java.lang.Float.floatToIntBits(getX())
+        != java.lang.Float.floatToIntBits(
+            other.getX())) return false;
+    if (java.lang.Float.floatToIntBits(getY())
+        != java.lang.Float.floatToIntBits(
+            other.getY())) return false;
+    if (java.lang.Float.floatToIntBits(getZ())
+        != java.lang.Float.floatToIntBits(
+            other.getZ())) return false;
+    if (java.lang.Float.floatToIntBits(getVx())
+        != java.lang.Float.floatToIntBits(
+            other.getVx())) return false;
+    if (java.lang.Float.floatToIntBits(getVy())
+        != java.lang.Float.floatToIntBits(
+            other.getVy())) return false;
+    if (java.lang.Float.floatToIntBits(getVz())
+        != java.lang.Float.floatToIntBits(
+            other.getVz())) return false;
+    if (java.lang.Float.floatToIntBits(getMass())
+        != java.lang.Float.floatToIntBits(
+            other.getMass())) return false;
+    if (java.lang.Float.floatToIntBits(getRadius())
+        != java.lang.Float.floatToIntBits(
+            other.getRadius())) return false;
+    if (getIsSun()
+        != other.getIsSun()) return false;
+    if (collisionBehavior_ != other.collisionBehavior_) return false;
+    if (bodyColor_ != other.bodyColor_) return false;
+    if (java.lang.Float.floatToIntBits(getFragFactor())
+        != java.lang.Float.floatToIntBits(
+            other.getFragFactor())) return false;
+    if (java.lang.Float.floatToIntBits(getFragStep())
+        != java.lang.Float.floatToIntBits(
+            other.getFragStep())) return false;
+    if (getWithTelemetry()
+        != other.getWithTelemetry()) return false;
+    if (!getName()
+        .equals(other.getName())) return false;
+    if (!getClass_()
+        .equals(other.getClass_())) return false;
+    if (getPinned()
+        != other.getPinned()) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
   }
 
   @java.lang.Override
@@ -633,7 +652,7 @@ public  final class BodyDescription extends
       return memoizedHashCode;
     }
     int hash = 41;
-    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (19 * hash) + getDescriptor().hashCode();
     hash = (37 * hash) + ID_FIELD_NUMBER;
     hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
         getId());
@@ -689,6 +708,17 @@ public  final class BodyDescription extends
     return hash;
   }
 
+  public static org.ericace.grpcserver.BodyDescription parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.ericace.grpcserver.BodyDescription parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
   public static org.ericace.grpcserver.BodyDescription parseFrom(
       com.google.protobuf.ByteString data)
       throws com.google.protobuf.InvalidProtocolBufferException {
@@ -748,6 +778,7 @@ public  final class BodyDescription extends
         .parseWithIOException(PARSER, input, extensionRegistry);
   }
 
+  @java.lang.Override
   public Builder newBuilderForType() { return newBuilder(); }
   public static Builder newBuilder() {
     return DEFAULT_INSTANCE.toBuilder();
@@ -755,6 +786,7 @@ public  final class BodyDescription extends
   public static Builder newBuilder(org.ericace.grpcserver.BodyDescription prototype) {
     return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
   }
+  @java.lang.Override
   public Builder toBuilder() {
     return this == DEFAULT_INSTANCE
         ? new Builder() : new Builder().mergeFrom(this);
@@ -782,6 +814,7 @@ public  final class BodyDescription extends
       return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_BodyDescription_descriptor;
     }
 
+    @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
       return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_BodyDescription_fieldAccessorTable
@@ -804,6 +837,7 @@ public  final class BodyDescription extends
               .alwaysUseFieldBuilders) {
       }
     }
+    @java.lang.Override
     public Builder clear() {
       super.clear();
       id_ = 0L;
@@ -845,15 +879,18 @@ public  final class BodyDescription extends
       return this;
     }
 
+    @java.lang.Override
     public com.google.protobuf.Descriptors.Descriptor
         getDescriptorForType() {
       return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_BodyDescription_descriptor;
     }
 
+    @java.lang.Override
     public org.ericace.grpcserver.BodyDescription getDefaultInstanceForType() {
       return org.ericace.grpcserver.BodyDescription.getDefaultInstance();
     }
 
+    @java.lang.Override
     public org.ericace.grpcserver.BodyDescription build() {
       org.ericace.grpcserver.BodyDescription result = buildPartial();
       if (!result.isInitialized()) {
@@ -862,6 +899,7 @@ public  final class BodyDescription extends
       return result;
     }
 
+    @java.lang.Override
     public org.ericace.grpcserver.BodyDescription buildPartial() {
       org.ericace.grpcserver.BodyDescription result = new org.ericace.grpcserver.BodyDescription(this);
       result.id_ = id_;
@@ -886,32 +924,39 @@ public  final class BodyDescription extends
       return result;
     }
 
+    @java.lang.Override
     public Builder clone() {
-      return (Builder) super.clone();
+      return super.clone();
     }
+    @java.lang.Override
     public Builder setField(
         com.google.protobuf.Descriptors.FieldDescriptor field,
-        Object value) {
-      return (Builder) super.setField(field, value);
+        java.lang.Object value) {
+      return super.setField(field, value);
     }
+    @java.lang.Override
     public Builder clearField(
         com.google.protobuf.Descriptors.FieldDescriptor field) {
-      return (Builder) super.clearField(field);
+      return super.clearField(field);
     }
+    @java.lang.Override
     public Builder clearOneof(
         com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-      return (Builder) super.clearOneof(oneof);
+      return super.clearOneof(oneof);
     }
+    @java.lang.Override
     public Builder setRepeatedField(
         com.google.protobuf.Descriptors.FieldDescriptor field,
-        int index, Object value) {
-      return (Builder) super.setRepeatedField(field, index, value);
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
     }
+    @java.lang.Override
     public Builder addRepeatedField(
         com.google.protobuf.Descriptors.FieldDescriptor field,
-        Object value) {
-      return (Builder) super.addRepeatedField(field, value);
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
     }
+    @java.lang.Override
     public Builder mergeFrom(com.google.protobuf.Message other) {
       if (other instanceof org.ericace.grpcserver.BodyDescription) {
         return mergeFrom((org.ericace.grpcserver.BodyDescription)other);
@@ -979,14 +1024,17 @@ public  final class BodyDescription extends
       if (other.getPinned() != false) {
         setPinned(other.getPinned());
       }
+      this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
     }
 
+    @java.lang.Override
     public final boolean isInitialized() {
       return true;
     }
 
+    @java.lang.Override
     public Builder mergeFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
@@ -1011,7 +1059,8 @@ public  final class BodyDescription extends
      * ignored on create
      * </pre>
      *
-     * <code>optional int64 id = 1;</code>
+     * <code>int64 id = 1;</code>
+     * @return The id.
      */
     public long getId() {
       return id_;
@@ -1021,7 +1070,9 @@ public  final class BodyDescription extends
      * ignored on create
      * </pre>
      *
-     * <code>optional int64 id = 1;</code>
+     * <code>int64 id = 1;</code>
+     * @param value The id to set.
+     * @return This builder for chaining.
      */
     public Builder setId(long value) {
       
@@ -1034,7 +1085,8 @@ public  final class BodyDescription extends
      * ignored on create
      * </pre>
      *
-     * <code>optional int64 id = 1;</code>
+     * <code>int64 id = 1;</code>
+     * @return This builder for chaining.
      */
     public Builder clearId() {
       
@@ -1045,13 +1097,16 @@ public  final class BodyDescription extends
 
     private float x_ ;
     /**
-     * <code>optional float x = 2;</code>
+     * <code>float x = 2;</code>
+     * @return The x.
      */
     public float getX() {
       return x_;
     }
     /**
-     * <code>optional float x = 2;</code>
+     * <code>float x = 2;</code>
+     * @param value The x to set.
+     * @return This builder for chaining.
      */
     public Builder setX(float value) {
       
@@ -1060,7 +1115,8 @@ public  final class BodyDescription extends
       return this;
     }
     /**
-     * <code>optional float x = 2;</code>
+     * <code>float x = 2;</code>
+     * @return This builder for chaining.
      */
     public Builder clearX() {
       
@@ -1071,13 +1127,16 @@ public  final class BodyDescription extends
 
     private float y_ ;
     /**
-     * <code>optional float y = 3;</code>
+     * <code>float y = 3;</code>
+     * @return The y.
      */
     public float getY() {
       return y_;
     }
     /**
-     * <code>optional float y = 3;</code>
+     * <code>float y = 3;</code>
+     * @param value The y to set.
+     * @return This builder for chaining.
      */
     public Builder setY(float value) {
       
@@ -1086,7 +1145,8 @@ public  final class BodyDescription extends
       return this;
     }
     /**
-     * <code>optional float y = 3;</code>
+     * <code>float y = 3;</code>
+     * @return This builder for chaining.
      */
     public Builder clearY() {
       
@@ -1097,13 +1157,16 @@ public  final class BodyDescription extends
 
     private float z_ ;
     /**
-     * <code>optional float z = 4;</code>
+     * <code>float z = 4;</code>
+     * @return The z.
      */
     public float getZ() {
       return z_;
     }
     /**
-     * <code>optional float z = 4;</code>
+     * <code>float z = 4;</code>
+     * @param value The z to set.
+     * @return This builder for chaining.
      */
     public Builder setZ(float value) {
       
@@ -1112,7 +1175,8 @@ public  final class BodyDescription extends
       return this;
     }
     /**
-     * <code>optional float z = 4;</code>
+     * <code>float z = 4;</code>
+     * @return This builder for chaining.
      */
     public Builder clearZ() {
       
@@ -1123,13 +1187,16 @@ public  final class BodyDescription extends
 
     private float vx_ ;
     /**
-     * <code>optional float vx = 5;</code>
+     * <code>float vx = 5;</code>
+     * @return The vx.
      */
     public float getVx() {
       return vx_;
     }
     /**
-     * <code>optional float vx = 5;</code>
+     * <code>float vx = 5;</code>
+     * @param value The vx to set.
+     * @return This builder for chaining.
      */
     public Builder setVx(float value) {
       
@@ -1138,7 +1205,8 @@ public  final class BodyDescription extends
       return this;
     }
     /**
-     * <code>optional float vx = 5;</code>
+     * <code>float vx = 5;</code>
+     * @return This builder for chaining.
      */
     public Builder clearVx() {
       
@@ -1149,13 +1217,16 @@ public  final class BodyDescription extends
 
     private float vy_ ;
     /**
-     * <code>optional float vy = 6;</code>
+     * <code>float vy = 6;</code>
+     * @return The vy.
      */
     public float getVy() {
       return vy_;
     }
     /**
-     * <code>optional float vy = 6;</code>
+     * <code>float vy = 6;</code>
+     * @param value The vy to set.
+     * @return This builder for chaining.
      */
     public Builder setVy(float value) {
       
@@ -1164,7 +1235,8 @@ public  final class BodyDescription extends
       return this;
     }
     /**
-     * <code>optional float vy = 6;</code>
+     * <code>float vy = 6;</code>
+     * @return This builder for chaining.
      */
     public Builder clearVy() {
       
@@ -1175,13 +1247,16 @@ public  final class BodyDescription extends
 
     private float vz_ ;
     /**
-     * <code>optional float vz = 7;</code>
+     * <code>float vz = 7;</code>
+     * @return The vz.
      */
     public float getVz() {
       return vz_;
     }
     /**
-     * <code>optional float vz = 7;</code>
+     * <code>float vz = 7;</code>
+     * @param value The vz to set.
+     * @return This builder for chaining.
      */
     public Builder setVz(float value) {
       
@@ -1190,7 +1265,8 @@ public  final class BodyDescription extends
       return this;
     }
     /**
-     * <code>optional float vz = 7;</code>
+     * <code>float vz = 7;</code>
+     * @return This builder for chaining.
      */
     public Builder clearVz() {
       
@@ -1201,13 +1277,16 @@ public  final class BodyDescription extends
 
     private float mass_ ;
     /**
-     * <code>optional float mass = 8;</code>
+     * <code>float mass = 8;</code>
+     * @return The mass.
      */
     public float getMass() {
       return mass_;
     }
     /**
-     * <code>optional float mass = 8;</code>
+     * <code>float mass = 8;</code>
+     * @param value The mass to set.
+     * @return This builder for chaining.
      */
     public Builder setMass(float value) {
       
@@ -1216,7 +1295,8 @@ public  final class BodyDescription extends
       return this;
     }
     /**
-     * <code>optional float mass = 8;</code>
+     * <code>float mass = 8;</code>
+     * @return This builder for chaining.
      */
     public Builder clearMass() {
       
@@ -1227,13 +1307,16 @@ public  final class BodyDescription extends
 
     private float radius_ ;
     /**
-     * <code>optional float radius = 9;</code>
+     * <code>float radius = 9;</code>
+     * @return The radius.
      */
     public float getRadius() {
       return radius_;
     }
     /**
-     * <code>optional float radius = 9;</code>
+     * <code>float radius = 9;</code>
+     * @param value The radius to set.
+     * @return This builder for chaining.
      */
     public Builder setRadius(float value) {
       
@@ -1242,7 +1325,8 @@ public  final class BodyDescription extends
       return this;
     }
     /**
-     * <code>optional float radius = 9;</code>
+     * <code>float radius = 9;</code>
+     * @return This builder for chaining.
      */
     public Builder clearRadius() {
       
@@ -1253,13 +1337,16 @@ public  final class BodyDescription extends
 
     private boolean isSun_ ;
     /**
-     * <code>optional bool is_sun = 10;</code>
+     * <code>bool is_sun = 10;</code>
+     * @return The isSun.
      */
     public boolean getIsSun() {
       return isSun_;
     }
     /**
-     * <code>optional bool is_sun = 10;</code>
+     * <code>bool is_sun = 10;</code>
+     * @param value The isSun to set.
+     * @return This builder for chaining.
      */
     public Builder setIsSun(boolean value) {
       
@@ -1268,7 +1355,8 @@ public  final class BodyDescription extends
       return this;
     }
     /**
-     * <code>optional bool is_sun = 10;</code>
+     * <code>bool is_sun = 10;</code>
+     * @return This builder for chaining.
      */
     public Builder clearIsSun() {
       
@@ -1279,13 +1367,16 @@ public  final class BodyDescription extends
 
     private int collisionBehavior_ = 0;
     /**
-     * <code>optional .nbodyservice.CollisionBehaviorEnum collision_behavior = 11;</code>
+     * <code>.nbodyservice.CollisionBehaviorEnum collision_behavior = 11;</code>
+     * @return The enum numeric value on the wire for collisionBehavior.
      */
     public int getCollisionBehaviorValue() {
       return collisionBehavior_;
     }
     /**
-     * <code>optional .nbodyservice.CollisionBehaviorEnum collision_behavior = 11;</code>
+     * <code>.nbodyservice.CollisionBehaviorEnum collision_behavior = 11;</code>
+     * @param value The enum numeric value on the wire for collisionBehavior to set.
+     * @return This builder for chaining.
      */
     public Builder setCollisionBehaviorValue(int value) {
       collisionBehavior_ = value;
@@ -1293,14 +1384,18 @@ public  final class BodyDescription extends
       return this;
     }
     /**
-     * <code>optional .nbodyservice.CollisionBehaviorEnum collision_behavior = 11;</code>
+     * <code>.nbodyservice.CollisionBehaviorEnum collision_behavior = 11;</code>
+     * @return The collisionBehavior.
      */
     public org.ericace.grpcserver.CollisionBehaviorEnum getCollisionBehavior() {
+      @SuppressWarnings("deprecation")
       org.ericace.grpcserver.CollisionBehaviorEnum result = org.ericace.grpcserver.CollisionBehaviorEnum.valueOf(collisionBehavior_);
       return result == null ? org.ericace.grpcserver.CollisionBehaviorEnum.UNRECOGNIZED : result;
     }
     /**
-     * <code>optional .nbodyservice.CollisionBehaviorEnum collision_behavior = 11;</code>
+     * <code>.nbodyservice.CollisionBehaviorEnum collision_behavior = 11;</code>
+     * @param value The collisionBehavior to set.
+     * @return This builder for chaining.
      */
     public Builder setCollisionBehavior(org.ericace.grpcserver.CollisionBehaviorEnum value) {
       if (value == null) {
@@ -1312,7 +1407,8 @@ public  final class BodyDescription extends
       return this;
     }
     /**
-     * <code>optional .nbodyservice.CollisionBehaviorEnum collision_behavior = 11;</code>
+     * <code>.nbodyservice.CollisionBehaviorEnum collision_behavior = 11;</code>
+     * @return This builder for chaining.
      */
     public Builder clearCollisionBehavior() {
       
@@ -1323,13 +1419,16 @@ public  final class BodyDescription extends
 
     private int bodyColor_ = 0;
     /**
-     * <code>optional .nbodyservice.BodyColorEnum body_color = 12;</code>
+     * <code>.nbodyservice.BodyColorEnum body_color = 12;</code>
+     * @return The enum numeric value on the wire for bodyColor.
      */
     public int getBodyColorValue() {
       return bodyColor_;
     }
     /**
-     * <code>optional .nbodyservice.BodyColorEnum body_color = 12;</code>
+     * <code>.nbodyservice.BodyColorEnum body_color = 12;</code>
+     * @param value The enum numeric value on the wire for bodyColor to set.
+     * @return This builder for chaining.
      */
     public Builder setBodyColorValue(int value) {
       bodyColor_ = value;
@@ -1337,14 +1436,18 @@ public  final class BodyDescription extends
       return this;
     }
     /**
-     * <code>optional .nbodyservice.BodyColorEnum body_color = 12;</code>
+     * <code>.nbodyservice.BodyColorEnum body_color = 12;</code>
+     * @return The bodyColor.
      */
     public org.ericace.grpcserver.BodyColorEnum getBodyColor() {
+      @SuppressWarnings("deprecation")
       org.ericace.grpcserver.BodyColorEnum result = org.ericace.grpcserver.BodyColorEnum.valueOf(bodyColor_);
       return result == null ? org.ericace.grpcserver.BodyColorEnum.UNRECOGNIZED : result;
     }
     /**
-     * <code>optional .nbodyservice.BodyColorEnum body_color = 12;</code>
+     * <code>.nbodyservice.BodyColorEnum body_color = 12;</code>
+     * @param value The bodyColor to set.
+     * @return This builder for chaining.
      */
     public Builder setBodyColor(org.ericace.grpcserver.BodyColorEnum value) {
       if (value == null) {
@@ -1356,7 +1459,8 @@ public  final class BodyDescription extends
       return this;
     }
     /**
-     * <code>optional .nbodyservice.BodyColorEnum body_color = 12;</code>
+     * <code>.nbodyservice.BodyColorEnum body_color = 12;</code>
+     * @return This builder for chaining.
      */
     public Builder clearBodyColor() {
       
@@ -1367,13 +1471,16 @@ public  final class BodyDescription extends
 
     private float fragFactor_ ;
     /**
-     * <code>optional float frag_factor = 13;</code>
+     * <code>float frag_factor = 13;</code>
+     * @return The fragFactor.
      */
     public float getFragFactor() {
       return fragFactor_;
     }
     /**
-     * <code>optional float frag_factor = 13;</code>
+     * <code>float frag_factor = 13;</code>
+     * @param value The fragFactor to set.
+     * @return This builder for chaining.
      */
     public Builder setFragFactor(float value) {
       
@@ -1382,7 +1489,8 @@ public  final class BodyDescription extends
       return this;
     }
     /**
-     * <code>optional float frag_factor = 13;</code>
+     * <code>float frag_factor = 13;</code>
+     * @return This builder for chaining.
      */
     public Builder clearFragFactor() {
       
@@ -1393,13 +1501,16 @@ public  final class BodyDescription extends
 
     private float fragStep_ ;
     /**
-     * <code>optional float frag_step = 14;</code>
+     * <code>float frag_step = 14;</code>
+     * @return The fragStep.
      */
     public float getFragStep() {
       return fragStep_;
     }
     /**
-     * <code>optional float frag_step = 14;</code>
+     * <code>float frag_step = 14;</code>
+     * @param value The fragStep to set.
+     * @return This builder for chaining.
      */
     public Builder setFragStep(float value) {
       
@@ -1408,7 +1519,8 @@ public  final class BodyDescription extends
       return this;
     }
     /**
-     * <code>optional float frag_step = 14;</code>
+     * <code>float frag_step = 14;</code>
+     * @return This builder for chaining.
      */
     public Builder clearFragStep() {
       
@@ -1419,13 +1531,16 @@ public  final class BodyDescription extends
 
     private boolean withTelemetry_ ;
     /**
-     * <code>optional bool with_telemetry = 15;</code>
+     * <code>bool with_telemetry = 15;</code>
+     * @return The withTelemetry.
      */
     public boolean getWithTelemetry() {
       return withTelemetry_;
     }
     /**
-     * <code>optional bool with_telemetry = 15;</code>
+     * <code>bool with_telemetry = 15;</code>
+     * @param value The withTelemetry to set.
+     * @return This builder for chaining.
      */
     public Builder setWithTelemetry(boolean value) {
       
@@ -1434,7 +1549,8 @@ public  final class BodyDescription extends
       return this;
     }
     /**
-     * <code>optional bool with_telemetry = 15;</code>
+     * <code>bool with_telemetry = 15;</code>
+     * @return This builder for chaining.
      */
     public Builder clearWithTelemetry() {
       
@@ -1445,7 +1561,8 @@ public  final class BodyDescription extends
 
     private java.lang.Object name_ = "";
     /**
-     * <code>optional string name = 16;</code>
+     * <code>string name = 16;</code>
+     * @return The name.
      */
     public java.lang.String getName() {
       java.lang.Object ref = name_;
@@ -1460,7 +1577,8 @@ public  final class BodyDescription extends
       }
     }
     /**
-     * <code>optional string name = 16;</code>
+     * <code>string name = 16;</code>
+     * @return The bytes for name.
      */
     public com.google.protobuf.ByteString
         getNameBytes() {
@@ -1476,7 +1594,9 @@ public  final class BodyDescription extends
       }
     }
     /**
-     * <code>optional string name = 16;</code>
+     * <code>string name = 16;</code>
+     * @param value The name to set.
+     * @return This builder for chaining.
      */
     public Builder setName(
         java.lang.String value) {
@@ -1489,7 +1609,8 @@ public  final class BodyDescription extends
       return this;
     }
     /**
-     * <code>optional string name = 16;</code>
+     * <code>string name = 16;</code>
+     * @return This builder for chaining.
      */
     public Builder clearName() {
       
@@ -1498,7 +1619,9 @@ public  final class BodyDescription extends
       return this;
     }
     /**
-     * <code>optional string name = 16;</code>
+     * <code>string name = 16;</code>
+     * @param value The bytes for name to set.
+     * @return This builder for chaining.
      */
     public Builder setNameBytes(
         com.google.protobuf.ByteString value) {
@@ -1514,7 +1637,8 @@ public  final class BodyDescription extends
 
     private java.lang.Object class__ = "";
     /**
-     * <code>optional string class = 17;</code>
+     * <code>string class = 17;</code>
+     * @return The class.
      */
     public java.lang.String getClass_() {
       java.lang.Object ref = class__;
@@ -1529,7 +1653,8 @@ public  final class BodyDescription extends
       }
     }
     /**
-     * <code>optional string class = 17;</code>
+     * <code>string class = 17;</code>
+     * @return The bytes for class.
      */
     public com.google.protobuf.ByteString
         getClass_Bytes() {
@@ -1545,7 +1670,9 @@ public  final class BodyDescription extends
       }
     }
     /**
-     * <code>optional string class = 17;</code>
+     * <code>string class = 17;</code>
+     * @param value The class to set.
+     * @return This builder for chaining.
      */
     public Builder setClass_(
         java.lang.String value) {
@@ -1558,7 +1685,8 @@ public  final class BodyDescription extends
       return this;
     }
     /**
-     * <code>optional string class = 17;</code>
+     * <code>string class = 17;</code>
+     * @return This builder for chaining.
      */
     public Builder clearClass_() {
       
@@ -1567,7 +1695,9 @@ public  final class BodyDescription extends
       return this;
     }
     /**
-     * <code>optional string class = 17;</code>
+     * <code>string class = 17;</code>
+     * @param value The bytes for class to set.
+     * @return This builder for chaining.
      */
     public Builder setClass_Bytes(
         com.google.protobuf.ByteString value) {
@@ -1583,13 +1713,16 @@ public  final class BodyDescription extends
 
     private boolean pinned_ ;
     /**
-     * <code>optional bool pinned = 18;</code>
+     * <code>bool pinned = 18;</code>
+     * @return The pinned.
      */
     public boolean getPinned() {
       return pinned_;
     }
     /**
-     * <code>optional bool pinned = 18;</code>
+     * <code>bool pinned = 18;</code>
+     * @param value The pinned to set.
+     * @return This builder for chaining.
      */
     public Builder setPinned(boolean value) {
       
@@ -1598,7 +1731,8 @@ public  final class BodyDescription extends
       return this;
     }
     /**
-     * <code>optional bool pinned = 18;</code>
+     * <code>bool pinned = 18;</code>
+     * @return This builder for chaining.
      */
     public Builder clearPinned() {
       
@@ -1606,14 +1740,16 @@ public  final class BodyDescription extends
       onChanged();
       return this;
     }
+    @java.lang.Override
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
-      return this;
+      return super.setUnknownFields(unknownFields);
     }
 
+    @java.lang.Override
     public final Builder mergeUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
-      return this;
+      return super.mergeUnknownFields(unknownFields);
     }
 
 
@@ -1632,11 +1768,12 @@ public  final class BodyDescription extends
 
   private static final com.google.protobuf.Parser<BodyDescription>
       PARSER = new com.google.protobuf.AbstractParser<BodyDescription>() {
+    @java.lang.Override
     public BodyDescription parsePartialFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
-        return new BodyDescription(input, extensionRegistry);
+      return new BodyDescription(input, extensionRegistry);
     }
   };
 
@@ -1649,6 +1786,7 @@ public  final class BodyDescription extends
     return PARSER;
   }
 
+  @java.lang.Override
   public org.ericace.grpcserver.BodyDescription getDefaultInstanceForType() {
     return DEFAULT_INSTANCE;
   }
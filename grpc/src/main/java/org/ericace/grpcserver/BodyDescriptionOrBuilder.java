@@ -12,110 +12,132 @@ public interface BodyDescriptionOrBuilder extends
    * ignored on create
    * </pre>
    *
-   * <code>optional int64 id = 1;</code>
+   * <code>int64 id = 1;</code>
+   * @return The id.
    */
   long getId();
 
   /**
-   * <code>optional float x = 2;</code>
+   * <code>float x = 2;</code>
+   * @return The x.
    */
   float getX();
 
   /**
-   * <code>optional float y = 3;</code>
+   * <code>float y = 3;</code>
+   * @return The y.
    */
   float getY();
 
   /**
-   * <code>optional float z = 4;</code>
+   * <code>float z = 4;</code>
+   * @return The z.
    */
   float getZ();
 
   /**
-   * <code>optional float vx = 5;</code>
+   * <code>float vx = 5;</code>
+   * @return The vx.
    */
   float getVx();
 
   /**
-   * <code>optional float vy = 6;</code>
+   * <code>float vy = 6;</code>
+   * @return The vy.
    */
   float getVy();
 
   /**
-   * <code>optional float vz = 7;</code>
+   * <code>float vz = 7;</code>
+   * @return The vz.
    */
   float getVz();
 
   /**
-   * <code>optional float mass = 8;</code>
+   * <code>float mass = 8;</code>
+   * @return The mass.
    */
   float getMass();
 
   /**
-   * <code>optional float radius = 9;</code>
+   * <code>float radius = 9;</code>
+   * @return The radius.
    */
   float getRadius();
 
   /**
-   * <code>optional bool is_sun = 10;</code>
+   * <code>bool is_sun = 10;</code>
+   * @return The isSun.
    */
   boolean getIsSun();
 
   /**
-   * <code>optional .nbodyservice.CollisionBehaviorEnum collision_behavior = 11;</code>
+   * <code>.nbodyservice.CollisionBehaviorEnum collision_behavior = 11;</code>
+   * @return The enum numeric value on the wire for collisionBehavior.
    */
   int getCollisionBehaviorValue();
   /**
-   * <code>optional .nbodyservice.CollisionBehaviorEnum collision_behavior = 11;</code>
+   * <code>.nbodyservice.CollisionBehaviorEnum collision_behavior = 11;</code>
+   * @return The collisionBehavior.
    */
   org.ericace.grpcserver.CollisionBehaviorEnum getCollisionBehavior();
 
   /**
-   * <code>optional .nbodyservice.BodyColorEnum body_color = 12;</code>
+   * <code>.nbodyservice.BodyColorEnum body_color = 12;</code>
+   * @return The enum numeric value on the wire for bodyColor.
    */
   int getBodyColorValue();
   /**
-   * <code>optional .nbodyservice.BodyColorEnum body_color = 12;</code>
+   * <code>.nbodyservice.BodyColorEnum body_color = 12;</code>
+   * @return The bodyColor.
    */
   org.ericace.grpcserver.BodyColorEnum getBodyColor();
 
   /**
-   * <code>optional float frag_factor = 13;</code>
+   * <code>float frag_factor = 13;</code>
+   * @return The fragFactor.
    */
   float getFragFactor();
 
   /**
-   * <code>optional float frag_step = 14;</code>
+   * <code>float frag_step = 14;</code>
+   * @return The fragStep.
    */
   float getFragStep();
 
   /**
-   * <code>optional bool with_telemetry = 15;</code>
+   * <code>bool with_telemetry = 15;</code>
+   * @return The withTelemetry.
    */
   boolean getWithTelemetry();
 
   /**
-   * <code>optional string name = 16;</code>
+   * <code>string name = 16;</code>
+   * @return The name.
    */
   java.lang.String getName();
   /**
-   * <code>optional string name = 16;</code>
+   * <code>string name = 16;</code>
+   * @return The bytes for name.
    */
   com.google.protobuf.ByteString
       getNameBytes();
 
   /**
-   * <code>optional string class = 17;</code>
+   * <code>string class = 17;</code>
+   * @return The class.
    */
   java.lang.String getClass_();
   /**
-   * <code>optional string class = 17;</code>
+   * <code>string class = 17;</code>
+   * @return The bytes for class.
    */
   com.google.protobuf.ByteString
       getClass_Bytes();
 
   /**
-   * <code>optional bool pinned = 18;</code>
+   * <code>bool pinned = 18;</code>
+   * @return The pinned.
    */
   boolean getPinned();
 }
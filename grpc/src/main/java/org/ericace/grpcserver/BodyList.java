@@ -0,0 +1,773 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: nbodyservice.proto
+
+package org.ericace.grpcserver;
+
+/**
+ * <pre>
+ * The bodies found by a spatial query
+ * </pre>
+ *
+ * Protobuf type {@code nbodyservice.BodyList}
+ */
+public  final class BodyList extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:nbodyservice.BodyList)
+    BodyListOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use BodyList.newBuilder() to construct.
+  private BodyList(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private BodyList() {
+    bodies_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new BodyList();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private BodyList(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              bodies_ = new java.util.ArrayList<org.ericace.grpcserver.BodyDescription>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            bodies_.add(
+                input.readMessage(org.ericace.grpcserver.BodyDescription.parser(), extensionRegistry));
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        bodies_ = java.util.Collections.unmodifiableList(bodies_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_BodyList_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_BodyList_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.ericace.grpcserver.BodyList.class, org.ericace.grpcserver.BodyList.Builder.class);
+  }
+
+  public static final int BODIES_FIELD_NUMBER = 1;
+  private java.util.List<org.ericace.grpcserver.BodyDescription> bodies_;
+  /**
+   * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+   */
+  public java.util.List<org.ericace.grpcserver.BodyDescription> getBodiesList() {
+    return bodies_;
+  }
+  /**
+   * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+   */
+  public java.util.List<? extends org.ericace.grpcserver.BodyDescriptionOrBuilder> 
+      getBodiesOrBuilderList() {
+    return bodies_;
+  }
+  /**
+   * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+   */
+  public int getBodiesCount() {
+    return bodies_.size();
+  }
+  /**
+   * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+   */
+  public org.ericace.grpcserver.BodyDescription getBodies(int index) {
+    return bodies_.get(index);
+  }
+  /**
+   * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+   */
+  public org.ericace.grpcserver.BodyDescriptionOrBuilder getBodiesOrBuilder(
+      int index) {
+    return bodies_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < bodies_.size(); i++) {
+      output.writeMessage(1, bodies_.get(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < bodies_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, bodies_.get(i));
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.ericace.grpcserver.BodyList)) {
+      return super.equals(obj);
+    }
+    org.ericace.grpcserver.BodyList other = (org.ericace.grpcserver.BodyList) obj;
+
+    if (!getBodiesList()
+        .equals(other.getBodiesList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getBodiesCount() > 0) {
+      hash = (37 * hash) + BODIES_FIELD_NUMBER;
+      hash = (53 * hash) + getBodiesList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.ericace.grpcserver.BodyList parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.ericace.grpcserver.BodyList parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.ericace.grpcserver.BodyList parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.ericace.grpcserver.BodyList parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.ericace.grpcserver.BodyList parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.ericace.grpcserver.BodyList parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.ericace.grpcserver.BodyList parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.ericace.grpcserver.BodyList parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.ericace.grpcserver.BodyList parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.ericace.grpcserver.BodyList parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.ericace.grpcserver.BodyList parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.ericace.grpcserver.BodyList parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.ericace.grpcserver.BodyList prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * The bodies found by a spatial query
+   * </pre>
+   *
+   * Protobuf type {@code nbodyservice.BodyList}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:nbodyservice.BodyList)
+      org.ericace.grpcserver.BodyListOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_BodyList_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_BodyList_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.ericace.grpcserver.BodyList.class, org.ericace.grpcserver.BodyList.Builder.class);
+    }
+
+    // Construct using org.ericace.grpcserver.BodyList.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getBodiesFieldBuilder();
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      if (bodiesBuilder_ == null) {
+        bodies_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        bodiesBuilder_.clear();
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_BodyList_descriptor;
+    }
+
+    @java.lang.Override
+    public org.ericace.grpcserver.BodyList getDefaultInstanceForType() {
+      return org.ericace.grpcserver.BodyList.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.ericace.grpcserver.BodyList build() {
+      org.ericace.grpcserver.BodyList result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.ericace.grpcserver.BodyList buildPartial() {
+      org.ericace.grpcserver.BodyList result = new org.ericace.grpcserver.BodyList(this);
+      int from_bitField0_ = bitField0_;
+      if (bodiesBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          bodies_ = java.util.Collections.unmodifiableList(bodies_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.bodies_ = bodies_;
+      } else {
+        result.bodies_ = bodiesBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.ericace.grpcserver.BodyList) {
+        return mergeFrom((org.ericace.grpcserver.BodyList)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.ericace.grpcserver.BodyList other) {
+      if (other == org.ericace.grpcserver.BodyList.getDefaultInstance()) return this;
+      if (bodiesBuilder_ == null) {
+        if (!other.bodies_.isEmpty()) {
+          if (bodies_.isEmpty()) {
+            bodies_ = other.bodies_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureBodiesIsMutable();
+            bodies_.addAll(other.bodies_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.bodies_.isEmpty()) {
+          if (bodiesBuilder_.isEmpty()) {
+            bodiesBuilder_.dispose();
+            bodiesBuilder_ = null;
+            bodies_ = other.bodies_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            bodiesBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getBodiesFieldBuilder() : null;
+          } else {
+            bodiesBuilder_.addAllMessages(other.bodies_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.ericace.grpcserver.BodyList parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.ericace.grpcserver.BodyList) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<org.ericace.grpcserver.BodyDescription> bodies_ =
+      java.util.Collections.emptyList();
+    private void ensureBodiesIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        bodies_ = new java.util.ArrayList<org.ericace.grpcserver.BodyDescription>(bodies_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        org.ericace.grpcserver.BodyDescription, org.ericace.grpcserver.BodyDescription.Builder, org.ericace.grpcserver.BodyDescriptionOrBuilder> bodiesBuilder_;
+
+    /**
+     * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+     */
+    public java.util.List<org.ericace.grpcserver.BodyDescription> getBodiesList() {
+      if (bodiesBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(bodies_);
+      } else {
+        return bodiesBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+     */
+    public int getBodiesCount() {
+      if (bodiesBuilder_ == null) {
+        return bodies_.size();
+      } else {
+        return bodiesBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+     */
+    public org.ericace.grpcserver.BodyDescription getBodies(int index) {
+      if (bodiesBuilder_ == null) {
+        return bodies_.get(index);
+      } else {
+        return bodiesBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+     */
+    public Builder setBodies(
+        int index, org.ericace.grpcserver.BodyDescription value) {
+      if (bodiesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureBodiesIsMutable();
+        bodies_.set(index, value);
+        onChanged();
+      } else {
+        bodiesBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+     */
+    public Builder setBodies(
+        int index, org.ericace.grpcserver.BodyDescription.Builder builderForValue) {
+      if (bodiesBuilder_ == null) {
+        ensureBodiesIsMutable();
+        bodies_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        bodiesBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+     */
+    public Builder addBodies(org.ericace.grpcserver.BodyDescription value) {
+      if (bodiesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureBodiesIsMutable();
+        bodies_.add(value);
+        onChanged();
+      } else {
+        bodiesBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+     */
+    public Builder addBodies(
+        int index, org.ericace.grpcserver.BodyDescription value) {
+      if (bodiesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureBodiesIsMutable();
+        bodies_.add(index, value);
+        onChanged();
+      } else {
+        bodiesBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+     */
+    public Builder addBodies(
+        org.ericace.grpcserver.BodyDescription.Builder builderForValue) {
+      if (bodiesBuilder_ == null) {
+        ensureBodiesIsMutable();
+        bodies_.add(builderForValue.build());
+        onChanged();
+      } else {
+        bodiesBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+     */
+    public Builder addBodies(
+        int index, org.ericace.grpcserver.BodyDescription.Builder builderForValue) {
+      if (bodiesBuilder_ == null) {
+        ensureBodiesIsMutable();
+        bodies_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        bodiesBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+     */
+    public Builder addAllBodies(
+        java.lang.Iterable<? extends org.ericace.grpcserver.BodyDescription> values) {
+      if (bodiesBuilder_ == null) {
+        ensureBodiesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, bodies_);
+        onChanged();
+      } else {
+        bodiesBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+     */
+    public Builder clearBodies() {
+      if (bodiesBuilder_ == null) {
+        bodies_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        bodiesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+     */
+    public Builder removeBodies(int index) {
+      if (bodiesBuilder_ == null) {
+        ensureBodiesIsMutable();
+        bodies_.remove(index);
+        onChanged();
+      } else {
+        bodiesBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+     */
+    public org.ericace.grpcserver.BodyDescription.Builder getBodiesBuilder(
+        int index) {
+      return getBodiesFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+     */
+    public org.ericace.grpcserver.BodyDescriptionOrBuilder getBodiesOrBuilder(
+        int index) {
+      if (bodiesBuilder_ == null) {
+        return bodies_.get(index);  } else {
+        return bodiesBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+     */
+    public java.util.List<? extends org.ericace.grpcserver.BodyDescriptionOrBuilder> 
+         getBodiesOrBuilderList() {
+      if (bodiesBuilder_ != null) {
+        return bodiesBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(bodies_);
+      }
+    }
+    /**
+     * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+     */
+    public org.ericace.grpcserver.BodyDescription.Builder addBodiesBuilder() {
+      return getBodiesFieldBuilder().addBuilder(
+          org.ericace.grpcserver.BodyDescription.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+     */
+    public org.ericace.grpcserver.BodyDescription.Builder addBodiesBuilder(
+        int index) {
+      return getBodiesFieldBuilder().addBuilder(
+          index, org.ericace.grpcserver.BodyDescription.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+     */
+    public java.util.List<org.ericace.grpcserver.BodyDescription.Builder> 
+         getBodiesBuilderList() {
+      return getBodiesFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        org.ericace.grpcserver.BodyDescription, org.ericace.grpcserver.BodyDescription.Builder, org.ericace.grpcserver.BodyDescriptionOrBuilder> 
+        getBodiesFieldBuilder() {
+      if (bodiesBuilder_ == null) {
+        bodiesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            org.ericace.grpcserver.BodyDescription, org.ericace.grpcserver.BodyDescription.Builder, org.ericace.grpcserver.BodyDescriptionOrBuilder>(
+                bodies_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        bodies_ = null;
+      }
+      return bodiesBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:nbodyservice.BodyList)
+  }
+
+  // @@protoc_insertion_point(class_scope:nbodyservice.BodyList)
+  private static final org.ericace.grpcserver.BodyList DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.ericace.grpcserver.BodyList();
+  }
+
+  public static org.ericace.grpcserver.BodyList getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<BodyList>
+      PARSER = new com.google.protobuf.AbstractParser<BodyList>() {
+    @java.lang.Override
+    public BodyList parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new BodyList(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<BodyList> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<BodyList> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.ericace.grpcserver.BodyList getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
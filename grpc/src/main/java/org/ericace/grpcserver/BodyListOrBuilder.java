@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: nbodyservice.proto
+
+package org.ericace.grpcserver;
+
+public interface BodyListOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:nbodyservice.BodyList)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+   */
+  java.util.List<org.ericace.grpcserver.BodyDescription> 
+      getBodiesList();
+  /**
+   * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+   */
+  org.ericace.grpcserver.BodyDescription getBodies(int index);
+  /**
+   * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+   */
+  int getBodiesCount();
+  /**
+   * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+   */
+  java.util.List<? extends org.ericace.grpcserver.BodyDescriptionOrBuilder> 
+      getBodiesOrBuilderList();
+  /**
+   * <code>repeated .nbodyservice.BodyDescription bodies = 1;</code>
+   */
+  org.ericace.grpcserver.BodyDescriptionOrBuilder getBodiesOrBuilder(
+      int index);
+}
@@ -0,0 +1,618 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: nbodyservice.proto
+
+package org.ericace.grpcserver;
+
+/**
+ * <pre>
+ * Fragment coarsening thresholds. A distance of zero disables coarsening
+ * </pre>
+ *
+ * Protobuf type {@code nbodyservice.Coarsening}
+ */
+public  final class Coarsening extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:nbodyservice.Coarsening)
+    CoarseningOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use Coarsening.newBuilder() to construct.
+  private Coarsening(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private Coarsening() {
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new Coarsening();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private Coarsening(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 13: {
+
+            distance_ = input.readFloat();
+            break;
+          }
+          case 21: {
+
+            velocity_ = input.readFloat();
+            break;
+          }
+          case 24: {
+
+            maxMembers_ = input.readInt64();
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_Coarsening_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_Coarsening_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.ericace.grpcserver.Coarsening.class, org.ericace.grpcserver.Coarsening.Builder.class);
+  }
+
+  public static final int DISTANCE_FIELD_NUMBER = 1;
+  private float distance_;
+  /**
+   * <code>float distance = 1;</code>
+   * @return The distance.
+   */
+  public float getDistance() {
+    return distance_;
+  }
+
+  public static final int VELOCITY_FIELD_NUMBER = 2;
+  private float velocity_;
+  /**
+   * <code>float velocity = 2;</code>
+   * @return The velocity.
+   */
+  public float getVelocity() {
+    return velocity_;
+  }
+
+  public static final int MAX_MEMBERS_FIELD_NUMBER = 3;
+  private long maxMembers_;
+  /**
+   * <code>int64 max_members = 3;</code>
+   * @return The maxMembers.
+   */
+  public long getMaxMembers() {
+    return maxMembers_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (distance_ != 0F) {
+      output.writeFloat(1, distance_);
+    }
+    if (velocity_ != 0F) {
+      output.writeFloat(2, velocity_);
+    }
+    if (maxMembers_ != 0L) {
+      output.writeInt64(3, maxMembers_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (distance_ != 0F) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeFloatSize(1, distance_);
+    }
+    if (velocity_ != 0F) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeFloatSize(2, velocity_);
+    }
+    if (maxMembers_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(3, maxMembers_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.ericace.grpcserver.Coarsening)) {
+      return super.equals(obj);
+    }
+    org.ericace.grpcserver.Coarsening other = (org.ericace.grpcserver.Coarsening) obj;
+
+    if (java.lang.Float.floatToIntBits(getDistance())
+        != java.lang.Float.floatToIntBits(
+            other.getDistance())) return false;
+    if (java.lang.Float.floatToIntBits(getVelocity())
+        != java.lang.Float.floatToIntBits(
+            other.getVelocity())) return false;
+    if (getMaxMembers()
+        != other.getMaxMembers()) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + DISTANCE_FIELD_NUMBER;
+    hash = (53 * hash) + java.lang.Float.floatToIntBits(
+        getDistance());
+    hash = (37 * hash) + VELOCITY_FIELD_NUMBER;
+    hash = (53 * hash) + java.lang.Float.floatToIntBits(
+        getVelocity());
+    hash = (37 * hash) + MAX_MEMBERS_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getMaxMembers());
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.ericace.grpcserver.Coarsening parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.ericace.grpcserver.Coarsening parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.ericace.grpcserver.Coarsening parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.ericace.grpcserver.Coarsening parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.ericace.grpcserver.Coarsening parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.ericace.grpcserver.Coarsening parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.ericace.grpcserver.Coarsening parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.ericace.grpcserver.Coarsening parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.ericace.grpcserver.Coarsening parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.ericace.grpcserver.Coarsening parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.ericace.grpcserver.Coarsening parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.ericace.grpcserver.Coarsening parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.ericace.grpcserver.Coarsening prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * Fragment coarsening thresholds. A distance of zero disables coarsening
+   * </pre>
+   *
+   * Protobuf type {@code nbodyservice.Coarsening}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:nbodyservice.Coarsening)
+      org.ericace.grpcserver.CoarseningOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_Coarsening_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_Coarsening_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.ericace.grpcserver.Coarsening.class, org.ericace.grpcserver.Coarsening.Builder.class);
+    }
+
+    // Construct using org.ericace.grpcserver.Coarsening.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      distance_ = 0F;
+
+      velocity_ = 0F;
+
+      maxMembers_ = 0L;
+
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_Coarsening_descriptor;
+    }
+
+    @java.lang.Override
+    public org.ericace.grpcserver.Coarsening getDefaultInstanceForType() {
+      return org.ericace.grpcserver.Coarsening.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.ericace.grpcserver.Coarsening build() {
+      org.ericace.grpcserver.Coarsening result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.ericace.grpcserver.Coarsening buildPartial() {
+      org.ericace.grpcserver.Coarsening result = new org.ericace.grpcserver.Coarsening(this);
+      result.distance_ = distance_;
+      result.velocity_ = velocity_;
+      result.maxMembers_ = maxMembers_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.ericace.grpcserver.Coarsening) {
+        return mergeFrom((org.ericace.grpcserver.Coarsening)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.ericace.grpcserver.Coarsening other) {
+      if (other == org.ericace.grpcserver.Coarsening.getDefaultInstance()) return this;
+      if (other.getDistance() != 0F) {
+        setDistance(other.getDistance());
+      }
+      if (other.getVelocity() != 0F) {
+        setVelocity(other.getVelocity());
+      }
+      if (other.getMaxMembers() != 0L) {
+        setMaxMembers(other.getMaxMembers());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.ericace.grpcserver.Coarsening parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.ericace.grpcserver.Coarsening) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private float distance_ ;
+    /**
+     * <code>float distance = 1;</code>
+     * @return The distance.
+     */
+    public float getDistance() {
+      return distance_;
+    }
+    /**
+     * <code>float distance = 1;</code>
+     * @param value The distance to set.
+     * @return This builder for chaining.
+     */
+    public Builder setDistance(float value) {
+      
+      distance_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>float distance = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearDistance() {
+      
+      distance_ = 0F;
+      onChanged();
+      return this;
+    }
+
+    private float velocity_ ;
+    /**
+     * <code>float velocity = 2;</code>
+     * @return The velocity.
+     */
+    public float getVelocity() {
+      return velocity_;
+    }
+    /**
+     * <code>float velocity = 2;</code>
+     * @param value The velocity to set.
+     * @return This builder for chaining.
+     */
+    public Builder setVelocity(float value) {
+      
+      velocity_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>float velocity = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearVelocity() {
+      
+      velocity_ = 0F;
+      onChanged();
+      return this;
+    }
+
+    private long maxMembers_ ;
+    /**
+     * <code>int64 max_members = 3;</code>
+     * @return The maxMembers.
+     */
+    public long getMaxMembers() {
+      return maxMembers_;
+    }
+    /**
+     * <code>int64 max_members = 3;</code>
+     * @param value The maxMembers to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMaxMembers(long value) {
+      
+      maxMembers_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 max_members = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearMaxMembers() {
+      
+      maxMembers_ = 0L;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:nbodyservice.Coarsening)
+  }
+
+  // @@protoc_insertion_point(class_scope:nbodyservice.Coarsening)
+  private static final org.ericace.grpcserver.Coarsening DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.ericace.grpcserver.Coarsening();
+  }
+
+  public static org.ericace.grpcserver.Coarsening getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<Coarsening>
+      PARSER = new com.google.protobuf.AbstractParser<Coarsening>() {
+    @java.lang.Override
+    public Coarsening parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new Coarsening(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<Coarsening> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<Coarsening> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.ericace.grpcserver.Coarsening getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,27 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: nbodyservice.proto
+
+package org.ericace.grpcserver;
+
+public interface CoarseningOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:nbodyservice.Coarsening)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>float distance = 1;</code>
+   * @return The distance.
+   */
+  float getDistance();
+
+  /**
+   * <code>float velocity = 2;</code>
+   * @return The velocity.
+   */
+  float getVelocity();
+
+  /**
+   * <code>int64 max_members = 3;</code>
+   * @return The maxMembers.
+   */
+  long getMaxMembers();
+}
@@ -62,6 +62,8 @@ public enum CollisionBehaviorEnum
   }
 
   /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
    * @deprecated Use {@link #forNumber(int)} instead.
    */
   @java.lang.Deprecated
@@ -69,6 +71,10 @@ public enum CollisionBehaviorEnum
     return forNumber(value);
   }
 
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   */
   public static CollisionBehaviorEnum forNumber(int value) {
     switch (value) {
       case 0: return UNDEF;
@@ -102,8 +108,7 @@ public enum CollisionBehaviorEnum
   }
   public static final com.google.protobuf.Descriptors.EnumDescriptor
       getDescriptor() {
-    return org.ericace.grpcserver.Nbodyservice.getDescriptor()
-        .getEnumTypes().get(0);
+    return org.ericace.grpcserver.Nbodyservice.getDescriptor().getEnumTypes().get(0);
   }
 
   private static final CollisionBehaviorEnum[] VALUES = values();
@@ -14,29 +14,37 @@ public  final class CurrentConfig extends
     com.google.protobuf.GeneratedMessageV3 implements
     // @@protoc_insertion_point(message_implements:nbodyservice.CurrentConfig)
     CurrentConfigOrBuilder {
+private static final long serialVersionUID = 0L;
   // Use CurrentConfig.newBuilder() to construct.
   private CurrentConfig(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
     super(builder);
   }
   private CurrentConfig() {
-    bodies_ = 0L;
-    resultQueueSize_ = 0L;
-    computationThreads_ = 0L;
-    smoothingFactor_ = 0F;
-    restitutionCoefficient_ = 0F;
+    resultQueuePolicy_ = 0;
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new CurrentConfig();
   }
 
   @java.lang.Override
   public final com.google.protobuf.UnknownFieldSet
   getUnknownFields() {
-    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    return this.unknownFields;
   }
   private CurrentConfig(
       com.google.protobuf.CodedInputStream input,
       com.google.protobuf.ExtensionRegistryLite extensionRegistry)
       throws com.google.protobuf.InvalidProtocolBufferException {
     this();
-    int mutable_bitField0_ = 0;
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
     try {
       boolean done = false;
       while (!done) {
@@ -45,12 +53,6 @@ public  final class CurrentConfig extends
           case 0:
             done = true;
             break;
-          default: {
-            if (!input.skipField(tag)) {
-              done = true;
-            }
-            break;
-          }
           case 8: {
 
             bodies_ = input.readInt64();
@@ -76,6 +78,34 @@ public  final class CurrentConfig extends
             restitutionCoefficient_ = input.readFloat();
             break;
           }
+          case 61: {
+
+            coarseningDistance_ = input.readFloat();
+            break;
+          }
+          case 69: {
+
+            coarseningVelocity_ = input.readFloat();
+            break;
+          }
+          case 72: {
+
+            coarseningMaxMembers_ = input.readInt64();
+            break;
+          }
+          case 80: {
+            int rawValue = input.readEnum();
+
+            resultQueuePolicy_ = rawValue;
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
         }
       }
     } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -84,6 +114,7 @@ public  final class CurrentConfig extends
       throw new com.google.protobuf.InvalidProtocolBufferException(
           e).setUnfinishedMessage(this);
     } finally {
+      this.unknownFields = unknownFields.build();
       makeExtensionsImmutable();
     }
   }
@@ -92,6 +123,7 @@ public  final class CurrentConfig extends
     return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_CurrentConfig_descriptor;
   }
 
+  @java.lang.Override
   protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internalGetFieldAccessorTable() {
     return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_CurrentConfig_fieldAccessorTable
@@ -102,7 +134,8 @@ public  final class CurrentConfig extends
   public static final int BODIES_FIELD_NUMBER = 1;
   private long bodies_;
   /**
-   * <code>optional int64 bodies = 1;</code>
+   * <code>int64 bodies = 1;</code>
+   * @return The bodies.
    */
   public long getBodies() {
     return bodies_;
@@ -111,7 +144,8 @@ public  final class CurrentConfig extends
   public static final int RESULT_QUEUE_SIZE_FIELD_NUMBER = 2;
   private long resultQueueSize_;
   /**
-   * <code>optional int64 result_queue_size = 2;</code>
+   * <code>int64 result_queue_size = 2;</code>
+   * @return The resultQueueSize.
    */
   public long getResultQueueSize() {
     return resultQueueSize_;
@@ -120,7 +154,8 @@ public  final class CurrentConfig extends
   public static final int COMPUTATION_THREADS_FIELD_NUMBER = 3;
   private long computationThreads_;
   /**
-   * <code>optional int64 computation_threads = 3;</code>
+   * <code>int64 computation_threads = 3;</code>
+   * @return The computationThreads.
    */
   public long getComputationThreads() {
     return computationThreads_;
@@ -129,7 +164,8 @@ public  final class CurrentConfig extends
   public static final int SMOOTHING_FACTOR_FIELD_NUMBER = 4;
   private float smoothingFactor_;
   /**
-   * <code>optional float smoothing_factor = 4;</code>
+   * <code>float smoothing_factor = 4;</code>
+   * @return The smoothingFactor.
    */
   public float getSmoothingFactor() {
     return smoothingFactor_;
@@ -138,13 +174,64 @@ public  final class CurrentConfig extends
   public static final int RESTITUTION_COEFFICIENT_FIELD_NUMBER = 6;
   private float restitutionCoefficient_;
   /**
-   * <code>optional float restitution_coefficient = 6;</code>
+   * <code>float restitution_coefficient = 6;</code>
+   * @return The restitutionCoefficient.
    */
   public float getRestitutionCoefficient() {
     return restitutionCoefficient_;
   }
 
+  public static final int COARSENING_DISTANCE_FIELD_NUMBER = 7;
+  private float coarseningDistance_;
+  /**
+   * <code>float coarsening_distance = 7;</code>
+   * @return The coarseningDistance.
+   */
+  public float getCoarseningDistance() {
+    return coarseningDistance_;
+  }
+
+  public static final int COARSENING_VELOCITY_FIELD_NUMBER = 8;
+  private float coarseningVelocity_;
+  /**
+   * <code>float coarsening_velocity = 8;</code>
+   * @return The coarseningVelocity.
+   */
+  public float getCoarseningVelocity() {
+    return coarseningVelocity_;
+  }
+
+  public static final int COARSENING_MAX_MEMBERS_FIELD_NUMBER = 9;
+  private long coarseningMaxMembers_;
+  /**
+   * <code>int64 coarsening_max_members = 9;</code>
+   * @return The coarseningMaxMembers.
+   */
+  public long getCoarseningMaxMembers() {
+    return coarseningMaxMembers_;
+  }
+
+  public static final int RESULT_QUEUE_POLICY_FIELD_NUMBER = 10;
+  private int resultQueuePolicy_;
+  /**
+   * <code>.nbodyservice.ResultQueuePolicy.ResultQueuePolicyEnum result_queue_policy = 10;</code>
+   * @return The enum numeric value on the wire for resultQueuePolicy.
+   */
+  public int getResultQueuePolicyValue() {
+    return resultQueuePolicy_;
+  }
+  /**
+   * <code>.nbodyservice.ResultQueuePolicy.ResultQueuePolicyEnum result_queue_policy = 10;</code>
+   * @return The resultQueuePolicy.
+   */
+  public org.ericace.grpcserver.ResultQueuePolicy.ResultQueuePolicyEnum getResultQueuePolicy() {
+    @SuppressWarnings("deprecation")
+    org.ericace.grpcserver.ResultQueuePolicy.ResultQueuePolicyEnum result = org.ericace.grpcserver.ResultQueuePolicy.ResultQueuePolicyEnum.valueOf(resultQueuePolicy_);
+    return result == null ? org.ericace.grpcserver.ResultQueuePolicy.ResultQueuePolicyEnum.UNRECOGNIZED : result;
+  }
+
   private byte memoizedIsInitialized = -1;
+  @java.lang.Override
   public final boolean isInitialized() {
     byte isInitialized = memoizedIsInitialized;
     if (isInitialized == 1) return true;
@@ -154,6 +241,7 @@ public  final class CurrentConfig extends
     return true;
   }
 
+  @java.lang.Override
   public void writeTo(com.google.protobuf.CodedOutputStream output)
                       throws java.io.IOException {
     if (bodies_ != 0L) {
@@ -171,8 +259,22 @@ public  final class CurrentConfig extends
     if (restitutionCoefficient_ != 0F) {
       output.writeFloat(6, restitutionCoefficient_);
     }
+    if (coarseningDistance_ != 0F) {
+      output.writeFloat(7, coarseningDistance_);
+    }
+    if (coarseningVelocity_ != 0F) {
+      output.writeFloat(8, coarseningVelocity_);
+    }
+    if (coarseningMaxMembers_ != 0L) {
+      output.writeInt64(9, coarseningMaxMembers_);
+    }
+    if (resultQueuePolicy_ != org.ericace.grpcserver.ResultQueuePolicy.ResultQueuePolicyEnum.UNDEF.getNumber()) {
+      output.writeEnum(10, resultQueuePolicy_);
+    }
+    unknownFields.writeTo(output);
   }
 
+  @java.lang.Override
   public int getSerializedSize() {
     int size = memoizedSize;
     if (size != -1) return size;
@@ -198,11 +300,27 @@ public  final class CurrentConfig extends
       size += com.google.protobuf.CodedOutputStream
         .computeFloatSize(6, restitutionCoefficient_);
     }
+    if (coarseningDistance_ != 0F) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeFloatSize(7, coarseningDistance_);
+    }
+    if (coarseningVelocity_ != 0F) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeFloatSize(8, coarseningVelocity_);
+    }
+    if (coarseningMaxMembers_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(9, coarseningMaxMembers_);
+    }
+    if (resultQueuePolicy_ != org.ericace.grpcserver.ResultQueuePolicy.ResultQueuePolicyEnum.UNDEF.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(10, resultQueuePolicy_);
+    }
+    size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
   }
 
-  private static final long serialVersionUID = 0L;
   @java.lang.Override
   public boolean equals(final java.lang.Object obj) {
     if (obj == this) {
@@ -213,22 +331,29 @@ public  final class CurrentConfig extends
     }
     org.ericace.grpcserver.CurrentConfig other = (org.ericace.grpcserver.CurrentConfig) obj;
 
-    boolean result = true;
-    result = result && (getBodies()
-        == other.getBodies());
-    result = result && (getResultQueueSize()
-        == other.getResultQueueSize());
-    result = result && (getComputationThreads()
-        == other.getComputationThreads());
-    result = result && (
-        java.lang.Float.floatToIntBits(getSmoothingFactor())
-        == java.lang.Float.floatToIntBits(
-            other.getSmoothingFactor()));
-    result = result && (
-        java.lang.Float.floatToIntBits(getRestitutionCoefficient())
-        == java.lang.Float.floatToIntBits(
-            other.getRestitutionCoefficient()));
-    return result;
+    if (getBodies()
+        != other.getBodies()) return false;
+    if (getResultQueueSize()
+        != other.getResultQueueSize()) return false;
+    if (getComputationThreads()
+        != other.getComputationThreads()) return false;
+    if (java.lang.Float.floatToIntBits(getSmoothingFactor())
+        != java.lang.Float.floatToIntBits(
+            other.getSmoothingFactor())) return false;
+    if (java.lang.Float.floatToIntBits(getRestitutionCoefficient())
+        != java.lang.Float.floatToIntBits(
+            other.getRestitutionCoefficient())) return false;
+    if (java.lang.Float.floatToIntBits(getCoarseningDistance())
+        != java.lang.Float.floatToIntBits(
+            other.getCoarseningDistance())) return false;
+    if (java.lang.Float.floatToIntBits(getCoarseningVelocity())
+        != java.lang.Float.floatToIntBits(
+            other.getCoarseningVelocity())) return false;
+    if (getCoarseningMaxMembers()
+        != other.getCoarseningMaxMembers()) return false;
+    if (resultQueuePolicy_ != other.resultQueuePolicy_) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
   }
 
   @java.lang.Override
@@ -237,7 +362,7 @@ public  final class CurrentConfig extends
       return memoizedHashCode;
     }
     int hash = 41;
-    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (19 * hash) + getDescriptor().hashCode();
     hash = (37 * hash) + BODIES_FIELD_NUMBER;
     hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
         getBodies());
@@ -253,11 +378,33 @@ public  final class CurrentConfig extends
     hash = (37 * hash) + RESTITUTION_COEFFICIENT_FIELD_NUMBER;
     hash = (53 * hash) + java.lang.Float.floatToIntBits(
         getRestitutionCoefficient());
+    hash = (37 * hash) + COARSENING_DISTANCE_FIELD_NUMBER;
+    hash = (53 * hash) + java.lang.Float.floatToIntBits(
+        getCoarseningDistance());
+    hash = (37 * hash) + COARSENING_VELOCITY_FIELD_NUMBER;
+    hash = (53 * hash) + java.lang.Float.floatToIntBits(
+        getCoarseningVelocity());
+    hash = (37 * hash) + COARSENING_MAX_MEMBERS_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getCoarseningMaxMembers());
+    hash = (37 * hash) + RESULT_QUEUE_POLICY_FIELD_NUMBER;
+    hash = (53 * hash) + resultQueuePolicy_;
     hash = (29 * hash) + unknownFields.hashCode();
     memoizedHashCode = hash;
     return hash;
   }
 
+  public static org.ericace.grpcserver.CurrentConfig parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.ericace.grpcserver.CurrentConfig parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
   public static org.ericace.grpcserver.CurrentConfig parseFrom(
       com.google.protobuf.ByteString data)
       throws com.google.protobuf.InvalidProtocolBufferException {
@@ -317,6 +464,7 @@ public  final class CurrentConfig extends
         .parseWithIOException(PARSER, input, extensionRegistry);
   }
 
+  @java.lang.Override
   public Builder newBuilderForType() { return newBuilder(); }
   public static Builder newBuilder() {
     return DEFAULT_INSTANCE.toBuilder();
@@ -324,6 +472,7 @@ public  final class CurrentConfig extends
   public static Builder newBuilder(org.ericace.grpcserver.CurrentConfig prototype) {
     return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
   }
+  @java.lang.Override
   public Builder toBuilder() {
     return this == DEFAULT_INSTANCE
         ? new Builder() : new Builder().mergeFrom(this);
@@ -351,6 +500,7 @@ public  final class CurrentConfig extends
       return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_CurrentConfig_descriptor;
     }
 
+    @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
       return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_CurrentConfig_fieldAccessorTable
@@ -373,6 +523,7 @@ public  final class CurrentConfig extends
               .alwaysUseFieldBuilders) {
       }
     }
+    @java.lang.Override
     public Builder clear() {
       super.clear();
       bodies_ = 0L;
@@ -385,18 +536,29 @@ public  final class CurrentConfig extends
 
       restitutionCoefficient_ = 0F;
 
+      coarseningDistance_ = 0F;
+
+      coarseningVelocity_ = 0F;
+
+      coarseningMaxMembers_ = 0L;
+
+      resultQueuePolicy_ = 0;
+
       return this;
     }
 
+    @java.lang.Override
     public com.google.protobuf.Descriptors.Descriptor
         getDescriptorForType() {
       return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_CurrentConfig_descriptor;
     }
 
+    @java.lang.Override
     public org.ericace.grpcserver.CurrentConfig getDefaultInstanceForType() {
       return org.ericace.grpcserver.CurrentConfig.getDefaultInstance();
     }
 
+    @java.lang.Override
     public org.ericace.grpcserver.CurrentConfig build() {
       org.ericace.grpcserver.CurrentConfig result = buildPartial();
       if (!result.isInitialized()) {
@@ -405,6 +567,7 @@ public  final class CurrentConfig extends
       return result;
     }
 
+    @java.lang.Override
     public org.ericace.grpcserver.CurrentConfig buildPartial() {
       org.ericace.grpcserver.CurrentConfig result = new org.ericace.grpcserver.CurrentConfig(this);
       result.bodies_ = bodies_;
@@ -412,36 +575,47 @@ public  final class CurrentConfig extends
       result.computationThreads_ = computationThreads_;
       result.smoothingFactor_ = smoothingFactor_;
       result.restitutionCoefficient_ = restitutionCoefficient_;
+      result.coarseningDistance_ = coarseningDistance_;
+      result.coarseningVelocity_ = coarseningVelocity_;
+      result.coarseningMaxMembers_ = coarseningMaxMembers_;
+      result.resultQueuePolicy_ = resultQueuePolicy_;
       onBuilt();
       return result;
     }
 
+    @java.lang.Override
     public Builder clone() {
-      return (Builder) super.clone();
+      return super.clone();
     }
+    @java.lang.Override
     public Builder setField(
         com.google.protobuf.Descriptors.FieldDescriptor field,
-        Object value) {
-      return (Builder) super.setField(field, value);
+        java.lang.Object value) {
+      return super.setField(field, value);
     }
+    @java.lang.Override
     public Builder clearField(
         com.google.protobuf.Descriptors.FieldDescriptor field) {
-      return (Builder) super.clearField(field);
+      return super.clearField(field);
     }
+    @java.lang.Override
     public Builder clearOneof(
         com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-      return (Builder) super.clearOneof(oneof);
+      return super.clearOneof(oneof);
     }
+    @java.lang.Override
     public Builder setRepeatedField(
         com.google.protobuf.Descriptors.FieldDescriptor field,
-        int index, Object value) {
-      return (Builder) super.setRepeatedField(field, index, value);
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
     }
+    @java.lang.Override
     public Builder addRepeatedField(
         com.google.protobuf.Descriptors.FieldDescriptor field,
-        Object value) {
-      return (Builder) super.addRepeatedField(field, value);
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
     }
+    @java.lang.Override
     public Builder mergeFrom(com.google.protobuf.Message other) {
       if (other instanceof org.ericace.grpcserver.CurrentConfig) {
         return mergeFrom((org.ericace.grpcserver.CurrentConfig)other);
@@ -468,14 +642,29 @@ public  final class CurrentConfig extends
       if (other.getRestitutionCoefficient() != 0F) {
         setRestitutionCoefficient(other.getRestitutionCoefficient());
       }
+      if (other.getCoarseningDistance() != 0F) {
+        setCoarseningDistance(other.getCoarseningDistance());
+      }
+      if (other.getCoarseningVelocity() != 0F) {
+        setCoarseningVelocity(other.getCoarseningVelocity());
+      }
+      if (other.getCoarseningMaxMembers() != 0L) {
+        setCoarseningMaxMembers(other.getCoarseningMaxMembers());
+      }
+      if (other.resultQueuePolicy_ != 0) {
+        setResultQueuePolicyValue(other.getResultQueuePolicyValue());
+      }
+      this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
     }
 
+    @java.lang.Override
     public final boolean isInitialized() {
       return true;
     }
 
+    @java.lang.Override
     public Builder mergeFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
@@ -496,13 +685,16 @@ public  final class CurrentConfig extends
 
     private long bodies_ ;
     /**
-     * <code>optional int64 bodies = 1;</code>
+     * <code>int64 bodies = 1;</code>
+     * @return The bodies.
      */
     public long getBodies() {
       return bodies_;
     }
     /**
-     * <code>optional int64 bodies = 1;</code>
+     * <code>int64 bodies = 1;</code>
+     * @param value The bodies to set.
+     * @return This builder for chaining.
      */
     public Builder setBodies(long value) {
       
@@ -511,7 +703,8 @@ public  final class CurrentConfig extends
       return this;
     }
     /**
-     * <code>optional int64 bodies = 1;</code>
+     * <code>int64 bodies = 1;</code>
+     * @return This builder for chaining.
      */
     public Builder clearBodies() {
       
@@ -522,13 +715,16 @@ public  final class CurrentConfig extends
 
     private long resultQueueSize_ ;
     /**
-     * <code>optional int64 result_queue_size = 2;</code>
+     * <code>int64 result_queue_size = 2;</code>
+     * @return The resultQueueSize.
      */
     public long getResultQueueSize() {
       return resultQueueSize_;
     }
     /**
-     * <code>optional int64 result_queue_size = 2;</code>
+     * <code>int64 result_queue_size = 2;</code>
+     * @param value The resultQueueSize to set.
+     * @return This builder for chaining.
      */
     public Builder setResultQueueSize(long value) {
       
@@ -537,7 +733,8 @@ public  final class CurrentConfig extends
       return this;
     }
     /**
-     * <code>optional int64 result_queue_size = 2;</code>
+     * <code>int64 result_queue_size = 2;</code>
+     * @return This builder for chaining.
      */
     public Builder clearResultQueueSize() {
       
@@ -548,13 +745,16 @@ public  final class CurrentConfig extends
 
     private long computationThreads_ ;
     /**
-     * <code>optional int64 computation_threads = 3;</code>
+     * <code>int64 computation_threads = 3;</code>
+     * @return The computationThreads.
      */
     public long getComputationThreads() {
       return computationThreads_;
     }
     /**
-     * <code>optional int64 computation_threads = 3;</code>
+     * <code>int64 computation_threads = 3;</code>
+     * @param value The computationThreads to set.
+     * @return This builder for chaining.
      */
     public Builder setComputationThreads(long value) {
       
@@ -563,7 +763,8 @@ public  final class CurrentConfig extends
       return this;
     }
     /**
-     * <code>optional int64 computation_threads = 3;</code>
+     * <code>int64 computation_threads = 3;</code>
+     * @return This builder for chaining.
      */
     public Builder clearComputationThreads() {
       
@@ -574,13 +775,16 @@ public  final class CurrentConfig extends
 
     private float smoothingFactor_ ;
     /**
-     * <code>optional float smoothing_factor = 4;</code>
+     * <code>float smoothing_factor = 4;</code>
+     * @return The smoothingFactor.
      */
     public float getSmoothingFactor() {
       return smoothingFactor_;
     }
     /**
-     * <code>optional float smoothing_factor = 4;</code>
+     * <code>float smoothing_factor = 4;</code>
+     * @param value The smoothingFactor to set.
+     * @return This builder for chaining.
      */
     public Builder setSmoothingFactor(float value) {
       
@@ -589,7 +793,8 @@ public  final class CurrentConfig extends
       return this;
     }
     /**
-     * <code>optional float smoothing_factor = 4;</code>
+     * <code>float smoothing_factor = 4;</code>
+     * @return This builder for chaining.
      */
     public Builder clearSmoothingFactor() {
       
@@ -600,13 +805,16 @@ public  final class CurrentConfig extends
 
     private float restitutionCoefficient_ ;
     /**
-     * <code>optional float restitution_coefficient = 6;</code>
+     * <code>float restitution_coefficient = 6;</code>
+     * @return The restitutionCoefficient.
      */
     public float getRestitutionCoefficient() {
       return restitutionCoefficient_;
     }
     /**
-     * <code>optional float restitution_coefficient = 6;</code>
+     * <code>float restitution_coefficient = 6;</code>
+     * @param value The restitutionCoefficient to set.
+     * @return This builder for chaining.
      */
     public Builder setRestitutionCoefficient(float value) {
       
@@ -615,7 +823,8 @@ public  final class CurrentConfig extends
       return this;
     }
     /**
-     * <code>optional float restitution_coefficient = 6;</code>
+     * <code>float restitution_coefficient = 6;</code>
+     * @return This builder for chaining.
      */
     public Builder clearRestitutionCoefficient() {
       
@@ -623,14 +832,158 @@ public  final class CurrentConfig extends
       onChanged();
       return this;
     }
+
+    private float coarseningDistance_ ;
+    /**
+     * <code>float coarsening_distance = 7;</code>
+     * @return The coarseningDistance.
+     */
+    public float getCoarseningDistance() {
+      return coarseningDistance_;
+    }
+    /**
+     * <code>float coarsening_distance = 7;</code>
+     * @param value The coarseningDistance to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCoarseningDistance(float value) {
+      
+      coarseningDistance_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>float coarsening_distance = 7;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearCoarseningDistance() {
+      
+      coarseningDistance_ = 0F;
+      onChanged();
+      return this;
+    }
+
+    private float coarseningVelocity_ ;
+    /**
+     * <code>float coarsening_velocity = 8;</code>
+     * @return The coarseningVelocity.
+     */
+    public float getCoarseningVelocity() {
+      return coarseningVelocity_;
+    }
+    /**
+     * <code>float coarsening_velocity = 8;</code>
+     * @param value The coarseningVelocity to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCoarseningVelocity(float value) {
+      
+      coarseningVelocity_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>float coarsening_velocity = 8;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearCoarseningVelocity() {
+      
+      coarseningVelocity_ = 0F;
+      onChanged();
+      return this;
+    }
+
+    private long coarseningMaxMembers_ ;
+    /**
+     * <code>int64 coarsening_max_members = 9;</code>
+     * @return The coarseningMaxMembers.
+     */
+    public long getCoarseningMaxMembers() {
+      return coarseningMaxMembers_;
+    }
+    /**
+     * <code>int64 coarsening_max_members = 9;</code>
+     * @param value The coarseningMaxMembers to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCoarseningMaxMembers(long value) {
+      
+      coarseningMaxMembers_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 coarsening_max_members = 9;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearCoarseningMaxMembers() {
+      
+      coarseningMaxMembers_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private int resultQueuePolicy_ = 0;
+    /**
+     * <code>.nbodyservice.ResultQueuePolicy.ResultQueuePolicyEnum result_queue_policy = 10;</code>
+     * @return The enum numeric value on the wire for resultQueuePolicy.
+     */
+    public int getResultQueuePolicyValue() {
+      return resultQueuePolicy_;
+    }
+    /**
+     * <code>.nbodyservice.ResultQueuePolicy.ResultQueuePolicyEnum result_queue_policy = 10;</code>
+     * @param value The enum numeric value on the wire for resultQueuePolicy to set.
+     * @return This builder for chaining.
+     */
+    public Builder setResultQueuePolicyValue(int value) {
+      resultQueuePolicy_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.nbodyservice.ResultQueuePolicy.ResultQueuePolicyEnum result_queue_policy = 10;</code>
+     * @return The resultQueuePolicy.
+     */
+    public org.ericace.grpcserver.ResultQueuePolicy.ResultQueuePolicyEnum getResultQueuePolicy() {
+      @SuppressWarnings("deprecation")
+      org.ericace.grpcserver.ResultQueuePolicy.ResultQueuePolicyEnum result = org.ericace.grpcserver.ResultQueuePolicy.ResultQueuePolicyEnum.valueOf(resultQueuePolicy_);
+      return result == null ? org.ericace.grpcserver.ResultQueuePolicy.ResultQueuePolicyEnum.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>.nbodyservice.ResultQueuePolicy.ResultQueuePolicyEnum result_queue_policy = 10;</code>
+     * @param value The resultQueuePolicy to set.
+     * @return This builder for chaining.
+     */
+    public Builder setResultQueuePolicy(org.ericace.grpcserver.ResultQueuePolicy.ResultQueuePolicyEnum value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      resultQueuePolicy_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.nbodyservice.ResultQueuePolicy.ResultQueuePolicyEnum result_queue_policy = 10;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearResultQueuePolicy() {
+      
+      resultQueuePolicy_ = 0;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
-      return this;
+      return super.setUnknownFields(unknownFields);
     }
 
+    @java.lang.Override
     public final Builder mergeUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
-      return this;
+      return super.mergeUnknownFields(unknownFields);
     }
 
 
@@ -649,11 +1002,12 @@ public  final class CurrentConfig extends
 
   private static final com.google.protobuf.Parser<CurrentConfig>
       PARSER = new com.google.protobuf.AbstractParser<CurrentConfig>() {
+    @java.lang.Override
     public CurrentConfig parsePartialFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
-        return new CurrentConfig(input, extensionRegistry);
+      return new CurrentConfig(input, extensionRegistry);
     }
   };
 
@@ -666,6 +1020,7 @@ public  final class CurrentConfig extends
     return PARSER;
   }
 
+  @java.lang.Override
   public org.ericace.grpcserver.CurrentConfig getDefaultInstanceForType() {
     return DEFAULT_INSTANCE;
   }
@@ -8,27 +8,61 @@ public interface CurrentConfigOrBuilder extends
     com.google.protobuf.MessageOrBuilder {
 
   /**
-   * <code>optional int64 bodies = 1;</code>
+   * <code>int64 bodies = 1;</code>
+   * @return The bodies.
    */
   long getBodies();
 
   /**
-   * <code>optional int64 result_queue_size = 2;</code>
+   * <code>int64 result_queue_size = 2;</code>
+   * @return The resultQueueSize.
    */
   long getResultQueueSize();
 
   /**
-   * <code>optional int64 computation_threads = 3;</code>
+   * <code>int64 computation_threads = 3;</code>
+   * @return The computationThreads.
    */
   long getComputationThreads();
 
   /**
-   * <code>optional float smoothing_factor = 4;</code>
+   * <code>float smoothing_factor = 4;</code>
+   * @return The smoothingFactor.
    */
   float getSmoothingFactor();
 
   /**
-   * <code>optional float restitution_coefficient = 6;</code>
+   * <code>float restitution_coefficient = 6;</code>
+   * @return The restitutionCoefficient.
    */
   float getRestitutionCoefficient();
+
+  /**
+   * <code>float coarsening_distance = 7;</code>
+   * @return The coarseningDistance.
+   */
+  float getCoarseningDistance();
+
+  /**
+   * <code>float coarsening_velocity = 8;</code>
+   * @return The coarseningVelocity.
+   */
+  float getCoarseningVelocity();
+
+  /**
+   * <code>int64 coarsening_max_members = 9;</code>
+   * @return The coarseningMaxMembers.
+   */
+  long getCoarseningMaxMembers();
+
+  /**
+   * <code>.nbodyservice.ResultQueuePolicy.ResultQueuePolicyEnum result_queue_policy = 10;</code>
+   * @return The enum numeric value on the wire for resultQueuePolicy.
+   */
+  int getResultQueuePolicyValue();
+  /**
+   * <code>.nbodyservice.ResultQueuePolicy.ResultQueuePolicyEnum result_queue_policy = 10;</code>
+   * @return The resultQueuePolicy.
+   */
+  org.ericace.grpcserver.ResultQueuePolicy.ResultQueuePolicyEnum getResultQueuePolicy();
 }
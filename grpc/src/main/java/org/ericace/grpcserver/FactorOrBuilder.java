@@ -8,7 +8,8 @@ public interface FactorOrBuilder extends
     com.google.protobuf.MessageOrBuilder {
 
   /**
-   * <code>optional float factor = 1;</code>
+   * <code>float factor = 1;</code>
+   * @return The factor.
    */
   float getFactor();
 }
@@ -14,25 +14,36 @@ public  final class ItemCount extends
     com.google.protobuf.GeneratedMessageV3 implements
     // @@protoc_insertion_point(message_implements:nbodyservice.ItemCount)
     ItemCountOrBuilder {
+private static final long serialVersionUID = 0L;
   // Use ItemCount.newBuilder() to construct.
   private ItemCount(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
     super(builder);
   }
   private ItemCount() {
-    itemCount_ = 0L;
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new ItemCount();
   }
 
   @java.lang.Override
   public final com.google.protobuf.UnknownFieldSet
   getUnknownFields() {
-    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    return this.unknownFields;
   }
   private ItemCount(
       com.google.protobuf.CodedInputStream input,
       com.google.protobuf.ExtensionRegistryLite extensionRegistry)
       throws com.google.protobuf.InvalidProtocolBufferException {
     this();
-    int mutable_bitField0_ = 0;
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
     try {
       boolean done = false;
       while (!done) {
@@ -41,17 +52,18 @@ public  final class ItemCount extends
           case 0:
             done = true;
             break;
-          default: {
-            if (!input.skipField(tag)) {
-              done = true;
-            }
-            break;
-          }
           case 8: {
 
             itemCount_ = input.readInt64();
             break;
           }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
         }
       }
     } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -60,6 +72,7 @@ public  final class ItemCount extends
       throw new com.google.protobuf.InvalidProtocolBufferException(
           e).setUnfinishedMessage(this);
     } finally {
+      this.unknownFields = unknownFields.build();
       makeExtensionsImmutable();
     }
   }
@@ -68,6 +81,7 @@ public  final class ItemCount extends
     return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_ItemCount_descriptor;
   }
 
+  @java.lang.Override
   protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internalGetFieldAccessorTable() {
     return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_ItemCount_fieldAccessorTable
@@ -78,13 +92,15 @@ public  final class ItemCount extends
   public static final int ITEM_COUNT_FIELD_NUMBER = 1;
   private long itemCount_;
   /**
-   * <code>optional int64 item_count = 1;</code>
+   * <code>int64 item_count = 1;</code>
+   * @return The itemCount.
    */
   public long getItemCount() {
     return itemCount_;
   }
 
   private byte memoizedIsInitialized = -1;
+  @java.lang.Override
   public final boolean isInitialized() {
     byte isInitialized = memoizedIsInitialized;
     if (isInitialized == 1) return true;
@@ -94,13 +110,16 @@ public  final class ItemCount extends
     return true;
   }
 
+  @java.lang.Override
   public void writeTo(com.google.protobuf.CodedOutputStream output)
                       throws java.io.IOException {
     if (itemCount_ != 0L) {
       output.writeInt64(1, itemCount_);
     }
+    unknownFields.writeTo(output);
   }
 
+  @java.lang.Override
   public int getSerializedSize() {
     int size = memoizedSize;
     if (size != -1) return size;
@@ -110,11 +129,11 @@ public  final class ItemCount extends
       size += com.google.protobuf.CodedOutputStream
         .computeInt64Size(1, itemCount_);
     }
+    size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
   }
 
-  private static final long serialVersionUID = 0L;
   @java.lang.Override
   public boolean equals(final java.lang.Object obj) {
     if (obj == this) {
@@ -125,10 +144,10 @@ public  final class ItemCount extends
     }
     org.ericace.grpcserver.ItemCount other = (org.ericace.grpcserver.ItemCount) obj;
 
-    boolean result = true;
-    result = result && (getItemCount()
-        == other.getItemCount());
-    return result;
+    if (getItemCount()
+        != other.getItemCount()) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
   }
 
   @java.lang.Override
@@ -137,7 +156,7 @@ public  final class ItemCount extends
       return memoizedHashCode;
     }
     int hash = 41;
-    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (19 * hash) + getDescriptor().hashCode();
     hash = (37 * hash) + ITEM_COUNT_FIELD_NUMBER;
     hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
         getItemCount());
@@ -146,6 +165,17 @@ public  final class ItemCount extends
     return hash;
   }
 
+  public static org.ericace.grpcserver.ItemCount parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.ericace.grpcserver.ItemCount parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
   public static org.ericace.grpcserver.ItemCount parseFrom(
       com.google.protobuf.ByteString data)
       throws com.google.protobuf.InvalidProtocolBufferException {
@@ -205,6 +235,7 @@ public  final class ItemCount extends
         .parseWithIOException(PARSER, input, extensionRegistry);
   }
 
+  @java.lang.Override
   public Builder newBuilderForType() { return newBuilder(); }
   public static Builder newBuilder() {
     return DEFAULT_INSTANCE.toBuilder();
@@ -212,6 +243,7 @@ public  final class ItemCount extends
   public static Builder newBuilder(org.ericace.grpcserver.ItemCount prototype) {
     return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
   }
+  @java.lang.Override
   public Builder toBuilder() {
     return this == DEFAULT_INSTANCE
         ? new Builder() : new Builder().mergeFrom(this);
@@ -239,6 +271,7 @@ public  final class ItemCount extends
       return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_ItemCount_descriptor;
     }
 
+    @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
       return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_ItemCount_fieldAccessorTable
@@ -261,6 +294,7 @@ public  final class ItemCount extends
               .alwaysUseFieldBuilders) {
       }
     }
+    @java.lang.Override
     public Builder clear() {
       super.clear();
       itemCount_ = 0L;
@@ -268,15 +302,18 @@ public  final class ItemCount extends
       return this;
     }
 
+    @java.lang.Override
     public com.google.protobuf.Descriptors.Descriptor
         getDescriptorForType() {
       return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_ItemCount_descriptor;
     }
 
+    @java.lang.Override
     public org.ericace.grpcserver.ItemCount getDefaultInstanceForType() {
       return org.ericace.grpcserver.ItemCount.getDefaultInstance();
     }
 
+    @java.lang.Override
     public org.ericace.grpcserver.ItemCount build() {
       org.ericace.grpcserver.ItemCount result = buildPartial();
       if (!result.isInitialized()) {
@@ -285,6 +322,7 @@ public  final class ItemCount extends
       return result;
     }
 
+    @java.lang.Override
     public org.ericace.grpcserver.ItemCount buildPartial() {
       org.ericace.grpcserver.ItemCount result = new org.ericace.grpcserver.ItemCount(this);
       result.itemCount_ = itemCount_;
@@ -292,32 +330,39 @@ public  final class ItemCount extends
       return result;
     }
 
+    @java.lang.Override
     public Builder clone() {
-      return (Builder) super.clone();
+      return super.clone();
     }
+    @java.lang.Override
     public Builder setField(
         com.google.protobuf.Descriptors.FieldDescriptor field,
-        Object value) {
-      return (Builder) super.setField(field, value);
+        java.lang.Object value) {
+      return super.setField(field, value);
     }
+    @java.lang.Override
     public Builder clearField(
         com.google.protobuf.Descriptors.FieldDescriptor field) {
-      return (Builder) super.clearField(field);
+      return super.clearField(field);
     }
+    @java.lang.Override
     public Builder clearOneof(
         com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-      return (Builder) super.clearOneof(oneof);
+      return super.clearOneof(oneof);
     }
+    @java.lang.Override
     public Builder setRepeatedField(
         com.google.protobuf.Descriptors.FieldDescriptor field,
-        int index, Object value) {
-      return (Builder) super.setRepeatedField(field, index, value);
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
     }
+    @java.lang.Override
     public Builder addRepeatedField(
         com.google.protobuf.Descriptors.FieldDescriptor field,
-        Object value) {
-      return (Builder) super.addRepeatedField(field, value);
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
     }
+    @java.lang.Override
     public Builder mergeFrom(com.google.protobuf.Message other) {
       if (other instanceof org.ericace.grpcserver.ItemCount) {
         return mergeFrom((org.ericace.grpcserver.ItemCount)other);
@@ -332,14 +377,17 @@ public  final class ItemCount extends
       if (other.getItemCount() != 0L) {
         setItemCount(other.getItemCount());
       }
+      this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
     }
 
+    @java.lang.Override
     public final boolean isInitialized() {
       return true;
     }
 
+    @java.lang.Override
     public Builder mergeFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
@@ -360,13 +408,16 @@ public  final class ItemCount extends
 
     private long itemCount_ ;
     /**
-     * <code>optional int64 item_count = 1;</code>
+     * <code>int64 item_count = 1;</code>
+     * @return The itemCount.
      */
     public long getItemCount() {
       return itemCount_;
     }
     /**
-     * <code>optional int64 item_count = 1;</code>
+     * <code>int64 item_count = 1;</code>
+     * @param value The itemCount to set.
+     * @return This builder for chaining.
      */
     public Builder setItemCount(long value) {
       
@@ -375,7 +426,8 @@ public  final class ItemCount extends
       return this;
     }
     /**
-     * <code>optional int64 item_count = 1;</code>
+     * <code>int64 item_count = 1;</code>
+     * @return This builder for chaining.
      */
     public Builder clearItemCount() {
       
@@ -383,14 +435,16 @@ public  final class ItemCount extends
       onChanged();
       return this;
     }
+    @java.lang.Override
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
-      return this;
+      return super.setUnknownFields(unknownFields);
     }
 
+    @java.lang.Override
     public final Builder mergeUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
-      return this;
+      return super.mergeUnknownFields(unknownFields);
     }
 
 
@@ -409,11 +463,12 @@ public  final class ItemCount extends
 
   private static final com.google.protobuf.Parser<ItemCount>
       PARSER = new com.google.protobuf.AbstractParser<ItemCount>() {
+    @java.lang.Override
     public ItemCount parsePartialFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
-        return new ItemCount(input, extensionRegistry);
+      return new ItemCount(input, extensionRegistry);
     }
   };
 
@@ -426,6 +481,7 @@ public  final class ItemCount extends
     return PARSER;
   }
 
+  @java.lang.Override
   public org.ericace.grpcserver.ItemCount getDefaultInstanceForType() {
     return DEFAULT_INSTANCE;
   }
@@ -8,7 +8,8 @@ public interface ItemCountOrBuilder extends
     com.google.protobuf.MessageOrBuilder {
 
   /**
-   * <code>optional int64 item_count = 1;</code>
+   * <code>int64 item_count = 1;</code>
+   * @return The itemCount.
    */
   long getItemCount();
 }
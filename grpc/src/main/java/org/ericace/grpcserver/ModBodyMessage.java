@@ -21,28 +21,40 @@ public  final class ModBodyMessage extends
     com.google.protobuf.GeneratedMessageV3 implements
     // @@protoc_insertion_point(message_implements:nbodyservice.ModBodyMessage)
     ModBodyMessageOrBuilder {
+private static final long serialVersionUID = 0L;
   // Use ModBodyMessage.newBuilder() to construct.
   private ModBodyMessage(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
     super(builder);
   }
   private ModBodyMessage() {
-    id_ = 0L;
     name_ = "";
     class__ = "";
     p_ = com.google.protobuf.LazyStringArrayList.EMPTY;
   }
 
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new ModBodyMessage();
+  }
+
   @java.lang.Override
   public final com.google.protobuf.UnknownFieldSet
   getUnknownFields() {
-    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    return this.unknownFields;
   }
   private ModBodyMessage(
       com.google.protobuf.CodedInputStream input,
       com.google.protobuf.ExtensionRegistryLite extensionRegistry)
       throws com.google.protobuf.InvalidProtocolBufferException {
     this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
     int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
     try {
       boolean done = false;
       while (!done) {
@@ -51,12 +63,6 @@ public  final class ModBodyMessage extends
           case 0:
             done = true;
             break;
-          default: {
-            if (!input.skipField(tag)) {
-              done = true;
-            }
-            break;
-          }
           case 8: {
 
             id_ = input.readInt64();
@@ -76,13 +82,20 @@ public  final class ModBodyMessage extends
           }
           case 34: {
             java.lang.String s = input.readStringRequireUtf8();
-            if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
               p_ = new com.google.protobuf.LazyStringArrayList();
-              mutable_bitField0_ |= 0x00000008;
+              mutable_bitField0_ |= 0x00000001;
             }
             p_.add(s);
             break;
           }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
         }
       }
     } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -91,9 +104,10 @@ public  final class ModBodyMessage extends
       throw new com.google.protobuf.InvalidProtocolBufferException(
           e).setUnfinishedMessage(this);
     } finally {
-      if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
         p_ = p_.getUnmodifiableView();
       }
+      this.unknownFields = unknownFields.build();
       makeExtensionsImmutable();
     }
   }
@@ -102,6 +116,7 @@ public  final class ModBodyMessage extends
     return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_ModBodyMessage_descriptor;
   }
 
+  @java.lang.Override
   protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internalGetFieldAccessorTable() {
     return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_ModBodyMessage_fieldAccessorTable
@@ -109,11 +124,11 @@ public  final class ModBodyMessage extends
             org.ericace.grpcserver.ModBodyMessage.class, org.ericace.grpcserver.ModBodyMessage.Builder.class);
   }
 
-  private int bitField0_;
   public static final int ID_FIELD_NUMBER = 1;
   private long id_;
   /**
-   * <code>optional int64 id = 1;</code>
+   * <code>int64 id = 1;</code>
+   * @return The id.
    */
   public long getId() {
     return id_;
@@ -122,7 +137,8 @@ public  final class ModBodyMessage extends
   public static final int NAME_FIELD_NUMBER = 2;
   private volatile java.lang.Object name_;
   /**
-   * <code>optional string name = 2;</code>
+   * <code>string name = 2;</code>
+   * @return The name.
    */
   public java.lang.String getName() {
     java.lang.Object ref = name_;
@@ -137,7 +153,8 @@ public  final class ModBodyMessage extends
     }
   }
   /**
-   * <code>optional string name = 2;</code>
+   * <code>string name = 2;</code>
+   * @return The bytes for name.
    */
   public com.google.protobuf.ByteString
       getNameBytes() {
@@ -156,7 +173,8 @@ public  final class ModBodyMessage extends
   public static final int CLASS_FIELD_NUMBER = 3;
   private volatile java.lang.Object class__;
   /**
-   * <code>optional string class = 3;</code>
+   * <code>string class = 3;</code>
+   * @return The class.
    */
   public java.lang.String getClass_() {
     java.lang.Object ref = class__;
@@ -171,7 +189,8 @@ public  final class ModBodyMessage extends
     }
   }
   /**
-   * <code>optional string class = 3;</code>
+   * <code>string class = 3;</code>
+   * @return The bytes for class.
    */
   public com.google.protobuf.ByteString
       getClass_Bytes() {
@@ -191,6 +210,7 @@ public  final class ModBodyMessage extends
   private com.google.protobuf.LazyStringList p_;
   /**
    * <code>repeated string p = 4;</code>
+   * @return A list containing the p.
    */
   public com.google.protobuf.ProtocolStringList
       getPList() {
@@ -198,18 +218,23 @@ public  final class ModBodyMessage extends
   }
   /**
    * <code>repeated string p = 4;</code>
+   * @return The count of p.
    */
   public int getPCount() {
     return p_.size();
   }
   /**
    * <code>repeated string p = 4;</code>
+   * @param index The index of the element to return.
+   * @return The p at the given index.
    */
   public java.lang.String getP(int index) {
     return p_.get(index);
   }
   /**
    * <code>repeated string p = 4;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the p at the given index.
    */
   public com.google.protobuf.ByteString
       getPBytes(int index) {
@@ -217,6 +242,7 @@ public  final class ModBodyMessage extends
   }
 
   private byte memoizedIsInitialized = -1;
+  @java.lang.Override
   public final boolean isInitialized() {
     byte isInitialized = memoizedIsInitialized;
     if (isInitialized == 1) return true;
@@ -226,6 +252,7 @@ public  final class ModBodyMessage extends
     return true;
   }
 
+  @java.lang.Override
   public void writeTo(com.google.protobuf.CodedOutputStream output)
                       throws java.io.IOException {
     if (id_ != 0L) {
@@ -240,8 +267,10 @@ public  final class ModBodyMessage extends
     for (int i = 0; i < p_.size(); i++) {
       com.google.protobuf.GeneratedMessageV3.writeString(output, 4, p_.getRaw(i));
     }
+    unknownFields.writeTo(output);
   }
 
+  @java.lang.Override
   public int getSerializedSize() {
     int size = memoizedSize;
     if (size != -1) return size;
@@ -265,11 +294,11 @@ public  final class ModBodyMessage extends
       size += dataSize;
       size += 1 * getPList().size();
     }
+    size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
   }
 
-  private static final long serialVersionUID = 0L;
   @java.lang.Override
   public boolean equals(final java.lang.Object obj) {
     if (obj == this) {
@@ -280,16 +309,16 @@ public  final class ModBodyMessage extends
     }
     org.ericace.grpcserver.ModBodyMessage other = (org.ericace.grpcserver.ModBodyMessage) obj;
 
-    boolean result = true;
-    result = result && (getId()
-        == other.getId());
-    result = result && getName()
-        .equals(other.getName());
-    result = result && getClass_()
-        .equals(other.getClass_());
-    result = result && getPList()
-        .equals(other.getPList());
-    return result;
+    if (getId()
+        != other.getId()) return false;
+    if (!getName()
+        .equals(other.getName())) return false;
+    if (!getClass_()
+        .equals(other.getClass_())) return false;
+    if (!getPList()
+        .equals(other.getPList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
   }
 
   @java.lang.Override
@@ -298,7 +327,7 @@ public  final class ModBodyMessage extends
       return memoizedHashCode;
     }
     int hash = 41;
-    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (19 * hash) + getDescriptor().hashCode();
     hash = (37 * hash) + ID_FIELD_NUMBER;
     hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
         getId());
@@ -315,6 +344,17 @@ public  final class ModBodyMessage extends
     return hash;
   }
 
+  public static org.ericace.grpcserver.ModBodyMessage parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.ericace.grpcserver.ModBodyMessage parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
   public static org.ericace.grpcserver.ModBodyMessage parseFrom(
       com.google.protobuf.ByteString data)
       throws com.google.protobuf.InvalidProtocolBufferException {
@@ -374,6 +414,7 @@ public  final class ModBodyMessage extends
         .parseWithIOException(PARSER, input, extensionRegistry);
   }
 
+  @java.lang.Override
   public Builder newBuilderForType() { return newBuilder(); }
   public static Builder newBuilder() {
     return DEFAULT_INSTANCE.toBuilder();
@@ -381,6 +422,7 @@ public  final class ModBodyMessage extends
   public static Builder newBuilder(org.ericace.grpcserver.ModBodyMessage prototype) {
     return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
   }
+  @java.lang.Override
   public Builder toBuilder() {
     return this == DEFAULT_INSTANCE
         ? new Builder() : new Builder().mergeFrom(this);
@@ -415,6 +457,7 @@ public  final class ModBodyMessage extends
       return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_ModBodyMessage_descriptor;
     }
 
+    @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
       return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_ModBodyMessage_fieldAccessorTable
@@ -437,6 +480,7 @@ public  final class ModBodyMessage extends
               .alwaysUseFieldBuilders) {
       }
     }
+    @java.lang.Override
     public Builder clear() {
       super.clear();
       id_ = 0L;
@@ -446,19 +490,22 @@ public  final class ModBodyMessage extends
       class__ = "";
 
       p_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-      bitField0_ = (bitField0_ & ~0x00000008);
+      bitField0_ = (bitField0_ & ~0x00000001);
       return this;
     }
 
+    @java.lang.Override
     public com.google.protobuf.Descriptors.Descriptor
         getDescriptorForType() {
       return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_ModBodyMessage_descriptor;
     }
 
+    @java.lang.Override
     public org.ericace.grpcserver.ModBodyMessage getDefaultInstanceForType() {
       return org.ericace.grpcserver.ModBodyMessage.getDefaultInstance();
     }
 
+    @java.lang.Override
     public org.ericace.grpcserver.ModBodyMessage build() {
       org.ericace.grpcserver.ModBodyMessage result = buildPartial();
       if (!result.isInitialized()) {
@@ -467,49 +514,55 @@ public  final class ModBodyMessage extends
       return result;
     }
 
+    @java.lang.Override
     public org.ericace.grpcserver.ModBodyMessage buildPartial() {
       org.ericace.grpcserver.ModBodyMessage result = new org.ericace.grpcserver.ModBodyMessage(this);
       int from_bitField0_ = bitField0_;
-      int to_bitField0_ = 0;
       result.id_ = id_;
       result.name_ = name_;
       result.class__ = class__;
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         p_ = p_.getUnmodifiableView();
-        bitField0_ = (bitField0_ & ~0x00000008);
+        bitField0_ = (bitField0_ & ~0x00000001);
       }
       result.p_ = p_;
-      result.bitField0_ = to_bitField0_;
       onBuilt();
       return result;
     }
 
+    @java.lang.Override
     public Builder clone() {
-      return (Builder) super.clone();
+      return super.clone();
     }
+    @java.lang.Override
     public Builder setField(
         com.google.protobuf.Descriptors.FieldDescriptor field,
-        Object value) {
-      return (Builder) super.setField(field, value);
+        java.lang.Object value) {
+      return super.setField(field, value);
     }
+    @java.lang.Override
     public Builder clearField(
         com.google.protobuf.Descriptors.FieldDescriptor field) {
-      return (Builder) super.clearField(field);
+      return super.clearField(field);
     }
+    @java.lang.Override
     public Builder clearOneof(
         com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-      return (Builder) super.clearOneof(oneof);
+      return super.clearOneof(oneof);
     }
+    @java.lang.Override
     public Builder setRepeatedField(
         com.google.protobuf.Descriptors.FieldDescriptor field,
-        int index, Object value) {
-      return (Builder) super.setRepeatedField(field, index, value);
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
     }
+    @java.lang.Override
     public Builder addRepeatedField(
         com.google.protobuf.Descriptors.FieldDescriptor field,
-        Object value) {
-      return (Builder) super.addRepeatedField(field, value);
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
     }
+    @java.lang.Override
     public Builder mergeFrom(com.google.protobuf.Message other) {
       if (other instanceof org.ericace.grpcserver.ModBodyMessage) {
         return mergeFrom((org.ericace.grpcserver.ModBodyMessage)other);
@@ -535,21 +588,24 @@ public  final class ModBodyMessage extends
       if (!other.p_.isEmpty()) {
         if (p_.isEmpty()) {
           p_ = other.p_;
-          bitField0_ = (bitField0_ & ~0x00000008);
+          bitField0_ = (bitField0_ & ~0x00000001);
         } else {
           ensurePIsMutable();
           p_.addAll(other.p_);
         }
         onChanged();
       }
+      this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
     }
 
+    @java.lang.Override
     public final boolean isInitialized() {
       return true;
     }
 
+    @java.lang.Override
     public Builder mergeFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
@@ -571,13 +627,16 @@ public  final class ModBodyMessage extends
 
     private long id_ ;
     /**
-     * <code>optional int64 id = 1;</code>
+     * <code>int64 id = 1;</code>
+     * @return The id.
      */
     public long getId() {
       return id_;
     }
     /**
-     * <code>optional int64 id = 1;</code>
+     * <code>int64 id = 1;</code>
+     * @param value The id to set.
+     * @return This builder for chaining.
      */
     public Builder setId(long value) {
       
@@ -586,7 +645,8 @@ public  final class ModBodyMessage extends
       return this;
     }
     /**
-     * <code>optional int64 id = 1;</code>
+     * <code>int64 id = 1;</code>
+     * @return This builder for chaining.
      */
     public Builder clearId() {
       
@@ -597,7 +657,8 @@ public  final class ModBodyMessage extends
 
     private java.lang.Object name_ = "";
     /**
-     * <code>optional string name = 2;</code>
+     * <code>string name = 2;</code>
+     * @return The name.
      */
     public java.lang.String getName() {
       java.lang.Object ref = name_;
@@ -612,7 +673,8 @@ public  final class ModBodyMessage extends
       }
     }
     /**
-     * <code>optional string name = 2;</code>
+     * <code>string name = 2;</code>
+     * @return The bytes for name.
      */
     public com.google.protobuf.ByteString
         getNameBytes() {
@@ -628,7 +690,9 @@ public  final class ModBodyMessage extends
       }
     }
     /**
-     * <code>optional string name = 2;</code>
+     * <code>string name = 2;</code>
+     * @param value The name to set.
+     * @return This builder for chaining.
      */
     public Builder setName(
         java.lang.String value) {
@@ -641,7 +705,8 @@ public  final class ModBodyMessage extends
       return this;
     }
     /**
-     * <code>optional string name = 2;</code>
+     * <code>string name = 2;</code>
+     * @return This builder for chaining.
      */
     public Builder clearName() {
       
@@ -650,7 +715,9 @@ public  final class ModBodyMessage extends
       return this;
     }
     /**
-     * <code>optional string name = 2;</code>
+     * <code>string name = 2;</code>
+     * @param value The bytes for name to set.
+     * @return This builder for chaining.
      */
     public Builder setNameBytes(
         com.google.protobuf.ByteString value) {
@@ -666,7 +733,8 @@ public  final class ModBodyMessage extends
 
     private java.lang.Object class__ = "";
     /**
-     * <code>optional string class = 3;</code>
+     * <code>string class = 3;</code>
+     * @return The class.
      */
     public java.lang.String getClass_() {
       java.lang.Object ref = class__;
@@ -681,7 +749,8 @@ public  final class ModBodyMessage extends
       }
     }
     /**
-     * <code>optional string class = 3;</code>
+     * <code>string class = 3;</code>
+     * @return The bytes for class.
      */
     public com.google.protobuf.ByteString
         getClass_Bytes() {
@@ -697,7 +766,9 @@ public  final class ModBodyMessage extends
       }
     }
     /**
-     * <code>optional string class = 3;</code>
+     * <code>string class = 3;</code>
+     * @param value The class to set.
+     * @return This builder for chaining.
      */
     public Builder setClass_(
         java.lang.String value) {
@@ -710,7 +781,8 @@ public  final class ModBodyMessage extends
       return this;
     }
     /**
-     * <code>optional string class = 3;</code>
+     * <code>string class = 3;</code>
+     * @return This builder for chaining.
      */
     public Builder clearClass_() {
       
@@ -719,7 +791,9 @@ public  final class ModBodyMessage extends
       return this;
     }
     /**
-     * <code>optional string class = 3;</code>
+     * <code>string class = 3;</code>
+     * @param value The bytes for class to set.
+     * @return This builder for chaining.
      */
     public Builder setClass_Bytes(
         com.google.protobuf.ByteString value) {
@@ -735,13 +809,14 @@ public  final class ModBodyMessage extends
 
     private com.google.protobuf.LazyStringList p_ = com.google.protobuf.LazyStringArrayList.EMPTY;
     private void ensurePIsMutable() {
-      if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+      if (!((bitField0_ & 0x00000001) != 0)) {
         p_ = new com.google.protobuf.LazyStringArrayList(p_);
-        bitField0_ |= 0x00000008;
+        bitField0_ |= 0x00000001;
        }
     }
     /**
      * <code>repeated string p = 4;</code>
+     * @return A list containing the p.
      */
     public com.google.protobuf.ProtocolStringList
         getPList() {
@@ -749,18 +824,23 @@ public  final class ModBodyMessage extends
     }
     /**
      * <code>repeated string p = 4;</code>
+     * @return The count of p.
      */
     public int getPCount() {
       return p_.size();
     }
     /**
      * <code>repeated string p = 4;</code>
+     * @param index The index of the element to return.
+     * @return The p at the given index.
      */
     public java.lang.String getP(int index) {
       return p_.get(index);
     }
     /**
      * <code>repeated string p = 4;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the p at the given index.
      */
     public com.google.protobuf.ByteString
         getPBytes(int index) {
@@ -768,6 +848,9 @@ public  final class ModBodyMessage extends
     }
     /**
      * <code>repeated string p = 4;</code>
+     * @param index The index to set the value at.
+     * @param value The p to set.
+     * @return This builder for chaining.
      */
     public Builder setP(
         int index, java.lang.String value) {
@@ -781,6 +864,8 @@ public  final class ModBodyMessage extends
     }
     /**
      * <code>repeated string p = 4;</code>
+     * @param value The p to add.
+     * @return This builder for chaining.
      */
     public Builder addP(
         java.lang.String value) {
@@ -794,6 +879,8 @@ public  final class ModBodyMessage extends
     }
     /**
      * <code>repeated string p = 4;</code>
+     * @param values The p to add.
+     * @return This builder for chaining.
      */
     public Builder addAllP(
         java.lang.Iterable<java.lang.String> values) {
@@ -805,15 +892,18 @@ public  final class ModBodyMessage extends
     }
     /**
      * <code>repeated string p = 4;</code>
+     * @return This builder for chaining.
      */
     public Builder clearP() {
       p_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-      bitField0_ = (bitField0_ & ~0x00000008);
+      bitField0_ = (bitField0_ & ~0x00000001);
       onChanged();
       return this;
     }
     /**
      * <code>repeated string p = 4;</code>
+     * @param value The bytes of the p to add.
+     * @return This builder for chaining.
      */
     public Builder addPBytes(
         com.google.protobuf.ByteString value) {
@@ -826,14 +916,16 @@ public  final class ModBodyMessage extends
       onChanged();
       return this;
     }
+    @java.lang.Override
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
-      return this;
+      return super.setUnknownFields(unknownFields);
     }
 
+    @java.lang.Override
     public final Builder mergeUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
-      return this;
+      return super.mergeUnknownFields(unknownFields);
     }
 
 
@@ -852,11 +944,12 @@ public  final class ModBodyMessage extends
 
   private static final com.google.protobuf.Parser<ModBodyMessage>
       PARSER = new com.google.protobuf.AbstractParser<ModBodyMessage>() {
+    @java.lang.Override
     public ModBodyMessage parsePartialFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
-        return new ModBodyMessage(input, extensionRegistry);
+      return new ModBodyMessage(input, extensionRegistry);
     }
   };
 
@@ -869,6 +962,7 @@ public  final class ModBodyMessage extends
     return PARSER;
   }
 
+  @java.lang.Override
   public org.ericace.grpcserver.ModBodyMessage getDefaultInstanceForType() {
     return DEFAULT_INSTANCE;
   }
@@ -8,45 +8,56 @@ public interface ModBodyMessageOrBuilder extends
     com.google.protobuf.MessageOrBuilder {
 
   /**
-   * <code>optional int64 id = 1;</code>
+   * <code>int64 id = 1;</code>
+   * @return The id.
    */
   long getId();
 
   /**
-   * <code>optional string name = 2;</code>
+   * <code>string name = 2;</code>
+   * @return The name.
    */
   java.lang.String getName();
   /**
-   * <code>optional string name = 2;</code>
+   * <code>string name = 2;</code>
+   * @return The bytes for name.
    */
   com.google.protobuf.ByteString
       getNameBytes();
 
   /**
-   * <code>optional string class = 3;</code>
+   * <code>string class = 3;</code>
+   * @return The class.
    */
   java.lang.String getClass_();
   /**
-   * <code>optional string class = 3;</code>
+   * <code>string class = 3;</code>
+   * @return The bytes for class.
    */
   com.google.protobuf.ByteString
       getClass_Bytes();
 
   /**
    * <code>repeated string p = 4;</code>
+   * @return A list containing the p.
    */
   java.util.List<java.lang.String>
       getPList();
   /**
    * <code>repeated string p = 4;</code>
+   * @return The count of p.
    */
   int getPCount();
   /**
    * <code>repeated string p = 4;</code>
+   * @param index The index of the element to return.
+   * @return The p at the given index.
    */
   java.lang.String getP(int index);
   /**
    * <code>repeated string p = 4;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the p at the given index.
    */
   com.google.protobuf.ByteString
       getPBytes(int index);
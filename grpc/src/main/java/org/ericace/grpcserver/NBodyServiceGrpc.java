@@ -93,6 +93,37 @@ public final class NBodyServiceGrpc {
     return getSetResultQueueSizeMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<org.ericace.grpcserver.ResultQueuePolicy,
+      org.ericace.grpcserver.ResultCode> getSetResultQueuePolicyMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "SetResultQueuePolicy",
+      requestType = org.ericace.grpcserver.ResultQueuePolicy.class,
+      responseType = org.ericace.grpcserver.ResultCode.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.ericace.grpcserver.ResultQueuePolicy,
+      org.ericace.grpcserver.ResultCode> getSetResultQueuePolicyMethod() {
+    io.grpc.MethodDescriptor<org.ericace.grpcserver.ResultQueuePolicy, org.ericace.grpcserver.ResultCode> getSetResultQueuePolicyMethod;
+    if ((getSetResultQueuePolicyMethod = NBodyServiceGrpc.getSetResultQueuePolicyMethod) == null) {
+      synchronized (NBodyServiceGrpc.class) {
+        if ((getSetResultQueuePolicyMethod = NBodyServiceGrpc.getSetResultQueuePolicyMethod) == null) {
+          NBodyServiceGrpc.getSetResultQueuePolicyMethod = getSetResultQueuePolicyMethod =
+              io.grpc.MethodDescriptor.<org.ericace.grpcserver.ResultQueuePolicy, org.ericace.grpcserver.ResultCode>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "SetResultQueuePolicy"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.ericace.grpcserver.ResultQueuePolicy.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.ericace.grpcserver.ResultCode.getDefaultInstance()))
+              .setSchemaDescriptor(new NBodyServiceMethodDescriptorSupplier("SetResultQueuePolicy"))
+              .build();
+        }
+      }
+    }
+    return getSetResultQueuePolicyMethod;
+  }
+
   private static volatile io.grpc.MethodDescriptor<org.ericace.grpcserver.Factor,
       org.ericace.grpcserver.ResultCode> getSetSmoothingMethod;
 
@@ -155,6 +186,37 @@ public final class NBodyServiceGrpc {
     return getSetRestitutionCoefficientMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<org.ericace.grpcserver.Coarsening,
+      org.ericace.grpcserver.ResultCode> getSetCoarseningMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "SetCoarsening",
+      requestType = org.ericace.grpcserver.Coarsening.class,
+      responseType = org.ericace.grpcserver.ResultCode.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.ericace.grpcserver.Coarsening,
+      org.ericace.grpcserver.ResultCode> getSetCoarseningMethod() {
+    io.grpc.MethodDescriptor<org.ericace.grpcserver.Coarsening, org.ericace.grpcserver.ResultCode> getSetCoarseningMethod;
+    if ((getSetCoarseningMethod = NBodyServiceGrpc.getSetCoarseningMethod) == null) {
+      synchronized (NBodyServiceGrpc.class) {
+        if ((getSetCoarseningMethod = NBodyServiceGrpc.getSetCoarseningMethod) == null) {
+          NBodyServiceGrpc.getSetCoarseningMethod = getSetCoarseningMethod =
+              io.grpc.MethodDescriptor.<org.ericace.grpcserver.Coarsening, org.ericace.grpcserver.ResultCode>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "SetCoarsening"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.ericace.grpcserver.Coarsening.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.ericace.grpcserver.ResultCode.getDefaultInstance()))
+              .setSchemaDescriptor(new NBodyServiceMethodDescriptorSupplier("SetCoarsening"))
+              .build();
+        }
+      }
+    }
+    return getSetCoarseningMethod;
+  }
+
   private static volatile io.grpc.MethodDescriptor<org.ericace.grpcserver.ItemCount,
       org.ericace.grpcserver.ResultCode> getRemoveBodiesMethod;
 
@@ -310,6 +372,68 @@ public final class NBodyServiceGrpc {
     return getGetCurrentConfigMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<org.ericace.grpcserver.SphereQuery,
+      org.ericace.grpcserver.BodyList> getFindBodiesInSphereMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "FindBodiesInSphere",
+      requestType = org.ericace.grpcserver.SphereQuery.class,
+      responseType = org.ericace.grpcserver.BodyList.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.ericace.grpcserver.SphereQuery,
+      org.ericace.grpcserver.BodyList> getFindBodiesInSphereMethod() {
+    io.grpc.MethodDescriptor<org.ericace.grpcserver.SphereQuery, org.ericace.grpcserver.BodyList> getFindBodiesInSphereMethod;
+    if ((getFindBodiesInSphereMethod = NBodyServiceGrpc.getFindBodiesInSphereMethod) == null) {
+      synchronized (NBodyServiceGrpc.class) {
+        if ((getFindBodiesInSphereMethod = NBodyServiceGrpc.getFindBodiesInSphereMethod) == null) {
+          NBodyServiceGrpc.getFindBodiesInSphereMethod = getFindBodiesInSphereMethod =
+              io.grpc.MethodDescriptor.<org.ericace.grpcserver.SphereQuery, org.ericace.grpcserver.BodyList>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "FindBodiesInSphere"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.ericace.grpcserver.SphereQuery.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.ericace.grpcserver.BodyList.getDefaultInstance()))
+              .setSchemaDescriptor(new NBodyServiceMethodDescriptorSupplier("FindBodiesInSphere"))
+              .build();
+        }
+      }
+    }
+    return getFindBodiesInSphereMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.ericace.grpcserver.NearestQuery,
+      org.ericace.grpcserver.BodyList> getFindNearestBodiesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "FindNearestBodies",
+      requestType = org.ericace.grpcserver.NearestQuery.class,
+      responseType = org.ericace.grpcserver.BodyList.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.ericace.grpcserver.NearestQuery,
+      org.ericace.grpcserver.BodyList> getFindNearestBodiesMethod() {
+    io.grpc.MethodDescriptor<org.ericace.grpcserver.NearestQuery, org.ericace.grpcserver.BodyList> getFindNearestBodiesMethod;
+    if ((getFindNearestBodiesMethod = NBodyServiceGrpc.getFindNearestBodiesMethod) == null) {
+      synchronized (NBodyServiceGrpc.class) {
+        if ((getFindNearestBodiesMethod = NBodyServiceGrpc.getFindNearestBodiesMethod) == null) {
+          NBodyServiceGrpc.getFindNearestBodiesMethod = getFindNearestBodiesMethod =
+              io.grpc.MethodDescriptor.<org.ericace.grpcserver.NearestQuery, org.ericace.grpcserver.BodyList>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "FindNearestBodies"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.ericace.grpcserver.NearestQuery.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.ericace.grpcserver.BodyList.getDefaultInstance()))
+              .setSchemaDescriptor(new NBodyServiceMethodDescriptorSupplier("FindNearestBodies"))
+              .build();
+        }
+      }
+    }
+    return getFindNearestBodiesMethod;
+  }
+
   /**
    * Creates a new async stub that supports all call types for the service
    */
@@ -384,6 +508,17 @@ public final class NBodyServiceGrpc {
       asyncUnimplementedUnaryCall(getSetResultQueueSizeMethod(), responseObserver);
     }
 
+    /**
+     * <pre>
+     * Sets what happens when the computation thread has filled the compute-ahead results
+     * that the render thread has not yet consumed
+     * </pre>
+     */
+    public void setResultQueuePolicy(org.ericace.grpcserver.ResultQueuePolicy request,
+        io.grpc.stub.StreamObserver<org.ericace.grpcserver.ResultCode> responseObserver) {
+      asyncUnimplementedUnaryCall(getSetResultQueuePolicyMethod(), responseObserver);
+    }
+
     /**
      * <pre>
      * Changes the smoothing factor. When the body force and position computation runs
@@ -407,6 +542,16 @@ public final class NBodyServiceGrpc {
       asyncUnimplementedUnaryCall(getSetRestitutionCoefficientMethod(), responseObserver);
     }
 
+    /**
+     * <pre>
+     * Sets the thresholds for merging nearby fragments of the same body into super-particles
+     * </pre>
+     */
+    public void setCoarsening(org.ericace.grpcserver.Coarsening request,
+        io.grpc.stub.StreamObserver<org.ericace.grpcserver.ResultCode> responseObserver) {
+      asyncUnimplementedUnaryCall(getSetCoarseningMethod(), responseObserver);
+    }
+
     /**
      * <pre>
      * Removes the specified number of bodies from the sim
@@ -457,6 +602,26 @@ public final class NBodyServiceGrpc {
       asyncUnimplementedUnaryCall(getGetCurrentConfigMethod(), responseObserver);
     }
 
+    /**
+     * <pre>
+     * Gets the bodies whose spheres overlap a sphere
+     * </pre>
+     */
+    public void findBodiesInSphere(org.ericace.grpcserver.SphereQuery request,
+        io.grpc.stub.StreamObserver<org.ericace.grpcserver.BodyList> responseObserver) {
+      asyncUnimplementedUnaryCall(getFindBodiesInSphereMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Gets the bodies nearest to a point, nearest first
+     * </pre>
+     */
+    public void findNearestBodies(org.ericace.grpcserver.NearestQuery request,
+        io.grpc.stub.StreamObserver<org.ericace.grpcserver.BodyList> responseObserver) {
+      asyncUnimplementedUnaryCall(getFindNearestBodiesMethod(), responseObserver);
+    }
+
     @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
       return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
           .addMethod(
@@ -473,6 +638,13 @@ public final class NBodyServiceGrpc {
                 org.ericace.grpcserver.ItemCount,
                 org.ericace.grpcserver.ResultCode>(
                   this, METHODID_SET_RESULT_QUEUE_SIZE)))
+          .addMethod(
+            getSetResultQueuePolicyMethod(),
+            asyncUnaryCall(
+              new MethodHandlers<
+                org.ericace.grpcserver.ResultQueuePolicy,
+                org.ericace.grpcserver.ResultCode>(
+                  this, METHODID_SET_RESULT_QUEUE_POLICY)))
           .addMethod(
             getSetSmoothingMethod(),
             asyncUnaryCall(
@@ -487,6 +659,13 @@ public final class NBodyServiceGrpc {
                 org.ericace.grpcserver.RestitutionCoefficient,
                 org.ericace.grpcserver.ResultCode>(
                   this, METHODID_SET_RESTITUTION_COEFFICIENT)))
+          .addMethod(
+            getSetCoarseningMethod(),
+            asyncUnaryCall(
+              new MethodHandlers<
+                org.ericace.grpcserver.Coarsening,
+                org.ericace.grpcserver.ResultCode>(
+                  this, METHODID_SET_COARSENING)))
           .addMethod(
             getRemoveBodiesMethod(),
             asyncUnaryCall(
@@ -522,6 +701,20 @@ public final class NBodyServiceGrpc {
                 com.google.protobuf.Empty,
                 org.ericace.grpcserver.CurrentConfig>(
                   this, METHODID_GET_CURRENT_CONFIG)))
+          .addMethod(
+            getFindBodiesInSphereMethod(),
+            asyncUnaryCall(
+              new MethodHandlers<
+                org.ericace.grpcserver.SphereQuery,
+                org.ericace.grpcserver.BodyList>(
+                  this, METHODID_FIND_BODIES_IN_SPHERE)))
+          .addMethod(
+            getFindNearestBodiesMethod(),
+            asyncUnaryCall(
+              new MethodHandlers<
+                org.ericace.grpcserver.NearestQuery,
+                org.ericace.grpcserver.BodyList>(
+                  this, METHODID_FIND_NEAREST_BODIES)))
           .build();
     }
   }
@@ -568,6 +761,18 @@ public final class NBodyServiceGrpc {
           getChannel().newCall(getSetResultQueueSizeMethod(), getCallOptions()), request, responseObserver);
     }
 
+    /**
+     * <pre>
+     * Sets what happens when the computation thread has filled the compute-ahead results
+     * that the render thread has not yet consumed
+     * </pre>
+     */
+    public void setResultQueuePolicy(org.ericace.grpcserver.ResultQueuePolicy request,
+        io.grpc.stub.StreamObserver<org.ericace.grpcserver.ResultCode> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(getSetResultQueuePolicyMethod(), getCallOptions()), request, responseObserver);
+    }
+
     /**
      * <pre>
      * Changes the smoothing factor. When the body force and position computation runs
@@ -593,6 +798,17 @@ public final class NBodyServiceGrpc {
           getChannel().newCall(getSetRestitutionCoefficientMethod(), getCallOptions()), request, responseObserver);
     }
 
+    /**
+     * <pre>
+     * Sets the thresholds for merging nearby fragments of the same body into super-particles
+     * </pre>
+     */
+    public void setCoarsening(org.ericace.grpcserver.Coarsening request,
+        io.grpc.stub.StreamObserver<org.ericace.grpcserver.ResultCode> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(getSetCoarseningMethod(), getCallOptions()), request, responseObserver);
+    }
+
     /**
      * <pre>
      * Removes the specified number of bodies from the sim
@@ -647,6 +863,28 @@ public final class NBodyServiceGrpc {
       asyncUnaryCall(
           getChannel().newCall(getGetCurrentConfigMethod(), getCallOptions()), request, responseObserver);
     }
+
+    /**
+     * <pre>
+     * Gets the bodies whose spheres overlap a sphere
+     * </pre>
+     */
+    public void findBodiesInSphere(org.ericace.grpcserver.SphereQuery request,
+        io.grpc.stub.StreamObserver<org.ericace.grpcserver.BodyList> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(getFindBodiesInSphereMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Gets the bodies nearest to a point, nearest first
+     * </pre>
+     */
+    public void findNearestBodies(org.ericace.grpcserver.NearestQuery request,
+        io.grpc.stub.StreamObserver<org.ericace.grpcserver.BodyList> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(getFindNearestBodiesMethod(), getCallOptions()), request, responseObserver);
+    }
   }
 
   /**
@@ -689,6 +927,17 @@ public final class NBodyServiceGrpc {
           getChannel(), getSetResultQueueSizeMethod(), getCallOptions(), request);
     }
 
+    /**
+     * <pre>
+     * Sets what happens when the computation thread has filled the compute-ahead results
+     * that the render thread has not yet consumed
+     * </pre>
+     */
+    public org.ericace.grpcserver.ResultCode setResultQueuePolicy(org.ericace.grpcserver.ResultQueuePolicy request) {
+      return blockingUnaryCall(
+          getChannel(), getSetResultQueuePolicyMethod(), getCallOptions(), request);
+    }
+
     /**
      * <pre>
      * Changes the smoothing factor. When the body force and position computation runs
@@ -712,6 +961,16 @@ public final class NBodyServiceGrpc {
           getChannel(), getSetRestitutionCoefficientMethod(), getCallOptions(), request);
     }
 
+    /**
+     * <pre>
+     * Sets the thresholds for merging nearby fragments of the same body into super-particles
+     * </pre>
+     */
+    public org.ericace.grpcserver.ResultCode setCoarsening(org.ericace.grpcserver.Coarsening request) {
+      return blockingUnaryCall(
+          getChannel(), getSetCoarseningMethod(), getCallOptions(), request);
+    }
+
     /**
      * <pre>
      * Removes the specified number of bodies from the sim
@@ -761,6 +1020,26 @@ public final class NBodyServiceGrpc {
       return blockingUnaryCall(
           getChannel(), getGetCurrentConfigMethod(), getCallOptions(), request);
     }
+
+    /**
+     * <pre>
+     * Gets the bodies whose spheres overlap a sphere
+     * </pre>
+     */
+    public org.ericace.grpcserver.BodyList findBodiesInSphere(org.ericace.grpcserver.SphereQuery request) {
+      return blockingUnaryCall(
+          getChannel(), getFindBodiesInSphereMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * Gets the bodies nearest to a point, nearest first
+     * </pre>
+     */
+    public org.ericace.grpcserver.BodyList findNearestBodies(org.ericace.grpcserver.NearestQuery request) {
+      return blockingUnaryCall(
+          getChannel(), getFindNearestBodiesMethod(), getCallOptions(), request);
+    }
   }
 
   /**
@@ -805,6 +1084,18 @@ public final class NBodyServiceGrpc {
           getChannel().newCall(getSetResultQueueSizeMethod(), getCallOptions()), request);
     }
 
+    /**
+     * <pre>
+     * Sets what happens when the computation thread has filled the compute-ahead results
+     * that the render thread has not yet consumed
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.ericace.grpcserver.ResultCode> setResultQueuePolicy(
+        org.ericace.grpcserver.ResultQueuePolicy request) {
+      return futureUnaryCall(
+          getChannel().newCall(getSetResultQueuePolicyMethod(), getCallOptions()), request);
+    }
+
     /**
      * <pre>
      * Changes the smoothing factor. When the body force and position computation runs
@@ -830,6 +1121,17 @@ public final class NBodyServiceGrpc {
           getChannel().newCall(getSetRestitutionCoefficientMethod(), getCallOptions()), request);
     }
 
+    /**
+     * <pre>
+     * Sets the thresholds for merging nearby fragments of the same body into super-particles
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.ericace.grpcserver.ResultCode> setCoarsening(
+        org.ericace.grpcserver.Coarsening request) {
+      return futureUnaryCall(
+          getChannel().newCall(getSetCoarseningMethod(), getCallOptions()), request);
+    }
+
     /**
      * <pre>
      * Removes the specified number of bodies from the sim
@@ -884,17 +1186,43 @@ public final class NBodyServiceGrpc {
       return futureUnaryCall(
           getChannel().newCall(getGetCurrentConfigMethod(), getCallOptions()), request);
     }
+
+    /**
+     * <pre>
+     * Gets the bodies whose spheres overlap a sphere
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.ericace.grpcserver.BodyList> findBodiesInSphere(
+        org.ericace.grpcserver.SphereQuery request) {
+      return futureUnaryCall(
+          getChannel().newCall(getFindBodiesInSphereMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     * Gets the bodies nearest to a point, nearest first
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.ericace.grpcserver.BodyList> findNearestBodies(
+        org.ericace.grpcserver.NearestQuery request) {
+      return futureUnaryCall(
+          getChannel().newCall(getFindNearestBodiesMethod(), getCallOptions()), request);
+    }
   }
 
   private static final int METHODID_SET_COMPUTATION_THREADS = 0;
   private static final int METHODID_SET_RESULT_QUEUE_SIZE = 1;
-  private static final int METHODID_SET_SMOOTHING = 2;
-  private static final int METHODID_SET_RESTITUTION_COEFFICIENT = 3;
-  private static final int METHODID_REMOVE_BODIES = 4;
-  private static final int METHODID_ADD_BODY = 5;
-  private static final int METHODID_MOD_BODY = 6;
-  private static final int METHODID_GET_BODY = 7;
-  private static final int METHODID_GET_CURRENT_CONFIG = 8;
+  private static final int METHODID_SET_RESULT_QUEUE_POLICY = 2;
+  private static final int METHODID_SET_SMOOTHING = 3;
+  private static final int METHODID_SET_RESTITUTION_COEFFICIENT = 4;
+  private static final int METHODID_SET_COARSENING = 5;
+  private static final int METHODID_REMOVE_BODIES = 6;
+  private static final int METHODID_ADD_BODY = 7;
+  private static final int METHODID_MOD_BODY = 8;
+  private static final int METHODID_GET_BODY = 9;
+  private static final int METHODID_GET_CURRENT_CONFIG = 10;
+  private static final int METHODID_FIND_BODIES_IN_SPHERE = 11;
+  private static final int METHODID_FIND_NEAREST_BODIES = 12;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -921,6 +1249,10 @@ public final class NBodyServiceGrpc {
           serviceImpl.setResultQueueSize((org.ericace.grpcserver.ItemCount) request,
               (io.grpc.stub.StreamObserver<org.ericace.grpcserver.ResultCode>) responseObserver);
           break;
+        case METHODID_SET_RESULT_QUEUE_POLICY:
+          serviceImpl.setResultQueuePolicy((org.ericace.grpcserver.ResultQueuePolicy) request,
+              (io.grpc.stub.StreamObserver<org.ericace.grpcserver.ResultCode>) responseObserver);
+          break;
         case METHODID_SET_SMOOTHING:
           serviceImpl.setSmoothing((org.ericace.grpcserver.Factor) request,
               (io.grpc.stub.StreamObserver<org.ericace.grpcserver.ResultCode>) responseObserver);
@@ -929,6 +1261,10 @@ public final class NBodyServiceGrpc {
           serviceImpl.setRestitutionCoefficient((org.ericace.grpcserver.RestitutionCoefficient) request,
               (io.grpc.stub.StreamObserver<org.ericace.grpcserver.ResultCode>) responseObserver);
           break;
+        case METHODID_SET_COARSENING:
+          serviceImpl.setCoarsening((org.ericace.grpcserver.Coarsening) request,
+              (io.grpc.stub.StreamObserver<org.ericace.grpcserver.ResultCode>) responseObserver);
+          break;
         case METHODID_REMOVE_BODIES:
           serviceImpl.removeBodies((org.ericace.grpcserver.ItemCount) request,
               (io.grpc.stub.StreamObserver<org.ericace.grpcserver.ResultCode>) responseObserver);
@@ -949,6 +1285,14 @@ public final class NBodyServiceGrpc {
           serviceImpl.getCurrentConfig((com.google.protobuf.Empty) request,
               (io.grpc.stub.StreamObserver<org.ericace.grpcserver.CurrentConfig>) responseObserver);
           break;
+        case METHODID_FIND_BODIES_IN_SPHERE:
+          serviceImpl.findBodiesInSphere((org.ericace.grpcserver.SphereQuery) request,
+              (io.grpc.stub.StreamObserver<org.ericace.grpcserver.BodyList>) responseObserver);
+          break;
+        case METHODID_FIND_NEAREST_BODIES:
+          serviceImpl.findNearestBodies((org.ericace.grpcserver.NearestQuery) request,
+              (io.grpc.stub.StreamObserver<org.ericace.grpcserver.BodyList>) responseObserver);
+          break;
         default:
           throw new AssertionError();
       }
@@ -1012,13 +1356,17 @@ public final class NBodyServiceGrpc {
               .setSchemaDescriptor(new NBodyServiceFileDescriptorSupplier())
               .addMethod(getSetComputationThreadsMethod())
               .addMethod(getSetResultQueueSizeMethod())
+              .addMethod(getSetResultQueuePolicyMethod())
               .addMethod(getSetSmoothingMethod())
               .addMethod(getSetRestitutionCoefficientMethod())
+              .addMethod(getSetCoarseningMethod())
               .addMethod(getRemoveBodiesMethod())
               .addMethod(getAddBodyMethod())
               .addMethod(getModBodyMethod())
               .addMethod(getGetBodyMethod())
               .addMethod(getGetCurrentConfigMethod())
+              .addMethod(getFindBodiesInSphereMethod())
+              .addMethod(getFindNearestBodiesMethod())
               .build();
         }
       }
@@ -0,0 +1,682 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: nbodyservice.proto
+
+package org.ericace.grpcserver;
+
+/**
+ * <pre>
+ * A point to find the nearest bodies to, and the max number of bodies to find
+ * </pre>
+ *
+ * Protobuf type {@code nbodyservice.NearestQuery}
+ */
+public  final class NearestQuery extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:nbodyservice.NearestQuery)
+    NearestQueryOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use NearestQuery.newBuilder() to construct.
+  private NearestQuery(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private NearestQuery() {
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new NearestQuery();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private NearestQuery(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 13: {
+
+            x_ = input.readFloat();
+            break;
+          }
+          case 21: {
+
+            y_ = input.readFloat();
+            break;
+          }
+          case 29: {
+
+            z_ = input.readFloat();
+            break;
+          }
+          case 32: {
+
+            count_ = input.readInt64();
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_NearestQuery_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_NearestQuery_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.ericace.grpcserver.NearestQuery.class, org.ericace.grpcserver.NearestQuery.Builder.class);
+  }
+
+  public static final int X_FIELD_NUMBER = 1;
+  private float x_;
+  /**
+   * <code>float x = 1;</code>
+   * @return The x.
+   */
+  public float getX() {
+    return x_;
+  }
+
+  public static final int Y_FIELD_NUMBER = 2;
+  private float y_;
+  /**
+   * <code>float y = 2;</code>
+   * @return The y.
+   */
+  public float getY() {
+    return y_;
+  }
+
+  public static final int Z_FIELD_NUMBER = 3;
+  private float z_;
+  /**
+   * <code>float z = 3;</code>
+   * @return The z.
+   */
+  public float getZ() {
+    return z_;
+  }
+
+  public static final int COUNT_FIELD_NUMBER = 4;
+  private long count_;
+  /**
+   * <code>int64 count = 4;</code>
+   * @return The count.
+   */
+  public long getCount() {
+    return count_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (x_ != 0F) {
+      output.writeFloat(1, x_);
+    }
+    if (y_ != 0F) {
+      output.writeFloat(2, y_);
+    }
+    if (z_ != 0F) {
+      output.writeFloat(3, z_);
+    }
+    if (count_ != 0L) {
+      output.writeInt64(4, count_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (x_ != 0F) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeFloatSize(1, x_);
+    }
+    if (y_ != 0F) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeFloatSize(2, y_);
+    }
+    if (z_ != 0F) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeFloatSize(3, z_);
+    }
+    if (count_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(4, count_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.ericace.grpcserver.NearestQuery)) {
+      return super.equals(obj);
+    }
+    org.ericace.grpcserver.NearestQuery other = (org.ericace.grpcserver.NearestQuery) obj;
+
+    if (java.lang.Float.floatToIntBits(getX())
+        != java.lang.Float.floatToIntBits(
+            other.getX())) return false;
+    if (java.lang.Float.floatToIntBits(getY())
+        != java.lang.Float.floatToIntBits(
+            other.getY())) return false;
+    if (java.lang.Float.floatToIntBits(getZ())
+        != java.lang.Float.floatToIntBits(
+            other.getZ())) return false;
+    if (getCount()
+        != other.getCount()) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + X_FIELD_NUMBER;
+    hash = (53 * hash) + java.lang.Float.floatToIntBits(
+        getX());
+    hash = (37 * hash) + Y_FIELD_NUMBER;
+    hash = (53 * hash) + java.lang.Float.floatToIntBits(
+        getY());
+    hash = (37 * hash) + Z_FIELD_NUMBER;
+    hash = (53 * hash) + java.lang.Float.floatToIntBits(
+        getZ());
+    hash = (37 * hash) + COUNT_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getCount());
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.ericace.grpcserver.NearestQuery parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.ericace.grpcserver.NearestQuery parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.ericace.grpcserver.NearestQuery parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.ericace.grpcserver.NearestQuery parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.ericace.grpcserver.NearestQuery parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.ericace.grpcserver.NearestQuery parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.ericace.grpcserver.NearestQuery parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.ericace.grpcserver.NearestQuery parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.ericace.grpcserver.NearestQuery parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.ericace.grpcserver.NearestQuery parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.ericace.grpcserver.NearestQuery parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.ericace.grpcserver.NearestQuery parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.ericace.grpcserver.NearestQuery prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * A point to find the nearest bodies to, and the max number of bodies to find
+   * </pre>
+   *
+   * Protobuf type {@code nbodyservice.NearestQuery}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:nbodyservice.NearestQuery)
+      org.ericace.grpcserver.NearestQueryOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_NearestQuery_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_NearestQuery_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.ericace.grpcserver.NearestQuery.class, org.ericace.grpcserver.NearestQuery.Builder.class);
+    }
+
+    // Construct using org.ericace.grpcserver.NearestQuery.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      x_ = 0F;
+
+      y_ = 0F;
+
+      z_ = 0F;
+
+      count_ = 0L;
+
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_NearestQuery_descriptor;
+    }
+
+    @java.lang.Override
+    public org.ericace.grpcserver.NearestQuery getDefaultInstanceForType() {
+      return org.ericace.grpcserver.NearestQuery.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.ericace.grpcserver.NearestQuery build() {
+      org.ericace.grpcserver.NearestQuery result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.ericace.grpcserver.NearestQuery buildPartial() {
+      org.ericace.grpcserver.NearestQuery result = new org.ericace.grpcserver.NearestQuery(this);
+      result.x_ = x_;
+      result.y_ = y_;
+      result.z_ = z_;
+      result.count_ = count_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.ericace.grpcserver.NearestQuery) {
+        return mergeFrom((org.ericace.grpcserver.NearestQuery)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.ericace.grpcserver.NearestQuery other) {
+      if (other == org.ericace.grpcserver.NearestQuery.getDefaultInstance()) return this;
+      if (other.getX() != 0F) {
+        setX(other.getX());
+      }
+      if (other.getY() != 0F) {
+        setY(other.getY());
+      }
+      if (other.getZ() != 0F) {
+        setZ(other.getZ());
+      }
+      if (other.getCount() != 0L) {
+        setCount(other.getCount());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.ericace.grpcserver.NearestQuery parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.ericace.grpcserver.NearestQuery) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private float x_ ;
+    /**
+     * <code>float x = 1;</code>
+     * @return The x.
+     */
+    public float getX() {
+      return x_;
+    }
+    /**
+     * <code>float x = 1;</code>
+     * @param value The x to set.
+     * @return This builder for chaining.
+     */
+    public Builder setX(float value) {
+      
+      x_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>float x = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearX() {
+      
+      x_ = 0F;
+      onChanged();
+      return this;
+    }
+
+    private float y_ ;
+    /**
+     * <code>float y = 2;</code>
+     * @return The y.
+     */
+    public float getY() {
+      return y_;
+    }
+    /**
+     * <code>float y = 2;</code>
+     * @param value The y to set.
+     * @return This builder for chaining.
+     */
+    public Builder setY(float value) {
+      
+      y_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>float y = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearY() {
+      
+      y_ = 0F;
+      onChanged();
+      return this;
+    }
+
+    private float z_ ;
+    /**
+     * <code>float z = 3;</code>
+     * @return The z.
+     */
+    public float getZ() {
+      return z_;
+    }
+    /**
+     * <code>float z = 3;</code>
+     * @param value The z to set.
+     * @return This builder for chaining.
+     */
+    public Builder setZ(float value) {
+      
+      z_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>float z = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearZ() {
+      
+      z_ = 0F;
+      onChanged();
+      return this;
+    }
+
+    private long count_ ;
+    /**
+     * <code>int64 count = 4;</code>
+     * @return The count.
+     */
+    public long getCount() {
+      return count_;
+    }
+    /**
+     * <code>int64 count = 4;</code>
+     * @param value The count to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCount(long value) {
+      
+      count_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 count = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearCount() {
+      
+      count_ = 0L;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:nbodyservice.NearestQuery)
+  }
+
+  // @@protoc_insertion_point(class_scope:nbodyservice.NearestQuery)
+  private static final org.ericace.grpcserver.NearestQuery DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.ericace.grpcserver.NearestQuery();
+  }
+
+  public static org.ericace.grpcserver.NearestQuery getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<NearestQuery>
+      PARSER = new com.google.protobuf.AbstractParser<NearestQuery>() {
+    @java.lang.Override
+    public NearestQuery parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new NearestQuery(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<NearestQuery> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<NearestQuery> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.ericace.grpcserver.NearestQuery getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -14,25 +14,36 @@ public  final class RestitutionCoefficient extends
     com.google.protobuf.GeneratedMessageV3 implements
     // @@protoc_insertion_point(message_implements:nbodyservice.RestitutionCoefficient)
     RestitutionCoefficientOrBuilder {
+private static final long serialVersionUID = 0L;
   // Use RestitutionCoefficient.newBuilder() to construct.
   private RestitutionCoefficient(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
     super(builder);
   }
   private RestitutionCoefficient() {
-    restitutionCoefficient_ = 0F;
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new RestitutionCoefficient();
   }
 
   @java.lang.Override
   public final com.google.protobuf.UnknownFieldSet
   getUnknownFields() {
-    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    return this.unknownFields;
   }
   private RestitutionCoefficient(
       com.google.protobuf.CodedInputStream input,
       com.google.protobuf.ExtensionRegistryLite extensionRegistry)
       throws com.google.protobuf.InvalidProtocolBufferException {
     this();
-    int mutable_bitField0_ = 0;
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
     try {
       boolean done = false;
       while (!done) {
@@ -41,17 +52,18 @@ public  final class RestitutionCoefficient extends
           case 0:
             done = true;
             break;
-          default: {
-            if (!input.skipField(tag)) {
-              done = true;
-            }
-            break;
-          }
           case 13: {
 
             restitutionCoefficient_ = input.readFloat();
             break;
           }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
         }
       }
     } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -60,6 +72,7 @@ public  final class RestitutionCoefficient extends
       throw new com.google.protobuf.InvalidProtocolBufferException(
           e).setUnfinishedMessage(this);
     } finally {
+      this.unknownFields = unknownFields.build();
       makeExtensionsImmutable();
     }
   }
@@ -68,6 +81,7 @@ public  final class RestitutionCoefficient extends
     return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_RestitutionCoefficient_descriptor;
   }
 
+  @java.lang.Override
   protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internalGetFieldAccessorTable() {
     return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_RestitutionCoefficient_fieldAccessorTable
@@ -78,13 +92,15 @@ public  final class RestitutionCoefficient extends
   public static final int RESTITUTION_COEFFICIENT_FIELD_NUMBER = 1;
   private float restitutionCoefficient_;
   /**
-   * <code>optional float restitution_coefficient = 1;</code>
+   * <code>float restitution_coefficient = 1;</code>
+   * @return The restitutionCoefficient.
    */
   public float getRestitutionCoefficient() {
     return restitutionCoefficient_;
   }
 
   private byte memoizedIsInitialized = -1;
+  @java.lang.Override
   public final boolean isInitialized() {
     byte isInitialized = memoizedIsInitialized;
     if (isInitialized == 1) return true;
@@ -94,13 +110,16 @@ public  final class RestitutionCoefficient extends
     return true;
   }
 
+  @java.lang.Override
   public void writeTo(com.google.protobuf.CodedOutputStream output)
                       throws java.io.IOException {
     if (restitutionCoefficient_ != 0F) {
       output.writeFloat(1, restitutionCoefficient_);
     }
+    unknownFields.writeTo(output);
   }
 
+  @java.lang.Override
   public int getSerializedSize() {
     int size = memoizedSize;
     if (size != -1) return size;
@@ -110,11 +129,11 @@ public  final class RestitutionCoefficient extends
       size += com.google.protobuf.CodedOutputStream
         .computeFloatSize(1, restitutionCoefficient_);
     }
+    size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
   }
 
-  private static final long serialVersionUID = 0L;
   @java.lang.Override
   public boolean equals(final java.lang.Object obj) {
     if (obj == this) {
@@ -125,12 +144,11 @@ public  final class RestitutionCoefficient extends
     }
     org.ericace.grpcserver.RestitutionCoefficient other = (org.ericace.grpcserver.RestitutionCoefficient) obj;
 
-    boolean result = true;
-    result = result && (
-        java.lang.Float.floatToIntBits(getRestitutionCoefficient())
-        == java.lang.Float.floatToIntBits(
-            other.getRestitutionCoefficient()));
-    return result;
+    if (java.lang.Float.floatToIntBits(getRestitutionCoefficient())
+        != java.lang.Float.floatToIntBits(
+            other.getRestitutionCoefficient())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
   }
 
   @java.lang.Override
@@ -139,7 +157,7 @@ public  final class RestitutionCoefficient extends
       return memoizedHashCode;
     }
     int hash = 41;
-    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (19 * hash) + getDescriptor().hashCode();
     hash = (37 * hash) + RESTITUTION_COEFFICIENT_FIELD_NUMBER;
     hash = (53 * hash) + java.lang.Float.floatToIntBits(
         getRestitutionCoefficient());
@@ -148,6 +166,17 @@ public  final class RestitutionCoefficient extends
     return hash;
   }
 
+  public static org.ericace.grpcserver.RestitutionCoefficient parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.ericace.grpcserver.RestitutionCoefficient parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
   public static org.ericace.grpcserver.RestitutionCoefficient parseFrom(
       com.google.protobuf.ByteString data)
       throws com.google.protobuf.InvalidProtocolBufferException {
@@ -207,6 +236,7 @@ public  final class RestitutionCoefficient extends
         .parseWithIOException(PARSER, input, extensionRegistry);
   }
 
+  @java.lang.Override
   public Builder newBuilderForType() { return newBuilder(); }
   public static Builder newBuilder() {
     return DEFAULT_INSTANCE.toBuilder();
@@ -214,6 +244,7 @@ public  final class RestitutionCoefficient extends
   public static Builder newBuilder(org.ericace.grpcserver.RestitutionCoefficient prototype) {
     return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
   }
+  @java.lang.Override
   public Builder toBuilder() {
     return this == DEFAULT_INSTANCE
         ? new Builder() : new Builder().mergeFrom(this);
@@ -241,6 +272,7 @@ public  final class RestitutionCoefficient extends
       return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_RestitutionCoefficient_descriptor;
     }
 
+    @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
       return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_RestitutionCoefficient_fieldAccessorTable
@@ -263,6 +295,7 @@ public  final class RestitutionCoefficient extends
               .alwaysUseFieldBuilders) {
       }
     }
+    @java.lang.Override
     public Builder clear() {
       super.clear();
       restitutionCoefficient_ = 0F;
@@ -270,15 +303,18 @@ public  final class RestitutionCoefficient extends
       return this;
     }
 
+    @java.lang.Override
     public com.google.protobuf.Descriptors.Descriptor
         getDescriptorForType() {
       return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_RestitutionCoefficient_descriptor;
     }
 
+    @java.lang.Override
     public org.ericace.grpcserver.RestitutionCoefficient getDefaultInstanceForType() {
       return org.ericace.grpcserver.RestitutionCoefficient.getDefaultInstance();
     }
 
+    @java.lang.Override
     public org.ericace.grpcserver.RestitutionCoefficient build() {
       org.ericace.grpcserver.RestitutionCoefficient result = buildPartial();
       if (!result.isInitialized()) {
@@ -287,6 +323,7 @@ public  final class RestitutionCoefficient extends
       return result;
     }
 
+    @java.lang.Override
     public org.ericace.grpcserver.RestitutionCoefficient buildPartial() {
       org.ericace.grpcserver.RestitutionCoefficient result = new org.ericace.grpcserver.RestitutionCoefficient(this);
       result.restitutionCoefficient_ = restitutionCoefficient_;
@@ -294,32 +331,39 @@ public  final class RestitutionCoefficient extends
       return result;
     }
 
+    @java.lang.Override
     public Builder clone() {
-      return (Builder) super.clone();
+      return super.clone();
     }
+    @java.lang.Override
     public Builder setField(
         com.google.protobuf.Descriptors.FieldDescriptor field,
-        Object value) {
-      return (Builder) super.setField(field, value);
+        java.lang.Object value) {
+      return super.setField(field, value);
     }
+    @java.lang.Override
     public Builder clearField(
         com.google.protobuf.Descriptors.FieldDescriptor field) {
-      return (Builder) super.clearField(field);
+      return super.clearField(field);
     }
+    @java.lang.Override
     public Builder clearOneof(
         com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-      return (Builder) super.clearOneof(oneof);
+      return super.clearOneof(oneof);
     }
+    @java.lang.Override
     public Builder setRepeatedField(
         com.google.protobuf.Descriptors.FieldDescriptor field,
-        int index, Object value) {
-      return (Builder) super.setRepeatedField(field, index, value);
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
     }
+    @java.lang.Override
     public Builder addRepeatedField(
         com.google.protobuf.Descriptors.FieldDescriptor field,
-        Object value) {
-      return (Builder) super.addRepeatedField(field, value);
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
     }
+    @java.lang.Override
     public Builder mergeFrom(com.google.protobuf.Message other) {
       if (other instanceof org.ericace.grpcserver.RestitutionCoefficient) {
         return mergeFrom((org.ericace.grpcserver.RestitutionCoefficient)other);
@@ -334,14 +378,17 @@ public  final class RestitutionCoefficient extends
       if (other.getRestitutionCoefficient() != 0F) {
         setRestitutionCoefficient(other.getRestitutionCoefficient());
       }
+      this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
     }
 
+    @java.lang.Override
     public final boolean isInitialized() {
       return true;
     }
 
+    @java.lang.Override
     public Builder mergeFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
@@ -362,13 +409,16 @@ public  final class RestitutionCoefficient extends
 
     private float restitutionCoefficient_ ;
     /**
-     * <code>optional float restitution_coefficient = 1;</code>
+     * <code>float restitution_coefficient = 1;</code>
+     * @return The restitutionCoefficient.
      */
     public float getRestitutionCoefficient() {
       return restitutionCoefficient_;
     }
     /**
-     * <code>optional float restitution_coefficient = 1;</code>
+     * <code>float restitution_coefficient = 1;</code>
+     * @param value The restitutionCoefficient to set.
+     * @return This builder for chaining.
      */
     public Builder setRestitutionCoefficient(float value) {
       
@@ -377,7 +427,8 @@ public  final class RestitutionCoefficient extends
       return this;
     }
     /**
-     * <code>optional float restitution_coefficient = 1;</code>
+     * <code>float restitution_coefficient = 1;</code>
+     * @return This builder for chaining.
      */
     public Builder clearRestitutionCoefficient() {
       
@@ -385,14 +436,16 @@ public  final class RestitutionCoefficient extends
       onChanged();
       return this;
     }
+    @java.lang.Override
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
-      return this;
+      return super.setUnknownFields(unknownFields);
     }
 
+    @java.lang.Override
     public final Builder mergeUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
-      return this;
+      return super.mergeUnknownFields(unknownFields);
     }
 
 
@@ -411,11 +464,12 @@ public  final class RestitutionCoefficient extends
 
   private static final com.google.protobuf.Parser<RestitutionCoefficient>
       PARSER = new com.google.protobuf.AbstractParser<RestitutionCoefficient>() {
+    @java.lang.Override
     public RestitutionCoefficient parsePartialFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
-        return new RestitutionCoefficient(input, extensionRegistry);
+      return new RestitutionCoefficient(input, extensionRegistry);
     }
   };
 
@@ -428,6 +482,7 @@ public  final class RestitutionCoefficient extends
     return PARSER;
   }
 
+  @java.lang.Override
   public org.ericace.grpcserver.RestitutionCoefficient getDefaultInstanceForType() {
     return DEFAULT_INSTANCE;
   }
@@ -8,7 +8,8 @@ public interface RestitutionCoefficientOrBuilder extends
     com.google.protobuf.MessageOrBuilder {
 
   /**
-   * <code>optional float restitution_coefficient = 1;</code>
+   * <code>float restitution_coefficient = 1;</code>
+   * @return The restitutionCoefficient.
    */
   float getRestitutionCoefficient();
 }
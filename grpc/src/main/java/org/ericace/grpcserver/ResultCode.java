@@ -14,6 +14,7 @@ public  final class ResultCode extends
     com.google.protobuf.GeneratedMessageV3 implements
     // @@protoc_insertion_point(message_implements:nbodyservice.ResultCode)
     ResultCodeOrBuilder {
+private static final long serialVersionUID = 0L;
   // Use ResultCode.newBuilder() to construct.
   private ResultCode(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
     super(builder);
@@ -23,17 +24,28 @@ public  final class ResultCode extends
     message_ = "";
   }
 
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new ResultCode();
+  }
+
   @java.lang.Override
   public final com.google.protobuf.UnknownFieldSet
   getUnknownFields() {
-    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    return this.unknownFields;
   }
   private ResultCode(
       com.google.protobuf.CodedInputStream input,
       com.google.protobuf.ExtensionRegistryLite extensionRegistry)
       throws com.google.protobuf.InvalidProtocolBufferException {
     this();
-    int mutable_bitField0_ = 0;
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
     try {
       boolean done = false;
       while (!done) {
@@ -42,12 +54,6 @@ public  final class ResultCode extends
           case 0:
             done = true;
             break;
-          default: {
-            if (!input.skipField(tag)) {
-              done = true;
-            }
-            break;
-          }
           case 8: {
             int rawValue = input.readEnum();
 
@@ -60,6 +66,13 @@ public  final class ResultCode extends
             message_ = s;
             break;
           }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
         }
       }
     } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -68,6 +81,7 @@ public  final class ResultCode extends
       throw new com.google.protobuf.InvalidProtocolBufferException(
           e).setUnfinishedMessage(this);
     } finally {
+      this.unknownFields = unknownFields.build();
       makeExtensionsImmutable();
     }
   }
@@ -76,6 +90,7 @@ public  final class ResultCode extends
     return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_ResultCode_descriptor;
   }
 
+  @java.lang.Override
   protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internalGetFieldAccessorTable() {
     return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_ResultCode_fieldAccessorTable
@@ -118,6 +133,8 @@ public  final class ResultCode extends
     }
 
     /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
     @java.lang.Deprecated
@@ -125,6 +142,10 @@ public  final class ResultCode extends
       return forNumber(value);
     }
 
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
     public static ResultCodeEnum forNumber(int value) {
       switch (value) {
         case 0: return OK;
@@ -184,15 +205,18 @@ public  final class ResultCode extends
   public static final int RESULT_CODE_FIELD_NUMBER = 1;
   private int resultCode_;
   /**
-   * <code>optional .nbodyservice.ResultCode.ResultCodeEnum result_code = 1;</code>
+   * <code>.nbodyservice.ResultCode.ResultCodeEnum result_code = 1;</code>
+   * @return The enum numeric value on the wire for resultCode.
    */
   public int getResultCodeValue() {
     return resultCode_;
   }
   /**
-   * <code>optional .nbodyservice.ResultCode.ResultCodeEnum result_code = 1;</code>
+   * <code>.nbodyservice.ResultCode.ResultCodeEnum result_code = 1;</code>
+   * @return The resultCode.
    */
   public org.ericace.grpcserver.ResultCode.ResultCodeEnum getResultCode() {
+    @SuppressWarnings("deprecation")
     org.ericace.grpcserver.ResultCode.ResultCodeEnum result = org.ericace.grpcserver.ResultCode.ResultCodeEnum.valueOf(resultCode_);
     return result == null ? org.ericace.grpcserver.ResultCode.ResultCodeEnum.UNRECOGNIZED : result;
   }
@@ -200,7 +224,8 @@ public  final class ResultCode extends
   public static final int MESSAGE_FIELD_NUMBER = 2;
   private volatile java.lang.Object message_;
   /**
-   * <code>optional string message = 2;</code>
+   * <code>string message = 2;</code>
+   * @return The message.
    */
   public java.lang.String getMessage() {
     java.lang.Object ref = message_;
@@ -215,7 +240,8 @@ public  final class ResultCode extends
     }
   }
   /**
-   * <code>optional string message = 2;</code>
+   * <code>string message = 2;</code>
+   * @return The bytes for message.
    */
   public com.google.protobuf.ByteString
       getMessageBytes() {
@@ -232,6 +258,7 @@ public  final class ResultCode extends
   }
 
   private byte memoizedIsInitialized = -1;
+  @java.lang.Override
   public final boolean isInitialized() {
     byte isInitialized = memoizedIsInitialized;
     if (isInitialized == 1) return true;
@@ -241,6 +268,7 @@ public  final class ResultCode extends
     return true;
   }
 
+  @java.lang.Override
   public void writeTo(com.google.protobuf.CodedOutputStream output)
                       throws java.io.IOException {
     if (resultCode_ != org.ericace.grpcserver.ResultCode.ResultCodeEnum.OK.getNumber()) {
@@ -249,8 +277,10 @@ public  final class ResultCode extends
     if (!getMessageBytes().isEmpty()) {
       com.google.protobuf.GeneratedMessageV3.writeString(output, 2, message_);
     }
+    unknownFields.writeTo(output);
   }
 
+  @java.lang.Override
   public int getSerializedSize() {
     int size = memoizedSize;
     if (size != -1) return size;
@@ -263,11 +293,11 @@ public  final class ResultCode extends
     if (!getMessageBytes().isEmpty()) {
       size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, message_);
     }
+    size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
   }
 
-  private static final long serialVersionUID = 0L;
   @java.lang.Override
   public boolean equals(final java.lang.Object obj) {
     if (obj == this) {
@@ -278,11 +308,11 @@ public  final class ResultCode extends
     }
     org.ericace.grpcserver.ResultCode other = (org.ericace.grpcserver.ResultCode) obj;
 
-    boolean result = true;
-    result = result && resultCode_ == other.resultCode_;
-    result = result && getMessage()
-        .equals(other.getMessage());
-    return result;
+    if (resultCode_ != other.resultCode_) return false;
+    if (!getMessage()
+        .equals(other.getMessage())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
   }
 
   @java.lang.Override
@@ -291,7 +321,7 @@ public  final class ResultCode extends
       return memoizedHashCode;
     }
     int hash = 41;
-    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (19 * hash) + getDescriptor().hashCode();
     hash = (37 * hash) + RESULT_CODE_FIELD_NUMBER;
     hash = (53 * hash) + resultCode_;
     hash = (37 * hash) + MESSAGE_FIELD_NUMBER;
@@ -301,6 +331,17 @@ public  final class ResultCode extends
     return hash;
   }
 
+  public static org.ericace.grpcserver.ResultCode parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.ericace.grpcserver.ResultCode parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
   public static org.ericace.grpcserver.ResultCode parseFrom(
       com.google.protobuf.ByteString data)
       throws com.google.protobuf.InvalidProtocolBufferException {
@@ -360,6 +401,7 @@ public  final class ResultCode extends
         .parseWithIOException(PARSER, input, extensionRegistry);
   }
 
+  @java.lang.Override
   public Builder newBuilderForType() { return newBuilder(); }
   public static Builder newBuilder() {
     return DEFAULT_INSTANCE.toBuilder();
@@ -367,6 +409,7 @@ public  final class ResultCode extends
   public static Builder newBuilder(org.ericace.grpcserver.ResultCode prototype) {
     return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
   }
+  @java.lang.Override
   public Builder toBuilder() {
     return this == DEFAULT_INSTANCE
         ? new Builder() : new Builder().mergeFrom(this);
@@ -394,6 +437,7 @@ public  final class ResultCode extends
       return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_ResultCode_descriptor;
     }
 
+    @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
       return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_ResultCode_fieldAccessorTable
@@ -416,6 +460,7 @@ public  final class ResultCode extends
               .alwaysUseFieldBuilders) {
       }
     }
+    @java.lang.Override
     public Builder clear() {
       super.clear();
       resultCode_ = 0;
@@ -425,15 +470,18 @@ public  final class ResultCode extends
       return this;
     }
 
+    @java.lang.Override
     public com.google.protobuf.Descriptors.Descriptor
         getDescriptorForType() {
       return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_ResultCode_descriptor;
     }
 
+    @java.lang.Override
     public org.ericace.grpcserver.ResultCode getDefaultInstanceForType() {
       return org.ericace.grpcserver.ResultCode.getDefaultInstance();
     }
 
+    @java.lang.Override
     public org.ericace.grpcserver.ResultCode build() {
       org.ericace.grpcserver.ResultCode result = buildPartial();
       if (!result.isInitialized()) {
@@ -442,6 +490,7 @@ public  final class ResultCode extends
       return result;
     }
 
+    @java.lang.Override
     public org.ericace.grpcserver.ResultCode buildPartial() {
       org.ericace.grpcserver.ResultCode result = new org.ericace.grpcserver.ResultCode(this);
       result.resultCode_ = resultCode_;
@@ -450,32 +499,39 @@ public  final class ResultCode extends
       return result;
     }
 
+    @java.lang.Override
     public Builder clone() {
-      return (Builder) super.clone();
+      return super.clone();
     }
+    @java.lang.Override
     public Builder setField(
         com.google.protobuf.Descriptors.FieldDescriptor field,
-        Object value) {
-      return (Builder) super.setField(field, value);
+        java.lang.Object value) {
+      return super.setField(field, value);
     }
+    @java.lang.Override
     public Builder clearField(
         com.google.protobuf.Descriptors.FieldDescriptor field) {
-      return (Builder) super.clearField(field);
+      return super.clearField(field);
     }
+    @java.lang.Override
     public Builder clearOneof(
         com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-      return (Builder) super.clearOneof(oneof);
+      return super.clearOneof(oneof);
     }
+    @java.lang.Override
     public Builder setRepeatedField(
         com.google.protobuf.Descriptors.FieldDescriptor field,
-        int index, Object value) {
-      return (Builder) super.setRepeatedField(field, index, value);
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
     }
+    @java.lang.Override
     public Builder addRepeatedField(
         com.google.protobuf.Descriptors.FieldDescriptor field,
-        Object value) {
-      return (Builder) super.addRepeatedField(field, value);
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
     }
+    @java.lang.Override
     public Builder mergeFrom(com.google.protobuf.Message other) {
       if (other instanceof org.ericace.grpcserver.ResultCode) {
         return mergeFrom((org.ericace.grpcserver.ResultCode)other);
@@ -494,14 +550,17 @@ public  final class ResultCode extends
         message_ = other.message_;
         onChanged();
       }
+      this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
     }
 
+    @java.lang.Override
     public final boolean isInitialized() {
       return true;
     }
 
+    @java.lang.Override
     public Builder mergeFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
@@ -522,13 +581,16 @@ public  final class ResultCode extends
 
     private int resultCode_ = 0;
     /**
-     * <code>optional .nbodyservice.ResultCode.ResultCodeEnum result_code = 1;</code>
+     * <code>.nbodyservice.ResultCode.ResultCodeEnum result_code = 1;</code>
+     * @return The enum numeric value on the wire for resultCode.
      */
     public int getResultCodeValue() {
       return resultCode_;
     }
     /**
-     * <code>optional .nbodyservice.ResultCode.ResultCodeEnum result_code = 1;</code>
+     * <code>.nbodyservice.ResultCode.ResultCodeEnum result_code = 1;</code>
+     * @param value The enum numeric value on the wire for resultCode to set.
+     * @return This builder for chaining.
      */
     public Builder setResultCodeValue(int value) {
       resultCode_ = value;
@@ -536,14 +598,18 @@ public  final class ResultCode extends
       return this;
     }
     /**
-     * <code>optional .nbodyservice.ResultCode.ResultCodeEnum result_code = 1;</code>
+     * <code>.nbodyservice.ResultCode.ResultCodeEnum result_code = 1;</code>
+     * @return The resultCode.
      */
     public org.ericace.grpcserver.ResultCode.ResultCodeEnum getResultCode() {
+      @SuppressWarnings("deprecation")
       org.ericace.grpcserver.ResultCode.ResultCodeEnum result = org.ericace.grpcserver.ResultCode.ResultCodeEnum.valueOf(resultCode_);
       return result == null ? org.ericace.grpcserver.ResultCode.ResultCodeEnum.UNRECOGNIZED : result;
     }
     /**
-     * <code>optional .nbodyservice.ResultCode.ResultCodeEnum result_code = 1;</code>
+     * <code>.nbodyservice.ResultCode.ResultCodeEnum result_code = 1;</code>
+     * @param value The resultCode to set.
+     * @return This builder for chaining.
      */
     public Builder setResultCode(org.ericace.grpcserver.ResultCode.ResultCodeEnum value) {
       if (value == null) {
@@ -555,7 +621,8 @@ public  final class ResultCode extends
       return this;
     }
     /**
-     * <code>optional .nbodyservice.ResultCode.ResultCodeEnum result_code = 1;</code>
+     * <code>.nbodyservice.ResultCode.ResultCodeEnum result_code = 1;</code>
+     * @return This builder for chaining.
      */
     public Builder clearResultCode() {
       
@@ -566,7 +633,8 @@ public  final class ResultCode extends
 
     private java.lang.Object message_ = "";
     /**
-     * <code>optional string message = 2;</code>
+     * <code>string message = 2;</code>
+     * @return The message.
      */
     public java.lang.String getMessage() {
       java.lang.Object ref = message_;
@@ -581,7 +649,8 @@ public  final class ResultCode extends
       }
     }
     /**
-     * <code>optional string message = 2;</code>
+     * <code>string message = 2;</code>
+     * @return The bytes for message.
      */
     public com.google.protobuf.ByteString
         getMessageBytes() {
@@ -597,7 +666,9 @@ public  final class ResultCode extends
       }
     }
     /**
-     * <code>optional string message = 2;</code>
+     * <code>string message = 2;</code>
+     * @param value The message to set.
+     * @return This builder for chaining.
      */
     public Builder setMessage(
         java.lang.String value) {
@@ -610,7 +681,8 @@ public  final class ResultCode extends
       return this;
     }
     /**
-     * <code>optional string message = 2;</code>
+     * <code>string message = 2;</code>
+     * @return This builder for chaining.
      */
     public Builder clearMessage() {
       
@@ -619,7 +691,9 @@ public  final class ResultCode extends
       return this;
     }
     /**
-     * <code>optional string message = 2;</code>
+     * <code>string message = 2;</code>
+     * @param value The bytes for message to set.
+     * @return This builder for chaining.
      */
     public Builder setMessageBytes(
         com.google.protobuf.ByteString value) {
@@ -632,14 +706,16 @@ public  final class ResultCode extends
       onChanged();
       return this;
     }
+    @java.lang.Override
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
-      return this;
+      return super.setUnknownFields(unknownFields);
     }
 
+    @java.lang.Override
     public final Builder mergeUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
-      return this;
+      return super.mergeUnknownFields(unknownFields);
     }
 
 
@@ -658,11 +734,12 @@ public  final class ResultCode extends
 
   private static final com.google.protobuf.Parser<ResultCode>
       PARSER = new com.google.protobuf.AbstractParser<ResultCode>() {
+    @java.lang.Override
     public ResultCode parsePartialFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
-        return new ResultCode(input, extensionRegistry);
+      return new ResultCode(input, extensionRegistry);
     }
   };
 
@@ -675,6 +752,7 @@ public  final class ResultCode extends
     return PARSER;
   }
 
+  @java.lang.Override
   public org.ericace.grpcserver.ResultCode getDefaultInstanceForType() {
     return DEFAULT_INSTANCE;
   }
@@ -8,20 +8,24 @@ public interface ResultCodeOrBuilder extends
     com.google.protobuf.MessageOrBuilder {
 
   /**
-   * <code>optional .nbodyservice.ResultCode.ResultCodeEnum result_code = 1;</code>
+   * <code>.nbodyservice.ResultCode.ResultCodeEnum result_code = 1;</code>
+   * @return The enum numeric value on the wire for resultCode.
    */
   int getResultCodeValue();
   /**
-   * <code>optional .nbodyservice.ResultCode.ResultCodeEnum result_code = 1;</code>
+   * <code>.nbodyservice.ResultCode.ResultCodeEnum result_code = 1;</code>
+   * @return The resultCode.
    */
   org.ericace.grpcserver.ResultCode.ResultCodeEnum getResultCode();
 
   /**
-   * <code>optional string message = 2;</code>
+   * <code>string message = 2;</code>
+   * @return The message.
    */
   java.lang.String getMessage();
   /**
-   * <code>optional string message = 2;</code>
+   * <code>string message = 2;</code>
+   * @return The bytes for message.
    */
   com.google.protobuf.ByteString
       getMessageBytes();
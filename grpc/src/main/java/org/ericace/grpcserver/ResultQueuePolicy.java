@@ -0,0 +1,653 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: nbodyservice.proto
+
+package org.ericace.grpcserver;
+
+/**
+ * <pre>
+ * What happens when the compute-ahead results are full:
+ * - BLOCK       - The computation waits for the render thread to consume a result
+ * - LATEST_WINS - The computation keeps running, dropping the oldest result, and the
+ *                 render thread always renders the newest result
+ * - DROP_OLDEST - The computation keeps running, dropping the oldest result, and the
+ *                 render thread renders the results in order
+ * </pre>
+ *
+ * Protobuf type {@code nbodyservice.ResultQueuePolicy}
+ */
+public  final class ResultQueuePolicy extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:nbodyservice.ResultQueuePolicy)
+    ResultQueuePolicyOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use ResultQueuePolicy.newBuilder() to construct.
+  private ResultQueuePolicy(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private ResultQueuePolicy() {
+    policy_ = 0;
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new ResultQueuePolicy();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private ResultQueuePolicy(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+            int rawValue = input.readEnum();
+
+            policy_ = rawValue;
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_ResultQueuePolicy_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_ResultQueuePolicy_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.ericace.grpcserver.ResultQueuePolicy.class, org.ericace.grpcserver.ResultQueuePolicy.Builder.class);
+  }
+
+  /**
+   * Protobuf enum {@code nbodyservice.ResultQueuePolicy.ResultQueuePolicyEnum}
+   */
+  public enum ResultQueuePolicyEnum
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>UNDEF = 0;</code>
+     */
+    UNDEF(0),
+    /**
+     * <code>BLOCK = 1;</code>
+     */
+    BLOCK(1),
+    /**
+     * <code>LATEST_WINS = 2;</code>
+     */
+    LATEST_WINS(2),
+    /**
+     * <code>DROP_OLDEST = 3;</code>
+     */
+    DROP_OLDEST(3),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <code>UNDEF = 0;</code>
+     */
+    public static final int UNDEF_VALUE = 0;
+    /**
+     * <code>BLOCK = 1;</code>
+     */
+    public static final int BLOCK_VALUE = 1;
+    /**
+     * <code>LATEST_WINS = 2;</code>
+     */
+    public static final int LATEST_WINS_VALUE = 2;
+    /**
+     * <code>DROP_OLDEST = 3;</code>
+     */
+    public static final int DROP_OLDEST_VALUE = 3;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static ResultQueuePolicyEnum valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static ResultQueuePolicyEnum forNumber(int value) {
+      switch (value) {
+        case 0: return UNDEF;
+        case 1: return BLOCK;
+        case 2: return LATEST_WINS;
+        case 3: return DROP_OLDEST;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<ResultQueuePolicyEnum>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ResultQueuePolicyEnum> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ResultQueuePolicyEnum>() {
+            public ResultQueuePolicyEnum findValueByNumber(int number) {
+              return ResultQueuePolicyEnum.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.ericace.grpcserver.ResultQueuePolicy.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final ResultQueuePolicyEnum[] VALUES = values();
+
+    public static ResultQueuePolicyEnum valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private ResultQueuePolicyEnum(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:nbodyservice.ResultQueuePolicy.ResultQueuePolicyEnum)
+  }
+
+  public static final int POLICY_FIELD_NUMBER = 1;
+  private int policy_;
+  /**
+   * <code>.nbodyservice.ResultQueuePolicy.ResultQueuePolicyEnum policy = 1;</code>
+   * @return The enum numeric value on the wire for policy.
+   */
+  public int getPolicyValue() {
+    return policy_;
+  }
+  /**
+   * <code>.nbodyservice.ResultQueuePolicy.ResultQueuePolicyEnum policy = 1;</code>
+   * @return The policy.
+   */
+  public org.ericace.grpcserver.ResultQueuePolicy.ResultQueuePolicyEnum getPolicy() {
+    @SuppressWarnings("deprecation")
+    org.ericace.grpcserver.ResultQueuePolicy.ResultQueuePolicyEnum result = org.ericace.grpcserver.ResultQueuePolicy.ResultQueuePolicyEnum.valueOf(policy_);
+    return result == null ? org.ericace.grpcserver.ResultQueuePolicy.ResultQueuePolicyEnum.UNRECOGNIZED : result;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (policy_ != org.ericace.grpcserver.ResultQueuePolicy.ResultQueuePolicyEnum.UNDEF.getNumber()) {
+      output.writeEnum(1, policy_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (policy_ != org.ericace.grpcserver.ResultQueuePolicy.ResultQueuePolicyEnum.UNDEF.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(1, policy_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.ericace.grpcserver.ResultQueuePolicy)) {
+      return super.equals(obj);
+    }
+    org.ericace.grpcserver.ResultQueuePolicy other = (org.ericace.grpcserver.ResultQueuePolicy) obj;
+
+    if (policy_ != other.policy_) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + POLICY_FIELD_NUMBER;
+    hash = (53 * hash) + policy_;
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.ericace.grpcserver.ResultQueuePolicy parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.ericace.grpcserver.ResultQueuePolicy parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.ericace.grpcserver.ResultQueuePolicy parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.ericace.grpcserver.ResultQueuePolicy parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.ericace.grpcserver.ResultQueuePolicy parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.ericace.grpcserver.ResultQueuePolicy parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.ericace.grpcserver.ResultQueuePolicy parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.ericace.grpcserver.ResultQueuePolicy parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.ericace.grpcserver.ResultQueuePolicy parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.ericace.grpcserver.ResultQueuePolicy parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.ericace.grpcserver.ResultQueuePolicy parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.ericace.grpcserver.ResultQueuePolicy parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.ericace.grpcserver.ResultQueuePolicy prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * What happens when the compute-ahead results are full:
+   * - BLOCK       - The computation waits for the render thread to consume a result
+   * - LATEST_WINS - The computation keeps running, dropping the oldest result, and the
+   *                 render thread always renders the newest result
+   * - DROP_OLDEST - The computation keeps running, dropping the oldest result, and the
+   *                 render thread renders the results in order
+   * </pre>
+   *
+   * Protobuf type {@code nbodyservice.ResultQueuePolicy}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:nbodyservice.ResultQueuePolicy)
+      org.ericace.grpcserver.ResultQueuePolicyOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_ResultQueuePolicy_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_ResultQueuePolicy_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.ericace.grpcserver.ResultQueuePolicy.class, org.ericace.grpcserver.ResultQueuePolicy.Builder.class);
+    }
+
+    // Construct using org.ericace.grpcserver.ResultQueuePolicy.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      policy_ = 0;
+
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_ResultQueuePolicy_descriptor;
+    }
+
+    @java.lang.Override
+    public org.ericace.grpcserver.ResultQueuePolicy getDefaultInstanceForType() {
+      return org.ericace.grpcserver.ResultQueuePolicy.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.ericace.grpcserver.ResultQueuePolicy build() {
+      org.ericace.grpcserver.ResultQueuePolicy result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.ericace.grpcserver.ResultQueuePolicy buildPartial() {
+      org.ericace.grpcserver.ResultQueuePolicy result = new org.ericace.grpcserver.ResultQueuePolicy(this);
+      result.policy_ = policy_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.ericace.grpcserver.ResultQueuePolicy) {
+        return mergeFrom((org.ericace.grpcserver.ResultQueuePolicy)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.ericace.grpcserver.ResultQueuePolicy other) {
+      if (other == org.ericace.grpcserver.ResultQueuePolicy.getDefaultInstance()) return this;
+      if (other.policy_ != 0) {
+        setPolicyValue(other.getPolicyValue());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.ericace.grpcserver.ResultQueuePolicy parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.ericace.grpcserver.ResultQueuePolicy) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private int policy_ = 0;
+    /**
+     * <code>.nbodyservice.ResultQueuePolicy.ResultQueuePolicyEnum policy = 1;</code>
+     * @return The enum numeric value on the wire for policy.
+     */
+    public int getPolicyValue() {
+      return policy_;
+    }
+    /**
+     * <code>.nbodyservice.ResultQueuePolicy.ResultQueuePolicyEnum policy = 1;</code>
+     * @param value The enum numeric value on the wire for policy to set.
+     * @return This builder for chaining.
+     */
+    public Builder setPolicyValue(int value) {
+      policy_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.nbodyservice.ResultQueuePolicy.ResultQueuePolicyEnum policy = 1;</code>
+     * @return The policy.
+     */
+    public org.ericace.grpcserver.ResultQueuePolicy.ResultQueuePolicyEnum getPolicy() {
+      @SuppressWarnings("deprecation")
+      org.ericace.grpcserver.ResultQueuePolicy.ResultQueuePolicyEnum result = org.ericace.grpcserver.ResultQueuePolicy.ResultQueuePolicyEnum.valueOf(policy_);
+      return result == null ? org.ericace.grpcserver.ResultQueuePolicy.ResultQueuePolicyEnum.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>.nbodyservice.ResultQueuePolicy.ResultQueuePolicyEnum policy = 1;</code>
+     * @param value The policy to set.
+     * @return This builder for chaining.
+     */
+    public Builder setPolicy(org.ericace.grpcserver.ResultQueuePolicy.ResultQueuePolicyEnum value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      policy_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.nbodyservice.ResultQueuePolicy.ResultQueuePolicyEnum policy = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearPolicy() {
+      
+      policy_ = 0;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:nbodyservice.ResultQueuePolicy)
+  }
+
+  // @@protoc_insertion_point(class_scope:nbodyservice.ResultQueuePolicy)
+  private static final org.ericace.grpcserver.ResultQueuePolicy DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.ericace.grpcserver.ResultQueuePolicy();
+  }
+
+  public static org.ericace.grpcserver.ResultQueuePolicy getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ResultQueuePolicy>
+      PARSER = new com.google.protobuf.AbstractParser<ResultQueuePolicy>() {
+    @java.lang.Override
+    public ResultQueuePolicy parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new ResultQueuePolicy(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<ResultQueuePolicy> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ResultQueuePolicy> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.ericace.grpcserver.ResultQueuePolicy getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,20 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: nbodyservice.proto
+
+package org.ericace.grpcserver;
+
+public interface ResultQueuePolicyOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:nbodyservice.ResultQueuePolicy)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.nbodyservice.ResultQueuePolicy.ResultQueuePolicyEnum policy = 1;</code>
+   * @return The enum numeric value on the wire for policy.
+   */
+  int getPolicyValue();
+  /**
+   * <code>.nbodyservice.ResultQueuePolicy.ResultQueuePolicyEnum policy = 1;</code>
+   * @return The policy.
+   */
+  org.ericace.grpcserver.ResultQueuePolicy.ResultQueuePolicyEnum getPolicy();
+}
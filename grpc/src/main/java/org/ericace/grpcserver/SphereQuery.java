@@ -0,0 +1,683 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: nbodyservice.proto
+
+package org.ericace.grpcserver;
+
+/**
+ * <pre>
+ * A sphere to find the bodies in
+ * </pre>
+ *
+ * Protobuf type {@code nbodyservice.SphereQuery}
+ */
+public  final class SphereQuery extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:nbodyservice.SphereQuery)
+    SphereQueryOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use SphereQuery.newBuilder() to construct.
+  private SphereQuery(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private SphereQuery() {
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new SphereQuery();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private SphereQuery(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 13: {
+
+            x_ = input.readFloat();
+            break;
+          }
+          case 21: {
+
+            y_ = input.readFloat();
+            break;
+          }
+          case 29: {
+
+            z_ = input.readFloat();
+            break;
+          }
+          case 37: {
+
+            radius_ = input.readFloat();
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_SphereQuery_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_SphereQuery_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.ericace.grpcserver.SphereQuery.class, org.ericace.grpcserver.SphereQuery.Builder.class);
+  }
+
+  public static final int X_FIELD_NUMBER = 1;
+  private float x_;
+  /**
+   * <code>float x = 1;</code>
+   * @return The x.
+   */
+  public float getX() {
+    return x_;
+  }
+
+  public static final int Y_FIELD_NUMBER = 2;
+  private float y_;
+  /**
+   * <code>float y = 2;</code>
+   * @return The y.
+   */
+  public float getY() {
+    return y_;
+  }
+
+  public static final int Z_FIELD_NUMBER = 3;
+  private float z_;
+  /**
+   * <code>float z = 3;</code>
+   * @return The z.
+   */
+  public float getZ() {
+    return z_;
+  }
+
+  public static final int RADIUS_FIELD_NUMBER = 4;
+  private float radius_;
+  /**
+   * <code>float radius = 4;</code>
+   * @return The radius.
+   */
+  public float getRadius() {
+    return radius_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (x_ != 0F) {
+      output.writeFloat(1, x_);
+    }
+    if (y_ != 0F) {
+      output.writeFloat(2, y_);
+    }
+    if (z_ != 0F) {
+      output.writeFloat(3, z_);
+    }
+    if (radius_ != 0F) {
+      output.writeFloat(4, radius_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (x_ != 0F) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeFloatSize(1, x_);
+    }
+    if (y_ != 0F) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeFloatSize(2, y_);
+    }
+    if (z_ != 0F) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeFloatSize(3, z_);
+    }
+    if (radius_ != 0F) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeFloatSize(4, radius_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.ericace.grpcserver.SphereQuery)) {
+      return super.equals(obj);
+    }
+    org.ericace.grpcserver.SphereQuery other = (org.ericace.grpcserver.SphereQuery) obj;
+
+    if (java.lang.Float.floatToIntBits(getX())
+        != java.lang.Float.floatToIntBits(
+            other.getX())) return false;
+    if (java.lang.Float.floatToIntBits(getY())
+        != java.lang.Float.floatToIntBits(
+            other.getY())) return false;
+    if (java.lang.Float.floatToIntBits(getZ())
+        != java.lang.Float.floatToIntBits(
+            other.getZ())) return false;
+    if (java.lang.Float.floatToIntBits(getRadius())
+        != java.lang.Float.floatToIntBits(
+            other.getRadius())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + X_FIELD_NUMBER;
+    hash = (53 * hash) + java.lang.Float.floatToIntBits(
+        getX());
+    hash = (37 * hash) + Y_FIELD_NUMBER;
+    hash = (53 * hash) + java.lang.Float.floatToIntBits(
+        getY());
+    hash = (37 * hash) + Z_FIELD_NUMBER;
+    hash = (53 * hash) + java.lang.Float.floatToIntBits(
+        getZ());
+    hash = (37 * hash) + RADIUS_FIELD_NUMBER;
+    hash = (53 * hash) + java.lang.Float.floatToIntBits(
+        getRadius());
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.ericace.grpcserver.SphereQuery parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.ericace.grpcserver.SphereQuery parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.ericace.grpcserver.SphereQuery parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.ericace.grpcserver.SphereQuery parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.ericace.grpcserver.SphereQuery parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.ericace.grpcserver.SphereQuery parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.ericace.grpcserver.SphereQuery parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.ericace.grpcserver.SphereQuery parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.ericace.grpcserver.SphereQuery parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.ericace.grpcserver.SphereQuery parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.ericace.grpcserver.SphereQuery parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.ericace.grpcserver.SphereQuery parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.ericace.grpcserver.SphereQuery prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * A sphere to find the bodies in
+   * </pre>
+   *
+   * Protobuf type {@code nbodyservice.SphereQuery}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:nbodyservice.SphereQuery)
+      org.ericace.grpcserver.SphereQueryOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_SphereQuery_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_SphereQuery_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.ericace.grpcserver.SphereQuery.class, org.ericace.grpcserver.SphereQuery.Builder.class);
+    }
+
+    // Construct using org.ericace.grpcserver.SphereQuery.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      x_ = 0F;
+
+      y_ = 0F;
+
+      z_ = 0F;
+
+      radius_ = 0F;
+
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.ericace.grpcserver.Nbodyservice.internal_static_nbodyservice_SphereQuery_descriptor;
+    }
+
+    @java.lang.Override
+    public org.ericace.grpcserver.SphereQuery getDefaultInstanceForType() {
+      return org.ericace.grpcserver.SphereQuery.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.ericace.grpcserver.SphereQuery build() {
+      org.ericace.grpcserver.SphereQuery result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.ericace.grpcserver.SphereQuery buildPartial() {
+      org.ericace.grpcserver.SphereQuery result = new org.ericace.grpcserver.SphereQuery(this);
+      result.x_ = x_;
+      result.y_ = y_;
+      result.z_ = z_;
+      result.radius_ = radius_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.ericace.grpcserver.SphereQuery) {
+        return mergeFrom((org.ericace.grpcserver.SphereQuery)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.ericace.grpcserver.SphereQuery other) {
+      if (other == org.ericace.grpcserver.SphereQuery.getDefaultInstance()) return this;
+      if (other.getX() != 0F) {
+        setX(other.getX());
+      }
+      if (other.getY() != 0F) {
+        setY(other.getY());
+      }
+      if (other.getZ() != 0F) {
+        setZ(other.getZ());
+      }
+      if (other.getRadius() != 0F) {
+        setRadius(other.getRadius());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.ericace.grpcserver.SphereQuery parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.ericace.grpcserver.SphereQuery) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private float x_ ;
+    /**
+     * <code>float x = 1;</code>
+     * @return The x.
+     */
+    public float getX() {
+      return x_;
+    }
+    /**
+     * <code>float x = 1;</code>
+     * @param value The x to set.
+     * @return This builder for chaining.
+     */
+    public Builder setX(float value) {
+      
+      x_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>float x = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearX() {
+      
+      x_ = 0F;
+      onChanged();
+      return this;
+    }
+
+    private float y_ ;
+    /**
+     * <code>float y = 2;</code>
+     * @return The y.
+     */
+    public float getY() {
+      return y_;
+    }
+    /**
+     * <code>float y = 2;</code>
+     * @param value The y to set.
+     * @return This builder for chaining.
+     */
+    public Builder setY(float value) {
+      
+      y_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>float y = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearY() {
+      
+      y_ = 0F;
+      onChanged();
+      return this;
+    }
+
+    private float z_ ;
+    /**
+     * <code>float z = 3;</code>
+     * @return The z.
+     */
+    public float getZ() {
+      return z_;
+    }
+    /**
+     * <code>float z = 3;</code>
+     * @param value The z to set.
+     * @return This builder for chaining.
+     */
+    public Builder setZ(float value) {
+      
+      z_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>float z = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearZ() {
+      
+      z_ = 0F;
+      onChanged();
+      return this;
+    }
+
+    private float radius_ ;
+    /**
+     * <code>float radius = 4;</code>
+     * @return The radius.
+     */
+    public float getRadius() {
+      return radius_;
+    }
+    /**
+     * <code>float radius = 4;</code>
+     * @param value The radius to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRadius(float value) {
+      
+      radius_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>float radius = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearRadius() {
+      
+      radius_ = 0F;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:nbodyservice.SphereQuery)
+  }
+
+  // @@protoc_insertion_point(class_scope:nbodyservice.SphereQuery)
+  private static final org.ericace.grpcserver.SphereQuery DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.ericace.grpcserver.SphereQuery();
+  }
+
+  public static org.ericace.grpcserver.SphereQuery getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<SphereQuery>
+      PARSER = new com.google.protobuf.AbstractParser<SphereQuery>() {
+    @java.lang.Override
+    public SphereQuery parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new SphereQuery(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<SphereQuery> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<SphereQuery> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.ericace.grpcserver.SphereQuery getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: nbodyservice.proto
+
+package org.ericace.grpcserver;
+
+public interface SphereQueryOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:nbodyservice.SphereQuery)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>float x = 1;</code>
+   * @return The x.
+   */
+  float getX();
+
+  /**
+   * <code>float y = 2;</code>
+   * @return The y.
+   */
+  float getY();
+
+  /**
+   * <code>float z = 3;</code>
+   * @return The z.
+   */
+  float getZ();
+
+  /**
+   * <code>float radius = 4;</code>
+   * @return The radius.
+   */
+  float getRadius();
+}
@@ -7,6 +7,7 @@ import org.ericace.globals.Globals;
 import org.ericace.nbody.Body;
 import org.ericace.nbody.BodyMod;
 import org.ericace.nbody.Configurables;
+import org.ericace.nbody.ResultQueueHolder;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -133,6 +134,25 @@ public class NBodyServiceServer {
             responseObserver.onCompleted();
         }
 
+        @Override
+        public void setResultQueuePolicy(org.ericace.grpcserver.ResultQueuePolicy request,
+                                         io.grpc.stub.StreamObserver<org.ericace.grpcserver.ResultCode> responseObserver) {
+            ResultCode resultCode;
+            ResultQueuePolicy.ResultQueuePolicyEnum policy = request.getPolicy();
+            if (policy == ResultQueuePolicy.ResultQueuePolicyEnum.UNDEF ||
+                    policy == ResultQueuePolicy.ResultQueuePolicyEnum.UNRECOGNIZED) {
+                resultCode = ResultCode.newBuilder()
+                        .setResultCode(ResultCode.ResultCodeEnum.ERROR)
+                        .setMessage(String.format("Invalid result queue policy: %s", policy))
+                        .build();
+            } else {
+                configurables.setResultQueuePolicy(ResultQueueHolder.OverflowPolicy.valueOf(policy.name()));
+                resultCode = ResultCode.newBuilder().setResultCode(ResultCode.ResultCodeEnum.OK).build();
+            }
+            responseObserver.onNext(resultCode);
+            responseObserver.onCompleted();
+        }
+
         @Override
         public void setSmoothing(org.ericace.grpcserver.Factor request,
                                  io.grpc.stub.StreamObserver<org.ericace.grpcserver.ResultCode> responseObserver) {
@@ -151,6 +171,15 @@ public class NBodyServiceServer {
             responseObserver.onCompleted();
         }
 
+        @Override
+        public void setCoarsening(org.ericace.grpcserver.Coarsening request,
+                                  io.grpc.stub.StreamObserver<org.ericace.grpcserver.ResultCode> responseObserver) {
+            configurables.setCoarsening(request.getDistance(), request.getVelocity(), (int) request.getMaxMembers());
+            ResultCode resultCode = ResultCode.newBuilder().setResultCode(ResultCode.ResultCodeEnum.OK).build();
+            responseObserver.onNext(resultCode);
+            responseObserver.onCompleted();
+        }
+
         @Override
         public void getCurrentConfig(com.google.protobuf.Empty request,
                                      io.grpc.stub.StreamObserver<org.ericace.grpcserver.CurrentConfig> responseObserver) {
@@ -158,8 +187,13 @@ public class NBodyServiceServer {
                     .setBodies(configurables.getBodyCount())
                     .setComputationThreads(configurables.getComputationThreads())
                     .setResultQueueSize(configurables.getResultQueueSize())
+                    .setResultQueuePolicy(ResultQueuePolicy.ResultQueuePolicyEnum
+                            .valueOf(configurables.getResultQueuePolicy().name()))
                     .setSmoothingFactor(configurables.getSmoothing())
                     .setRestitutionCoefficient(configurables.getRestitutionCoefficient())
+                    .setCoarseningDistance(configurables.getCoarseningDistance())
+                    .setCoarseningVelocity(configurables.getCoarseningVelocity())
+                    .setCoarseningMaxMembers(configurables.getCoarseningMaxMembers())
                     .build();
             responseObserver.onNext(currentConfig);
             responseObserver.onCompleted();
@@ -242,27 +276,64 @@ public class NBodyServiceServer {
             Body b = configurables.getBody(bodyId, bodyName);
             BodyDescription bd = null;
             if (b != null) {
-                bd = BodyDescription.newBuilder()
-                        .setId(b.getId())
-                        .setX(b.getX()).setY(b.getY()).setZ(b.getZ())
-                        .setVx(b.getVx()).setVy(b.getVy()).setVz(b.getVz())
-                        .setMass(b.getMass())
-                        .setRadius(b.getRadius())
-                        .setIsSun(b.isSun())
-                        .setCollisionBehavior(org.ericace.grpcserver.CollisionBehaviorEnum.valueOf(b.getCollisionBehavior().name()))
-                        .setBodyColor(org.ericace.grpcserver.BodyColorEnum.valueOf(b.getBodyColor() == null ? RANDOM.name() : b.getBodyColor().name()))
-                        .setFragFactor(b.getFragFactor())
-                        .setFragStep(b.getFragStep())
-                        .setWithTelemetry(b.getWithTelemetry())
-                        .setName(b.getName() == null ? "" : b.getName())
-                        .setClass_(b.getClas() == null ? "" : b.getClas())
-                        .setPinned(b.isPinned())
-                        .build();
+                bd = xlatBody(b);
            }
            responseObserver.onNext(bd);
            responseObserver.onCompleted();
         }
 
+        @Override
+        public void findBodiesInSphere(org.ericace.grpcserver.SphereQuery request,
+                                       io.grpc.stub.StreamObserver<org.ericace.grpcserver.BodyList> responseObserver) {
+            List<Body> bodies = configurables.findBodiesInSphere(request.getX(), request.getY(), request.getZ(),
+                    request.getRadius());
+            responseObserver.onNext(xlatBodies(bodies));
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public void findNearestBodies(org.ericace.grpcserver.NearestQuery request,
+                                      io.grpc.stub.StreamObserver<org.ericace.grpcserver.BodyList> responseObserver) {
+            long count = request.getCount();
+            if (count < 0 || count > Integer.MAX_VALUE) {
+                responseObserver.onError(io.grpc.Status.INVALID_ARGUMENT
+                        .withDescription("count must be from 0 to " + Integer.MAX_VALUE + ": " + count)
+                        .asRuntimeException());
+                return;
+            }
+            List<Body> bodies = configurables.findNearestBodies(request.getX(), request.getY(), request.getZ(),
+                    (int) count);
+            responseObserver.onNext(xlatBodies(bodies));
+            responseObserver.onCompleted();
+        }
+
+        private BodyList xlatBodies(List<Body> bodies) {
+            BodyList.Builder builder = BodyList.newBuilder();
+            for (Body b : bodies) {
+                builder.addBodies(xlatBody(b));
+            }
+            return builder.build();
+        }
+
+        private BodyDescription xlatBody(Body b) {
+            return BodyDescription.newBuilder()
+                    .setId(b.getId())
+                    .setX(b.getX()).setY(b.getY()).setZ(b.getZ())
+                    .setVx(b.getVx()).setVy(b.getVy()).setVz(b.getVz())
+                    .setMass(b.getMass())
+                    .setRadius(b.getRadius())
+                    .setIsSun(b.isSun())
+                    .setCollisionBehavior(org.ericace.grpcserver.CollisionBehaviorEnum.valueOf(b.getCollisionBehavior().name()))
+                    .setBodyColor(org.ericace.grpcserver.BodyColorEnum.valueOf(b.getBodyColor() == null ? RANDOM.name() : b.getBodyColor().name()))
+                    .setFragFactor(b.getFragFactor())
+                    .setFragStep(b.getFragStep())
+                    .setWithTelemetry(b.getWithTelemetry())
+                    .setName(b.getName() == null ? "" : b.getName())
+                    .setClass_(b.getClas() == null ? "" : b.getClas())
+                    .setPinned(b.isPinned())
+                    .build();
+        }
+
         private Globals.Color xlatColor(org.ericace.grpcserver.BodyColorEnum bodyColorEnum) {
             switch (bodyColorEnum.getNumber()) {
                 case 1: return RANDOM;
@@ -312,6 +383,14 @@ public class NBodyServiceServer {
             return 100;
         }
 
+        @Override
+        public void setResultQueuePolicy(ResultQueueHolder.OverflowPolicy policy) {}
+
+        @Override
+        public ResultQueueHolder.OverflowPolicy getResultQueuePolicy() {
+            return ResultQueueHolder.OverflowPolicy.BLOCK;
+        }
+
         @Override
         public void setSmoothing(float smoothing)  {}
 
@@ -334,6 +413,18 @@ public class NBodyServiceServer {
         @Override
         public float getRestitutionCoefficient() { return 1;}
 
+        @Override
+        public void setCoarsening(float distance, float velocity, int maxMembers) {}
+
+        @Override
+        public float getCoarseningDistance() { return 0;}
+
+        @Override
+        public float getCoarseningVelocity() { return 0;}
+
+        @Override
+        public int getCoarseningMaxMembers() { return 0;}
+
         @Override
         public void removeBodies(int countToRemove)  {}
 
@@ -353,5 +444,11 @@ public class NBodyServiceServer {
         @Override
         public Body getBody(int id, String bodyName) {return null;}
 
+        @Override
+        public List<Body> findBodiesInSphere(float x, float y, float z, float radius) {return new ArrayList<>();}
+
+        @Override
+        public List<Body> findNearestBodies(float x, float y, float z, int maxCount) {return new ArrayList<>();}
+
     }
 }
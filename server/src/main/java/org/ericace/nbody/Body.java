@@ -7,9 +7,12 @@ import org.ericace.globals.Globals;
 import org.ericace.instrumentation.InstrumentationManager;
 import org.ericace.instrumentation.Metric;
 
+import java.nio.FloatBuffer;
+import java.util.Arrays;
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -26,6 +29,93 @@ public class Body {
 
     private static final Metric metricBodyComputations = InstrumentationManager.getInstrumentation()
             .registerCounter("nbody_computations", "N-Body Computations");
+    private static final Metric metricPlasmaSolverNanos = InstrumentationManager.getInstrumentation()
+            .registerLabeledSummary("nbody_collision_solver_nanos/solver", "plasma",
+                    "Elastic collision solver time in nanoseconds");
+    private static final Metric metricImpulseSolverNanos = InstrumentationManager.getInstrumentation()
+            .registerLabeledSummary("nbody_collision_solver_nanos/solver", "impulse",
+                    "Elastic collision solver time in nanoseconds");
+    private static final Metric metricSolverMismatchCount = InstrumentationManager.getInstrumentation()
+            .registerCounter("nbody_collision_solver_mismatch_count",
+                    "Count of collisions where the elastic collision solvers disagreed");
+
+    /**
+     * Defines the available elastic collision solvers:
+     * <ul>
+     *     <li>PLASMA - the original solver ported from plasmaphysics.org.uk. See {@link #calcElasticCollision}</li>
+     *     <li>IMPULSE - a trig-free solver that applies an impulse along the contact normal. See
+     *         {@link #calcImpulseCollision}</li>
+     *     <li>CROSSCHECK - runs both solvers for every collision, times each, and compares the results. The
+     *         PLASMA result is used to advance the simulation</li>
+     * </ul>
+     */
+    public enum CollisionSolver {
+        PLASMA, IMPULSE, CROSSCHECK
+    }
+
+    /**
+     * The elastic collision solver
+     */
+    private volatile static CollisionSolver collisionSolver = CollisionSolver.PLASMA;
+
+    /**
+     * The impulse solver writes its results into a per-thread instance to avoid allocating on each collision
+     */
+    private static final ThreadLocal<CollisionCalcResult> collisionScratch =
+            ThreadLocal.withInitial(CollisionCalcResult::noCollision);
+
+    /**
+     * The node stack for the octree traversal, per thread. Each node popped pushes at most eight children, so
+     * the stack never holds more than eight nodes per level
+     */
+    private static final ThreadLocal<int[]> octreeStack =
+            ThreadLocal.withInitial(() -> new int[(Octree.MAX_DEPTH + 1) * 8]);
+
+    /**
+     * The node stack for the BVH traversal, per thread. Each node popped pushes at most its two children, so the
+     * stack never holds more than one node per level plus one
+     */
+    private static final ThreadLocal<int[]> bvhStack = ThreadLocal.withInitial(() -> new int[Bvh.MAX_DEPTH + 2]);
+
+    /**
+     * If true, then in addition to checking for overlap at the current positions, pairs of bodies are checked
+     * for contact anywhere along their paths during the upcoming time step. This prevents fast bodies from
+     * passing through each other, which in turn allows larger time steps.
+     */
+    private volatile static boolean continuousCollisionDetection = false;
+
+    /**
+     * If true, each body records the bodies it overlaps during force computation so that the
+     * {@link IslandManager} can form contact islands. Set by the island manager
+     */
+    private volatile static boolean trackContacts = false;
+
+    private static final Body[] NO_CONTACTS = new Body[0];
+    private static final float[] NO_FLOATS = new float[0];
+
+    /**
+     * If true, the simulation state after each cycle does not depend on the number of threads or on thread
+     * scheduling. Force computers defer collisions rather than resolving them, and the
+     * {@link ComputationRunner} resolves them serially in ID order, along with fragmentation. See
+     * {@link #resolveDeferredCollisions}
+     */
+    private volatile static boolean deterministic = false;
+
+    /**
+     * Fragment coarsening thresholds. Fragments of the same body within {@code coarseningDistance} of each other,
+     * with velocities that differ by no more than {@code coarseningVelocity}, are merged into super-particles of up
+     * to {@code coarseningMaxMembers} fragments. A distance of zero disables coarsening. See
+     * {@link FragmentCoarsener}
+     */
+    private volatile static float coarseningDistance = 0;
+    private volatile static float coarseningVelocity = 0;
+    private volatile static int coarseningMaxMembers = 50;
+
+    /**
+     * A cached contact normal is only used if the line between the centers of the bodies is still within about
+     * eight degrees of it - i.e. the cosine of the angle between them is at least this
+     */
+    private static final float CONTACT_NORMAL_ALIGNMENT = .99F;
 
     /**
      * The gravitational constant
@@ -44,17 +134,17 @@ public class Body {
     /**
      * A unique ID value for each instance
      */
-    private final int id;
+    private int id;
 
     /**
      * A user-friendly name
      */
-    private final String name;
+    private String name;
 
     /**
      * A class
      */
-    private final String clas;
+    private String clas;
 
     /**
      * Set to True whenever this object collided with another
@@ -62,7 +152,7 @@ public class Body {
     private volatile boolean collided;
 
     /**
-     * Radius and mass
+     * Radius and mass, unless the off-heap {@link #buffer} holds them
      */
     private volatile float radius, mass;
 
@@ -71,11 +161,6 @@ public class Body {
      */
     private float fragmentationStep;
 
-    /**
-     * The max number of bodies that a body can fragment into each cycle without impacting the frame rate
-     */
-    private static final int MAX_FRAGS_PER_CYCLE = 100;
-
     /**
      * When a body fragments, set an arbitrary limit on the number of bodies it can fragment into so the sim
      * isn't swamped
@@ -101,12 +186,23 @@ public class Body {
     private float fragFactor;
 
     /**
-     * current coordinates of the body
+     * If this body is a fragment, the ID of the body it originally broke off from. Otherwise -1
+     */
+    private int originId = -1;
+
+    /**
+     * The number of fragments this body represents. Greater than one if this body is a super-particle
+     * created by the {@link FragmentCoarsener}
+     */
+    private int memberCount = 1;
+
+    /**
+     * current coordinates of the body, unless the off-heap {@link #buffer} holds them. Use the getters and setters
      */
     private volatile float x, y, z;
 
     /**
-     * cumulative velocity
+     * cumulative velocity, unless the off-heap {@link #buffer} holds it
      */
     private volatile float vx, vy, vz;
 
@@ -115,6 +211,106 @@ public class Body {
      */
     private double fx, fy, fz;
 
+    /**
+     * If this body collided part way through the time step, then it travelled with its prior velocity up
+     * to the time of impact, and with its new velocity after that. The {@link #update} method moves the body
+     * a full time step at the new velocity, so this holds the correction to apply - then it is zeroed
+     */
+    private float tx, ty, tz;
+
+    /**
+     * The bodies this body overlapped during the most recent force computation. Only written by this body's
+     * force computer, and only read by the {@link IslandManager} after the force computation completes
+     */
+    private Body[] contacts = NO_CONTACTS;
+    private int contactCount;
+
+    /**
+     * In deterministic mode, the collisions detected during the most recent force computation - the other body,
+     * distance, and time of impact of each - awaiting {@link #resolveDeferredCollisions}. Only written by this
+     * body's force computer
+     */
+    private Body[] deferred = NO_CONTACTS;
+    private float[] deferredDist = NO_FLOATS, deferredToi = NO_FLOATS;
+    private int deferredCount;
+
+    /**
+     * This body's random number stream. Created on first use - see {@link #random()}
+     */
+    private SplittableRandom random;
+
+    /**
+     * Non-null while this body is a member of a sleeping contact island. Only assigned by the
+     * {@link IslandManager}
+     */
+    private volatile ContactIsland island;
+
+    /**
+     * The bodies this body was recently in contact with. Created on first contact while the cache is enabled -
+     * see {@link #setContactCacheAge}
+     */
+    private ContactCache contactCache;
+
+    /**
+     * Bookkeeping owned by the {@link IslandManager}: the number of consecutive cycles this body has been at rest
+     * relative to its island, and this body's union-find index in the cycle identified by the stamp
+     */
+    int quietCycles, islandIndex, islandStamp;
+
+    /**
+     * This body's slot in the {@link BodyStore}, or -1 if it is not in the store. Owned by the store
+     */
+    volatile int slot = -1;
+
+    /**
+     * If not null, the off-heap buffer that holds this body's position, velocity, mass, and radius - in the row
+     * for its {@link #slot} - instead of the fields. Set while the body is in a {@link BodyStore} that has the
+     * buffer enabled. See {@link #attach}. Owned by the store, which re-points it when it replaces the buffer.
+     * Not volatile - it is read for every value in the force computation, which sees it as of the start of the
+     * cycle - so a thread outside the computation runner may see it late, and read stale values
+     */
+    BodyBuffer buffer;
+
+    /**
+     * Bookkeeping owned by the {@link Octree}: the leaf this body is in, or -1 if it is not in the tree, and the
+     * next body in the leaf
+     */
+    int octreeLeaf = -1;
+    Body octreeNext;
+
+    /**
+     * Bookkeeping owned by the {@link BodyPool}: this body's index in the pool, and the encoded index of the next
+     * body in the pool's free stack
+     */
+    int poolIndex = -1, poolNext;
+
+    /**
+     * Incremented each time this body is re-used from the pool, so code outside the computation runner that
+     * holds a reference can tell if the reference now points at a different body. See {@link #snapshot}
+     */
+    private volatile int generation;
+
+    /**
+     * Bookkeeping owned by the {@link ComputeLod}: the number of cycles between force computations of this
+     * body, the number of cycles until its next computation, and the number of cycles it is computed every cycle
+     * regardless of the camera
+     */
+    int lodInterval = 1, lodWait, lodHold = ComputeLod.HOLD_CYCLES;
+
+    /**
+     * The values of this body most recently added to a result queue, so a delta result queue only carries the
+     * bodies that changed. Only accessed by the computation runner thread
+     */
+    private boolean rendered;
+    private float renderedX, renderedY, renderedZ, renderedRadius;
+    private boolean renderedSun;
+    private Globals.Color renderedColor;
+
+    /**
+     * Recycles bodies that have been removed from the simulation
+     */
+    private static final BodyPool pool = new BodyPool();
+
     /**
      * If this is a sun, then it has a light source
      */
@@ -148,9 +344,10 @@ public class Body {
     private Globals.Color color;
 
     /**
-     * Monotonically increasing ID generator
+     * Lock-free ID generator
      *
-     * @return next ID value starting at zero and incrementing on each call
+     * @return a unique ID. IDs start at zero and increase on each call within a thread, but IDs are allocated to
+     * each thread in ranges, so they are not monotonic across threads
      */
     public static int nextID() {
         return IdGenerator.nextID();
@@ -196,12 +393,14 @@ public class Body {
      * rendering engine's scene graph
      */
     public void setNotExists() {
-        mass = 0;
+        setMass(0);
         exists = false;
+        writeState();
     }
 
     public void setCollisionBehavior(Globals.CollisionBehavior behavior) {
         this.collisionBehavior = behavior;
+        writeState();
     }
     /**
      * Sets this instance to a sun - the render engine should create an associated light source
@@ -234,15 +433,288 @@ public class Body {
         return Body.R;
     }
 
+    /**
+     * Sets the elastic collision solver
+     *
+     * @param collisionSolver the solver to use for all subsequent elastic collisions
+     */
+    public static void setCollisionSolver(CollisionSolver collisionSolver) {
+        Body.collisionSolver = collisionSolver;
+    }
+
+    /**
+     * @return the elastic collision solver
+     */
+    public static CollisionSolver getCollisionSolver() {
+        return Body.collisionSolver;
+    }
+
+    /**
+     * Enables or disables continuous (swept-sphere) collision detection
+     *
+     * @param continuousCollisionDetection true to enable
+     */
+    public static void setContinuousCollisionDetection(boolean continuousCollisionDetection) {
+        Body.continuousCollisionDetection = continuousCollisionDetection;
+    }
+
+    /**
+     * @return true if continuous collision detection is enabled
+     */
+    public static boolean getContinuousCollisionDetection() {
+        return Body.continuousCollisionDetection;
+    }
+
+    /**
+     * Enables or disables deterministic mode. Must be set before the sim starts
+     *
+     * @param deterministic true to enable
+     */
+    public static void setDeterministic(boolean deterministic) {
+        Body.deterministic = deterministic;
+    }
+
+    /**
+     * @return true if deterministic mode is enabled
+     */
+    public static boolean getDeterministic() {
+        return Body.deterministic;
+    }
+
+    /**
+     * Sets the fragment coarsening thresholds
+     *
+     * @param distance   the merge distance. Zero disables coarsening
+     * @param velocity   the maximum velocity difference between merged fragments, and the velocity change that
+     *                   splits a super-particle
+     * @param maxMembers the maximum number of fragments in one super-particle
+     */
+    public static void setCoarsening(float distance, float velocity, int maxMembers) {
+        Body.coarseningDistance = Math.max(distance, 0);
+        Body.coarseningVelocity = Math.max(velocity, 0);
+        Body.coarseningMaxMembers = Math.max(maxMembers, 1);
+    }
+
+    /**
+     * Enables or disables the contact cache
+     *
+     * @param cycles the number of cycles a pair of bodies is kept in the cache after their last contact. Zero
+     *               disables the cache
+     */
+    public static void setContactCacheAge(int cycles) {
+        ContactCache.setMaxAge(cycles);
+    }
+
+    public static int getContactCacheAge() {
+        return ContactCache.getMaxAge();
+    }
+
+    /**
+     * Ages the contact cache at the end of a compute cycle. Called by the computation runner once the force
+     * computation - and any deferred collision resolution - is complete
+     */
+    static void endContactCycle() {
+        ContactCache.advance();
+    }
+
+    public static float getCoarseningDistance() {return coarseningDistance;}
+    public static float getCoarseningVelocity() {return coarseningVelocity;}
+    public static int getCoarseningMaxMembers() {return coarseningMaxMembers;}
+
+    /**
+     * Enables or disables recording of contacts during force computation
+     *
+     * @param trackContacts true to enable
+     */
+    static void setTrackContacts(boolean trackContacts) {
+        Body.trackContacts = trackContacts;
+    }
+
+    /**
+     * @return the number of bodies this body overlapped during the most recent force computation
+     */
+    int getContactCount() {
+        return contactCount;
+    }
+
+    /**
+     * @param i index from zero to {@link #getContactCount()} - 1
+     *
+     * @return a body this body overlapped during the most recent force computation
+     */
+    Body getContact(int i) {
+        return contacts[i];
+    }
+
+    /**
+     * @return the sleeping island this body is a member of, or null if the body is awake
+     */
+    ContactIsland getIsland() {
+        return island;
+    }
+
+    /**
+     * Adds this body to - or removes it from - a sleeping island
+     *
+     * @param island the island, or null to wake the body
+     */
+    void setIsland(ContactIsland island) {
+        this.island = island;
+    }
+
+    /**
+     * @return the ID of the body this fragment broke off from, or -1 if this body is not a fragment
+     */
+    int getOriginId() {
+        return originId;
+    }
+
+    /**
+     * @return the number of fragments this body represents
+     */
+    int getMemberCount() {
+        return memberCount;
+    }
+
+    /**
+     * @return true if this body collided in the current compute cycle
+     */
+    boolean isCollided() {
+        return collided;
+    }
+
+    /**
+     * @return true if this body is in the process of fragmenting
+     */
+    boolean isFragmenting() {
+        return fragmenting;
+    }
+
+    /**
+     * Merges another fragment into this one, conserving mass, momentum, and volume. The force accumulated on the
+     * other body in the current cycle is added to this body's force so that the merged body is updated correctly.
+     * The other body is set to not exist.
+     *
+     * Intended to be called by the {@link FragmentCoarsener} between force computation and {@link #update}, when
+     * the calling thread has exclusive access to both bodies.
+     *
+     * @param otherBody the body to merge into this body
+     */
+    void absorb(Body otherBody) {
+        double m1 = getMass();
+        double m2 = otherBody.getMass();
+        double m = m1 + m2;
+        setX((float) ((m1 * getX() + m2 * otherBody.getX()) / m));
+        setY((float) ((m1 * getY() + m2 * otherBody.getY()) / m));
+        setZ((float) ((m1 * getZ() + m2 * otherBody.getZ()) / m));
+        setVx((float) ((m1 * getVx() + m2 * otherBody.getVx()) / m));
+        setVy((float) ((m1 * getVy() + m2 * otherBody.getVy()) / m));
+        setVz((float) ((m1 * getVz() + m2 * otherBody.getVz()) / m));
+        fx += otherBody.fx;
+        fy += otherBody.fy;
+        fz += otherBody.fz;
+        setRadius((float) Math.cbrt((double) getRadius() * getRadius() * getRadius() +
+                (double) otherBody.getRadius() * otherBody.getRadius() * otherBody.getRadius()));
+        memberCount += otherBody.memberCount;
+        setMass((float) m);
+        otherBody.setNotExists();
+    }
+
+    /**
+     * Sets the velocity. Used by the {@link IslandManager} to move the members of a sleeping island together
+     */
+    void setVelocity(float vx, float vy, float vz) {
+        setVx(vx);
+        setVy(vy);
+        setVz(vz);
+    }
+
+    // the setters for the values that may be held in the off-heap buffer. The caller has exclusive access to the
+    // body - as for any other write - so the slot can't move under it
+    private void setX(float x) {
+        BodyBuffer b = buffer;
+        if (b == null) {
+            this.x = x;
+        } else {
+            b.x.put(slot, x);
+        }
+    }
+
+    private void setY(float y) {
+        BodyBuffer b = buffer;
+        if (b == null) {
+            this.y = y;
+        } else {
+            b.y.put(slot, y);
+        }
+    }
+
+    private void setZ(float z) {
+        BodyBuffer b = buffer;
+        if (b == null) {
+            this.z = z;
+        } else {
+            b.z.put(slot, z);
+        }
+    }
+
+    private void setVx(float vx) {
+        BodyBuffer b = buffer;
+        if (b == null) {
+            this.vx = vx;
+        } else {
+            b.vx.put(slot, vx);
+        }
+    }
+
+    private void setVy(float vy) {
+        BodyBuffer b = buffer;
+        if (b == null) {
+            this.vy = vy;
+        } else {
+            b.vy.put(slot, vy);
+        }
+    }
+
+    private void setVz(float vz) {
+        BodyBuffer b = buffer;
+        if (b == null) {
+            this.vz = vz;
+        } else {
+            b.vz.put(slot, vz);
+        }
+    }
+
+    private void setMass(float mass) {
+        BodyBuffer b = buffer;
+        if (b == null) {
+            this.mass = mass;
+        } else {
+            b.mass.put(slot, mass);
+        }
+    }
+
+    private void setRadius(float radius) {
+        BodyBuffer b = buffer;
+        if (b == null) {
+            this.radius = radius;
+        } else {
+            b.radius.put(slot, radius);
+        }
+    }
+
     // more getters to support the gRPC API
-    public float getX() {return x;}
-    public float getY() {return y;}
-    public float getZ() {return z;}
-    public float getVx() {return vx;}
-    public float getVy() {return vy;}
-    public float getVz() {return vz;}
-    public float getMass() {return mass;}
-    public float getRadius() {return radius;}
+    public float getX() {BodyBuffer b = buffer; return b == null ? x : BodyBuffer.get(b.x, slot, x);}
+    public float getY() {BodyBuffer b = buffer; return b == null ? y : BodyBuffer.get(b.y, slot, y);}
+    public float getZ() {BodyBuffer b = buffer; return b == null ? z : BodyBuffer.get(b.z, slot, z);}
+    public float getVx() {BodyBuffer b = buffer; return b == null ? vx : BodyBuffer.get(b.vx, slot, vx);}
+    public float getVy() {BodyBuffer b = buffer; return b == null ? vy : BodyBuffer.get(b.vy, slot, vy);}
+    public float getVz() {BodyBuffer b = buffer; return b == null ? vz : BodyBuffer.get(b.vz, slot, vz);}
+    public float getMass() {BodyBuffer b = buffer; return b == null ? mass : BodyBuffer.get(b.mass, slot, mass);}
+    public float getRadius() {
+        BodyBuffer b = buffer;
+        return b == null ? radius : BodyBuffer.get(b.radius, slot, radius);
+    }
     public Globals.CollisionBehavior getCollisionBehavior() {return collisionBehavior;}
     public Globals.Color getBodyColor() {return color;}
     public float getFragFactor() {return fragFactor;}
@@ -252,9 +724,9 @@ public class Body {
     /**
      * Creates an instance with passed configuration
      *
-     * @param id                Every body should be created with a unique ID starting at zero with max < total
-     *                          bodies because this ID is also used as an id by the rendering engine. (The class
-     *                          does not enforce this)
+     * @param id                Every body should be created with a unique ID - e.g. from {@link #nextID} - because
+     *                          this ID is also used as an id by the rendering engine. (The class does not enforce
+     *                          this)
      * @param x                 Position
      * @param y                 "
      * @param z                 "
@@ -276,48 +748,154 @@ public class Body {
     public Body(int id, float x, float y, float z, float vx, float vy, float vz, float mass, float radius,
                 Globals.CollisionBehavior collisionBehavior, Globals.Color color, float fragFactor, float fragmentationStep,
                 boolean withTelemetry, String name, String clas, boolean pinned) {
+        lock = new ReentrantLock();
+        init(id, x, y, z, vx, vy, vz, mass, radius, collisionBehavior, color, fragFactor, fragmentationStep,
+                withTelemetry, name, clas, pinned);
+    }
+
+    /**
+     * Gets a body from the pool of bodies that were removed from the simulation - or creates a new body if the
+     * pool is empty - and initializes it with a new ID and the passed configuration. Intended for code that adds
+     * bodies to a running simulation. See {@link #Body} for a description of the params
+     *
+     * @return the body
+     */
+    public static Body obtain(float x, float y, float z, float vx, float vy, float vz, float mass, float radius,
+                              Globals.CollisionBehavior collisionBehavior, Globals.Color color, float fragFactor,
+                              float fragmentationStep, boolean withTelemetry, String name, String clas, boolean pinned) {
+        Body body = pool.acquire();
+        if (body == null) {
+            return new Body(nextID(), x, y, z, vx, vy, vz, mass, radius, collisionBehavior, color, fragFactor,
+                    fragmentationStep, withTelemetry, name, clas, pinned);
+        }
+        // the lock keeps a concurrent mod from landing on the re-used body - see mod(int, List)
+        body.lock.lock();
+        try {
+            ++body.generation;
+            body.init(nextID(), x, y, z, vx, vy, vz, mass, radius, collisionBehavior, color, fragFactor,
+                    fragmentationStep, withTelemetry, name, clas, pinned);
+        } finally {
+            body.lock.unlock();
+        }
+        return body;
+    }
+
+    /**
+     * Returns a body that has been removed from the simulation to the pool so {@link #obtain} can re-use it. Must
+     * only be called when nothing else will access the body as a simulation member - i.e. by the computation
+     * runner, a cycle after the body is removed from the {@link BodyStore}. If the body was in a sleeping island,
+     * the island is woken so that it lets go of the body. Code outside the runner may still hold a reference, so
+     * it must check the {@link #getGeneration generation} before using it - see {@link #snapshot} and
+     * {@link #mod(int, List)}
+     *
+     * @param body the body to recycle
+     */
+    static void release(Body body) {
+        ContactIsland island = body.island;
+        if (island != null) {
+            island.wakeRequested = true;
+        }
+        pool.release(body);
+    }
+
+    /**
+     * Sets all the instance state. Used by the constructor, and to re-use a pooled instance. See {@link #Body}
+     * for a description of the params
+     */
+    private void init(int id, float x, float y, float z, float vx, float vy, float vz, float mass, float radius,
+                      Globals.CollisionBehavior collisionBehavior, Globals.Color color, float fragFactor,
+                      float fragmentationStep, boolean withTelemetry, String name, String clas, boolean pinned) {
         exists      = true;
         this.id     = id;
-        this.x      = x;
-        this.y      = y;
-        this.z      = z;
-        this.vx     = vx;
-        this.vy     = vy;
-        this.vz     = vz;
-        this.mass   = mass;
-        this.radius = radius;
+        setX(x);
+        setY(y);
+        setZ(z);
+        setVx(vx);
+        setVy(vy);
+        setVz(vz);
+        setMass(mass);
+        setRadius(radius);
         this.collisionBehavior = collisionBehavior;
         this.color             = color;
         this.fragFactor        = fragFactor;
         this.fragmentationStep = fragmentationStep;
-        lock = new ReentrantLock();
         this.withTelemetry = withTelemetry;
         this.name = name;
         this.clas = clas;
         this.pinned = pinned;
+        collided = false;
+        fragmenting = false;
+        fragInfo = null;
+        isSun = false;
+        originId = -1;
+        memberCount = 1;
+        fx = fy = fz = 0;
+        tx = ty = tz = 0;
+        contactCount = 0;
+        deferredCount = 0;
+        random = null;
+        island = null;
+        if (contactCache != null) {
+            contactCache.clear();
+        }
+        quietCycles = islandIndex = islandStamp = 0;
+        lodInterval = 1;
+        lodWait = 0;
+        lodHold = ComputeLod.HOLD_CYCLES;
+        rendered = false;
+        slot = -1;
+        octreeLeaf = -1;
+        octreeNext = null;
+    }
+
+    /**
+     * @return the number of times this body has been re-used from the pool. Read it before matching a body
+     * found outside the computation runner, and pass it to {@link #mod(int, List)}
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Copies this body, so code outside the computation runner - e.g. the gRPC service - never holds a reference
+     * to a body that the runner might re-use from the pool
+     *
+     * @return the copy, or null if this body was re-used while it was being copied
+     */
+    public Body snapshot() {
+        int generation = this.generation;
+        Body copy = new Body(id, getX(), getY(), getZ(), getVx(), getVy(), getVz(), getMass(), getRadius(),
+                collisionBehavior, color, fragFactor, fragmentationStep, withTelemetry, name, clas, pinned);
+        copy.isSun = isSun;
+        return generation == this.generation ? copy : null;
     }
 
     /**
      * Modify body properties while the simulation is running
      *
-     * @param bodyMods the list of modifications to make
+     * @param generation the {@link #getGeneration generation} of this body when it was matched. If the body has
+     *                   since been re-used from the pool, nothing is modified
+     * @param bodyMods   the list of modifications to make
      *
      * @return true if the instance lock could be acquired and the mods made
      */
-    public boolean mod(List<BodyMod> bodyMods) {
+    public boolean mod(int generation, List<BodyMod> bodyMods) {
         boolean modified = false;
         if (tryLock()) {
             try {
+                if (generation != this.generation) {
+                    return false;
+                }
                 for (BodyMod bodyMod : bodyMods) {
                     switch (bodyMod.getMod()) {
-                        case X: x = bodyMod.getFloat(); break;
-                        case Y: y = bodyMod.getFloat(); break;
-                        case Z: z = bodyMod.getFloat(); break;
-                        case VX: vx = bodyMod.getFloat(); break;
-                        case VY: vy = bodyMod.getFloat(); break;
-                        case VZ: vz = bodyMod.getFloat(); break;
-                        case MASS: mass = bodyMod.getFloat(); break;
-                        case RADIUS: radius = bodyMod.getFloat(); break;
+                        case X: setX(bodyMod.getFloat()); break;
+                        case Y: setY(bodyMod.getFloat()); break;
+                        case Z: setZ(bodyMod.getFloat()); break;
+                        case VX: setVx(bodyMod.getFloat()); break;
+                        case VY: setVy(bodyMod.getFloat()); break;
+                        case VZ: setVz(bodyMod.getFloat()); break;
+                        case MASS: setMass(bodyMod.getFloat()); break;
+                        case RADIUS: setRadius(bodyMod.getFloat()); break;
                         // TODO MAYBE REMOVE THIS OTHERWISE HAS TO BE SUPPORTED IN JME BUT CURRENTLY NOT FUNCTIONAL
                         case SUN: isSun = bodyMod.getBoolean(); break;
                         case COLLISION: collisionBehavior = bodyMod.getCollision(); break;
@@ -328,7 +906,12 @@ public class Body {
                         case EXISTS: exists = bodyMod.getBoolean(); break;
                     }
                 }
+                writeState();
                 modified = true;
+                ContactIsland island = this.island;
+                if (island != null) {
+                    island.wakeRequested = true;
+                }
             } finally {
                 unlock();
             }
@@ -345,6 +928,13 @@ public class Body {
         return lock.tryLock();
     }
 
+    /**
+     * Acquires a lock on this instance, waiting for any other thread that holds it
+     */
+    void lock() {
+        lock.lock();
+    }
+
     /**
      * Releases the lock
      */
@@ -359,46 +949,75 @@ public class Body {
      * no concurrency control.
      *
      * @param timeScaling a smoothing factor. Larger numbers speed up the sim; smaller numbers slow it down
-     *
-     * @return see {@link BodyRenderInfo}
      */
-    BodyRenderInfo update(double timeScaling) {
+    void update(double timeScaling) {
         if (!exists) {
-            // creates an instance with exists=false so the graphics engine will remove it from the scene
-            return new BodyRenderInfo(id);
+            return;
         }
-        if (!collided) {
+        if (!collided && island == null) {
+            // members of a sleeping island are assigned the island velocity by the IslandManager.
             // the collision occurs in parallel with force computation so the force computation may not apply
             // to the velocity established by the collision calc. So - if this body collided, don't adjust the
             // velocity based on gravitational force. This is a fudge but - can't think of a better way to do it
-            vx += timeScaling * fx / mass;
-            vy += timeScaling * fy / mass;
-            vz += timeScaling * fz / mass;
+            float mass = getMass();
+            setVelocity((float) (getVx() + timeScaling * fx / mass), (float) (getVy() + timeScaling * fy / mass),
+                    (float) (getVz() + timeScaling * fz / mass));
+        }
+        setX((float) (getX() + (timeScaling * getVx() + tx)));
+        setY((float) (getY() + (timeScaling * getVy() + ty)));
+        setZ((float) (getZ() + (timeScaling * getVz() + tz)));
+        tx = ty = tz = 0;
+        if (collided) {
+            lodHold = ComputeLod.HOLD_CYCLES;
         }
-        x += timeScaling * vx;
-        y += timeScaling * vy;
-        z += timeScaling * vz;
         // clear collided flag for next cycle
         collided = false;
         if (withTelemetry) {
-            System.out.println(String.format("id:%d x:%f y:%f z:%f vx:%f vy:%f vz:%f m:%f r:%f", id, x, y, z,
-                    vx, vy, vz, mass, radius));
+            System.out.println(String.format("id:%d x:%f y:%f z:%f vx:%f vy:%f vz:%f m:%f r:%f", id, getX(), getY(),
+                    getZ(), getVx(), getVy(), getVz(), getMass(), getRadius()));
         }
-        if (Float.isNaN(x) || Float.isNaN(y) || Float.isNaN(z)) {
+        if (Float.isNaN(getX()) || Float.isNaN(getY()) || Float.isNaN(getZ())) {
             logger.error("NaN values. ID={} (removing from sim)", id);
             exists = false;
+            writeState();
         }
-        return getRenderInfo();
     }
 
     /**
-     * Returns a {@link BodyRenderInfo} instance with values populated with info needed to render the body
-     * by the graphics engine
+     * Writes the info needed to render this body to a result queue at the passed index. If the body no longer
+     * exists, it is written as not existing so the graphics engine will remove it from the scene. If the queue is a
+     * delta - see {@link ResultQueueHolder.ResultQueue#isFull} - then the body is only written if it is new, if its
+     * radius, color, or sun flag changed, or if it moved more than the passed distance since it was last written
+     * to a queue
+     *
+     * @param rq      the result queue for the current compute cycle
+     * @param i       the index to write the body at - see {@link ResultQueueHolder.ResultQueue#set}
+     * @param epsilon the distance a body has to move to be written to a delta queue
      *
-     * @return see {@link BodyRenderInfo}
+     * @return true if the body was written
      */
-    BodyRenderInfo getRenderInfo() {
-        return new BodyRenderInfo(id, x, y, z, radius, isSun, color);
+    boolean addTo(ResultQueueHolder.ResultQueue rq, int i, float epsilon) {
+        if (!exists) {
+            rq.setRemoved(i, id);
+            return true;
+        }
+        boolean attrs = rq.isFull() || !rendered || getRadius() != renderedRadius || isSun != renderedSun ||
+                color != renderedColor;
+        if (!attrs) {
+            float dx = getX() - renderedX, dy = getY() - renderedY, dz = getZ() - renderedZ;
+            if (dx * dx + dy * dy + dz * dz <= epsilon * epsilon) {
+                return false;
+            }
+        }
+        rq.set(i, id, getX(), getY(), getZ(), getRadius(), isSun, color, attrs);
+        rendered = true;
+        renderedX = getX();
+        renderedY = getY();
+        renderedZ = getZ();
+        renderedRadius = getRadius();
+        renderedSun = isSun;
+        renderedColor = color;
+        return true;
     }
 
     /**
@@ -415,19 +1034,40 @@ public class Body {
      */
     class ForceComputer implements Callable<Void> {
         /**
-         * A concurrent queue of bodies in the sim - including this one. Expectation is that this
-         * queue is changing while the force computation occurs - i.e. objects are being added
-         * and removed.
+         * The bodies in the sim - including this one. Bodies added during the force computation are staged by the
+         * store, so the bodies being iterated only change if another thread sets a body to not exist.
          */
-        private final ConcurrentLinkedQueue<Body> bodyQueue;
+        private final BodyStore bodyStore;
 
         /**
-         * Saves a ref to the passed body queue for the {@link #call} method
+         * If not null, an octree over the bodies that is used instead of visiting every other body
+         */
+        private final Octree octree;
+
+        /**
+         * If not null, a BVH over the bodies that is used instead of visiting every other body
+         */
+        private final Bvh bvh;
+
+        /**
+         * The time step the computation is preparing for. Used by continuous collision detection
+         */
+        private final float timeScaling;
+
+        /**
+         * Saves a ref to the passed body store for the {@link #call} method
          *
-         * @param bodyQueue the queue of bodies in the simulation
+         * @param bodyStore   the bodies in the simulation
+         * @param octree      an up-to-date octree over the bodies, or null
+         * @param bvh         an up-to-date BVH over the bodies, or null. If both this and {@code octree} are
+         *                    null, the force is computed from every other body directly
+         * @param timeScaling the time step that will be applied when the bodies are next updated
          */
-        ForceComputer(ConcurrentLinkedQueue<Body> bodyQueue) {
-            this.bodyQueue = bodyQueue;
+        ForceComputer(BodyStore bodyStore, Octree octree, Bvh bvh, float timeScaling) {
+            this.bodyStore = bodyStore;
+            this.octree = octree;
+            this.bvh = bvh;
+            this.timeScaling = timeScaling;
         }
 
         /**
@@ -440,20 +1080,36 @@ public class Body {
         @Override
         public Void call() {
             try {
+                contactCount = 0;
+                deferredCount = 0;
+                ContactIsland island = Body.this.island;
                 if (fragmenting) {
-                    fragment(bodyQueue);
+                    if (!deterministic) {
+                        fragment(bodyStore);
+                    }
+                } else if (island != null) {
+                    // a sleeping island moves as a unit, so only its representative computes force
+                    fx = fy = fz = 0;
+                    if (island.representative == Body.this) {
+                        calcIslandForce(bodyStore, island);
+                    }
                 } else {
                     fx = fy = fz = 0;
-                    for (Body otherBody : bodyQueue) {
-                        if (!exists || fragmenting) {
-                            break;
-                        }
-                        if (Body.this != otherBody && otherBody.exists && !otherBody.fragmenting) {
-                            metricBodyComputations.incValue();
-                            // calcForceFrom updates fx,fy,fz
-                            ForceCalcResult result = calcForceFrom(otherBody);
-                            if (result.collided) {
-                                resolveCollision(result.dist, otherBody);
+                    BodyBuffer offHeap = bodyStore.getOffHeap();
+                    if (octree != null) {
+                        calcForceFromTree(octree, timeScaling);
+                    } else if (bvh != null) {
+                        calcForceFromBvh(bvh, timeScaling);
+                    } else if (offHeap != null) {
+                        calcForceFromBuffer(bodyStore, offHeap, timeScaling);
+                    } else {
+                        for (Body otherBody : bodyStore) {
+                            if (!exists || fragmenting) {
+                                break;
+                            }
+                            if (Body.this != otherBody && otherBody.exists && !otherBody.fragmenting) {
+                                metricBodyComputations.incValue();
+                                interactWith(otherBody, timeScaling);
                             }
                         }
                     }
@@ -465,6 +1121,407 @@ public class Body {
         }
     }
 
+    /**
+     * Calculates the force on this body from another body and - if they collide - resolves or defers the
+     * collision
+     *
+     * @param otherBody   the other body
+     * @param timeScaling the upcoming time step
+     */
+    private void interactWith(Body otherBody, float timeScaling) {
+        // calcForceFrom updates fx,fy,fz
+        ForceCalcResult result = calcForceFrom(otherBody, timeScaling);
+        if (result.collided) {
+            if (deterministic) {
+                deferCollision(result.dist, result.toi, otherBody);
+            } else {
+                resolveCollision(result.dist, result.toi, otherBody);
+            }
+        }
+    }
+
+    /**
+     * Calculates the force on this body from all other bodies, reading the values of both bodies from the
+     * off-heap buffer, which holds them. Most pairs are far apart, so the gravitational force is computed from the
+     * buffer alone. Only for pairs that overlap - or that continuous collision detection finds will touch in the
+     * upcoming time step - is the other body object looked up and the pair handled by {@link #interactWith},
+     * exactly as if the buffer were not in use. A collision can move this body, so its own values are re-read
+     * from its slot after each such pair.
+     *
+     * @param bodyStore   the bodies in the simulation
+     * @param buffer      the body values, indexed by body store slot
+     * @param timeScaling the upcoming time step
+     */
+    private void calcForceFromBuffer(BodyStore bodyStore, BodyBuffer buffer, float timeScaling) {
+        FloatBuffer bx = buffer.x, by = buffer.y, bz = buffer.z, bmass = buffer.mass, bradius = buffer.radius;
+        FloatBuffer bstate = buffer.state;
+        int count = buffer.count;
+        int self = slot;
+        float x = bx.get(self), y = by.get(self), z = bz.get(self), mass = bmass.get(self), radius = bradius.get(self);
+        boolean swept = continuousCollisionDetection && collisionBehavior != Globals.CollisionBehavior.NONE;
+        for (int i = 0; i < count; ++i) {
+            if (!exists || fragmenting) {
+                break;
+            }
+            float state = bstate.get(i);
+            if (i == self || state == BodyBuffer.SKIP) {
+                continue;
+            }
+            metricBodyComputations.incValue();
+            float dx = bx.get(i) - x;
+            float dy = by.get(i) - y;
+            float dz = bz.get(i) - z;
+            float dist = (float) Math.sqrt(dx*dx + dy*dy + dz*dz);
+            float otherRadius = bradius.get(i);
+            boolean contact = dist <= (radius + otherRadius);
+            if (!contact && swept && !collided && state == BodyBuffer.COLLIDES) {
+                contact = timeOfImpact(buffer.vx.get(i), buffer.vy.get(i), buffer.vz.get(i), otherRadius, dx, dy, dz,
+                        dist, timeScaling) >= 0;
+            }
+            if (contact) {
+                Body otherBody = bodyStore.get(i);
+                if (otherBody != null && otherBody.exists && !otherBody.fragmenting) {
+                    interactWith(otherBody, timeScaling);
+                    x = bx.get(self);
+                    y = by.get(self);
+                    z = bz.get(self);
+                    mass = bmass.get(self);
+                    radius = bradius.get(self);
+                }
+            } else {
+                double force = (G * mass * bmass.get(i)) / (dist * dist);
+                fx += force * dx / dist;
+                fy += force * dy / dist;
+                fz += force * dz / dist;
+            }
+        }
+    }
+
+    /**
+     * Calculates the force on this body by walking an octree - the Barnes-Hut approximation. A node is treated
+     * as a single mass at its center of mass if it is far enough away relative to its size - as determined by the
+     * opening angle - and none of its bodies can touch this body within the time step. Otherwise its children
+     * are visited, and the bodies in the leaves that are reached are handled by {@link #interactWith} exactly as
+     * in the direct computation. So collisions, contacts, and the force between nearby bodies are unaffected by
+     * the approximation.
+     *
+     * @param octree      the tree, with its moments and bounds up to date
+     * @param timeScaling the upcoming time step
+     */
+    private void calcForceFromTree(Octree octree, float timeScaling) {
+        int[] stack = octreeStack.get();
+        int top = 0;
+        stack[top++] = 0;
+        float theta = octree.getTheta();
+        boolean swept = continuousCollisionDetection && collisionBehavior != Globals.CollisionBehavior.NONE;
+        float speed = swept ? (float) Math.sqrt(getVx() * getVx() + getVy() * getVy() + getVz() * getVz()) : 0;
+        while (top > 0) {
+            if (!exists || fragmenting) {
+                break;
+            }
+            int n = stack[--top];
+            if (octree.bodyCount[n] == 0) {
+                continue;
+            }
+            if (octree.firstChild[n] < 0) {
+                for (Body otherBody = octree.head[n]; otherBody != null; otherBody = otherBody.octreeNext) {
+                    if (!exists || fragmenting) {
+                        break;
+                    }
+                    if (this != otherBody && otherBody.exists && !otherBody.fragmenting) {
+                        metricBodyComputations.incValue();
+                        interactWith(otherBody, timeScaling);
+                    }
+                }
+                continue;
+            }
+            double dx = octree.comX[n] - getX();
+            double dy = octree.comY[n] - getY();
+            double dz = octree.comZ[n] - getZ();
+            double dist2 = dx * dx + dy * dy + dz * dz;
+            float size = Math.max(octree.maxX[n] - octree.minX[n],
+                    Math.max(octree.maxY[n] - octree.minY[n], octree.maxZ[n] - octree.minZ[n]));
+            float margin = swept ? getRadius() + (speed + octree.maxSpeed[n]) * timeScaling : getRadius();
+            if ((double) size * size < theta * theta * dist2 && !octree.mayTouch(n, getX(), getY(), getZ(), margin)) {
+                metricBodyComputations.incValue();
+                double dist = Math.sqrt(dist2);
+                double force = (G * getMass() * octree.mass[n]) / dist2;
+                fx += force * dx / dist;
+                fy += force * dy / dist;
+                fz += force * dz / dist;
+            } else {
+                for (int c = octree.firstChild[n] + 7; c >= octree.firstChild[n]; --c) {
+                    stack[top++] = c;
+                }
+            }
+        }
+    }
+
+    /**
+     * Calculates the force on this body by walking a BVH. The same as {@link #calcForceFromTree} except for the
+     * shape of the hierarchy: a node that is far enough away relative to its size, and none of whose bodies can
+     * touch this body within the time step, is treated as a single mass. Otherwise its two children are visited,
+     * and the bodies in the leaves that are reached are handled by {@link #interactWith}.
+     *
+     * @param bvh         the hierarchy, with its moments and bounds up to date
+     * @param timeScaling the upcoming time step
+     */
+    private void calcForceFromBvh(Bvh bvh, float timeScaling) {
+        int[] stack = bvhStack.get();
+        int top = 0;
+        stack[top++] = 0;
+        float theta = bvh.getTheta();
+        boolean swept = continuousCollisionDetection && collisionBehavior != Globals.CollisionBehavior.NONE;
+        float speed = swept ? (float) Math.sqrt(getVx() * getVx() + getVy() * getVy() + getVz() * getVz()) : 0;
+        while (top > 0) {
+            if (!exists || fragmenting) {
+                break;
+            }
+            int n = stack[--top];
+            if (bvh.bodyCount[n] == 0) {
+                continue;
+            }
+            if (bvh.firstChild[n] < 0) {
+                for (int i = bvh.first[n]; i < bvh.first[n] + bvh.count[n]; ++i) {
+                    if (!exists || fragmenting) {
+                        break;
+                    }
+                    Body otherBody = bvh.bodies[i];
+                    if (this != otherBody && otherBody.exists && !otherBody.fragmenting) {
+                        metricBodyComputations.incValue();
+                        interactWith(otherBody, timeScaling);
+                    }
+                }
+                continue;
+            }
+            double dx = bvh.comX[n] - getX();
+            double dy = bvh.comY[n] - getY();
+            double dz = bvh.comZ[n] - getZ();
+            double dist2 = dx * dx + dy * dy + dz * dz;
+            float size = Math.max(bvh.maxX[n] - bvh.minX[n],
+                    Math.max(bvh.maxY[n] - bvh.minY[n], bvh.maxZ[n] - bvh.minZ[n]));
+            float margin = swept ? getRadius() + (speed + bvh.maxSpeed[n]) * timeScaling : getRadius();
+            if ((double) size * size < theta * theta * dist2 && !bvh.mayTouch(n, getX(), getY(), getZ(), margin)) {
+                metricBodyComputations.incValue();
+                double dist = Math.sqrt(dist2);
+                double force = (G * getMass() * bvh.mass[n]) / dist2;
+                fx += force * dx / dist;
+                fy += force * dy / dist;
+                fz += force * dz / dist;
+            } else {
+                stack[top++] = bvh.firstChild[n] + 1;
+                stack[top++] = bvh.firstChild[n];
+            }
+        }
+    }
+
+    /**
+     * Moves this body's position, velocity, mass, and radius out of the fields and into its slot in the off-heap
+     * buffer, which holds them from then on - the fields go stale. Called by the {@link BodyStore} when it places
+     * the body in a slot
+     *
+     * @param buffer the buffer
+     */
+    void attach(BodyBuffer buffer) {
+        lock.lock();
+        try {
+            int i = slot;
+            buffer.x.put(i, x);
+            buffer.y.put(i, y);
+            buffer.z.put(i, z);
+            buffer.vx.put(i, vx);
+            buffer.vy.put(i, vy);
+            buffer.vz.put(i, vz);
+            buffer.mass.put(i, mass);
+            buffer.radius.put(i, radius);
+            this.buffer = buffer;
+            writeState();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves this body's values out of its slot in the off-heap buffer and back into the fields, and marks the
+     * slot as empty. Called by the {@link BodyStore} when it takes the body out of its slot. Does nothing if the
+     * values are already in the fields
+     */
+    void detach() {
+        lock.lock();
+        try {
+            BodyBuffer buffer = this.buffer;
+            if (buffer == null) {
+                return;
+            }
+            int i = slot;
+            x = buffer.x.get(i);
+            y = buffer.y.get(i);
+            z = buffer.z.get(i);
+            vx = buffer.vx.get(i);
+            vy = buffer.vy.get(i);
+            vz = buffer.vz.get(i);
+            mass = buffer.mass.get(i);
+            radius = buffer.radius.get(i);
+            this.buffer = null;
+            buffer.clear(i);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes whether - and how - this body takes part in the force computation to its slot in the off-heap
+     * buffer. Called whenever anything the state is derived from changes
+     */
+    private void writeState() {
+        BodyBuffer buffer = this.buffer;
+        if (buffer != null) {
+            buffer.state.put(slot, !exists || fragmenting ? BodyBuffer.SKIP :
+                    collisionBehavior == Globals.CollisionBehavior.NONE ? BodyBuffer.PASSES_THROUGH :
+                    BodyBuffer.COLLIDES);
+        }
+    }
+
+    /**
+     * Records a collision detected by this body's force computer for serial resolution by
+     * {@link #resolveDeferredCollisions}
+     *
+     * @param dist      distance between bodies
+     * @param toi       time of impact within the time step
+     * @param otherBody the other body
+     */
+    private void deferCollision(float dist, float toi, Body otherBody) {
+        if (deferredCount == deferred.length) {
+            int len = Math.max(deferredCount * 2, 4);
+            deferred = Arrays.copyOf(deferred, len);
+            deferredDist = Arrays.copyOf(deferredDist, len);
+            deferredToi = Arrays.copyOf(deferredToi, len);
+        }
+        deferred[deferredCount] = otherBody;
+        deferredDist[deferredCount] = dist;
+        deferredToi[deferredCount++] = toi;
+    }
+
+    /**
+     * @return the number of collisions deferred by the most recent force computation
+     */
+    int getDeferredCollisionCount() {
+        return deferredCount;
+    }
+
+    /**
+     * Resolves the collisions deferred by the most recent force computation, in the order they were detected,
+     * applying the same rules the force computer applies when it resolves collisions directly: a body only
+     * collides once per cycle, and bodies that no longer exist or are fragmenting are skipped. Called in
+     * deterministic mode by the computation runner - for each body in ID order - after the force computation
+     * completes. Since that runs in one thread, the order in which collisions are resolved, and therefore the
+     * result, doesn't depend on thread scheduling.
+     */
+    void resolveDeferredCollisions() {
+        for (int i = 0; i < deferredCount; ++i) {
+            Body otherBody = deferred[i];
+            deferred[i] = null;
+            if (exists && !fragmenting && !collided && otherBody.exists && !otherBody.fragmenting) {
+                resolveCollision(deferredDist[i], deferredToi[i], otherBody);
+            }
+        }
+        deferredCount = 0;
+    }
+
+    /**
+     * In deterministic mode, fragmentation creates bodies so it is performed by the computation runner in one
+     * thread - rather than by the force computer - so that the fragments are staged, and get their IDs, in a
+     * repeatable order
+     *
+     * @param bodyStore to add fragments into
+     */
+    void fragmentDeferred(BodyStore bodyStore) {
+        if (fragmenting) {
+            fragment(bodyStore);
+        }
+    }
+
+    /**
+     * @return this body's random number stream, created from the sim seed and this body's ID on first use. See
+     * {@link SimRandom#forBody}
+     */
+    private SplittableRandom random() {
+        if (random == null) {
+            random = SimRandom.forBody(id);
+        }
+        return random;
+    }
+
+    /**
+     * Calculates the gravitational force on a sleeping island from all bodies outside the island, treating the
+     * island as a point mass at its center of mass. Requests that the island be woken if any outside body
+     * touches a member.
+     *
+     * @param bodyStore the bodies in the simulation
+     * @param island    the island this body represents
+     */
+    private void calcIslandForce(BodyStore bodyStore, ContactIsland island) {
+        double cx = getX() + island.ox;
+        double cy = getY() + island.oy;
+        double cz = getZ() + island.oz;
+        double ifx = 0, ify = 0, ifz = 0;
+        for (Body otherBody : bodyStore) {
+            if (otherBody.island == island || !otherBody.exists) {
+                continue;
+            }
+            double dx = otherBody.getX() - cx;
+            double dy = otherBody.getY() - cy;
+            double dz = otherBody.getZ() - cz;
+            double dist = Math.sqrt(dx * dx + dy * dy + dz * dz);
+            if (dist <= island.boundRadius + otherBody.getRadius() && otherBody.touchesAny(island.members)) {
+                island.wakeRequested = true;
+                break;
+            }
+            double force = (G * island.mass * otherBody.getMass()) / (dist * dist);
+            ifx += force * dx / dist;
+            ify += force * dy / dist;
+            ifz += force * dz / dist;
+        }
+        island.fx = ifx;
+        island.fy = ify;
+        island.fz = ifz;
+    }
+
+    /**
+     * @param bodies the bodies to check
+     *
+     * @return true if this body overlaps any of the passed bodies
+     */
+    private boolean touchesAny(List<Body> bodies) {
+        for (Body body : bodies) {
+            float dx = body.getX() - getX();
+            float dy = body.getY() - getY();
+            float dz = body.getZ() - getZ();
+            float r12 = getRadius() + body.getRadius();
+            if (dx * dx + dy * dy + dz * dz <= r12 * r12) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Records that this body overlaps another body. If the other body is a member of a sleeping island, then
+     * this is a new contact, so the island is woken
+     *
+     * @param otherBody the other body
+     */
+    private void recordContact(Body otherBody) {
+        if (contactCount == contacts.length) {
+            contacts = Arrays.copyOf(contacts, Math.max(contactCount * 2, 4));
+        }
+        contacts[contactCount++] = otherBody;
+        ContactIsland otherIsland = otherBody.island;
+        if (otherIsland != null) {
+            otherIsland.wakeRequested = true;
+        }
+    }
+
     /**
      * Subsumes another body into this body.
      *
@@ -487,7 +1544,7 @@ public class Body {
      * @param otherBody the other body to subsume into this body
      */
     private void subsume(float dist, Body otherBody) {
-        if (dist + otherBody.radius >= radius * 1.2) {
+        if (dist + otherBody.getRadius() >= getRadius() * 1.2) {
             // only if  most of the other body is inside this body
             return;
         }
@@ -498,8 +1555,8 @@ public class Body {
             try {
                 otherLock = otherBody.tryLock();
                 if (otherLock) {
-                    thisMass = mass;
-                    otherMass = otherBody.mass;
+                    thisMass = getMass();
+                    otherMass = otherBody.getMass();
                     // TODO:
                     // If I allow the radius to grow it occasionally causes a runaway condition in which a body
                     // swallows the entire simulation. Need to figure this out
@@ -511,7 +1568,7 @@ public class Body {
                     //radius = newRadius;
                     radius *= 1.2D; // ?
                     */
-                    mass = thisMass + otherMass;
+                    setMass(thisMass + otherMass);
                     otherBody.setNotExists();
                     subsumed = true;
                 }
@@ -530,45 +1587,122 @@ public class Body {
     /**
      * Calculates force on this body from another body. If the bodies collide, resolves the collision
      *
-     * @param otherBody the other body to calculate force from
+     * @param otherBody   the other body to calculate force from
+     * @param timeScaling the upcoming time step - used only for continuous collision detection
      */
-    private ForceCalcResult calcForceFrom(Body otherBody) {
-        float dx = otherBody.x - x;
-        float dy = otherBody.y - y;
-        float dz = otherBody.z - z;
+    private ForceCalcResult calcForceFrom(Body otherBody, float timeScaling) {
+        float dx, dy, dz, reach, mass, otherMass;
+        if (buffer == null && otherBody.buffer == null) {
+            // this runs for every pair, so the common case - both bodies hold their values in their fields - is
+            // read without going through the getters, which check for the off-heap buffer value by value
+            dx = otherBody.x - x;
+            dy = otherBody.y - y;
+            dz = otherBody.z - z;
+            reach = radius + otherBody.radius;
+            mass = this.mass;
+            otherMass = otherBody.mass;
+        } else {
+            dx = otherBody.getX() - getX();
+            dy = otherBody.getY() - getY();
+            dz = otherBody.getZ() - getZ();
+            reach = getRadius() + otherBody.getRadius();
+            mass = getMass();
+            otherMass = otherBody.getMass();
+        }
         float dist = (float) Math.sqrt(dx*dx + dy*dy + dz*dz);
+        if (trackContacts && dist <= reach &&
+                collisionBehavior != Globals.CollisionBehavior.NONE &&
+                otherBody.collisionBehavior != Globals.CollisionBehavior.NONE) {
+            recordContact(otherBody);
+        }
         // Only allow one collision per body per cycle. Once a collision happens, continue to apply gravitational
         // force to the collided body. Allowing a body to collide multiple times caused odd things to happen
         // when many bodies were tightly compacted (not sure why) and it also impacts performance - the collision
         // calculation is expensive. This is a compromise
-        if (collided || dist > (radius + otherBody.radius)) {
-            double force = (G * mass * otherBody.mass) / (dist * dist);
+        if (collided || dist > reach) {
+            if (!collided && continuousCollisionDetection && collisionBehavior != Globals.CollisionBehavior.NONE &&
+                    otherBody.collisionBehavior != Globals.CollisionBehavior.NONE) {
+                float toi = timeOfImpact(otherBody.getVx(), otherBody.getVy(), otherBody.getVz(), otherBody.getRadius(),
+                        dx, dy, dz, dist, timeScaling);
+                if (toi >= 0) {
+                    logger.info("swept collision: distance: {} -- time of impact {} -- this id: {} -- other id: {}",
+                            dist, toi, id, otherBody.id);
+                    return ForceCalcResult.sweptCollision(dist, toi);
+                }
+            }
+            double force = (G * mass * otherMass) / (dist * dist);
             // only one thread at a time will ever modify force values. If either this or other body
             // were subsumed and mass set to zero then the result will be a NOP here
             fx += force * dx / dist;
             fy += force * dy / dist;
             fz += force * dz / dist;
-        } else if (dist <= (radius + otherBody.radius)) {
+        } else if (dist <= reach) {
             logger.info("collision: distance: {} -- this radius {}: -- other radius: {} -- this id: {} -- other id: {}",
-                    dist, radius, otherBody.radius, id, otherBody.id);
+                    dist, getRadius(), otherBody.getRadius(), id, otherBody.id);
             return ForceCalcResult.collision(dist);
         }
         return ForceCalcResult.noCollision();
     }
 
+    /**
+     * Swept-sphere test. Determines whether this body and another body - which do not currently overlap -
+     * will come into contact within the upcoming time step, assuming each moves in a straight line at its
+     * current velocity.
+     *
+     * @param ovx         x velocity of the other body
+     * @param ovy         y "
+     * @param ovz         z "
+     * @param oradius     radius of the other body
+     * @param dx          x distance from this body to the other body
+     * @param dy          y "
+     * @param dz          z "
+     * @param dist        distance between the bodies
+     * @param timeScaling the time step
+     *
+     * @return the time within the step - from zero to {@code timeScaling} - at which the bodies first touch,
+     * or -1 if they don't touch within the step
+     */
+    private float timeOfImpact(float ovx, float ovy, float ovz, float oradius, float dx, float dy, float dz,
+                               float dist, float timeScaling) {
+        // relative displacement of the other body over the full step
+        double wx = (ovx - getVx()) * (double) timeScaling;
+        double wy = (ovy - getVy()) * (double) timeScaling;
+        double wz = (ovz - getVz()) * (double) timeScaling;
+        double pw = dx * wx + dy * wy + dz * wz;
+        if (pw >= 0) {
+            // moving apart
+            return -1;
+        }
+        double ww = wx * wx + wy * wy + wz * wz;
+        double r12 = getRadius() + oradius;
+        double gap = dist - r12;
+        if (gap * gap > ww) {
+            // can't close the gap in one step
+            return -1;
+        }
+        // solve |p + w*s| = r12 for the earlier root, with s the fraction of the step
+        double disc = pw * pw - ww * ((double) dist * dist - r12 * r12);
+        if (disc < 0) {
+            return -1;
+        }
+        double s = (-pw - Math.sqrt(disc)) / ww;
+        return s >= 0 && s <= 1 ? (float) (s * timeScaling) : -1;
+    }
+
     /**
      * Resolves collisions between two bodies according to the {@link #collisionBehavior}
      * field. If collision type is NONE, then nothing happens and the bodies pass through each other. While
      * impossible in the real world, it provides some interesting effects.
      *
      * @param dist      distance between bodies
+     * @param toi       time of impact within the time step. Zero if the bodies already overlap
      * @param otherBody the other body being collided with
      */
-    private void resolveCollision(float dist, Body otherBody) {
+    private void resolveCollision(float dist, float toi, Body otherBody) {
         if (collisionBehavior == Globals.CollisionBehavior.SUBSUME ||
                 otherBody.collisionBehavior == Globals.CollisionBehavior.SUBSUME) {
             // arbitrarily, larger bodies always subsume smaller bodies
-            if (radius > otherBody.radius) {
+            if (getRadius() > otherBody.getRadius()) {
                 subsume(dist, otherBody);
             } else {
                 otherBody.subsume(dist, this);
@@ -576,7 +1710,22 @@ public class Body {
         } else if ((collisionBehavior == Globals.CollisionBehavior.ELASTIC || collisionBehavior == Globals.CollisionBehavior.FRAGMENT)
                 && (otherBody.collisionBehavior == Globals.CollisionBehavior.ELASTIC ||
                 otherBody.collisionBehavior == Globals.CollisionBehavior.FRAGMENT)) {
-            CollisionCalcResult r = calcElasticCollision(otherBody);
+            ContactCache cache = toi == 0 ? contactCache() : null;
+            CollisionCalcResult r = cache == null ? null : collisionFromContactCache(cache, dist, otherBody);
+            if (r == null) {
+                r = calcCollision(otherBody);
+                if (cache != null) {
+                    if (r.collided) {
+                        // the velocity change of this body is directed away from the other body, along the normal
+                        cacheContact(cache, otherBody, getVx() - (float) r.vx1, getVy() - (float) r.vy1,
+                                getVz() - (float) r.vz1);
+                    } else {
+                        // overlapping but already moving apart
+                        cacheContact(cache, otherBody, otherBody.getX() - getX(), otherBody.getY() - getY(),
+                                otherBody.getZ() - getZ());
+                    }
+                }
+            }
             if (r.collided) {
                 if (tryLock()) {
                     boolean otherLock = false;
@@ -587,7 +1736,7 @@ public class Body {
                             if (fr.shouldFragment) {
                                 doFragment(otherBody, fr);
                             } else {
-                                doElastic(otherBody, r);
+                                doElastic(otherBody, r, toi);
                             }
                         }
                     } finally {
@@ -605,20 +1754,255 @@ public class Body {
     }
 
     /**
-     * Updates velocity in each instance and sets the collided flag
+     * @return this body's contact cache, or null if the cache is disabled
+     */
+    private ContactCache contactCache() {
+        if (!ContactCache.isEnabled()) {
+            return null;
+        }
+        if (contactCache == null) {
+            contactCache = new ContactCache();
+        }
+        return contactCache;
+    }
+
+    /**
+     * Resolves an overlapping pair of bodies from the contact cache, without running the collision solver. On a
+     * hit - the pair was in contact recently, and the line between their centers is still close to the cached
+     * normal - the bodies are either moving apart, which is the same test the solvers make and needs no normal,
+     * or they are approaching, and the impulse is applied along the cached normal rather than along a normal
+     * solved for from the relative velocity. Otherwise the solver has to run
+     *
+     * @param cache     this body's contact cache
+     * @param dist      the distance between the bodies
+     * @param otherBody the other body
+     *
+     * @return the result, which is only valid until this thread's next collision calculation - or null on a miss
+     */
+    private CollisionCalcResult collisionFromContactCache(ContactCache cache, float dist, Body otherBody) {
+        int entry = cache.find(otherBody.id);
+        if (entry < 0) {
+            ContactCache.miss();
+            return null;
+        }
+        double nx = cache.normalX(entry), ny = cache.normalY(entry), nz = cache.normalZ(entry);
+        // same arithmetic as calcImpulseCollision
+        double px = otherBody.getX() - getX(), py = otherBody.getY() - getY(), pz = otherBody.getZ() - getZ();
+        if (px * nx + py * ny + pz * nz < CONTACT_NORMAL_ALIGNMENT * dist) {
+            ContactCache.miss();
+            return null;
+        }
+        double vx1 = getVx(), vy1 = getVy(), vz1 = getVz();
+        double vx2 = otherBody.getVx(), vy2 = otherBody.getVy(), vz2 = otherBody.getVz();
+        double ux = vx1 - vx2, uy = vy1 - vy2, uz = vz1 - vz2;
+        CollisionCalcResult r = collisionScratch.get();
+        if (px * ux + py * uy + pz * uz < 0) {
+            ContactCache.hit();
+            cache.refresh(entry);
+            if (collisionSolver == CollisionSolver.PLASMA) {
+                logger.info("Bodies do not collide. This id: {} -- other id: {}", id, otherBody.id);
+            }
+            return r.clear();
+        }
+        double un = ux * nx + uy * ny + uz * nz;
+        if (un <= 0) {
+            // approaching, but not along the cached normal
+            ContactCache.miss();
+            return null;
+        }
+        ContactCache.hit();
+        cache.refresh(entry);
+        double m1 = getMass(), m2 = otherBody.getMass(), msum = m1 + m2;
+        double dv2 = 2 * m1 * un / msum;
+        double dv1 = dv2 * m2 / m1;
+        return r.set(
+                vx1 - dv1 * nx, vy1 - dv1 * ny, vz1 - dv1 * nz,
+                vx2 + dv2 * nx, vy2 + dv2 * ny, vz2 + dv2 * nz,
+                (m1 * vx1 + m2 * vx2) / msum, (m1 * vy1 + m2 * vy2) / msum, (m1 * vz1 + m2 * vz2) / msum);
+    }
+
+    /**
+     * Records a contact with another body in this body's contact cache
+     *
+     * @param cache     this body's contact cache
+     * @param otherBody the other body
+     * @param nx        the contact normal, from this body toward the other body. Need not be a unit vector
+     * @param ny        "
+     * @param nz        "
+     */
+    private void cacheContact(ContactCache cache, Body otherBody, float nx, float ny, float nz) {
+        float len = (float) Math.sqrt(nx * nx + ny * ny + nz * nz);
+        if (len > 0) {
+            cache.record(otherBody.id, nx / len, ny / len, nz / len);
+        }
+    }
+
+    /**
+     * Updates velocity in each instance and sets the collided flag. If the collision occurs part way through
+     * the time step, also records the position correction so each body only travels at its new velocity
+     * for the remainder of the step
      *
      * @param otherBody the other body this body is colliding with
      * @param r         the result of the elastic collision calc that establishes new velocities for
      *                  colliding bodies
+     * @param toi       time of impact within the time step
      */
-    private void doElastic(Body otherBody, CollisionCalcResult r) {
-        vx = (float) ((r.vx1 - r.vx_cm) * R + r.vx_cm);
-        vy = (float) ((r.vy1 - r.vy_cm) * R + r.vy_cm);
-        vz = (float) ((r.vz1 - r.vz_cm) * R + r.vz_cm);
-        otherBody.vx = (float) ((r.vx2 - r.vx_cm) * R + r.vx_cm);
-        otherBody.vy = (float) ((r.vy2 - r.vy_cm) * R + r.vy_cm);
-        otherBody.vz = (float) ((r.vz2 - r.vz_cm) * R + r.vz_cm);
+    private void doElastic(Body otherBody, CollisionCalcResult r, float toi) {
+        float vx1 = getVx(), vy1 = getVy(), vz1 = getVz();
+        float vx2 = otherBody.getVx(), vy2 = otherBody.getVy(), vz2 = otherBody.getVz();
+        setVx((float) ((r.vx1 - r.vx_cm) * R + r.vx_cm));
+        setVy((float) ((r.vy1 - r.vy_cm) * R + r.vy_cm));
+        setVz((float) ((r.vz1 - r.vz_cm) * R + r.vz_cm));
+        otherBody.setVx((float) ((r.vx2 - r.vx_cm) * R + r.vx_cm));
+        otherBody.setVy((float) ((r.vy2 - r.vy_cm) * R + r.vy_cm));
+        otherBody.setVz((float) ((r.vz2 - r.vz_cm) * R + r.vz_cm));
         collided = otherBody.collided = true;
+        if (toi > 0) {
+            tx = (vx1 - getVx()) * toi;
+            ty = (vy1 - getVy()) * toi;
+            tz = (vz1 - getVz()) * toi;
+            otherBody.tx = (vx2 - otherBody.getVx()) * toi;
+            otherBody.ty = (vy2 - otherBody.getVy()) * toi;
+            otherBody.tz = (vz2 - otherBody.getVz()) * toi;
+        }
+        if (memberCount > 1 && velocityChangeExceeds(vx1 - getVx(), vy1 - getVy(), vz1 - getVz(), coarseningVelocity)) {
+            initiateSplit();
+        }
+        if (otherBody.memberCount > 1 && velocityChangeExceeds(vx2 - otherBody.getVx(), vy2 - otherBody.getVy(),
+                vz2 - otherBody.getVz(), coarseningVelocity)) {
+            otherBody.initiateSplit();
+        }
+    }
+
+    /**
+     * @return true if the magnitude of the passed velocity change is greater than the passed threshold
+     */
+    private static boolean velocityChangeExceeds(float dvx, float dvy, float dvz, float threshold) {
+        return (double) dvx * dvx + (double) dvy * dvy + (double) dvz * dvz > (double) threshold * threshold;
+    }
+
+    /**
+     * Splits a super-particle back into the fragments it represents, because a collision disturbed it too much
+     * for its fragments to be treated as moving together. Uses the fragmentation mechanism, so the fragments
+     * are released over one or more cycles by {@link #fragment}
+     */
+    private void initiateSplit() {
+        fragmenting = true;
+        writeState();
+        float newRadius = (float) (getRadius() / Math.cbrt(memberCount));
+        fragInfo = new FragInfo(getRadius(), newRadius, getMass() / memberCount, memberCount - 1,
+                new SimpleVector(getX(), getY(), getZ()));
+        logger.info("Super-particle ID {} splitting into {} fragments", id, memberCount);
+    }
+
+    /**
+     * Runs the elastic collision calculation with the solver selected by {@link #collisionSolver}
+     *
+     * @param otherBody the other body being collided with
+     *
+     * @return the result of the calculation. For the IMPULSE solver, this is a per-thread instance that is
+     * only valid until the thread's next collision calculation
+     */
+    private CollisionCalcResult calcCollision(Body otherBody) {
+        switch (collisionSolver) {
+            case IMPULSE:
+                return calcImpulseCollision(otherBody, collisionScratch.get());
+            case CROSSCHECK:
+                return crossCheckCollision(otherBody);
+            case PLASMA:
+            default:
+                return calcElasticCollision(otherBody);
+        }
+    }
+
+    /**
+     * Runs both elastic collision solvers on the same collision, records the time taken by each, and
+     * compares the results. Disagreements are counted and logged. The original solver logs its early exits,
+     * which can take far longer than the calculation itself, so it runs with that logging off.
+     *
+     * @param otherBody the other body being collided with
+     *
+     * @return the result of the original solver
+     */
+    private CollisionCalcResult crossCheckCollision(Body otherBody) {
+        long start = System.nanoTime();
+        CollisionCalcResult plasma = calcElasticCollision(otherBody, false);
+        long plasmaNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        CollisionCalcResult impulse = calcImpulseCollision(otherBody, collisionScratch.get());
+        long impulseNanos = System.nanoTime() - start;
+        metricPlasmaSolverNanos.setValue(plasmaNanos);
+        metricImpulseSolverNanos.setValue(impulseNanos);
+        if (!plasma.matches(impulse)) {
+            metricSolverMismatchCount.incValue();
+            logger.warn("Collision solvers disagree. This id: {} -- other id: {} -- plasma: {} -- impulse: {}",
+                    id, otherBody.id, plasma, impulse);
+        }
+        return plasma;
+    }
+
+    /**
+     * Resolves an elastic collision with another body using vector math only. Produces the same result
+     * as {@link #calcElasticCollision} without the transcendental function calls, and without allocating.
+     *
+     * <p>Like the original solver, this finds the point along the relative velocity where the two spheres were
+     * (or will be) exactly touching, and treats the line between the centers at that point as the contact
+     * normal. In the frame where the other body is at rest, the other body receives all of this body's velocity
+     * component along the normal, scaled by the mass ratio, and this body keeps the remainder. Restitution is
+     * not applied here - it is applied when the velocities are assigned in {@link #doElastic} - so the results
+     * of the two solvers are directly comparable.</p>
+     *
+     * @param otherBody the other body being collided with
+     * @param r         receives the result
+     *
+     * @return the passed {@code r} param
+     */
+    CollisionCalcResult calcImpulseCollision(Body otherBody, CollisionCalcResult r) {
+        double m1 = getMass();
+        double m2 = otherBody.getMass();
+        double r12 = getRadius() + otherBody.getRadius();
+        double vx1 = getVx(), vy1 = getVy(), vz1 = getVz();
+        double vx2 = otherBody.getVx(), vy2 = otherBody.getVy(), vz2 = otherBody.getVz();
+
+        // position of the other body relative to this body, and velocity of this body relative to the other
+        double px = otherBody.getX() - getX();
+        double py = otherBody.getY() - getY();
+        double pz = otherBody.getZ() - getZ();
+        double ux = vx1 - vx2;
+        double uy = vy1 - vy2;
+        double uz = vz1 - vz2;
+
+        double uu = ux * ux + uy * uy + uz * uz;
+        if (uu == 0) {
+            return r.clear();
+        }
+        // if this body is moving away from the other body, they don't collide
+        double pu = px * ux + py * uy + pz * uz;
+        if (pu < 0) {
+            return r.clear();
+        }
+        // solve |p - u*t| = r12 for the earlier root: the time at which the spheres touch. If there is no
+        // solution then the relative path misses (the normalized impact parameter is greater than one)
+        double disc = pu * pu - uu * ((px * px + py * py + pz * pz) - r12 * r12);
+        if (disc < 0) {
+            return r.clear();
+        }
+        double t = (pu - Math.sqrt(disc)) / uu;
+
+        // unit contact normal - from this body to the other body - at the moment of contact
+        double nx = (px - ux * t) / r12;
+        double ny = (py - uy * t) / r12;
+        double nz = (pz - uz * t) / r12;
+
+        // velocity change of the other body along the normal, and the opposing change for this body
+        double dv2 = 2 * m1 * (ux * nx + uy * ny + uz * nz) / (m1 + m2);
+        double dv1 = dv2 * m2 / m1;
+
+        double msum = m1 + m2;
+        return r.set(
+                vx1 - dv1 * nx, vy1 - dv1 * ny, vz1 - dv1 * nz,
+                vx2 + dv2 * nx, vy2 + dv2 * ny, vz2 + dv2 * nz,
+                (m1 * vx1 + m2 * vx2) / msum, (m1 * vy1 + m2 * vy2) / msum, (m1 * vz1 + m2 * vz2) / msum);
     }
 
     /**
@@ -632,26 +2016,38 @@ public class Body {
      * @return the result of the calculation
      */
     /*private*/ CollisionCalcResult calcElasticCollision(Body otherBody) {
+        return calcElasticCollision(otherBody, true);
+    }
+
+    /**
+     * See {@link #calcElasticCollision(Body)}
+     *
+     * @param otherBody the other body being collided with
+     * @param logExits  if true, log the early exits from the calculation
+     *
+     * @return the result of the calculation
+     */
+    private CollisionCalcResult calcElasticCollision(Body otherBody, boolean logExits) {
         double r12, m21, d, v, theta2, phi2, st, ct, sp, cp, vx1r, vy1r, vz1r, fvz1r,
                thetav, phiv, dr, alpha, beta, sbeta, cbeta, t, a, dvz2,
                vx2r, vy2r, vz2r, x21, y21, z21, vx21, vy21, vz21, vx_cm, vy_cm, vz_cm;
 
-        double m1 = mass;
-        double m2 = otherBody.mass;
-        double r1 = radius;
-        double r2 = otherBody.radius;
-        double x1 = x;
-        double y1 = y;
-        double z1 = z;
-        double x2 = otherBody.x;
-        double y2 = otherBody.y;
-        double z2 = otherBody.z;
-        double vx1 = vx;
-        double vy1 = vy;
-        double vz1 = vz;
-        double vx2 = otherBody.vx;
-        double vy2 = otherBody.vy;
-        double vz2 = otherBody.vz;
+        double m1 = getMass();
+        double m2 = otherBody.getMass();
+        double r1 = getRadius();
+        double r2 = otherBody.getRadius();
+        double x1 = getX();
+        double y1 = getY();
+        double z1 = getZ();
+        double x2 = otherBody.getX();
+        double y2 = otherBody.getY();
+        double z2 = otherBody.getZ();
+        double vx1 = getVx();
+        double vy1 = getVy();
+        double vz1 = getVz();
+        double vx2 = otherBody.getVx();
+        double vy2 = otherBody.getVy();
+        double vz2 = otherBody.getVz();
 
         r12 = r1 + r2;
         m21 = m2 / m1;
@@ -678,7 +2074,9 @@ public class Body {
 
         // return if relative speed = 0
         if (v == 0) {
-            logger.info("Exit elastic collision: v == 0. This id: {} -- other id: {}", id, otherBody.id);
+            if (logExits) {
+                logger.info("Exit elastic collision: v == 0. This id: {} -- other id: {}", id, otherBody.id);
+            }
             return CollisionCalcResult.noCollision();
         }
 
@@ -727,7 +2125,9 @@ public class Body {
 
         // if balls do not collide, do nothing
         if (thetav > Math.PI / 2 || Math.abs(dr) > 1) {
-            logger.info("Bodies do not collide. This id: {} -- other id: {}", id, otherBody.id);
+            if (logExits) {
+                logger.info("Bodies do not collide. This id: {} -- other id: {}", id, otherBody.id);
+            }
             return CollisionCalcResult.noCollision();
         }
 
@@ -797,17 +2197,17 @@ public class Body {
                 otherBody.collisionBehavior == Globals.CollisionBehavior.FRAGMENT)) {
             return FragmentationCalcResult.noFragmentation();
         }
-        float vThis = vx + vy + vz;
+        float vThis = getVx() + getVy() + getVz();
         float dvThis = (float)
-                (Math.abs(vx - ((r.vx1 - r.vx_cm) * R + r.vx_cm)) +
-                Math.abs(vy - ((r.vy1 - r.vy_cm) * R + r.vy_cm)) +
-                Math.abs(vz - ((r.vz1 - r.vz_cm) * R + r.vz_cm)));
+                (Math.abs(getVx() - ((r.vx1 - r.vx_cm) * R + r.vx_cm)) +
+                Math.abs(getVy() - ((r.vy1 - r.vy_cm) * R + r.vy_cm)) +
+                Math.abs(getVz() - ((r.vz1 - r.vz_cm) * R + r.vz_cm)));
         float vThisFactor = dvThis / Math.abs(vThis);
-        float vOther = otherBody.vx + otherBody.vy + otherBody.vz;
+        float vOther = otherBody.getVx() + otherBody.getVy() + otherBody.getVz();
         float dvOther = (float)
-                (Math.abs(otherBody.vx - ((r.vx2 - r.vx_cm) * R + r.vx_cm)) +
-                Math.abs(otherBody.vy - ((r.vy2 - r.vy_cm) * R + r.vy_cm)) +
-                Math.abs(otherBody.vz - ((r.vz2 - r.vz_cm) * R + r.vz_cm)));
+                (Math.abs(otherBody.getVx() - ((r.vx2 - r.vx_cm) * R + r.vx_cm)) +
+                Math.abs(otherBody.getVy() - ((r.vy2 - r.vy_cm) * R + r.vy_cm)) +
+                Math.abs(otherBody.getVz() - ((r.vz2 - r.vz_cm) * R + r.vz_cm)));
         float vOtherFactor = dvOther / Math.abs(vOther);
         //logger.log(CUSTOM, "this.id={} vThis=({},{},{})", id, vx, vy, vz);
         if ((collisionBehavior == Globals.CollisionBehavior.FRAGMENT && vThisFactor > fragFactor) ||
@@ -843,55 +2243,74 @@ public class Body {
         int fragments = Math.min((int) (fragDelta * fragmentationStep), MAX_FRAGS);
         if (fragments <= 1) {
             collisionBehavior = Globals.CollisionBehavior.ELASTIC;
+            writeState();
             return;
         }
         fragmenting = true;
-        SimpleVector curPos = new SimpleVector(x, y, z);
-        float volume = (FOUR_THIRDS_PI * radius * radius * radius);
+        writeState();
+        SimpleVector curPos = new SimpleVector(getX(), getY(), getZ());
+        float volume = (FOUR_THIRDS_PI * getRadius() * getRadius() * getRadius());
         float newRadius = (float) Math.max(Math.pow(((volume / fragments) * 3F) / FOUR_PI, 1F / 3F), .1F);
-        float newMass = mass / fragments;
-        fragInfo = new FragInfo(radius, newRadius, newMass, fragments, curPos);
+        float newMass = getMass() / fragments;
+        fragInfo = new FragInfo(getRadius(), newRadius, newMass, fragments, curPos);
     }
 
     /**
      * Fragments a body into smaller fragments as controlled by the {@link #fragInfo} field until the body has
      * been fully fragmented. Then sets this body to a fragment as well, and turns off fragmentation for the
-     * instance. The number of fragments generated in any given cycle is capped by the {@link #MAX_FRAGS_PER_CYCLE}
-     * constant so the simulation isn't held up while a large number of bodies are generated all at once in a case
-     * where - say - one body fragments into a thousand
+     * instance. The number of fragments generated in any given cycle is capped by the body store's spawn budget
+     * so the simulation isn't held up while a large number of bodies are generated all at once in a case
+     * where - say - one body fragments into a thousand. The fragments are staged, and enter the simulation at
+     * the start of a subsequent cycle
      *
-     * @param bodyQueue to add bodies into
+     * @param bodyStore to add bodies into
      */
-    private void fragment(ConcurrentLinkedQueue<Body> bodyQueue) {
+    private void fragment(BodyStore bodyStore) {
         int cnt = 0;
+        int origin = originId >= 0 ? originId : id;
         while (fragInfo.fragments > 0) {
             --fragInfo.fragments;
-            SimpleVector v = SimpleVector.getVectorEven(fragInfo.curPos, fragInfo.radius * .9F);
-            bodyQueue.add(new Body(Body.nextID(), v.x, v.y, v.z, vx, vy, vz, fragInfo.mass, fragInfo.newRadius,
-                    Globals.CollisionBehavior.ELASTIC, color, 0, 0, false, name, clas, false));
-            if (++cnt >= MAX_FRAGS_PER_CYCLE) {
+            SimpleVector v = SimpleVector.getVectorEven(fragInfo.curPos, fragInfo.radius * .9F, random());
+            Body fragment = Body.obtain(v.x, v.y, v.z, getVx(), getVy(), getVz(), fragInfo.mass, fragInfo.newRadius,
+                    Globals.CollisionBehavior.ELASTIC, color, 0, 0, false, name, clas, false);
+            fragment.originId = origin;
+            bodyStore.add(fragment);
+            if (++cnt >= bodyStore.getSpawnBudget()) {
                 break;
             }
         }
         if (fragInfo.fragments <= 0) {
             // turn this instance into a fragment
-            mass = fragInfo.mass;
-            radius = fragInfo.newRadius;
+            setMass(fragInfo.mass);
+            setRadius(fragInfo.newRadius);
             collisionBehavior = Globals.CollisionBehavior.ELASTIC;
+            originId = origin;
+            memberCount = 1;
             fragmenting = false;
+            writeState();
         } else {
             // shrink the body a little each time
-            radius = radius * .9F;
+            setRadius(getRadius() * .9F);
         }
     }
 
     /**
-     * Monotonically increasing thread-safe ID generator to generate unique IDs for each body
+     * Thread-safe ID generator to generate unique IDs for each body without locking. Each thread takes a range
+     * of IDs at a time from a shared counter, and then hands out IDs from its own range. Worker threads that
+     * fragment bodies, the gRPC server, and sim threads can therefore all create bodies concurrently without
+     * contending on a monitor
      */
     private static class IdGenerator {
-        private volatile static int id = 0;
-        static synchronized int nextID() {
-            return id++;
+        private static final int RANGE_SIZE = 64;
+        private static final AtomicInteger nextRange = new AtomicInteger();
+        private static final ThreadLocal<int[]> range = ThreadLocal.withInitial(() -> new int[] {0, 0});
+        static int nextID() {
+            int[] r = range.get();
+            if (r[0] == r[1]) {
+                r[0] = nextRange.getAndAdd(RANGE_SIZE);
+                r[1] = r[0] + RANGE_SIZE;
+            }
+            return r[0]++;
         }
     }
 }
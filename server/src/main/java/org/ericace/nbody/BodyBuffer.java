@@ -0,0 +1,263 @@
+package org.ericace.nbody;
+
+import org.ericace.instrumentation.InstrumentationManager;
+import org.ericace.instrumentation.Metric;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Holds the body values that the force computation reads for every pair of bodies - position, velocity, mass,
+ * radius, and whether, and how, the body takes part in the computation - outside the Java heap, in direct buffers
+ * or in a memory-mapped file, one array per value, indexed by {@link BodyStore} slot. Reading the values from
+ * these arrays, rather than from each {@code Body} object, keeps the inner loop of the direct force computation
+ * sequential in memory, and keeps the memory it sweeps over out of the garbage collector's reach.
+ * <p>
+ * This is the store of record for those values: while a body is in a slot, its values are held only here, and
+ * the {@code Body} object is a handle that reads and writes its row - see {@code Body.attach}. The rest of a body -
+ * its ID, name, color, lock, and collision and fragmentation bookkeeping, and the fields that hold its values
+ * while it is not in a slot - is still a heap object, so heap use still grows with the number of bodies. The store
+ * moves a body's row when it moves the body to a new slot, and copies the rows to a new buffer when it outgrows
+ * this one. Only the computation runner does either, between cycles, holding the lock of every body it moves.</p>
+ * <p>
+ * If backed by a file, the file holds {@link #FIELDS} arrays of {@link #capacity} floats each in native byte
+ * order, in the order: x, y, z, vx, vy, vz, mass, radius, state. Each array is mapped separately, so only one
+ * array - not the whole file - is limited to 2GB. The file is re-mapped at a larger size as the store grows.</p>
+ */
+final class BodyBuffer {
+    private static final Metric metricOffHeapBytesGauge = InstrumentationManager.getInstrumentation()
+            .registerGauge("nbody_off_heap_bytes_gauge", "Size of the off-heap body buffer in bytes");
+
+    /**
+     * Values of the {@link #state} array: the slot is empty, or the body is not part of the force computation
+     */
+    static final float SKIP = 0;
+
+    /**
+     * The body takes part in force computation and collision detection
+     */
+    static final float COLLIDES = 1;
+
+    /**
+     * The body takes part in force computation but its collision behavior is NONE
+     */
+    static final float PASSES_THROUGH = 2;
+
+    /**
+     * The number of arrays
+     */
+    private static final int FIELDS = 9;
+
+    /**
+     * The number of bodies each array can hold
+     */
+    final int capacity;
+
+    /**
+     * The arrays
+     */
+    final FloatBuffer x, y, z, vx, vy, vz, mass, radius, state;
+
+    /**
+     * The number of rows in use - the {@link BodyStore} high water mark. Rows at or above this are not read
+     */
+    volatile int count;
+
+    /**
+     * The backing file, or null if backed by direct buffers
+     */
+    private final Path file;
+
+    /**
+     * The buffer behind each array
+     */
+    private final ByteBuffer[] fields;
+
+    /**
+     * The arrays, in file order
+     */
+    private final FloatBuffer[] arrays;
+
+    private BodyBuffer(ByteBuffer[] fields, int capacity, Path file) {
+        this.capacity = capacity;
+        this.file = file;
+        this.fields = fields;
+        x = floats(fields[0]);
+        y = floats(fields[1]);
+        z = floats(fields[2]);
+        vx = floats(fields[3]);
+        vy = floats(fields[4]);
+        vz = floats(fields[5]);
+        mass = floats(fields[6]);
+        radius = floats(fields[7]);
+        state = floats(fields[8]);
+        arrays = new FloatBuffer[] {x, y, z, vx, vy, vz, mass, radius, state};
+    }
+
+    /**
+     * Creates a buffer
+     *
+     * @param capacity the number of bodies the buffer can hold
+     * @param file     the file to map the buffer to, or null to allocate direct buffers. The file is created if
+     *                 it does not exist, and extended if it is smaller than the buffer
+     *
+     * @return the buffer
+     */
+    static BodyBuffer allocate(int capacity, Path file) {
+        BodyBuffer buffer = map(capacity, file);
+        metricOffHeapBytesGauge.setValue((long) capacity * FIELDS * Float.BYTES);
+        return buffer;
+    }
+
+    /**
+     * Creates a buffer in direct memory to hold rows temporarily. Not counted by the off-heap size metric. The
+     * caller should {@link #release} it
+     *
+     * @param capacity the number of bodies the buffer can hold
+     *
+     * @return the buffer
+     */
+    static BodyBuffer scratch(int capacity) {
+        return map(capacity, null);
+    }
+
+    /**
+     * Creates a buffer - see {@link #allocate}
+     */
+    private static BodyBuffer map(int capacity, Path file) {
+        long fieldBytes = (long) capacity * Float.BYTES;
+        if (fieldBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Off-heap body buffer capacity exceeded: " + capacity);
+        }
+        ByteBuffer[] fields = new ByteBuffer[FIELDS];
+        if (file == null) {
+            for (int field = 0; field < FIELDS; ++field) {
+                fields[field] = ByteBuffer.allocateDirect((int) fieldBytes);
+            }
+            return new BodyBuffer(fields, capacity, null);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            // the mappings remain valid after the channel is closed
+            for (int field = 0; field < FIELDS; ++field) {
+                fields[field] = channel.map(FileChannel.MapMode.READ_WRITE, field * fieldBytes, fieldBytes);
+            }
+            return new BodyBuffer(fields, capacity, file);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to map off-heap body file '" + file + "'", e);
+        }
+    }
+
+    /**
+     * Replaces this buffer with a larger one holding the same rows. This buffer must not be written afterward.
+     * Its memory is left to the garbage collector rather than released, because a thread outside the
+     * computation runner - e.g. the gRPC service reading a body - may still be reading it
+     *
+     * @param capacity the number of bodies the new buffer must hold
+     *
+     * @return a new buffer with the same backing and rows as this one
+     */
+    BodyBuffer grow(int capacity) {
+        int count = this.count;
+        BodyBuffer source = this;
+        if (file != null) {
+            // the new mappings of the file overlap the old ones, so the rows are moved out of the way first
+            source = scratch(Math.max(count, 1));
+            copyRows(source, count);
+        }
+        BodyBuffer grown = allocate(capacity, file);
+        source.copyRows(grown, count);
+        grown.count = count;
+        if (source != this) {
+            source.release();
+        }
+        return grown;
+    }
+
+    /**
+     * Copies the first rows of this buffer to the first rows of another
+     *
+     * @param to    the other buffer
+     * @param count the number of rows
+     */
+    void copyRows(BodyBuffer to, int count) {
+        for (int field = 0; field < FIELDS; ++field) {
+            FloatBuffer from = arrays[field].duplicate();
+            from.limit(count);
+            to.arrays[field].duplicate().put(from);
+        }
+    }
+
+    /**
+     * Copies a row to another buffer, or within this one
+     *
+     * @param from   the row to copy
+     * @param to     the buffer to copy to
+     * @param toSlot the row to copy to
+     */
+    void copyRow(int from, BodyBuffer to, int toSlot) {
+        for (int field = 0; field < FIELDS; ++field) {
+            to.arrays[field].put(toSlot, arrays[field].get(from));
+        }
+    }
+
+    /**
+     * Releases the memory behind this buffer now. Only for a buffer that no other thread can reach
+     */
+    void release() {
+        for (ByteBuffer field : fields) {
+            release(field);
+        }
+    }
+
+    /**
+     * Releases the memory - or unmaps the file region - behind a buffer now rather than when the buffer is
+     * garbage collected. Where the JVM doesn't allow that, the memory is released when the buffer is collected
+     */
+    private static void release(ByteBuffer buffer) {
+        try {
+            Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            Object cleaner = cleanerMethod.invoke(buffer);
+            if (cleaner != null) {
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // left to the garbage collector
+        }
+    }
+
+    /**
+     * Marks a slot as empty
+     *
+     * @param i the slot
+     */
+    void clear(int i) {
+        state.put(i, SKIP);
+    }
+
+    /**
+     * Reads a body value from a row, for a reader that may be racing with the computation runner taking the body
+     * out of its slot, or replacing the buffer
+     *
+     * @param array    the array to read
+     * @param slot     the row to read, or -1 if the body has been taken out of its slot
+     * @param detached the value to return if the body has been taken out of its slot - by then the body's field
+     *                 holds the value - or if the slot is past the end of a buffer that has since been replaced
+     *
+     * @return the value
+     */
+    static float get(FloatBuffer array, int slot, float detached) {
+        return slot >= 0 && slot < array.limit() ? array.get(slot) : detached;
+    }
+
+    private static FloatBuffer floats(ByteBuffer bytes) {
+        return bytes.duplicate().order(ByteOrder.nativeOrder()).asFloatBuffer();
+    }
+}
@@ -0,0 +1,103 @@
+package org.ericace.nbody;
+
+import org.ericace.instrumentation.InstrumentationManager;
+import org.ericace.instrumentation.Metric;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free pool of {@link Body} instances that have been removed from the simulation. Fragmenting and
+ * injecting bodies into a running sim can churn through a lot of bodies, each of which has its own lock. Re-using
+ * removed bodies keeps the allocation rate flat.
+ * <p>
+ * The pool is a Treiber stack that links the bodies through an int field in each body rather than through
+ * allocated nodes - so pushing and popping don't allocate. Because the same body can be popped and pushed again
+ * while another thread is part way through a pop, a plain compare-and-set on the top of the stack would be exposed
+ * to the ABA problem. So the top of the stack is a long holding both the index of the top body and a stamp that
+ * is incremented on every push and pop, and the compare-and-set fails if the stamp has changed.</p>
+ * <p>
+ * Each body gets a permanent index into {@link #bodies} the first time it is released into the pool. Once all
+ * indexes are allocated, further bodies are simply left for the garbage collector.</p>
+ */
+final class BodyPool {
+    private static final Metric metricReuseCount = InstrumentationManager.getInstrumentation()
+            .registerCounter("nbody_body_pool_reuse_count", "Count of bodies re-used from the body pool");
+
+    /**
+     * The max number of distinct bodies the pool can hold
+     */
+    private static final int CAPACITY = 1 << 14;
+
+    /**
+     * The bodies that have been assigned a pool index, by index
+     */
+    private final AtomicReferenceArray<Body> bodies = new AtomicReferenceArray<>(CAPACITY);
+
+    /**
+     * The number of pool indexes allocated
+     */
+    private final AtomicInteger allocated = new AtomicInteger();
+
+    /**
+     * The top of the stack. The upper 32 bits are the stamp and the lower 32 bits are the index of the top body
+     * plus one - so zero means the stack is empty
+     */
+    private final AtomicLong top = new AtomicLong();
+
+    /**
+     * Pops a body from the pool
+     *
+     * @return the body, or null if the pool is empty. The body's state is as it was when released
+     */
+    Body acquire() {
+        while (true) {
+            long current = top.get();
+            int index = (int) current;
+            if (index == 0) {
+                return null;
+            }
+            Body body = bodies.get(index - 1);
+            long next = nextStamp(current) | (body.poolNext & 0xFFFFFFFFL);
+            if (top.compareAndSet(current, next)) {
+                metricReuseCount.incValue();
+                return body;
+            }
+        }
+    }
+
+    /**
+     * Pushes a body onto the pool
+     *
+     * @param body the body to push. Must not already be in the pool
+     *
+     * @return false if the pool is full and the body was not pooled
+     */
+    boolean release(Body body) {
+        if (body.poolIndex < 0) {
+            int index = allocated.getAndIncrement();
+            if (index >= CAPACITY) {
+                allocated.decrementAndGet();
+                return false;
+            }
+            body.poolIndex = index;
+            bodies.set(index, body);
+        }
+        long entry = body.poolIndex + 1;
+        while (true) {
+            long current = top.get();
+            body.poolNext = (int) current;
+            if (top.compareAndSet(current, nextStamp(current) | entry)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return the stamp of the passed top of stack plus one, in the upper 32 bits
+     */
+    private static long nextStamp(long current) {
+        return ((current >>> 32) + 1) << 32;
+    }
+}
@@ -0,0 +1,581 @@
+package org.ericace.nbody;
+
+import org.ericace.instrumentation.InstrumentationManager;
+import org.ericace.instrumentation.Metric;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds the bodies in the simulation.
+ * <p>
+ * Bodies can be added from any thread at any time - by a body that is fragmenting, by the gRPC server, and by
+ * sim threads that inject bodies into a running sim. Rather than adding these directly to the bodies that the
+ * computation runner is iterating, new bodies are staged, and the staged bodies are moved into the simulation
+ * by the {@link ComputationRunner} at the start of a compute cycle, when no force computation is running. The
+ * number moved in each cycle is limited by a spawn budget which the runner derives from the measured cycle time,
+ * so a burst of insertions - e.g. a body fragmenting into thousands of pieces - is spread over enough cycles
+ * to keep each cycle predictable.</p>
+ * <p>
+ * The bodies in the simulation are held in an array of slots. Each body knows its slot, so removing a body
+ * nulls out its slot and pushes the slot onto a free list in constant time, and the free slots are re-used by
+ * subsequently added bodies. If many bodies are removed at once the array can be left mostly empty - which still
+ * costs time to iterate - so when the fraction of empty slots exceeds {@link #COMPACTION_THRESHOLD}, the live
+ * bodies are moved down to the start of the array.</p>
+ * <p>
+ * Bodies are added in no particular spatial order, so bodies that are close in space - which are processed
+ * together by the collision and neighbor code - end up scattered through the array. Optionally, the store
+ * periodically re-sorts the bodies along a Morton (Z-order) curve, which places bodies that are close in space
+ * close together in the array. See {@link #setMortonSortInterval}.</p>
+ * <p>
+ * Optionally, the store holds the position, velocity, mass, and radius of the bodies in its slots off the heap - see
+ * {@link BodyBuffer} - and the force computation reads them from there. A body's values move into the buffer when
+ * it is placed in a slot and move back into the body when it is removed, and its row moves with it when
+ * compaction or re-sorting moves it to another slot.</p>
+ * <p>
+ * Only the computation runner thread adds, removes, and compacts. Other threads can iterate at any time, but
+ * iteration is weakly consistent: it may or may not see bodies added or removed during the iteration. Compaction
+ * and re-sorting replace the array rather than moving bodies within it, so an iteration never sees a body
+ * twice. With the off-heap buffer enabled, a body read while it is being moved may briefly read another body's
+ * values.</p>
+ */
+public final class BodyStore implements Iterable<Body> {
+    private static final Metric metricStagedBodyGauge = InstrumentationManager.getInstrumentation()
+            .registerGauge("nbody_staged_body_gauge", "Number of bodies waiting to be added to the simulation");
+    private static final Metric metricSpawnBudgetGauge = InstrumentationManager.getInstrumentation()
+            .registerGauge("nbody_spawn_budget_gauge", "Max bodies added to the simulation per compute cycle");
+    private static final Metric metricCompactionNanos = InstrumentationManager.getInstrumentation()
+            .registerSummary("nbody_body_store_compaction_nanos", "Body store compaction time in nanoseconds");
+    private static final Metric metricMortonSortNanos = InstrumentationManager.getInstrumentation()
+            .registerSummary("nbody_morton_sort_nanos", "Body store Morton re-sort time in nanoseconds");
+
+    /**
+     * Compact when more than this fraction of the slots in use are empty
+     */
+    private static final float COMPACTION_THRESHOLD = .25F;
+
+    /**
+     * Don't bother compacting below this many slots
+     */
+    private static final int MIN_COMPACTION_SLOTS = 64;
+
+    /**
+     * The spawn budget until the runner has measured a cycle
+     */
+    static final int DEFAULT_SPAWN_BUDGET = 100;
+
+    /**
+     * The smallest off-heap buffer to allocate
+     */
+    private static final int MIN_OFF_HEAP_CAPACITY = 1024;
+
+    /**
+     * The bodies in the simulation. Empty slots are null. Replaced with a larger array when full
+     */
+    private volatile Body[] slots;
+
+    /**
+     * Slots at or above this index have never been used since the last compaction. Written after the slots so
+     * that a thread which reads this first sees the slots as of the write
+     */
+    private volatile int highWater;
+
+    /**
+     * The number of bodies in the slots
+     */
+    private volatile int size;
+
+    /**
+     * A stack of empty slots below {@link #highWater}
+     */
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+
+    /**
+     * Bodies waiting to be added to the simulation
+     */
+    private final ConcurrentLinkedQueue<Body> staged = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The size of {@link #staged} - which is not constant time to compute from the queue itself
+     */
+    private final AtomicInteger stagedCount = new AtomicInteger();
+
+    /**
+     * The max number of bodies to move from staging into the simulation each cycle. Also limits how many
+     * fragments a fragmenting body generates per cycle
+     */
+    private volatile int spawnBudget = DEFAULT_SPAWN_BUDGET;
+
+    /**
+     * If not null, the off-heap buffer that holds the values the force computation reads, indexed by slot
+     */
+    private volatile BodyBuffer offHeap;
+
+    /**
+     * Re-sort the bodies by Morton key every this many compute cycles. Zero disables re-sorting
+     */
+    private volatile int mortonSortInterval;
+    private int cyclesSinceSort;
+
+    /**
+     * Creates a store containing the passed bodies. These are in the simulation immediately - they are not staged
+     *
+     * @param bodies the initial bodies
+     */
+    public BodyStore(Collection<Body> bodies) {
+        slots = new Body[Math.max(bodies.size() * 2, 16)];
+        for (Body body : bodies) {
+            insert(body);
+        }
+    }
+
+    /**
+     * Stages a body for addition to the simulation at the start of an upcoming compute cycle. Thread safe
+     *
+     * @param body the body to add
+     */
+    public void add(Body body) {
+        staged.add(body);
+        stagedCount.incrementAndGet();
+    }
+
+    /**
+     * @return the bodies waiting to be added to the simulation. Weakly consistent, like the iterator. A body moved
+     * into the simulation is in the slots before it leaves staging, so a thread that looks through the staged
+     * bodies and then the slots sees every body at least once
+     */
+    public Collection<Body> getStaged() {
+        return Collections.unmodifiableCollection(staged);
+    }
+
+    /**
+     * @return the number of bodies in the simulation - not including staged bodies
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of bodies waiting to be added to the simulation
+     */
+    public int stagedCount() {
+        return stagedCount.get();
+    }
+
+    /**
+     * Iterates the bodies in the simulation. The iterator is weakly consistent, as described in the class
+     * documentation
+     */
+    @Override
+    public Iterator<Body> iterator() {
+        return new SlotIterator();
+    }
+
+    /**
+     * Enables the off-heap buffer, and moves the values of the bodies already in the store into it. Must be called
+     * before the computation runner starts
+     *
+     * @param file the file to map the buffer to, or null to hold it in direct memory
+     */
+    public void enableOffHeap(Path file) {
+        BodyBuffer buffer = BodyBuffer.allocate(Math.max(slots.length, MIN_OFF_HEAP_CAPACITY), file);
+        int highWater = this.highWater;
+        buffer.count = highWater;
+        for (int i = 0; i < highWater; ++i) {
+            Body body = slots[i];
+            if (body == null) {
+                buffer.clear(i);
+            } else {
+                body.attach(buffer);
+            }
+        }
+        offHeap = buffer;
+    }
+
+    /**
+     * Sets how often the bodies are re-sorted by Morton key
+     *
+     * @param mortonSortInterval the number of compute cycles between re-sorts. Zero disables re-sorting
+     */
+    public void setMortonSortInterval(int mortonSortInterval) {
+        this.mortonSortInterval = Math.max(mortonSortInterval, 0);
+    }
+
+    /**
+     * @return the number of compute cycles between re-sorts, or zero if disabled
+     */
+    public int getMortonSortInterval() {
+        return mortonSortInterval;
+    }
+
+    /**
+     * @return the off-heap buffer, or null if not enabled
+     */
+    BodyBuffer getOffHeap() {
+        return offHeap;
+    }
+
+    /**
+     * @return see {@link #highWater}
+     */
+    int getHighWater() {
+        return highWater;
+    }
+
+    /**
+     * @param slot a slot below the high water mark
+     *
+     * @return the body in the passed slot, or null if the slot is empty
+     */
+    Body get(int slot) {
+        return slots[slot];
+    }
+
+    /**
+     * @return the current spawn budget
+     */
+    int getSpawnBudget() {
+        return spawnBudget;
+    }
+
+    /**
+     * Sets the spawn budget for the upcoming cycle
+     *
+     * @param spawnBudget max number of bodies to add per cycle
+     */
+    void setSpawnBudget(int spawnBudget) {
+        this.spawnBudget = spawnBudget;
+        metricSpawnBudgetGauge.setValue(spawnBudget);
+    }
+
+    /**
+     * Moves staged bodies into the simulation, up to the spawn budget. Called by the computation runner at
+     * the start of a compute cycle
+     *
+     * @return the number of bodies added
+     */
+    int applyStaged() {
+        int budget = spawnBudget;
+        int added = 0;
+        Body body;
+        // only this thread removes from staging, so the head is still the same body after it is inserted
+        while (added < budget && (body = staged.peek()) != null) {
+            insert(body);
+            staged.poll();
+            stagedCount.decrementAndGet();
+            ++added;
+        }
+        metricStagedBodyGauge.setValue(stagedCount.get());
+        return added;
+    }
+
+    /**
+     * Removes a body from the simulation in constant time. Called by the computation runner after the body
+     * no longer exists
+     *
+     * @param body the body to remove
+     */
+    void remove(Body body) {
+        int slot = body.slot;
+        Body[] slots = this.slots;
+        if (slot < 0 || slots[slot] != body) {
+            return;
+        }
+        slots[slot] = null;
+        body.detach();
+        body.slot = -1;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        size = size - 1;
+    }
+
+    /**
+     * Moves the bodies down to fill the empty slots, if the fraction of empty slots exceeds
+     * {@link #COMPACTION_THRESHOLD}. Preserves the order of the bodies. Called by the computation runner at
+     * the end of a compute cycle
+     * <p>
+     * Like {@link #mortonSort}, the bodies are moved into a new array rather than within the current one. A body
+     * moved within the array is briefly in two slots - or in none - so another thread iterating during the
+     * compaction could see it twice, and a gRPC modBody would then modify it twice. Threads iterating during the
+     * compaction continue to iterate the old array, which is not changed, so they see every body exactly once.</p>
+     *
+     * @return true if the store was compacted
+     */
+    boolean compactIfNeeded() {
+        int highWater = this.highWater;
+        if (highWater < MIN_COMPACTION_SLOTS || freeCount <= highWater * COMPACTION_THRESHOLD) {
+            return false;
+        }
+        long start = System.nanoTime();
+        Body[] slots = this.slots;
+        Body[] compacted = new Body[slots.length];
+        BodyBuffer buffer = offHeap;
+        int to = 0;
+        for (int from = 0; from < highWater; ++from) {
+            Body body = slots[from];
+            if (body != null) {
+                compacted[to] = body;
+                if (buffer == null || from == to) {
+                    body.slot = to++;
+                } else {
+                    // the rows only move down, into rows already emptied
+                    body.lock();
+                    try {
+                        buffer.copyRow(from, buffer, to);
+                        body.slot = to++;
+                    } finally {
+                        body.unlock();
+                    }
+                }
+            }
+        }
+        this.slots = compacted;
+        freeCount = 0;
+        this.highWater = to;
+        if (buffer != null) {
+            buffer.count = to;
+        }
+        metricCompactionNanos.setValue(System.nanoTime() - start);
+        return true;
+    }
+
+    /**
+     * Re-sorts the bodies by Morton key if the re-sort interval has elapsed. Called by the computation runner at
+     * the end of a compute cycle
+     *
+     * @return true if the bodies were re-sorted - which also compacts them
+     */
+    boolean sortIfDue() {
+        int interval = mortonSortInterval;
+        if (interval <= 0 || ++cyclesSinceSort < interval) {
+            return false;
+        }
+        cyclesSinceSort = 0;
+        mortonSort();
+        return true;
+    }
+
+    /**
+     * Sorts the bodies along a Morton curve through the bounding box of their positions, and compacts them.
+     * <p>
+     * Each body's position is quantized on each axis and the bits of the three coordinates are interleaved into
+     * a key. The slot the body is in is packed into the low bits of the key, so the keys are unique and can be
+     * sorted as plain longs with {@link Arrays#parallelSort(long[])}. The fewer the slots, the more bits are left
+     * for the coordinates - up to 21 per axis.</p>
+     * <p>
+     * The sorted bodies are placed into a new array, and each body's slot is updated. Other threads iterating
+     * during the sort continue to iterate the old array, so they see every body exactly once. Bodies are
+     * identified everywhere else by ID, which doesn't change.</p>
+     */
+    void mortonSort() {
+        long start = System.nanoTime();
+        Body[] slots = this.slots;
+        int highWater = this.highWater;
+        float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE, minZ = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE, maxZ = -Float.MAX_VALUE;
+        int live = 0;
+        for (int i = 0; i < highWater; ++i) {
+            Body body = slots[i];
+            if (body != null) {
+                minX = Math.min(minX, body.getX());
+                minY = Math.min(minY, body.getY());
+                minZ = Math.min(minZ, body.getZ());
+                maxX = Math.max(maxX, body.getX());
+                maxY = Math.max(maxY, body.getY());
+                maxZ = Math.max(maxZ, body.getZ());
+                ++live;
+            }
+        }
+        if (live < 2) {
+            return;
+        }
+        int indexBits = 32 - Integer.numberOfLeadingZeros(highWater - 1);
+        int axisBits = Math.min(21, (63 - indexBits) / 3);
+        long cells = (1L << axisBits) - 1;
+        double scaleX = maxX > minX ? cells / ((double) maxX - minX) : 0;
+        double scaleY = maxY > minY ? cells / ((double) maxY - minY) : 0;
+        double scaleZ = maxZ > minZ ? cells / ((double) maxZ - minZ) : 0;
+        long[] keys = new long[live];
+        int k = 0;
+        for (int i = 0; i < highWater; ++i) {
+            Body body = slots[i];
+            if (body != null) {
+                long morton = spread((long) ((body.getX() - minX) * scaleX)) |
+                        spread((long) ((body.getY() - minY) * scaleY)) << 1 |
+                        spread((long) ((body.getZ() - minZ) * scaleZ)) << 2;
+                keys[k++] = morton << indexBits | i;
+            }
+        }
+        Arrays.parallelSort(keys);
+        long indexMask = (1L << indexBits) - 1;
+        Body[] sorted = new Body[slots.length];
+        for (k = 0; k < live; ++k) {
+            sorted[k] = slots[(int) (keys[k] & indexMask)];
+        }
+        BodyBuffer buffer = offHeap;
+        if (buffer == null) {
+            for (k = 0; k < live; ++k) {
+                sorted[k].slot = k;
+            }
+        } else {
+            // the rows are permuted, so every row is copied out before any is overwritten
+            BodyBuffer scratch = BodyBuffer.scratch(live);
+            lock(sorted, live);
+            try {
+                for (k = 0; k < live; ++k) {
+                    buffer.copyRow(sorted[k].slot, scratch, k);
+                }
+                scratch.copyRows(buffer, live);
+                for (k = 0; k < live; ++k) {
+                    sorted[k].slot = k;
+                }
+                buffer.count = live;
+            } finally {
+                unlock(sorted, live);
+                scratch.release();
+            }
+        }
+        this.slots = sorted;
+        freeCount = 0;
+        this.highWater = live;
+        metricMortonSortNanos.setValue(System.nanoTime() - start);
+    }
+
+    /**
+     * Spreads the low 21 bits of the passed value so that there are two zero bits between each bit, for
+     * interleaving three coordinates into a Morton key
+     */
+    static long spread(long v) {
+        v &= 0x1FFFFFL;
+        v = (v | v << 32) & 0x1F00000000FFFFL;
+        v = (v | v << 16) & 0x1F0000FF0000FFL;
+        v = (v | v << 8) & 0x100F00F00F00F00FL;
+        v = (v | v << 4) & 0x10C30C30C30C30C3L;
+        v = (v | v << 2) & 0x1249249249249249L;
+        return v;
+    }
+
+    /**
+     * Places a body in a free slot - or the next unused slot if there are no free slots - and moves its values
+     * into the off-heap buffer, if enabled
+     *
+     * @param body the body to add
+     */
+    private void insert(Body body) {
+        if (freeCount > 0) {
+            int slot = freeSlots[--freeCount];
+            body.slot = slot;
+            slots[slot] = body;
+        } else {
+            int slot = highWater;
+            if (slot == slots.length) {
+                slots = Arrays.copyOf(slots, slot * 2);
+            }
+            body.slot = slot;
+            slots[slot] = body;
+            highWater = slot + 1;
+        }
+        BodyBuffer buffer = offHeap;
+        if (buffer != null) {
+            if (highWater > buffer.capacity) {
+                buffer = growOffHeap(buffer);
+            }
+            buffer.count = highWater;
+            body.attach(buffer);
+        }
+        size = size + 1;
+    }
+
+    /**
+     * Replaces the off-heap buffer with one twice the size, and re-points the bodies in the slots at it. The bodies
+     * are locked while their rows are copied, so a concurrent modification isn't written to the old buffer after
+     * its row was copied
+     *
+     * @param buffer the current buffer
+     *
+     * @return the new buffer
+     */
+    private BodyBuffer growOffHeap(BodyBuffer buffer) {
+        Body[] slots = this.slots;
+        int count = buffer.count;
+        lock(slots, count);
+        try {
+            BodyBuffer grown = buffer.grow(buffer.capacity * 2);
+            for (int i = 0; i < count; ++i) {
+                if (slots[i] != null) {
+                    slots[i].buffer = grown;
+                }
+            }
+            offHeap = grown;
+            return grown;
+        } finally {
+            unlock(slots, count);
+        }
+    }
+
+    /**
+     * Locks the bodies in the first of the passed slots
+     */
+    private static void lock(Body[] slots, int count) {
+        for (int i = 0; i < count; ++i) {
+            if (slots[i] != null) {
+                slots[i].lock();
+            }
+        }
+    }
+
+    /**
+     * Unlocks the bodies locked by {@link #lock(Body[], int)}
+     */
+    private static void unlock(Body[] slots, int count) {
+        for (int i = 0; i < count; ++i) {
+            if (slots[i] != null) {
+                slots[i].unlock();
+            }
+        }
+    }
+
+    /**
+     * Iterates the non-empty slots
+     */
+    private class SlotIterator implements Iterator<Body> {
+        private final int end = highWater;
+        private final Body[] slots = BodyStore.this.slots;
+        private int index = 0;
+        private Body next = advance();
+
+        private Body advance() {
+            while (index < end) {
+                Body body = slots[index++];
+                if (body != null) {
+                    return body;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Body next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Body body = next;
+            next = advance();
+            return body;
+        }
+    }
+}
@@ -0,0 +1,493 @@
+package org.ericace.nbody;
+
+import org.ericace.instrumentation.InstrumentationManager;
+import org.ericace.instrumentation.Metric;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A linear bounding volume hierarchy (LBVH) over the bodies in the simulation. One structure answers both of
+ * the spatial questions the simulation asks: which groups of bodies are far enough away to be treated as a
+ * single mass - the Barnes-Hut approximation, see {@link Body}{@code .calcForceFromBvh} - and which bodies might
+ * overlap a given sphere - for collision detection, and for the spatial query RPCs.
+ * <p>
+ * The hierarchy is rebuilt from scratch every cycle, which - unlike the {@link Octree} - needs no bookkeeping in
+ * the bodies. Each body's position is quantized within the bounds of all the bodies into a Morton key, and the
+ * keys are sorted. The bodies under any node are then a contiguous range of the sorted bodies, and the hierarchy
+ * is emitted top-down by splitting each range where the highest key bit that differs across the range changes
+ * from zero to one. A range of {@link #LEAF_CAPACITY} or fewer bodies is a leaf. Each node has two children,
+ * created together, and children are always created after their parent. So iterating the nodes from last to
+ * first visits every child before its parent, which is how the moments and bounds are computed.</p>
+ * <p>
+ * The hierarchy is rebuilt by the computation runner thread between force computations, and is read without
+ * locking by the force computers. The query methods - which may be called from any thread - take a read lock,
+ * and {@link #build} takes the write lock, so a query always sees a complete hierarchy. The hierarchy reflects
+ * the positions of the bodies when it was built.</p>
+ */
+final class Bvh {
+    private static final Metric metricBuildNanos = InstrumentationManager.getInstrumentation()
+            .registerSummary("nbody_bvh_build_nanos", "BVH build time in nanoseconds");
+    private static final Metric metricNodeGauge = InstrumentationManager.getInstrumentation()
+            .registerGauge("nbody_bvh_node_gauge", "Number of BVH nodes");
+
+    /**
+     * A range of this many bodies or fewer is not split
+     */
+    private static final int LEAF_CAPACITY = 8;
+
+    /**
+     * Ranges at this depth are not split, which bounds the size of the traversal stack
+     */
+    static final int MAX_DEPTH = 64;
+
+    /**
+     * The opening angle. A node is treated as a single mass if its size divided by its distance from the body is
+     * less than this
+     */
+    private volatile float theta = Octree.DEFAULT_THETA;
+
+    /**
+     * The bodies, in Morton order. Each leaf holds a contiguous range
+     */
+    Body[] bodies = new Body[0];
+
+    /**
+     * The index of the first of the two children of each node, or -1 if the node is a leaf
+     */
+    int[] firstChild = new int[0];
+
+    /**
+     * For leaves, the range in {@link #bodies}: the index of the first body, and the number of bodies
+     */
+    int[] first = new int[0], count = new int[0];
+
+    /**
+     * The number of bodies under each node that contribute to the force, their total mass and center of mass,
+     * the bounds of their positions, and their max radius and speed
+     */
+    int[] bodyCount = new int[0];
+    double[] mass = new double[0], comX = new double[0], comY = new double[0], comZ = new double[0];
+    float[] minX = new float[0], minY = new float[0], minZ = new float[0];
+    float[] maxX = new float[0], maxY = new float[0], maxZ = new float[0];
+    float[] maxRadius = new float[0], maxSpeed = new float[0];
+
+    private int nodeCount;
+
+    /**
+     * The number of bodies in {@link #bodies}
+     */
+    private int size;
+
+    /**
+     * Re-used by {@link #build}: the bodies in store order, and the sorted Morton keys
+     */
+    private Body[] unsorted = new Body[0];
+    private long[] keys = new long[0];
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * @param theta the opening angle. Zero opens every node, which is equivalent to the direct computation
+     */
+    void setTheta(float theta) {
+        this.theta = Math.max(theta, 0);
+    }
+
+    float getTheta() {
+        return theta;
+    }
+
+    /**
+     * @return true if the hierarchy holds any nodes
+     */
+    boolean isBuilt() {
+        return nodeCount > 0;
+    }
+
+    /**
+     * Rebuilds the hierarchy over the bodies in the store, and computes the node moments and bounds
+     *
+     * @param bodyStore the bodies in the simulation
+     */
+    void build(BodyStore bodyStore) {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            clearBodies();
+            nodeCount = 0;
+            float lx = Float.MAX_VALUE, ly = Float.MAX_VALUE, lz = Float.MAX_VALUE;
+            float hx = -Float.MAX_VALUE, hy = -Float.MAX_VALUE, hz = -Float.MAX_VALUE;
+            for (Body body : bodyStore) {
+                if (size == unsorted.length) {
+                    unsorted = Arrays.copyOf(unsorted, Math.max(size * 2, 64));
+                }
+                unsorted[size++] = body;
+                lx = Math.min(lx, body.getX());
+                ly = Math.min(ly, body.getY());
+                lz = Math.min(lz, body.getZ());
+                hx = Math.max(hx, body.getX());
+                hy = Math.max(hy, body.getY());
+                hz = Math.max(hz, body.getZ());
+            }
+            if (size == 0) {
+                return;
+            }
+            if (bodies.length < size) {
+                bodies = new Body[unsorted.length];
+                keys = new long[unsorted.length];
+            }
+            // the index into the bodies array goes in the low bits of each key
+            int indexBits = 32 - Integer.numberOfLeadingZeros(Math.max(size - 1, 1));
+            int axisBits = Math.min(21, (63 - indexBits) / 3);
+            long cells = (1L << axisBits) - 1;
+            double scaleX = hx > lx ? cells / ((double) hx - lx) : 0;
+            double scaleY = hy > ly ? cells / ((double) hy - ly) : 0;
+            double scaleZ = hz > lz ? cells / ((double) hz - lz) : 0;
+            for (int i = 0; i < size; ++i) {
+                Body body = unsorted[i];
+                long morton = BodyStore.spread((long) ((body.getX() - lx) * scaleX)) |
+                        BodyStore.spread((long) ((body.getY() - ly) * scaleY)) << 1 |
+                        BodyStore.spread((long) ((body.getZ() - lz) * scaleZ)) << 2;
+                keys[i] = morton << indexBits | i;
+            }
+            Arrays.parallelSort(keys, 0, size);
+            // put the bodies in key order, and drop the indexes so only the Morton bits remain
+            for (int i = 0; i < size; ++i) {
+                bodies[i] = unsorted[(int) (keys[i] & ((1L << indexBits) - 1))];
+                keys[i] >>>= indexBits;
+            }
+            Arrays.fill(unsorted, 0, size, null);
+            newNode();
+            emit(0, 0, size, 0);
+            for (int n = nodeCount - 1; n >= 0; --n) {
+                computeNode(n);
+            }
+        } finally {
+            lock.writeLock().unlock();
+            metricNodeGauge.setValue(nodeCount);
+            metricBuildNanos.setValue(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Removes all the bodies and nodes. Called by the computation runner when the hierarchy is no longer used
+     */
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            clearBodies();
+            nodeCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Determines whether a body might touch - or, if {@code margin} includes a sweep distance, be touched
+     * during the time step by - any of the bodies under a node
+     *
+     * @param n      the node
+     * @param x      the position of the body
+     * @param y      "
+     * @param z      "
+     * @param margin the radius of the body plus any distance the bodies could close within the time step
+     *
+     * @return false if the body definitely can't touch any body under the node
+     */
+    boolean mayTouch(int n, float x, float y, float z, float margin) {
+        float ex = Math.max(Math.max(minX[n] - x, x - maxX[n]), 0);
+        float ey = Math.max(Math.max(minY[n] - y, y - maxY[n]), 0);
+        float ez = Math.max(Math.max(minZ[n] - z, z - maxZ[n]), 0);
+        float reach = margin + maxRadius[n];
+        return ex * ex + ey * ey + ez * ez <= reach * reach;
+    }
+
+    /**
+     * Finds the bodies whose spheres overlap a sphere
+     *
+     * @param x      the center of the sphere
+     * @param y      "
+     * @param z      "
+     * @param radius the radius of the sphere
+     *
+     * @return the bodies, in Morton order
+     */
+    List<Body> findInSphere(float x, float y, float z, float radius) {
+        List<Body> found = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (nodeCount == 0) {
+                return found;
+            }
+            int[] stack = new int[MAX_DEPTH + 2];
+            int top = 0;
+            stack[top++] = 0;
+            while (top > 0) {
+                int n = stack[--top];
+                if (bodyCount[n] == 0 || !mayTouch(n, x, y, z, radius)) {
+                    continue;
+                }
+                if (firstChild[n] >= 0) {
+                    stack[top++] = firstChild[n] + 1;
+                    stack[top++] = firstChild[n];
+                    continue;
+                }
+                for (int i = first[n]; i < first[n] + count[n]; ++i) {
+                    Body body = bodies[i];
+                    if (!contributes(body)) {
+                        continue;
+                    }
+                    float dx = body.getX() - x, dy = body.getY() - y, dz = body.getZ() - z;
+                    float reach = radius + body.getRadius();
+                    if (dx * dx + dy * dy + dz * dz <= reach * reach) {
+                        found.add(body);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return found;
+    }
+
+    /**
+     * Finds the bodies whose centers are nearest to a point
+     *
+     * @param x        the point
+     * @param y        "
+     * @param z        "
+     * @param maxCount the max number of bodies to find. Capped at the number of bodies in the hierarchy
+     *
+     * @return up to {@code maxCount} bodies, nearest first
+     */
+    List<Body> findNearest(float x, float y, float z, int maxCount) {
+        List<Body> found = new ArrayList<>();
+        if (maxCount <= 0) {
+            return found;
+        }
+        Body[] best = null;
+        int bestCount = 0;
+        lock.readLock().lock();
+        try {
+            if (nodeCount == 0) {
+                return found;
+            }
+            // the caller's count is untrusted - e.g. from a gRPC client - so don't size anything from it
+            maxCount = Math.min(maxCount, size);
+            // the nearest bodies found so far, and the squares of their distances - nearest first
+            best = new Body[maxCount];
+            float[] bestDist2 = new float[maxCount];
+            int[] stack = new int[MAX_DEPTH + 2];
+            int top = 0;
+            stack[top++] = 0;
+            while (top > 0) {
+                int n = stack[--top];
+                if (bodyCount[n] == 0 || bestCount == maxCount && boxDist2(n, x, y, z) >= bestDist2[maxCount - 1]) {
+                    continue;
+                }
+                if (firstChild[n] >= 0) {
+                    // visit the nearer child first, so the farther one is more likely to be pruned
+                    int near = firstChild[n], far = near + 1;
+                    if (boxDist2(far, x, y, z) < boxDist2(near, x, y, z)) {
+                        near = far;
+                        far = firstChild[n];
+                    }
+                    stack[top++] = far;
+                    stack[top++] = near;
+                    continue;
+                }
+                for (int i = first[n]; i < first[n] + count[n]; ++i) {
+                    Body body = bodies[i];
+                    if (!contributes(body)) {
+                        continue;
+                    }
+                    float dx = body.getX() - x, dy = body.getY() - y, dz = body.getZ() - z;
+                    float dist2 = dx * dx + dy * dy + dz * dz;
+                    if (bestCount == maxCount && dist2 >= bestDist2[maxCount - 1]) {
+                        continue;
+                    }
+                    int j = bestCount < maxCount ? bestCount++ : maxCount - 1;
+                    for (; j > 0 && bestDist2[j - 1] > dist2; --j) {
+                        best[j] = best[j - 1];
+                        bestDist2[j] = bestDist2[j - 1];
+                    }
+                    best[j] = body;
+                    bestDist2[j] = dist2;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        found.addAll(Arrays.asList(best).subList(0, bestCount));
+        return found;
+    }
+
+    /**
+     * @return the square of the distance from a point to the bounds of the positions under a node
+     */
+    private float boxDist2(int n, float x, float y, float z) {
+        float ex = Math.max(Math.max(minX[n] - x, x - maxX[n]), 0);
+        float ey = Math.max(Math.max(minY[n] - y, y - maxY[n]), 0);
+        float ez = Math.max(Math.max(minZ[n] - z, z - maxZ[n]), 0);
+        return ex * ex + ey * ey + ez * ez;
+    }
+
+    /**
+     * Emits the subtree under a node from a range of the sorted bodies
+     *
+     * @param n         the node
+     * @param from      the first body in the range
+     * @param to        one past the last body in the range
+     * @param nodeDepth the depth of the node. The root is zero
+     */
+    private void emit(int n, int from, int to, int nodeDepth) {
+        if (to - from <= LEAF_CAPACITY || nodeDepth >= MAX_DEPTH) {
+            first[n] = from;
+            count[n] = to - from;
+            return;
+        }
+        int split;
+        long diff = keys[from] ^ keys[to - 1];
+        if (diff == 0) {
+            // all the bodies are in the same cell
+            split = (from + to) >>> 1;
+        } else {
+            // the first key in the range with the highest differing bit set
+            long bit = Long.highestOneBit(diff);
+            int lo = from, hi = to - 1;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if ((keys[mid] & bit) == 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            split = lo;
+        }
+        int left = newNode();
+        newNode();
+        firstChild[n] = left;
+        emit(left, from, split, nodeDepth + 1);
+        emit(left + 1, split, to, nodeDepth + 1);
+    }
+
+    /**
+     * Computes the moments and bounds of a node from its bodies if it is a leaf, or from its children - which
+     * must already be computed - if not
+     *
+     * @param n the node
+     */
+    private void computeNode(int n) {
+        int bodies = 0;
+        double m = 0, mx = 0, my = 0, mz = 0;
+        float lx = Float.MAX_VALUE, ly = Float.MAX_VALUE, lz = Float.MAX_VALUE;
+        float hx = -Float.MAX_VALUE, hy = -Float.MAX_VALUE, hz = -Float.MAX_VALUE;
+        float r = 0, s = 0;
+        if (firstChild[n] < 0) {
+            for (int i = first[n]; i < first[n] + count[n]; ++i) {
+                Body body = this.bodies[i];
+                if (!contributes(body)) {
+                    continue;
+                }
+                float x = body.getX(), y = body.getY(), z = body.getZ();
+                double bm = body.getMass();
+                ++bodies;
+                m += bm;
+                mx += bm * x;
+                my += bm * y;
+                mz += bm * z;
+                lx = Math.min(lx, x);
+                ly = Math.min(ly, y);
+                lz = Math.min(lz, z);
+                hx = Math.max(hx, x);
+                hy = Math.max(hy, y);
+                hz = Math.max(hz, z);
+                r = Math.max(r, body.getRadius());
+                float vx = body.getVx(), vy = body.getVy(), vz = body.getVz();
+                s = Math.max(s, (float) Math.sqrt(vx * vx + vy * vy + vz * vz));
+            }
+        } else {
+            for (int c = firstChild[n]; c < firstChild[n] + 2; ++c) {
+                if (bodyCount[c] == 0) {
+                    continue;
+                }
+                bodies += bodyCount[c];
+                m += mass[c];
+                mx += mass[c] * comX[c];
+                my += mass[c] * comY[c];
+                mz += mass[c] * comZ[c];
+                lx = Math.min(lx, minX[c]);
+                ly = Math.min(ly, minY[c]);
+                lz = Math.min(lz, minZ[c]);
+                hx = Math.max(hx, maxX[c]);
+                hy = Math.max(hy, maxY[c]);
+                hz = Math.max(hz, maxZ[c]);
+                r = Math.max(r, maxRadius[c]);
+                s = Math.max(s, maxSpeed[c]);
+            }
+        }
+        bodyCount[n] = bodies;
+        mass[n] = m;
+        comX[n] = m > 0 ? mx / m : (lx + hx) / 2;
+        comY[n] = m > 0 ? my / m : (ly + hy) / 2;
+        comZ[n] = m > 0 ? mz / m : (lz + hz) / 2;
+        minX[n] = lx;
+        minY[n] = ly;
+        minZ[n] = lz;
+        maxX[n] = hx;
+        maxY[n] = hy;
+        maxZ[n] = hz;
+        maxRadius[n] = r;
+        maxSpeed[n] = s;
+    }
+
+    /**
+     * @return true if the body is part of the force computation
+     */
+    private static boolean contributes(Body body) {
+        return body.exists() && !body.isFragmenting();
+    }
+
+    /**
+     * Clears the body references so bodies removed from the sim are not retained
+     */
+    private void clearBodies() {
+        Arrays.fill(bodies, 0, size, null);
+        size = 0;
+    }
+
+    private int newNode() {
+        if (nodeCount == firstChild.length) {
+            grow(Math.max(nodeCount * 2, 64));
+        }
+        int n = nodeCount++;
+        firstChild[n] = -1;
+        first[n] = 0;
+        count[n] = 0;
+        bodyCount[n] = 0;
+        return n;
+    }
+
+    private void grow(int capacity) {
+        firstChild = Arrays.copyOf(firstChild, capacity);
+        first = Arrays.copyOf(first, capacity);
+        count = Arrays.copyOf(count, capacity);
+        bodyCount = Arrays.copyOf(bodyCount, capacity);
+        mass = Arrays.copyOf(mass, capacity);
+        comX = Arrays.copyOf(comX, capacity);
+        comY = Arrays.copyOf(comY, capacity);
+        comZ = Arrays.copyOf(comZ, capacity);
+        minX = Arrays.copyOf(minX, capacity);
+        minY = Arrays.copyOf(minY, capacity);
+        minZ = Arrays.copyOf(minZ, capacity);
+        maxX = Arrays.copyOf(maxX, capacity);
+        maxY = Arrays.copyOf(maxY, capacity);
+        maxZ = Arrays.copyOf(maxZ, capacity);
+        maxRadius = Arrays.copyOf(maxRadius, capacity);
+        maxSpeed = Arrays.copyOf(maxSpeed, capacity);
+    }
+}
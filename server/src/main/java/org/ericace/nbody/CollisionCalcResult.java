@@ -1,25 +1,52 @@
 package org.ericace.nbody;
 
 /**
- * Helper that holds values associated with the elastic collision calculation
+ * Helper that holds values associated with the elastic collision calculation. The original solver creates
+ * a new instance per collision via the static factories. The impulse solver re-uses a per-thread instance
+ * via {@link #set} and {@link #clear} so it doesn't allocate.
  */
 class CollisionCalcResult {
-    final boolean collided;
-    final double vx1;
-    final double vy1;
-    final double vz1;
-    final double vx2;
-    final double vy2;
-    final double vz2;
-    final double vx_cm;
-    final double vy_cm;
-    final double vz_cm;
+    boolean collided;
+    double vx1;
+    double vy1;
+    double vz1;
+    double vx2;
+    double vy2;
+    double vz2;
+    double vx_cm;
+    double vy_cm;
+    double vz_cm;
+
+    /**
+     * When comparing the results of two solvers, velocity components are considered equal if they differ
+     * by no more than this fraction of the largest velocity component in either result. The trig-based solver
+     * loses some precision for near-grazing collisions, hence the relatively loose tolerance
+     */
+    private static final double MATCH_TOLERANCE = 1e-4;
+
     private CollisionCalcResult() {
         collided = false;
         vx1 = vy1 = vz1 = vx2 = vy2 = vz2 = vx_cm = vy_cm = vz_cm = 0;
     }
     private CollisionCalcResult(double vx1, double vy1, double vz1, double vx2, double vy2, double vz2,
                                 double vx_cm, double vy_cm, double vz_cm) {
+        set(vx1, vy1, vz1, vx2, vy2, vz2, vx_cm, vy_cm, vz_cm);
+    }
+    static CollisionCalcResult noCollision() {
+        return new CollisionCalcResult();
+    }
+    static CollisionCalcResult collision(double vx1, double vy1, double vz1, double vx2, double vy2, double vz2,
+                                         double vx_cm, double vy_cm, double vz_cm) {
+        return new CollisionCalcResult(vx1, vy1, vz1, vx2, vy2, vz2, vx_cm, vy_cm, vz_cm);
+    }
+
+    /**
+     * Re-initializes the instance as a collision
+     *
+     * @return this instance
+     */
+    CollisionCalcResult set(double vx1, double vy1, double vz1, double vx2, double vy2, double vz2,
+                            double vx_cm, double vy_cm, double vz_cm) {
         collided = true;
         this.vx1   = vx1;
         this.vy1   = vy1;
@@ -30,12 +57,51 @@ class CollisionCalcResult {
         this.vx_cm = vx_cm;
         this.vy_cm = vy_cm;
         this.vz_cm = vz_cm;
+        return this;
     }
-    static CollisionCalcResult noCollision() {
-        return new CollisionCalcResult();
+
+    /**
+     * Re-initializes the instance as no collision
+     *
+     * @return this instance
+     */
+    CollisionCalcResult clear() {
+        collided = false;
+        return this;
     }
-    static CollisionCalcResult collision(double vx1, double vy1, double vz1, double vx2, double vy2, double vz2,
-                                         double vx_cm, double vy_cm, double vz_cm) {
-        return new CollisionCalcResult(vx1, vy1, vz1, vx2, vy2, vz2, vx_cm, vy_cm, vz_cm);
+
+    /**
+     * Compares this result to the result of another solver for the same collision
+     *
+     * @param other the other result
+     *
+     * @return true if both agree on whether there was a collision and - if so - on the resulting velocities
+     * within {@link #MATCH_TOLERANCE}
+     */
+    boolean matches(CollisionCalcResult other) {
+        if (collided != other.collided) {
+            return false;
+        }
+        if (!collided) {
+            return true;
+        }
+        double scale = Math.max(maxAbs(), other.maxAbs());
+        double tolerance = scale * MATCH_TOLERANCE;
+        return Math.abs(vx1 - other.vx1) <= tolerance && Math.abs(vy1 - other.vy1) <= tolerance &&
+                Math.abs(vz1 - other.vz1) <= tolerance && Math.abs(vx2 - other.vx2) <= tolerance &&
+                Math.abs(vy2 - other.vy2) <= tolerance && Math.abs(vz2 - other.vz2) <= tolerance;
+    }
+
+    /**
+     * @return the largest magnitude velocity component in the result
+     */
+    private double maxAbs() {
+        return Math.max(Math.max(Math.max(Math.abs(vx1), Math.abs(vy1)), Math.max(Math.abs(vz1), Math.abs(vx2))),
+                Math.max(Math.abs(vy2), Math.abs(vz2)));
+    }
+
+    @Override
+    public String toString() {
+        return collided ? String.format("v1: %e,%e,%e; v2: %e,%e,%e", vx1, vy1, vz1, vx2, vy2, vz2) : "no collision";
     }
 }
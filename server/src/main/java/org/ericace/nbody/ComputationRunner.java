@@ -5,6 +5,9 @@ import org.apache.logging.log4j.Logger;
 import org.ericace.instrumentation.InstrumentationManager;
 import org.ericace.instrumentation.Metric;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.concurrent.*;
 
 /**
@@ -16,8 +19,17 @@ import java.util.concurrent.*;
  * in the constructor. Each body in the simulation is scheduled into the thread pool. Once all bodies are
  * scheduled, the computation thread waits for all threads in the pool to complete, and then adds the result
  * to a result queue. The result queue is used by the rendering thread to render the result of the computation.</p>
+ * <p>
+ * In deterministic mode - see {@link Body#setDeterministic} - the state after each cycle is the same for any
+ * thread count. The force on each body is already summed by one worker, over the bodies in store order, so
+ * it does not depend on the thread count. What does depend on scheduling is anything that changes another body:
+ * collisions, and fragmentation - which creates bodies. In deterministic mode the workers defer these, and the
+ * runner performs them in this thread after the workers finish: fragmentation in store order, then
+ * collisions in body ID order. The spawn budget is also held constant rather than derived from the cycle time.
+ * Bodies added or modified through the gRPC interface or by sim threads arrive whenever those threads run,
+ * so they are outside this guarantee.</p>
  *
- * @see ComputationRunner#ComputationRunner(int, ConcurrentLinkedQueue, float, ResultQueueHolder) Constructor
+ * @see ComputationRunner#ComputationRunner(int, BodyStore, float, ResultQueueHolder) Constructor
  */
 public final class ComputationRunner implements Runnable {
     private static final Logger logger = LogManager.getLogger(ComputationRunner.class);
@@ -33,6 +45,45 @@ public final class ComputationRunner implements Runnable {
     private static final Metric metricBodyCountGauge = InstrumentationManager.getInstrumentation()
             .registerLabeledGauge("nbody_body_count_gauge/thread", "runner", "Number of bodies in the simulation");
 
+    /**
+     * The cycle time that the spawn budget aims to stay within - one frame at 60 FPS
+     */
+    private static final long TARGET_CYCLE_NANOS = 16_000_000L;
+
+    /**
+     * Bounds for the spawn budget. The minimum ensures staged bodies always make progress into the sim even if the
+     * target cycle time is exceeded
+     */
+    private static final int MIN_SPAWN_BUDGET = 10;
+    private static final int MAX_SPAWN_BUDGET = 2000;
+
+    /**
+     * Below this many store slots, the bodies are updated and the result queue is filled in the runner thread,
+     * because handing the work to the thread pool would cost more than it saves
+     */
+    private static final int PARALLEL_UPDATE_THRESHOLD = 4096;
+
+    /**
+     * The update is split into this many tasks per pool thread, to even out the load
+     */
+    private static final int UPDATE_TASKS_PER_THREAD = 4;
+
+    private static final Comparator<Body> BY_ID = Comparator.comparingInt(Body::getId);
+
+    /**
+     * Defines how the force on each body is computed:
+     * <ul>
+     *     <li>DIRECT - from every other body. Exact, and O(n&#178;)</li>
+     *     <li>OCTREE - using a Barnes-Hut octree that treats distant groups of bodies as a single mass.
+     *         Approximate, and about O(n log n). See {@link Octree}</li>
+     *     <li>BVH - the same approximation using a linear bounding volume hierarchy that is rebuilt each cycle,
+     *         and that also serves the spatial queries. See {@link Bvh}</li>
+     * </ul>
+     */
+    public enum ForceMode {
+        DIRECT, OCTREE, BVH
+    }
+
     /**
      * Set to false via the {@link #stop()} method to stop the runner
      */
@@ -49,9 +100,9 @@ public final class ComputationRunner implements Runnable {
     private final CompletionService<Void> completionService;
 
     /**
-     * The queue of bodies representing the simulation
+     * The bodies representing the simulation
      */
-    private final ConcurrentLinkedQueue<Body> bodyQueue;
+    private final BodyStore bodyStore;
 
     /**
      * Defines the time unit
@@ -60,45 +111,118 @@ public final class ComputationRunner implements Runnable {
 
     /**
      * Holds the  results of each computation cycle. The result of each computation cycle is a queue
-     * containing one {@link BodyRenderInfo} instance for each body in the simulation. The renderer class
-     * pulls one queue each time its rendering method is invoked.
+     * containing the render info of each body in the simulation. The renderer class pulls one queue each time
+     * its rendering method is invoked, and hands it back for re-use.
      */
     private final ResultQueueHolder resultQueueHolder;
 
+    /**
+     * Puts clusters of bodies in resting contact to sleep. Disabled unless configured
+     * via {@link #setIslandSleep}
+     */
+    private final IslandManager islandManager = new IslandManager();
+
+    /**
+     * Merges fragment swarms into super-particles. Disabled unless configured via {@link Body#setCoarsening}
+     */
+    private final FragmentCoarsener fragmentCoarsener = new FragmentCoarsener();
+
+    /**
+     * Scratch for deterministic mode: the bodies with deferred collisions, sorted by ID
+     */
+    private final List<Body> collidingBodies = new ArrayList<>();
+
+    /**
+     * How the force on each body is computed
+     */
+    private volatile ForceMode forceMode = ForceMode.DIRECT;
+
+    /**
+     * Used in {@link ForceMode#OCTREE} mode. Built using the executor thread pool
+     */
+    private final Octree octree;
+
+    /**
+     * Used in {@link ForceMode#BVH} mode, and by the spatial queries in that mode
+     */
+    private final Bvh bvh = new Bvh();
+
+    /**
+     * If not null, determines which bodies' force is re-computed each cycle from the renderer's camera. Not
+     * used in deterministic mode
+     */
+    private volatile ComputeLod computeLod;
+
+    /**
+     * Scratch for {@link #updateBodies}, per update task: the index of the first body the task wrote to the
+     * result queue, the number of bodies it wrote, and the bodies it found no longer exist
+     */
+    private int[] rangeFrom = new int[0], rangeCount = new int[0];
+    private final List<List<Body>> rangeRemoved = new ArrayList<>();
+
+    /**
+     * Runs the update tasks. The task body is a single instance, and the result queue and epsilon for the cycle
+     * are passed to it in fields, so an update doesn't allocate
+     */
+    private final ParallelRanges updateRanges;
+    private final ParallelRanges.Range updateRange = this::updateRange;
+    private ResultQueueHolder.ResultQueue updateQueue;
+    private float updateEpsilon;
+
+    /**
+     * The bodies removed from the store in the previous cycle. They are only returned to the pool a cycle later,
+     * once the island manager has woken any sleeping island that held them, and the hierarchy that served
+     * queries has been rebuilt without them
+     */
+    private final List<Body> retired = new ArrayList<>();
+
     /**
      * Creates an instance using the specified params - the instance is expected to run in a thread
      *
      * @param threadCount       Number of threads in the executor thread pool: During each computation cycle, each
      *                          body in the simulation is scheduled into the thread pool for force computation
-     * @param bodyQueue         Bodies in the simulation
+     * @param bodyStore         Bodies in the simulation
      * @param timeScaling       A factor to slow down and smooth out the simulation movement
      * @param resultQueueHolder Where the compute results are placed
      *
      * @see #run
      */
-    private ComputationRunner(int threadCount, ConcurrentLinkedQueue<Body> bodyQueue, float timeScaling,
+    private ComputationRunner(int threadCount, BodyStore bodyStore, float timeScaling,
                               ResultQueueHolder resultQueueHolder) {
         executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(threadCount);
         completionService = new ExecutorCompletionService<>(executor);
-        this.bodyQueue = bodyQueue;
+        octree = new Octree(executor);
+        updateRanges = new ParallelRanges(executor, "Body update");
+        this.bodyStore = bodyStore;
         this.timeScaling = timeScaling;
         this.resultQueueHolder = resultQueueHolder;
         metricComputationThreadsGauge.setValue(threadCount);
     }
 
     /**
-     * Creates a new runner, and starts the runner in a thread
+     * Creates a new runner. The runner doesn't compute anything until {@link #startThread} is called, so that it
+     * can be fully configured before the first compute cycle
      *
      * @param threadCount       Refer to {@link #ComputationRunner}
-     * @param bodyQueue         "
+     * @param bodyStore         "
      * @param timeScaling       "
      * @param resultQueueHolder "
+     *
+     * @return the runner - which is also the singleton
      */
-    public static void start(int threadCount, ConcurrentLinkedQueue<Body> bodyQueue, float timeScaling,
-                             ResultQueueHolder resultQueueHolder) {
-        instance = new ComputationRunner(threadCount, bodyQueue, timeScaling, resultQueueHolder);
-        new Thread(instance).start();
+    public static ComputationRunner create(int threadCount, BodyStore bodyStore, float timeScaling,
+                                           ResultQueueHolder resultQueueHolder) {
+        instance = new ComputationRunner(threadCount, bodyStore, timeScaling, resultQueueHolder);
+        return instance;
     }
+
+    /**
+     * Starts the runner in a thread
+     */
+    public void startThread() {
+        new Thread(this).start();
+    }
+
     /**
      * Stops the runner
      */
@@ -155,6 +279,123 @@ public final class ComputationRunner implements Runnable {
         this.timeScaling = timeScaling;
     }
 
+    /**
+     * Configures contact island sleeping. Takes effect at the end of the current compute cycle
+     *
+     * @param sleepThreshold velocity relative to the island center of mass below which a body in a contact
+     *                       island is considered at rest. Zero disables island sleeping
+     * @param sleepCycles    number of consecutive cycles every body in an island must be at rest before the
+     *                       island is put to sleep
+     */
+    public void setIslandSleep(float sleepThreshold, int sleepCycles) {
+        islandManager.configure(sleepThreshold, sleepCycles);
+    }
+
+    /**
+     * Sets how the force on each body is computed
+     *
+     * @param forceMode the force mode
+     * @param theta     the opening angle for {@link ForceMode#OCTREE} and {@link ForceMode#BVH}. Nodes smaller than this fraction of their
+     *                  distance from a body are treated as a single mass. Smaller values are more accurate and
+     *                  slower
+     */
+    public void setForceMode(ForceMode forceMode, float theta) {
+        octree.setTheta(theta);
+        bvh.setTheta(theta);
+        this.forceMode = forceMode;
+    }
+
+    /**
+     * Enables camera-aware compute level of detail
+     *
+     * @param computeLod receives the camera from the renderer. Null disables the level of detail
+     */
+    public void setComputeLod(ComputeLod computeLod) {
+        this.computeLod = computeLod;
+    }
+
+    /**
+     * @return the force mode
+     */
+    public ForceMode getForceMode() {
+        return forceMode;
+    }
+
+    /**
+     * Finds the bodies whose spheres overlap a sphere. In {@link ForceMode#BVH} mode, queries the hierarchy built
+     * for the most recent compute cycle. Otherwise builds a hierarchy in the calling thread for the query
+     *
+     * @param x      the center of the sphere
+     * @param y      "
+     * @param z      "
+     * @param radius the radius of the sphere
+     *
+     * @return copies of the bodies - see {@link Body#snapshot}
+     */
+    public List<Body> findBodiesInSphere(float x, float y, float z, float radius) {
+        return snapshots(queryBvh().findInSphere(x, y, z, radius));
+    }
+
+    /**
+     * Finds the bodies nearest to a point. Uses the same hierarchy as {@link #findBodiesInSphere}
+     *
+     * @param x        the point
+     * @param y        "
+     * @param z        "
+     * @param maxCount the max number of bodies to find
+     *
+     * @return copies of the bodies, nearest first - see {@link Body#snapshot}
+     */
+    public List<Body> findNearestBodies(float x, float y, float z, int maxCount) {
+        return snapshots(queryBvh().findNearest(x, y, z, maxCount));
+    }
+
+    /**
+     * Replaces the bodies in the passed list with copies, so the caller can't see a body after it is re-used
+     * from the pool. Drops the bodies that are re-used while they are copied
+     */
+    private static List<Body> snapshots(List<Body> bodies) {
+        int n = 0;
+        for (Body body : bodies) {
+            Body copy = body.snapshot();
+            if (copy != null) {
+                bodies.set(n++, copy);
+            }
+        }
+        bodies.subList(n, bodies.size()).clear();
+        return bodies;
+    }
+
+    private Bvh queryBvh() {
+        if (forceMode == ForceMode.BVH && bvh.isBuilt()) {
+            return bvh;
+        }
+        Bvh query = new Bvh();
+        query.build(bodyStore);
+        return query;
+    }
+
+    /**
+     * @return the opening angle for the octree and BVH force modes
+     */
+    public float getTheta() {
+        return octree.getTheta();
+    }
+
+    /**
+     * @return the island sleep threshold. Zero means island sleeping is disabled
+     */
+    public float getSleepThreshold() {
+        return islandManager.getSleepThreshold();
+    }
+
+    /**
+     * @return the number of consecutive quiet cycles before an island sleeps
+     */
+    public int getSleepCycles() {
+        return islandManager.getSleepCycles();
+    }
+
     /**
      * Runs the n-body force calculation continually in a thread
      *
@@ -191,8 +432,9 @@ public final class ComputationRunner implements Runnable {
      * of bodies have had their force computed.
      * <p>
      * So at that time, it is safe to update the velocity and position without synchronization because no
-     * other threads are reading the bodies. The results are stored in a queue of {@link BodyRenderInfo}
-     * instances which the graphics engine consumes. The graphics engine continually gets a copy of the
+     * other threads are reading the bodies - other than the update tasks themselves, which each own a disjoint
+     * range of the bodies. See {@link #updateBodies}. The results are stored in a
+     * {@link ResultQueueHolder.ResultQueue} which the graphics engine consumes. The graphics engine continually gets a copy of the
      * body values (and only what it needs to render the visuals) so there is never thread contention
      * between the graphics engine and the body position computation</p>
      *
@@ -207,10 +449,39 @@ public final class ComputationRunner implements Runnable {
             Thread.sleep(5);
             return;
         }
-        int bodyCount = 0;
-        for (Body body : bodyQueue) {
-            completionService.submit(body.new ForceComputer(bodyQueue));
+        long start = System.nanoTime();
+        bodyStore.applyStaged();
+        // read once, so the whole cycle uses the same mode
+        ForceMode forceMode = this.forceMode;
+        Octree tree = null;
+        if (forceMode == ForceMode.OCTREE) {
+            octree.update(bodyStore);
+            tree = octree;
+        } else if (octree.isBuilt()) {
+            octree.clear();
+        }
+        Bvh hierarchy = null;
+        if (forceMode == ForceMode.BVH) {
+            bvh.build(bodyStore);
+            hierarchy = bvh;
+        } else if (bvh.isBuilt()) {
+            bvh.clear();
+        }
+        boolean deterministic = Body.getDeterministic();
+        ComputeLod lod = deterministic ? null : computeLod;
+        ComputeLod.View view = lod == null ? null : lod.beginCycle();
+        int bodyCount = 0, computeCount = 0;
+        for (Body body : bodyStore) {
             ++bodyCount;
+            if (view != null && !lod.isDue(body, view)) {
+                // the body is moved by the force from its last computation
+                continue;
+            }
+            completionService.submit(body.new ForceComputer(bodyStore, tree, hierarchy, timeScaling));
+            ++computeCount;
+        }
+        if (view != null) {
+            lod.endCycle();
         }
         if (bodyCount == 0) {
             // sim is empty at this time, don't peg the CPU
@@ -219,25 +490,144 @@ public final class ComputationRunner implements Runnable {
         }
         metricBodyCountGauge.setValue(bodyCount);
         // blocks until all calculations are complete
-        for (int i = 0; i < bodyCount; ++i) {
+        for (int i = 0; i < computeCount; ++i) {
             completionService.take();
         }
-        ResultQueueHolder.ResultQueue rq = resultQueueHolder.newQueue(bodyCount);
+        if (deterministic) {
+            runDeferred();
+        }
+        Body.endContactCycle();
+        islandManager.step(bodyStore, timeScaling);
+        fragmentCoarsener.coarsen(bodyStore);
+        int slots = bodyStore.getHighWater();
+        ResultQueueHolder.ResultQueue rq = resultQueueHolder.newQueue(slots);
+        int countRemoved = updateBodies(rq, slots, Math.max(resultQueueHolder.getDeltaEpsilon(), 0));
+        resultQueueHolder.publish(rq);
+        if (countRemoved > 0) {
+            logger.debug("Removed {} bodies from the store", countRemoved);
+        }
+        if (!bodyStore.sortIfDue() && countRemoved > 0) {
+            bodyStore.compactIfNeeded();
+        }
+        bodyStore.setSpawnBudget(deterministic ? BodyStore.DEFAULT_SPAWN_BUDGET :
+                spawnBudget(System.nanoTime() - start, bodyCount));
+        metricComputationCount.incValue();
+    }
+
+    /**
+     * Applies the computed force to each body, and fills the result queue. The store slots are split into
+     * contiguous ranges that are processed in the thread pool. Each task writes its bodies to the result queue
+     * starting at the index of its first slot, so the tasks write to disjoint ranges of the queue. Once all the
+     * tasks are done, the ranges are moved down in order, so the queue holds the bodies in store order just as if
+     * it had been filled by one thread - and the bodies that no longer exist are removed from the store, which
+     * only the runner thread may do. Nothing is visible to the render thread until the caller publishes the queue
+     *
+     * @param rq      the result queue for the cycle, with a capacity of at least {@code slots}
+     * @param slots   the store's high water mark
+     * @param epsilon the distance a body has to move to be added to a delta queue
+     *
+     * @return the number of bodies removed
+     */
+    private int updateBodies(ResultQueueHolder.ResultQueue rq, int slots, float epsilon)
+            throws InterruptedException {
+        int tasks = slots < PARALLEL_UPDATE_THRESHOLD ? 1 :
+                Math.max(executor.getCorePoolSize(), 1) * UPDATE_TASKS_PER_THREAD;
+        if (rangeFrom.length < tasks) {
+            rangeFrom = new int[tasks];
+            rangeCount = new int[tasks];
+        }
+        while (rangeRemoved.size() < tasks) {
+            rangeRemoved.add(new ArrayList<>());
+        }
+        updateQueue = rq;
+        updateEpsilon = epsilon;
+        updateRanges.forEach(slots, tasks, updateRange);
+        updateQueue = null;
+        for (Body body : retired) {
+            Body.release(body);
+        }
+        retired.clear();
         int countRemoved = 0;
-        for (Body body : bodyQueue) {
-            BodyRenderInfo renderInfo = body.update(timeScaling);
-            rq.addRenderInfo(renderInfo);
+        for (int task = 0; task < tasks; ++task) {
+            rq.append(rangeFrom[task], rangeCount[task]);
+            List<Body> removed = rangeRemoved.get(task);
+            for (Body body : removed) {
+                bodyStore.remove(body);
+                octree.remove(body);
+                retired.add(body);
+            }
+            countRemoved += removed.size();
+            removed.clear();
+        }
+        return countRemoved;
+    }
+
+    /**
+     * Updates the bodies in a range of store slots, for {@link #updateBodies}
+     *
+     * @param task the index of the range
+     * @param from the first slot
+     * @param to   one past the last slot
+     */
+    private void updateRange(int task, int from, int to) {
+        ResultQueueHolder.ResultQueue rq = updateQueue;
+        float epsilon = updateEpsilon;
+        List<Body> removed = rangeRemoved.get(task);
+        int i = from;
+        for (int slot = from; slot < to; ++slot) {
+            Body body = bodyStore.get(slot);
+            if (body == null) {
+                continue;
+            }
+            body.update(timeScaling);
+            if (body.addTo(rq, i, epsilon)) {
+                ++i;
+            }
             if (!body.exists()) {
-                // The body no longer exists, but will still be placed into the result queue so
+                // The body no longer exists, but is still placed into the result queue so
                 // the graphics engine can remove it from the scene graph
-                bodyQueue.remove(body);
-                ++countRemoved;
+                removed.add(body);
             }
         }
-        rq.setComputed();
-        if (countRemoved > 0) {
-            logger.debug("Removed {} bodies from the queue", countRemoved);
+        rangeFrom[task] = from;
+        rangeCount[task] = i - from;
+    }
+
+    /**
+     * Performs the work that the force computers defer in deterministic mode. First advances fragmentation for
+     * fragmenting bodies in store order, then resolves the deferred collisions of each body in ID order.
+     */
+    private void runDeferred() {
+        collidingBodies.clear();
+        for (Body body : bodyStore) {
+            body.fragmentDeferred(bodyStore);
+            if (body.getDeferredCollisionCount() > 0) {
+                collidingBodies.add(body);
+            }
         }
-        metricComputationCount.incValue();
+        collidingBodies.sort(BY_ID);
+        for (Body body : collidingBodies) {
+            body.resolveDeferredCollisions();
+        }
+    }
+
+    /**
+     * Calculates how many bodies can be added to the simulation in the next cycle. Each added body adds about
+     * {@code 2 * cycleNanos / bodyCount} to the cycle time: one pass over all the other bodies for its own force,
+     * plus one pair in every other body's pass. The budget is the number of bodies that fit in the headroom
+     * between the measured cycle time and {@link #TARGET_CYCLE_NANOS}.
+     *
+     * @param cycleNanos the measured time of the cycle that just completed
+     * @param bodyCount  the number of bodies in that cycle
+     *
+     * @return the spawn budget, bounded by {@link #MIN_SPAWN_BUDGET} and {@link #MAX_SPAWN_BUDGET}
+     */
+    private static int spawnBudget(long cycleNanos, int bodyCount) {
+        if (cycleNanos >= TARGET_CYCLE_NANOS) {
+            return MIN_SPAWN_BUDGET;
+        }
+        double nanosPerBody = 2D * cycleNanos / bodyCount;
+        double budget = (TARGET_CYCLE_NANOS - cycleNanos) / Math.max(nanosPerBody, 1);
+        return (int) Math.max(MIN_SPAWN_BUDGET, Math.min(MAX_SPAWN_BUDGET, budget));
     }
 }
@@ -0,0 +1,183 @@
+package org.ericace.nbody;
+
+import org.ericace.instrumentation.InstrumentationManager;
+import org.ericace.instrumentation.Metric;
+
+/**
+ * Camera-aware compute level of detail. The renderer publishes its camera to this class each frame, and the
+ * {@link ComputationRunner} asks it each cycle which bodies need their force re-computed. A body that is on
+ * screen and big enough to see is computed every cycle. A body that is off screen, or too small on screen to
+ * see, is computed every few cycles - up to {@link #getMaxInterval} - and in the cycles between, it reuses the
+ * force from its last computation.
+ * <p>
+ * Every body is still moved every cycle by the full time step, so bodies that are out of view never fall
+ * behind in simulated time: only their force is approximated. Since a skipped body doesn't look for collisions,
+ * a collision between two skipped bodies is found a few cycles late. To limit that, a body that was just added
+ * or that just collided or touched another body is computed every cycle for {@link #HOLD_CYCLES} cycles.</p>
+ * <p>
+ * Until a camera is published - for example when not rendering - every body is computed every cycle.</p>
+ */
+public final class ComputeLod {
+    private static final Metric metricSkippedGauge = InstrumentationManager.getInstrumentation()
+            .registerGauge("nbody_compute_lod_skipped_gauge", "Bodies whose force was not re-computed in the last cycle");
+    private static final Metric metricVisibleGauge = InstrumentationManager.getInstrumentation()
+            .registerGauge("nbody_compute_lod_visible_gauge", "Bodies computed at full rate in the last cycle");
+
+    /**
+     * The number of cycles a body is computed every cycle after it is added, or after it collides with or
+     * touches another body
+     */
+    static final int HOLD_CYCLES = 4;
+
+    /**
+     * A body on screen whose radius projects to at least this many pixels is computed every cycle. Smaller
+     * bodies are computed less often, in proportion to their size on screen
+     */
+    private static final float FULL_RATE_PIXELS = 2F;
+
+    /**
+     * The max number of cycles between force computations of a body
+     */
+    private final int maxInterval;
+
+    /**
+     * The most recently published camera, or null
+     */
+    private volatile View view;
+
+    /**
+     * Counts for the cycle in progress. Only accessed by the computation runner thread
+     */
+    private int skipped, visible;
+
+    /**
+     * @param maxInterval the max number of cycles between force computations of a body. Values less than two
+     *                    disable the level of detail
+     */
+    public ComputeLod(int maxInterval) {
+        this.maxInterval = Math.max(maxInterval, 1);
+    }
+
+    public int getMaxInterval() {
+        return maxInterval;
+    }
+
+    /**
+     * Publishes the camera. Called by the renderer thread each frame
+     *
+     * @param x          the camera location
+     * @param y          "
+     * @param z          "
+     * @param planes     the frustum planes in world coordinates, four values per plane: the normal, pointing
+     *                   into the frustum, and the constant - so a point is inside the plane if
+     *                   {@code normal . point - constant >= 0}. The array is copied
+     * @param pixelScale the number of pixels on screen per unit of size, for an object one unit in front of
+     *                   the camera
+     */
+    void publish(float x, float y, float z, float[] planes, float pixelScale) {
+        view = new View(x, y, z, planes.clone(), pixelScale);
+    }
+
+    /**
+     * Starts a compute cycle
+     *
+     * @return the camera to use for the cycle, or null if the level of detail doesn't apply - in which case
+     * every body is computed
+     */
+    View beginCycle() {
+        skipped = visible = 0;
+        return maxInterval > 1 ? view : null;
+    }
+
+    /**
+     * Determines whether a body's force is computed in this cycle, and updates the body's bookkeeping.
+     * Fragmenting bodies and members of sleeping islands are always computed, since their force computers
+     * do other work
+     *
+     * @param body the body
+     * @param view the camera returned by {@link #beginCycle}
+     *
+     * @return true if the body is computed in this cycle, false if it reuses its last force
+     */
+    boolean isDue(Body body, View view) {
+        if (body.isFragmenting() || body.getIsland() != null || body.getContactCount() > 0 || body.lodHold > 0) {
+            if (body.lodHold > 0) {
+                --body.lodHold;
+            }
+            body.lodInterval = 1;
+            body.lodWait = 0;
+            ++visible;
+            return true;
+        }
+        int interval = interval(body, view);
+        if (interval == 1) {
+            ++visible;
+        }
+        if (interval > body.lodInterval) {
+            // stagger the bodies whose interval increases in the same cycle - e.g. when the camera turns - so
+            // their computations don't all fall in the same later cycle
+            body.lodWait = body.getId() % interval;
+        } else {
+            // a body coming into view is computed right away
+            body.lodWait = Math.min(body.lodWait, interval - 1);
+        }
+        body.lodInterval = interval;
+        if (body.lodWait > 0) {
+            --body.lodWait;
+            ++skipped;
+            return false;
+        }
+        body.lodWait = interval - 1;
+        return true;
+    }
+
+    /**
+     * Ends a compute cycle, and publishes the counts for the cycle
+     */
+    void endCycle() {
+        metricSkippedGauge.setValue(skipped);
+        metricVisibleGauge.setValue(visible);
+    }
+
+    /**
+     * @return the number of cycles between force computations of the passed body: one if it is on screen and at
+     * least {@link #FULL_RATE_PIXELS} in radius, more for smaller bodies on screen, and {@link #maxInterval} for
+     * bodies that are off screen
+     */
+    private int interval(Body body, View view) {
+        float x = body.getX(), y = body.getY(), z = body.getZ(), r = body.getRadius();
+        float[] planes = view.planes;
+        for (int i = 0; i < planes.length; i += 4) {
+            if (planes[i] * x + planes[i + 1] * y + planes[i + 2] * z - planes[i + 3] < -r) {
+                return maxInterval;
+            }
+        }
+        float dx = x - view.x, dy = y - view.y, dz = z - view.z;
+        float dist = (float) Math.sqrt(dx * dx + dy * dy + dz * dz);
+        if (dist <= r) {
+            return 1;
+        }
+        float pixels = r / dist * view.pixelScale;
+        if (pixels >= FULL_RATE_PIXELS) {
+            return 1;
+        }
+        return (int) Math.min(maxInterval, Math.ceil(FULL_RATE_PIXELS / Math.max(pixels, 1E-6F)));
+    }
+
+    /**
+     * A snapshot of the camera
+     */
+    static final class View {
+        private final float x, y, z;
+        private final float[] planes;
+        private final float pixelScale;
+
+        private View(float x, float y, float z, float[] planes, float pixelScale) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.planes = planes;
+            this.pixelScale = pixelScale;
+        }
+    }
+}
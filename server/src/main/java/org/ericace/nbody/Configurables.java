@@ -40,6 +40,18 @@ public interface Configurables {
      */
     int getResultQueueSize();
 
+    /**
+     * Sets what happens when the computation thread has filled the result queue
+     *
+     * @param policy the policy to set
+     */
+    void setResultQueuePolicy(ResultQueueHolder.OverflowPolicy policy);
+
+    /**
+     * @return the current result queue overflow policy
+     */
+    ResultQueueHolder.OverflowPolicy getResultQueuePolicy();
+
     /**
      * Sets a smoothing factor. All force and velocity calculations are scaled by this value
      *
@@ -76,6 +88,33 @@ public interface Configurables {
      */
     float getRestitutionCoefficient();
 
+    /**
+     * Sets the thresholds for merging fragments into super-particles. Fragments that broke off the same body,
+     * that are within {@code distance} of each other, and whose velocities differ by no more than {@code velocity}
+     * are merged into one body that conserves their mass and momentum
+     *
+     * @param distance   the merge distance. Zero disables coarsening
+     * @param velocity   the maximum velocity difference between merged fragments. A super-particle is split back
+     *                   into fragments if a collision changes its velocity by more than this
+     * @param maxMembers the maximum number of fragments in one super-particle
+     */
+    void setCoarsening(float distance, float velocity, int maxMembers);
+
+    /**
+     * @return the current coarsening merge distance
+     */
+    float getCoarseningDistance();
+
+    /**
+     * @return the current coarsening velocity threshold
+     */
+    float getCoarseningVelocity();
+
+    /**
+     * @return the current maximum number of fragments in one super-particle
+     */
+    int getCoarseningMaxMembers();
+
     /**
      * Removes bodies from the simulation. The interface does not attempt to specify how bodies are selected
      * for removal
@@ -92,7 +131,8 @@ public interface Configurables {
     /**
      * Adds a body to the simulation. Params are not documented, as they appear to be relatively self-explanatory
      *
-     * @return the ID of the body added
+     * @return the ID of the body added. The body is staged, and enters the simulation in an upcoming compute
+     * cycle, but {@link #getBody} and {@link #modBody} find it by this ID straight away
      */
     int addBody(float mass, float x, float y, float z, float vx, float vy, float vz, float radius,
                 boolean isSun, Globals.CollisionBehavior behavior, Globals.Color bodyColor, float fragFactor,
@@ -116,7 +156,31 @@ public interface Configurables {
     ModBodyResult modBody(int id, String name, String clas, List<BodyMod> bodyMods);
 
     /**
-     * Gets a body to display its properties
+     * Gets a copy of a body to display its properties
      */
     Body getBody(int id, String name);
+
+    /**
+     * Finds the bodies whose spheres overlap a sphere
+     *
+     * @param x      the center of the sphere
+     * @param y      "
+     * @param z      "
+     * @param radius the radius of the sphere
+     *
+     * @return copies of the bodies
+     */
+    List<Body> findBodiesInSphere(float x, float y, float z, float radius);
+
+    /**
+     * Finds the bodies whose centers are nearest to a point
+     *
+     * @param x        the point
+     * @param y        "
+     * @param z        "
+     * @param maxCount the max number of bodies to return
+     *
+     * @return copies of the bodies, nearest first
+     */
+    List<Body> findNearestBodies(float x, float y, float z, int maxCount);
 }
@@ -0,0 +1,155 @@
+package org.ericace.nbody;
+
+import org.ericace.instrumentation.InstrumentationManager;
+import org.ericace.instrumentation.Metric;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers the bodies that one body has been in contact with in recent compute cycles, and the contact normal of
+ * each pair. In dense clusters - e.g. the blobs in {@code sim3} - the same pairs overlap cycle after cycle, and
+ * the contact normal of a pair barely changes from one cycle to the next. The collision solvers work the normal
+ * out from scratch each cycle - the PLASMA solver with a dozen transcendental function calls. On a hit, the
+ * narrow phase uses the cached normal instead - see {@link Body}{@code .collisionFromContactCache}.
+ * <p>
+ * Each body has its own cache, keyed by the ID of the other body, so together the caches are keyed by the pair of
+ * IDs. A body's cache is only read and written while resolving that body's collisions, which happens in one
+ * thread at a time - the body's force computer, or the computation runner in deterministic mode - so there is no
+ * locking. Entries are stamped with the cycle they were last refreshed in, and an entry more than
+ * {@link #getMaxAge} cycles old is treated as absent and is the first to be overwritten - so entries age out
+ * without a sweep.</p>
+ */
+final class ContactCache {
+    private static final Metric metricHitRateGauge = InstrumentationManager.getInstrumentation()
+            .registerGauge("nbody_contact_cache_hit_rate", "Contact cache hit rate in the last cycle");
+    private static final Metric metricLookupGauge = InstrumentationManager.getInstrumentation()
+            .registerGauge("nbody_contact_cache_lookup_gauge", "Contact cache lookups in the last cycle");
+
+    /**
+     * The max number of pairs a body remembers. Even in a tightly packed cluster a sphere touches about a dozen
+     * others
+     */
+    static final int CAPACITY = 16;
+
+    /**
+     * The number of cycles an entry is kept without being refreshed. Zero disables the cache
+     */
+    private static volatile int maxAge;
+
+    /**
+     * The current compute cycle
+     */
+    private static volatile int cycle;
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    private final int[] ids = new int[CAPACITY];
+    private final int[] cycles = new int[CAPACITY];
+    private final float[] nx = new float[CAPACITY], ny = new float[CAPACITY], nz = new float[CAPACITY];
+    private int size;
+
+    /**
+     * @param maxAge the number of cycles an entry is kept without being refreshed. Zero disables the cache
+     */
+    static void setMaxAge(int maxAge) {
+        ContactCache.maxAge = Math.max(maxAge, 0);
+    }
+
+    static int getMaxAge() {
+        return maxAge;
+    }
+
+    static boolean isEnabled() {
+        return maxAge > 0;
+    }
+
+    /**
+     * Ends a compute cycle, which ages every entry by one cycle, and publishes the hit rate for the cycle. Called
+     * by the computation runner once no collisions are being resolved
+     */
+    static void advance() {
+        ++cycle;
+        long h = hits.sumThenReset(), m = misses.sumThenReset();
+        if (h + m > 0) {
+            metricHitRateGauge.setValue((float) h / (h + m));
+        }
+        metricLookupGauge.setValue(h + m);
+    }
+
+    static void hit() {
+        hits.increment();
+    }
+
+    static void miss() {
+        misses.increment();
+    }
+
+    /**
+     * @param otherId the ID of the other body
+     *
+     * @return the index of the entry for the other body, or -1 if there is none or it has aged out
+     */
+    int find(int otherId) {
+        int oldest = cycle - maxAge;
+        for (int i = 0; i < size; ++i) {
+            if (ids[i] == otherId) {
+                return cycles[i] > oldest ? i : -1;
+            }
+        }
+        return -1;
+    }
+
+    float normalX(int i) {return nx[i];}
+    float normalY(int i) {return ny[i];}
+    float normalZ(int i) {return nz[i];}
+
+    /**
+     * Marks an entry as used in the current cycle
+     *
+     * @param i the index returned by {@link #find}
+     */
+    void refresh(int i) {
+        cycles[i] = cycle;
+    }
+
+    /**
+     * Adds or replaces the entry for another body. If the cache is full, the entry refreshed longest ago is
+     * replaced
+     *
+     * @param otherId the ID of the other body
+     * @param x       the unit contact normal, pointing from the body that owns the cache to the other body
+     * @param y       "
+     * @param z       "
+     */
+    void record(int otherId, float x, float y, float z) {
+        int i = 0;
+        while (i < size && ids[i] != otherId) {
+            ++i;
+        }
+        if (i == size) {
+            if (size < CAPACITY) {
+                ++size;
+            } else {
+                i = 0;
+                for (int j = 1; j < CAPACITY; ++j) {
+                    if (cycles[j] - cycles[i] < 0) {
+                        i = j;
+                    }
+                }
+            }
+        }
+        ids[i] = otherId;
+        cycles[i] = cycle;
+        nx[i] = x;
+        ny[i] = y;
+        nz[i] = z;
+    }
+
+    /**
+     * Forgets every entry. Used when the owning body is re-used from the pool
+     */
+    void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,89 @@
+package org.ericace.nbody;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A group of bodies connected by contact. While an island is being evaluated by the {@link IslandManager}
+ * it accumulates the mass and momentum of its members. Once it is put to sleep, the members move together
+ * as a single rigid aggregate: one member - the representative - computes the gravitational force on the
+ * whole island, and the other members skip force computation entirely.
+ */
+class ContactIsland {
+    /**
+     * The bodies in the island
+     */
+    final List<Body> members = new ArrayList<>();
+
+    /**
+     * Total mass of the members
+     */
+    double mass;
+
+    /**
+     * Accumulates momentum while the island is being evaluated. Holds the velocity of the island once
+     * {@link #finish} is called
+     */
+    double vx, vy, vz;
+
+    /**
+     * Offset of the island center of mass from the representative. Because the island is rigid while it
+     * sleeps, the offset does not change
+     */
+    double ox, oy, oz;
+
+    /**
+     * Radius of a sphere centered on the center of mass that encloses all the members
+     */
+    double boundRadius;
+
+    /**
+     * The member that computes the external force on the island
+     */
+    Body representative;
+
+    /**
+     * External force on the island. Written only by the representative's force computer
+     */
+    double fx, fy, fz;
+
+    /**
+     * Set by any thread that detects a new contact with - or an external change to - a member
+     */
+    volatile boolean wakeRequested;
+
+    /**
+     * Adds a body to the island and accumulates its mass and momentum
+     *
+     * @param body the body to add
+     */
+    void add(Body body) {
+        float m = body.getMass();
+        members.add(body);
+        mass += m;
+        vx += m * body.getVx();
+        vy += m * body.getVy();
+        vz += m * body.getVz();
+    }
+
+    /**
+     * Converts the accumulated momentum into the velocity of the island center of mass
+     */
+    void finish() {
+        vx /= mass;
+        vy /= mass;
+        vz /= mass;
+    }
+
+    /**
+     * @return true if all members still exist
+     */
+    boolean allExist() {
+        for (Body body : members) {
+            if (!body.exists()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
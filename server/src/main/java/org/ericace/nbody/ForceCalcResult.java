@@ -14,14 +14,24 @@ class ForceCalcResult {
      */
     final boolean collided;
 
-    private ForceCalcResult(float dist, boolean collided) {
+    /**
+     * Time of impact within the time step. Zero if the bodies already overlap, non-zero if continuous
+     * collision detection found that the bodies will touch part way through the time step
+     */
+    final float toi;
+
+    private ForceCalcResult(float dist, boolean collided, float toi) {
         this.dist = dist;
         this.collided = collided;
+        this.toi = toi;
     }
     static ForceCalcResult noCollision() {
-        return new ForceCalcResult(0, false);
+        return new ForceCalcResult(0, false, 0);
     }
     static ForceCalcResult collision(float dist) {
-        return new ForceCalcResult(dist, true);
+        return new ForceCalcResult(dist, true, 0);
+    }
+    static ForceCalcResult sweptCollision(float dist, float toi) {
+        return new ForceCalcResult(dist, true, toi);
     }
 }
@@ -0,0 +1,97 @@
+package org.ericace.nbody;
+
+import org.ericace.globals.Globals;
+import org.ericace.instrumentation.InstrumentationManager;
+import org.ericace.instrumentation.Metric;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Merges swarms of fragments into super-particles. A single impact can fragment a body into up to two thousand
+ * bodies which then mostly travel together - which is a lot of force computation for bodies that are effectively
+ * one mass. Fragments that broke off the same body, are close to each other, and are moving at nearly the same
+ * velocity are merged into a single body that conserves their mass, momentum, and volume. The merged body
+ * remembers how many fragments it represents so that it can be split back into fragments if a collision
+ * disturbs it. See {@link Body#absorb} and {@link Body#setCoarsening}.
+ * <p>
+ * Fragments are bucketed into a grid with a cell size equal to the merge distance, per originating body. Within
+ * a cell, each fragment is merged into the first fragment that it is close enough to. This only finds nearby
+ * fragments in the same cell, but it is linear in the number of fragments, and since it runs every cycle, a swarm
+ * is coarsened progressively as its fragments drift together.</p>
+ */
+final class FragmentCoarsener {
+    private static final Metric metricMergeCount = InstrumentationManager.getInstrumentation()
+            .registerCounter("nbody_fragment_merge_count", "Count of fragments merged into super-particles");
+
+    /**
+     * The super-particle being built in each grid cell in the current cycle
+     */
+    private final Map<Long, Body> cells = new HashMap<>();
+
+    /**
+     * Merges fragments that meet the thresholds configured in {@link Body}. Must be called after the force
+     * computation, and before the bodies are updated, from the thread that has exclusive access to the bodies.
+     *
+     * @param bodyStore the bodies in the simulation
+     */
+    void coarsen(BodyStore bodyStore) {
+        float distance = Body.getCoarseningDistance();
+        if (distance <= 0) {
+            return;
+        }
+        double velocity2 = (double) Body.getCoarseningVelocity() * Body.getCoarseningVelocity();
+        double distance2 = (double) distance * distance;
+        int maxMembers = Body.getCoarseningMaxMembers();
+        cells.clear();
+        for (Body body : bodyStore) {
+            if (!isCandidate(body, maxMembers)) {
+                continue;
+            }
+            Long key = cellKey(body, distance);
+            Body survivor = cells.get(key);
+            if (survivor != null && survivor.getOriginId() == body.getOriginId()
+                    && survivor.getMemberCount() + body.getMemberCount() <= maxMembers
+                    && distance2(survivor, body) <= distance2 && velocityDiff2(survivor, body) <= velocity2) {
+                survivor.absorb(body);
+                metricMergeCount.incValue();
+            } else if (survivor == null || survivor.getMemberCount() >= maxMembers) {
+                cells.put(key, body);
+            }
+        }
+    }
+
+    /**
+     * A body can be merged if it is a fragment that is undisturbed in this cycle, and has room for more members
+     */
+    private static boolean isCandidate(Body body, int maxMembers) {
+        return body.exists() && body.getOriginId() >= 0 && body.getMemberCount() < maxMembers &&
+                !body.isFragmenting() && !body.isCollided() && body.getIsland() == null &&
+                body.getCollisionBehavior() == Globals.CollisionBehavior.ELASTIC;
+    }
+
+    /**
+     * Combines the originating body ID and the grid cell coordinates into a key. Distinct cells can hash to the
+     * same key, so merge candidates are always checked for origin and distance
+     */
+    private static long cellKey(Body body, float cellSize) {
+        long cx = (long) Math.floor(body.getX() / cellSize);
+        long cy = (long) Math.floor(body.getY() / cellSize);
+        long cz = (long) Math.floor(body.getZ() / cellSize);
+        return (cx * 73856093L) ^ (cy * 19349663L) ^ (cz * 83492791L) ^ ((long) body.getOriginId() << 40);
+    }
+
+    private static double distance2(Body b1, Body b2) {
+        double dx = b1.getX() - b2.getX();
+        double dy = b1.getY() - b2.getY();
+        double dz = b1.getZ() - b2.getZ();
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static double velocityDiff2(Body b1, Body b2) {
+        double dvx = b1.getVx() - b2.getVx();
+        double dvy = b1.getVy() - b2.getVy();
+        double dvz = b1.getVz() - b2.getVz();
+        return dvx * dvx + dvy * dvy + dvz * dvz;
+    }
+}
@@ -0,0 +1,84 @@
+package org.ericace.nbody;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded lock-free ring buffer with a single producer thread and a single consumer thread. Only the producer
+ * calls {@link #offer}. {@link #poll} is called by the consumer - and may also be called by the producer, to
+ * drop the oldest element when the ring is full - so the head is advanced by compare-and-set, and an element
+ * belongs to whichever thread advanced the head past it.
+ * <p>
+ * The producer writes a slot before it advances the tail, and a thread only reads a slot after it reads the
+ * tail, so the tail publishes the element to the consumer. Neither operation allocates.</p>
+ *
+ * @param <T> the element type
+ */
+final class FrameRing<T> {
+    private final Object[] slots;
+    private final int mask;
+
+    /**
+     * The number of elements ever removed, and ever added. The element at index {@code i} is in slot
+     * {@code i & mask}
+     */
+    private final AtomicLong head = new AtomicLong(), tail = new AtomicLong();
+
+    /**
+     * @param capacity the max number of elements in the ring. Rounded up to a power of two
+     */
+    FrameRing(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        slots = new Object[size];
+        mask = size - 1;
+    }
+
+    /**
+     * @return the max number of elements in the ring
+     */
+    int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Adds an element. Only called by the producer
+     *
+     * @param t the element
+     *
+     * @return false if the ring is full, in which case the element was not added
+     */
+    boolean offer(T t) {
+        long t0 = tail.get();
+        if (t0 - head.get() >= slots.length) {
+            return false;
+        }
+        slots[(int) t0 & mask] = t;
+        tail.lazySet(t0 + 1);
+        return true;
+    }
+
+    /**
+     * Removes the oldest element
+     *
+     * @return the element, or null if the ring is empty
+     */
+    @SuppressWarnings("unchecked")
+    T poll() {
+        while (true) {
+            long h = head.get();
+            if (h >= tail.get()) {
+                return null;
+            }
+            Object t = slots[(int) h & mask];
+            if (head.compareAndSet(h, h + 1)) {
+                return (T) t;
+            }
+        }
+    }
+
+    /**
+     * @return the number of elements in the ring. Only a snapshot if the other thread is active
+     */
+    int size() {
+        return (int) Math.max(tail.get() - head.get(), 0);
+    }
+}
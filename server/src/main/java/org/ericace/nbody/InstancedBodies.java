@@ -0,0 +1,427 @@
+package org.ericace.nbody;
+
+import com.jme3.asset.AssetManager;
+import com.jme3.bounding.BoundingBox;
+import com.jme3.material.Material;
+import com.jme3.math.ColorRGBA;
+import com.jme3.math.Vector3f;
+import com.jme3.scene.Mesh;
+import com.jme3.scene.Node;
+import com.jme3.scene.VertexBuffer;
+import com.jme3.scene.instancing.InstancedGeometry;
+import com.jme3.util.BufferUtils;
+import org.ericace.instrumentation.InstrumentationManager;
+import org.ericace.instrumentation.Metric;
+
+import java.nio.FloatBuffer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Renders bodies with hardware instancing. Rather than a {@code Geometry}, {@code Mesh}, and {@code Material} per
+ * body - one draw call each - every body is an instance of a shared unit sphere, and all the instances of a sphere
+ * are drawn in a single draw call. Each instance has a slot in two per-instance vertex buffers: a transform, which
+ * scales the unit sphere to the body's radius and moves it to the body's position, and a color. The renderer writes
+ * a body's slot directly from the result queue, and there is no per-body spatial in the scene graph to update.
+ * <p>
+ * There is one batch of instances per {@link MeshLod} level, so with level of detail there are a handful of draw
+ * calls - one per level in use - and without it, there is one.</p>
+ * <p>
+ * Only the renderer thread calls this class. Changes are uploaded to the GPU by {@link #flush}, which the
+ * renderer calls once per frame after applying its changes.</p>
+ * <p>
+ * Nothing here needs a GL context until the scene is rendered, so {@code InstancedBodiesTest} builds the class on a
+ * plain {@code Node} and checks the scene-graph cost: one {@code InstancedGeometry} per level in use, whose
+ * instance buffers are the same objects from frame to frame until a batch outgrows them. At runtime, the
+ * {@code nbody_instanced_batch_gauge} metric shows the number of batches drawn.</p>
+ */
+final class InstancedBodies {
+    private static final Metric metricInstancedGauge = InstrumentationManager.getInstrumentation()
+            .registerGauge("nbody_instanced_body_gauge", "Number of bodies rendered with instancing");
+    private static final Metric metricInstancedBatchGauge = InstrumentationManager.getInstrumentation()
+            .registerGauge("nbody_instanced_batch_gauge", "Number of non-empty instanced batches - one draw call each");
+
+    /**
+     * Floats per instance in the transform buffer: the top three rows of the world matrix, stored by column,
+     * with the normal rotation quaternion in the fourth component of each column. This is the layout
+     * JMonkeyEngine's {@code Instancing.glsllib} expects
+     */
+    private static final int TRANSFORM_FLOATS = 16;
+
+    /**
+     * Floats per instance in the color buffer: RGBA
+     */
+    private static final int COLOR_FLOATS = 4;
+
+    /**
+     * The initial number of instance slots. Doubled as needed
+     */
+    static final int INITIAL_CAPACITY = 256;
+
+    private final Node parent;
+    private final MeshLod meshLod;
+    private final Material sphereMaterial;
+
+    /**
+     * The batch for each level, created when first used
+     */
+    private final Batch[] batches = new Batch[MeshLod.LEVELS];
+
+    /**
+     * The instances, by body ID
+     */
+    private final Map<Integer, Instance> instances = new HashMap<>();
+
+    /**
+     * @param assetManager loads the material
+     * @param parent       the node to attach the instanced geometry to. Lights attached to this node - or to its
+     *                     ancestors - light the bodies
+     * @param meshLod      provides the meshes
+     */
+    InstancedBodies(AssetManager assetManager, Node parent, MeshLod meshLod) {
+        this.parent = parent;
+        this.meshLod = meshLod;
+        sphereMaterial = new Material(assetManager, "Common/MatDefs/Light/Lighting.j3md");
+        sphereMaterial.setBoolean("UseInstancing", true);
+        sphereMaterial.setBoolean("UseVertexColor", true);
+        sphereMaterial.setFloat("Shininess", 25);
+        sphereMaterial.setBoolean("UseMaterialColors", true);
+        sphereMaterial.setColor("Ambient", ColorRGBA.Black);
+        sphereMaterial.setColor("Diffuse", ColorRGBA.White);
+        sphereMaterial.setColor("Specular", ColorRGBA.Yellow);
+    }
+
+    /**
+     * @return true if the passed body is rendered by this class
+     */
+    boolean contains(int id) {
+        return instances.containsKey(id);
+    }
+
+    /**
+     * @return the IDs of the bodies rendered by this class. A view that changes as bodies are added and removed
+     */
+    Set<Integer> getIds() {
+        return Collections.unmodifiableSet(instances.keySet());
+    }
+
+    /**
+     * @return the number of bodies rendered by this class
+     */
+    int size() {
+        return instances.size();
+    }
+
+    /**
+     * @return the number of bodies drawn at the passed level
+     */
+    int size(int level) {
+        return batches[level] == null ? 0 : batches[level].count;
+    }
+
+    /**
+     * Adds a body at the {@link MeshLod#DEFAULT_LEVEL}
+     *
+     * @param id     the ID of the body
+     * @param x      x position
+     * @param y      y "
+     * @param z      z "
+     * @param radius radius
+     * @param color  body color
+     */
+    void add(int id, float x, float y, float z, float radius, ColorRGBA color) {
+        Instance instance = new Instance();
+        instance.set(x, y, z, radius);
+        instance.color = color;
+        instances.put(id, instance);
+        place(instance, MeshLod.DEFAULT_LEVEL);
+    }
+
+    /**
+     * Removes a body
+     *
+     * @param id the ID of the body
+     *
+     * @return true if the body was rendered by this class
+     */
+    boolean remove(int id) {
+        Instance instance = instances.remove(id);
+        if (instance == null) {
+            return false;
+        }
+        batches[instance.level].remove(instance);
+        return true;
+    }
+
+    /**
+     * Moves a body. Does nothing if the body is not rendered by this class
+     */
+    void move(int id, float x, float y, float z) {
+        Instance instance = instances.get(id);
+        if (instance != null) {
+            instance.set(x, y, z, instance.radius);
+            batches[instance.level].writeTransform(instance);
+        }
+    }
+
+    /**
+     * Changes a body's radius. Does nothing if the body is not rendered by this class
+     */
+    void setRadius(int id, float radius) {
+        Instance instance = instances.get(id);
+        if (instance != null && instance.radius != radius) {
+            instance.set(instance.x, instance.y, instance.z, radius);
+            batches[instance.level].writeTransform(instance);
+        }
+    }
+
+    /**
+     * Changes a body's color. Does nothing if the body is not rendered by this class
+     */
+    void setColor(int id, ColorRGBA color) {
+        Instance instance = instances.get(id);
+        if (instance != null) {
+            instance.color = color;
+            batches[instance.level].writeColor(instance);
+        }
+    }
+
+    /**
+     * Gets a body's position
+     *
+     * @param id    the ID of the body
+     * @param store receives the position
+     *
+     * @return the passed store, or null if the body is not rendered by this class
+     */
+    Vector3f getPosition(int id, Vector3f store) {
+        Instance instance = instances.get(id);
+        return instance == null ? null : store.set(instance.x, instance.y, instance.z);
+    }
+
+    /**
+     * Moves each body to the batch for the level {@link #meshLod} chooses for it. The camera must have been set
+     * on {@link #meshLod} for the frame
+     */
+    void updateLevels() {
+        for (int level = 0; level < MeshLod.LEVELS; ++level) {
+            Batch batch = batches[level];
+            if (batch == null) {
+                continue;
+            }
+            // descending, so an instance moved into a vacated slot has already been visited
+            for (int i = batch.count - 1; i >= 0; --i) {
+                Instance instance = batch.slots[i];
+                int newLevel = meshLod.level(instance.x, instance.y, instance.z, instance.radius, level);
+                if (newLevel != level) {
+                    batch.remove(instance);
+                    place(instance, newLevel);
+                }
+            }
+        }
+    }
+
+    /**
+     * Uploads the changes since the last call to the GPU, and re-computes the bounds of the instances so the
+     * engine can cull a batch when its instances are all out of view
+     */
+    void flush() {
+        int drawn = 0;
+        for (Batch batch : batches) {
+            if (batch != null) {
+                batch.flush();
+                if (batch.count > 0) {
+                    ++drawn;
+                }
+            }
+        }
+        metricInstancedGauge.setValue(instances.size());
+        metricInstancedBatchGauge.setValue(drawn);
+    }
+
+    /**
+     * Adds an instance to the batch for a level, creating the batch if need be
+     */
+    private void place(Instance instance, int level) {
+        Batch batch = batches[level];
+        if (batch == null) {
+            batch = level == MeshLod.IMPOSTOR ?
+                    new Batch("instanced-impostors", meshLod.point(), meshLod.instancedImpostorMaterial()) :
+                    new Batch("instanced-bodies-" + level, meshLod.unitSphere(level), sphereMaterial);
+            parent.attachChild(batch);
+            batches[level] = batch;
+        }
+        instance.level = level;
+        batch.add(instance);
+        batch.writeTransform(instance);
+        batch.writeColor(instance);
+    }
+
+    /**
+     * A body's level and slot in the per-instance buffers of the level's batch, and a copy of its position,
+     * radius, and color
+     */
+    private static final class Instance {
+        int level, index;
+        float x, y, z, radius;
+        ColorRGBA color;
+
+        void set(float x, float y, float z, float radius) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.radius = radius;
+        }
+    }
+
+    /**
+     * A set of instances of one mesh, drawn in one draw call. The engine renders an {@code InstancedGeometry}
+     * with the instance count and per-instance buffers it reports, so this class reports its own buffers rather
+     * than using the base class's, which are computed from one {@code Geometry} per instance
+     */
+    private static final class Batch extends InstancedGeometry {
+        private Instance[] slots = new Instance[INITIAL_CAPACITY];
+        private int count;
+        private final VertexBuffer transformData = new VertexBuffer(VertexBuffer.Type.InstanceData);
+        private final VertexBuffer colorData = new VertexBuffer(VertexBuffer.Type.Color);
+        private final VertexBuffer[] allData = {transformData, colorData};
+        private FloatBuffer transforms, colors;
+        private boolean transformsChanged, colorsChanged;
+        private final BoundingBox bound = new BoundingBox();
+        private final Vector3f min = new Vector3f(), max = new Vector3f();
+
+        Batch(String name, Mesh mesh, Material mat) {
+            super(name);
+            setMesh(mesh);
+            setMaterial(mat);
+            transforms = BufferUtils.createFloatBuffer(INITIAL_CAPACITY * TRANSFORM_FLOATS);
+            colors = BufferUtils.createFloatBuffer(INITIAL_CAPACITY * COLOR_FLOATS);
+            transformData.setInstanced(true);
+            transformData.setupData(VertexBuffer.Usage.Stream, TRANSFORM_FLOATS, VertexBuffer.Format.Float, transforms);
+            colorData.setInstanced(true);
+            colorData.setupData(VertexBuffer.Usage.Stream, COLOR_FLOATS, VertexBuffer.Format.Float, colors);
+            setCullHint(CullHint.Always);
+        }
+
+        @Override
+        public int getActualNumInstances() {
+            return count;
+        }
+
+        @Override
+        public VertexBuffer[] getAllInstanceData() {
+            return allData;
+        }
+
+        @Override
+        protected void updateWorldBound() {
+            super.updateWorldBound();
+            worldBound = bound;
+        }
+
+        void add(Instance instance) {
+            if (count == slots.length) {
+                grow();
+            }
+            instance.index = count;
+            slots[count++] = instance;
+        }
+
+        /**
+         * Removes an instance by moving the last instance into its slot
+         */
+        void remove(Instance instance) {
+            Instance last = slots[--count];
+            slots[count] = null;
+            if (last != instance) {
+                int to = instance.index;
+                for (int i = 0; i < TRANSFORM_FLOATS; ++i) {
+                    transforms.put(to * TRANSFORM_FLOATS + i, transforms.get(count * TRANSFORM_FLOATS + i));
+                }
+                for (int i = 0; i < COLOR_FLOATS; ++i) {
+                    colors.put(to * COLOR_FLOATS + i, colors.get(count * COLOR_FLOATS + i));
+                }
+                last.index = to;
+                slots[to] = last;
+                colorsChanged = true;
+            }
+            transformsChanged = true;
+        }
+
+        /**
+         * Writes an instance's transform: no rotation, a uniform scale of the radius, and a translation to the
+         * position
+         */
+        void writeTransform(Instance instance) {
+            float x = instance.x, y = instance.y, z = instance.z, radius = instance.radius;
+            int i = instance.index * TRANSFORM_FLOATS;
+            transforms.put(i, radius).put(i + 1, 0).put(i + 2, 0).put(i + 3, 0);
+            transforms.put(i + 4, 0).put(i + 5, radius).put(i + 6, 0).put(i + 7, 0);
+            transforms.put(i + 8, 0).put(i + 9, 0).put(i + 10, radius).put(i + 11, 0);
+            transforms.put(i + 12, x).put(i + 13, y).put(i + 14, z).put(i + 15, 1);
+            transformsChanged = true;
+        }
+
+        void writeColor(Instance instance) {
+            ColorRGBA color = instance.color;
+            int i = instance.index * COLOR_FLOATS;
+            colors.put(i, color.r).put(i + 1, color.g).put(i + 2, color.b).put(i + 3, color.a);
+            colorsChanged = true;
+        }
+
+        /**
+         * Marks the changed buffers for upload - always the whole buffer, since the GPU buffer is sized to the
+         * capacity - and re-computes the bound
+         */
+        void flush() {
+            if (transformsChanged) {
+                transformData.setUpdateNeeded();
+                float minX = Float.POSITIVE_INFINITY, minY = minX, minZ = minX;
+                float maxX = Float.NEGATIVE_INFINITY, maxY = maxX, maxZ = maxX;
+                for (int i = 0; i < count; ++i) {
+                    Instance s = slots[i];
+                    minX = Math.min(minX, s.x - s.radius);
+                    minY = Math.min(minY, s.y - s.radius);
+                    minZ = Math.min(minZ, s.z - s.radius);
+                    maxX = Math.max(maxX, s.x + s.radius);
+                    maxY = Math.max(maxY, s.y + s.radius);
+                    maxZ = Math.max(maxZ, s.z + s.radius);
+                }
+                if (count > 0) {
+                    bound.setMinMax(min.set(minX, minY, minZ), max.set(maxX, maxY, maxZ));
+                }
+                setBoundRefresh();
+                // with no instances the engine would draw the mesh once, so don't draw at all
+                setCullHint(count == 0 ? CullHint.Always : CullHint.Inherit);
+                transformsChanged = false;
+            }
+            if (colorsChanged) {
+                colorData.setUpdateNeeded();
+                colorsChanged = false;
+            }
+        }
+
+        /**
+         * Doubles the capacity. The new buffers are larger than the old, so the engine re-allocates the GPU
+         * buffers
+         */
+        private void grow() {
+            int capacity = slots.length * 2;
+            Instance[] newSlots = new Instance[capacity];
+            System.arraycopy(slots, 0, newSlots, 0, count);
+            slots = newSlots;
+            FloatBuffer newTransforms = BufferUtils.createFloatBuffer(capacity * TRANSFORM_FLOATS);
+            transforms.clear();
+            newTransforms.put(transforms).clear();
+            transforms = newTransforms;
+            transformData.updateData(transforms);
+            FloatBuffer newColors = BufferUtils.createFloatBuffer(capacity * COLOR_FLOATS);
+            colors.clear();
+            newColors.put(colors).clear();
+            colors = newColors;
+            colorData.updateData(colors);
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package org.ericace.nbody;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.ericace.instrumentation.InstrumentationManager;
+import org.ericace.instrumentation.Metric;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Puts clusters of bodies that are in resting contact to sleep. When two groups of bodies merge they can
+ * form a blob in which the bodies continually re-collide with each other while the blob as a whole barely
+ * moves internally. That is a lot of collision work for no visible effect.
+ * <p>
+ * During the force computation each body records the bodies it overlaps. Once the force computation is
+ * complete, this class - running in the computation runner thread with exclusive access to the bodies - joins
+ * the contacts into islands. If every body in an island has a velocity relative to the island center of
+ * mass below a threshold for a number of consecutive cycles, then the island is put to sleep. From then on it
+ * moves as a single rigid aggregate under the gravity of the bodies outside the island.</p>
+ * <p>
+ * A sleeping island is woken if a body outside the island touches a member, if a member is modified or removed
+ * through the gRPC interface, or if island sleeping is disabled.</p>
+ */
+final class IslandManager {
+    private static final Logger logger = LogManager.getLogger(IslandManager.class);
+
+    private static final Metric metricSleepingIslandsGauge = InstrumentationManager.getInstrumentation()
+            .registerGauge("nbody_sleeping_island_gauge", "Number of sleeping contact islands");
+    private static final Metric metricSleepingBodiesGauge = InstrumentationManager.getInstrumentation()
+            .registerGauge("nbody_sleeping_body_gauge", "Number of bodies in sleeping contact islands");
+    private static final Metric metricIslandWakeCount = InstrumentationManager.getInstrumentation()
+            .registerCounter("nbody_island_wake_count", "Count of sleeping contact islands woken");
+
+    /**
+     * The default number of consecutive quiet cycles before an island is put to sleep
+     */
+    static final int DEFAULT_SLEEP_CYCLES = 30;
+
+    /**
+     * Relative velocity below which a body is considered at rest within its island. Zero disables
+     * island sleeping
+     */
+    private volatile float sleepThreshold = 0;
+
+    /**
+     * Number of consecutive cycles all the bodies in an island must be at rest before the island sleeps
+     */
+    private volatile int sleepCycles = DEFAULT_SLEEP_CYCLES;
+
+    /**
+     * The islands that are currently asleep
+     */
+    private final List<ContactIsland> sleeping = new ArrayList<>();
+
+    /**
+     * Scratch used to form islands each cycle: the awake bodies with contacts, the union-find parent of
+     * each, and the island under evaluation for each union-find root
+     */
+    private final List<Body> contactBodies = new ArrayList<>();
+    private int[] parent = new int[0];
+    private ContactIsland[] candidates = new ContactIsland[0];
+
+    /**
+     * Identifies the current cycle's union-find indexes in {@link Body#islandIndex}
+     */
+    private int stamp;
+
+    /**
+     * Sets the sleep params
+     *
+     * @param sleepThreshold relative velocity below which a body is at rest within its island. Zero disables
+     *                       island sleeping and wakes all sleeping islands
+     * @param sleepCycles    the number of consecutive cycles an island must be at rest before it sleeps
+     */
+    void configure(float sleepThreshold, int sleepCycles) {
+        this.sleepThreshold = Math.max(sleepThreshold, 0);
+        this.sleepCycles = Math.max(sleepCycles, 1);
+    }
+
+    float getSleepThreshold() {
+        return sleepThreshold;
+    }
+
+    int getSleepCycles() {
+        return sleepCycles;
+    }
+
+    /**
+     * Advances the sleeping islands and forms new islands from the contacts recorded in the force computation
+     * that just completed. Must be called after the force computation, and before the bodies are updated,
+     * from the thread that has exclusive access to the bodies.
+     *
+     * @param bodyStore   the bodies in the simulation
+     * @param timeScaling the time step that the bodies are about to be updated with
+     */
+    void step(BodyStore bodyStore, float timeScaling) {
+        float threshold = sleepThreshold;
+        boolean enabled = threshold > 0;
+        Body.setTrackContacts(enabled);
+        advanceSleeping(timeScaling, enabled);
+        if (enabled) {
+            formIslands(bodyStore, threshold, sleepCycles);
+        }
+        int sleepingBodies = 0;
+        for (ContactIsland island : sleeping) {
+            sleepingBodies += island.members.size();
+        }
+        metricSleepingIslandsGauge.setValue(sleeping.size());
+        metricSleepingBodiesGauge.setValue(sleepingBodies);
+    }
+
+    /**
+     * Wakes islands that need it, and applies the external force computed by each remaining island's
+     * representative to the island velocity. The velocity is copied to every member so that the
+     * {@link Body#update} method moves the members together.
+     *
+     * @param timeScaling the time step
+     * @param enabled     if false, all islands are woken
+     */
+    private void advanceSleeping(float timeScaling, boolean enabled) {
+        for (Iterator<ContactIsland> it = sleeping.iterator(); it.hasNext(); ) {
+            ContactIsland island = it.next();
+            if (!enabled || island.wakeRequested || !island.allExist()) {
+                wake(island);
+                it.remove();
+                continue;
+            }
+            island.vx += timeScaling * island.fx / island.mass;
+            island.vy += timeScaling * island.fy / island.mass;
+            island.vz += timeScaling * island.fz / island.mass;
+            for (Body body : island.members) {
+                body.setVelocity((float) island.vx, (float) island.vy, (float) island.vz);
+            }
+        }
+    }
+
+    /**
+     * Joins the awake bodies that recorded contacts into islands using union-find, and puts to sleep every
+     * island whose members have all been at rest relative to the island for {@code sleepCycles} cycles. A body
+     * that is not in contact with anything has its quiet count reset.
+     *
+     * @param bodyStore   the bodies in the simulation
+     * @param threshold   see {@link #sleepThreshold}
+     * @param sleepCycles see {@link #sleepCycles}
+     */
+    private void formIslands(BodyStore bodyStore, float threshold, int sleepCycles) {
+        ++stamp;
+        contactBodies.clear();
+        for (Body body : bodyStore) {
+            if (body.getIsland() != null) {
+                continue;
+            }
+            if (body.exists() && body.getContactCount() > 0) {
+                body.islandStamp = stamp;
+                body.islandIndex = contactBodies.size();
+                contactBodies.add(body);
+            } else {
+                body.quietCycles = 0;
+            }
+        }
+        int n = contactBodies.size();
+        if (n == 0) {
+            return;
+        }
+        if (parent.length < n) {
+            parent = new int[n * 2];
+            candidates = new ContactIsland[n * 2];
+        }
+        for (int i = 0; i < n; ++i) {
+            parent[i] = i;
+            candidates[i] = null;
+        }
+        for (int i = 0; i < n; ++i) {
+            Body body = contactBodies.get(i);
+            for (int c = 0; c < body.getContactCount(); ++c) {
+                Body other = body.getContact(c);
+                // contacts with sleeping or removed bodies are not joined - those bodies were not stamped
+                if (other.islandStamp == stamp) {
+                    union(i, other.islandIndex);
+                }
+            }
+        }
+        for (int i = 0; i < n; ++i) {
+            int root = find(i);
+            if (candidates[root] == null) {
+                candidates[root] = new ContactIsland();
+            }
+            candidates[root].add(contactBodies.get(i));
+        }
+        double threshold2 = (double) threshold * threshold;
+        for (int i = 0; i < n; ++i) {
+            ContactIsland island = candidates[i];
+            if (island == null || island.mass <= 0) {
+                continue;
+            }
+            island.finish();
+            boolean quiet = true;
+            for (Body body : island.members) {
+                double dvx = body.getVx() - island.vx;
+                double dvy = body.getVy() - island.vy;
+                double dvz = body.getVz() - island.vz;
+                if (dvx * dvx + dvy * dvy + dvz * dvz < threshold2) {
+                    if (++body.quietCycles < sleepCycles) {
+                        quiet = false;
+                    }
+                } else {
+                    body.quietCycles = 0;
+                    quiet = false;
+                }
+            }
+            if (quiet && island.members.size() > 1) {
+                sleep(island);
+            }
+        }
+        for (int i = 0; i < n; ++i) {
+            candidates[i] = null;
+        }
+    }
+
+    /**
+     * Puts an island to sleep. Computes the island's center of mass and bounding radius, and sets every member
+     * to the island velocity - which conserves momentum - so the island thereafter moves rigidly
+     *
+     * @param island the island
+     */
+    private void sleep(ContactIsland island) {
+        double cx = 0, cy = 0, cz = 0;
+        for (Body body : island.members) {
+            cx += body.getMass() * body.getX();
+            cy += body.getMass() * body.getY();
+            cz += body.getMass() * body.getZ();
+        }
+        cx /= island.mass;
+        cy /= island.mass;
+        cz /= island.mass;
+        double boundRadius = 0;
+        for (Body body : island.members) {
+            double dx = body.getX() - cx;
+            double dy = body.getY() - cy;
+            double dz = body.getZ() - cz;
+            boundRadius = Math.max(boundRadius, Math.sqrt(dx * dx + dy * dy + dz * dz) + body.getRadius());
+        }
+        Body representative = island.members.get(0);
+        island.representative = representative;
+        island.ox = cx - representative.getX();
+        island.oy = cy - representative.getY();
+        island.oz = cz - representative.getZ();
+        island.boundRadius = boundRadius;
+        for (Body body : island.members) {
+            body.setVelocity((float) island.vx, (float) island.vy, (float) island.vz);
+            body.setIsland(island);
+        }
+        sleeping.add(island);
+        logger.info("Contact island of {} bodies is sleeping. Representative id: {}", island.members.size(),
+                representative.getId());
+    }
+
+    /**
+     * Wakes an island. The members resume individual force computation with the island velocity, and must
+     * be at rest for the full number of sleep cycles again before they can sleep again
+     *
+     * @param island the island
+     */
+    private void wake(ContactIsland island) {
+        for (Body body : island.members) {
+            body.setIsland(null);
+            body.quietCycles = 0;
+        }
+        metricIslandWakeCount.incValue();
+        logger.info("Contact island of {} bodies woke. Representative id: {}", island.members.size(),
+                island.representative.getId());
+    }
+
+    private int find(int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private void union(int i, int j) {
+        int ri = find(i);
+        int rj = find(j);
+        if (ri != rj) {
+            parent[Math.max(ri, rj)] = Math.min(ri, rj);
+        }
+    }
+}
@@ -6,11 +6,12 @@ import com.jme3.input.KeyInput;
 import com.jme3.input.controls.ActionListener;
 import com.jme3.input.controls.KeyTrigger;
 import com.jme3.light.PointLight;
-import com.jme3.material.MatParam;
 import com.jme3.material.Material;
 import com.jme3.math.ColorRGBA;
+import com.jme3.math.Plane;
 import com.jme3.math.Vector3f;
 import com.jme3.scene.Geometry;
+import com.jme3.scene.Mesh;
 import com.jme3.scene.shape.Sphere;
 import com.jme3.system.AppSettings;
 import org.apache.logging.log4j.LogManager;
@@ -19,8 +20,11 @@ import org.ericace.globals.Globals;
 import org.ericace.instrumentation.InstrumentationManager;
 import org.ericace.instrumentation.Metric;
 
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Integrates with the JMonkeyEngine game engine to render the simulation
@@ -34,6 +38,8 @@ public final class JMEApp extends SimpleApplication {
     private static final Metric metricNoQueuesCount = InstrumentationManager.getInstrumentation()
             .registerCounter("nbody_no_queues_to_render_count",
                     "Count of rendering engine outrunning computation runner");
+    private static final Metric metricImpostorGauge = InstrumentationManager.getInstrumentation()
+            .registerGauge("nbody_mesh_lod_impostor_gauge", "Number of planets drawn as impostors in the last frame");
 
     /**
      * Camera/Keyboard functionality:
@@ -103,6 +109,149 @@ public final class JMEApp extends SimpleApplication {
      */
     private final SimpleVector initialCam;
 
+    /**
+     * If not null, the camera is published to this each frame so the computation can spend less effort on
+     * the bodies that are out of view
+     */
+    private final ComputeLod computeLod;
+
+    /**
+     * Scratch for publishing the frustum planes - four values per plane
+     */
+    private final float[] planes = new float[24];
+
+    /**
+     * If true, bodies move smoothly between the positions in successive computed result queues rather than
+     * jumping to the new positions when a queue arrives. See {@link #tracks}
+     */
+    private final boolean interpolate;
+
+    /**
+     * If true, planets are drawn with hardware instancing - see {@link InstancedBodies} - rather than with a
+     * {@code Geometry} each. Suns are always drawn with a {@code Geometry}, which carries the sun's light
+     */
+    private final boolean instanced;
+
+    /**
+     * The instanced planets, if {@link #instanced}
+     */
+    private InstancedBodies instances;
+
+    /**
+     * If true, each planet is drawn with a mesh whose detail depends on the planet's size on screen, and planets
+     * too small to show a sphere are drawn as points. See {@link MeshLod}
+     */
+    private final boolean levelOfDetail;
+
+    /**
+     * Provides the shared meshes, and if {@link #levelOfDetail}, chooses the level each planet is drawn at
+     */
+    private MeshLod meshLod;
+
+    /**
+     * If {@link #levelOfDetail} and not {@link #instanced}, the level of each planet - the map key is the ID of
+     * the body
+     */
+    private final Map<Integer, PlanetLod> planetLods = new HashMap<>();
+
+    /**
+     * The side of a render cell in world units, or zero to attach geometries directly to the root node. See
+     * {@link RenderCells}
+     */
+    private final float cellSize;
+
+    /**
+     * The render cells, if {@link #cellSize} is not zero
+     */
+    private RenderCells cells;
+
+    /**
+     * Scratch for {@link #removeBodiesNotIn}, re-used so a resync doesn't allocate: the sorted IDs in the resync
+     * queue, and the IDs of the bodies to remove
+     */
+    private int[] presentIds = new int[0], goneIds = new int[0];
+
+    /**
+     * The shared lit material for each named planet color. See {@link #litMaterial}
+     */
+    private final Map<Globals.Color, Material> litMaterials = new EnumMap<>(Globals.Color.class);
+
+    /**
+     * The shared unit sphere and material of the suns
+     */
+    private Mesh sunSphere;
+    private Material sunMaterial;
+
+    /**
+     * When interpolating, each body moves from where it was displayed when the latest result queue arrived to
+     * its position in that queue, over the time between the latest two queues. So the display runs about one
+     * compute cycle behind the computation, and a body reaches its latest computed position just as the next
+     * queue is expected. The map key is the ID of the body
+     */
+    private final Map<Integer, Track> tracks = new HashMap<>();
+
+    /**
+     * The seconds since the latest result queue arrived, and the seconds between the latest two queues
+     */
+    private float trackElapsed, trackDuration;
+
+    /**
+     * The {@link ResultQueueHolder.ResultQueue#getNanos} of the latest result queue, or zero
+     */
+    private long lastQueueNanos;
+
+    /**
+     * Scratch for updating light positions
+     */
+    private final Vector3f scratch = new Vector3f();
+
+    /**
+     * An interpolation bound to the time between two result queues is capped at this many seconds, so after a
+     * pause in the computation, bodies don't crawl to their new positions
+     */
+    private static final float MAX_TRACK_SECONDS = .25F;
+
+    /**
+     * The level a planet's geometry is drawn at
+     */
+    private static final class PlanetLod {
+        final Geometry geo;
+        int level = MeshLod.DEFAULT_LEVEL;
+        float radius;
+
+        /**
+         * While the planet is an impostor, its lit material. Else null
+         */
+        Material lit;
+
+        PlanetLod(Geometry geo, float radius) {
+            this.geo = geo;
+            this.radius = radius;
+        }
+    }
+
+    /**
+     * The path of one body between two result queues
+     */
+    private static final class Track {
+        final int id;
+        final Geometry geo;
+        final PointLight light;
+        float fromX, fromY, fromZ, toX, toY, toZ;
+
+        /**
+         * @param geo the body's geometry, or null if the body is instanced
+         */
+        Track(int id, Geometry geo, PointLight light, float x, float y, float z) {
+            this.id = id;
+            this.geo = geo;
+            this.light = light;
+            fromX = toX = x;
+            fromY = toY = y;
+            fromZ = toZ = z;
+        }
+    }
+
     /**
      * Initializes the instance
      *
@@ -113,9 +262,15 @@ public final class JMEApp extends SimpleApplication {
      * @param resolution        Screen resolution {x,y}
      * @param vSync             vSync setting
      * @param frameRate         Frame rate - ignored if -1
+     * @param computeLod        Receives the camera each frame. See {@link #computeLod}
+     * @param interpolate       See {@link #interpolate}
+     * @param instanced         See {@link #instanced}
+     * @param levelOfDetail     See {@link #levelOfDetail}
+     * @param cellSize          See {@link #cellSize}
      */
     private JMEApp(int bodySize, ResultQueueHolder resultQueueHolder, SimpleVector initialCam, int [] resolution,
-                   boolean vSync, int frameRate) {
+                   boolean vSync, int frameRate, ComputeLod computeLod, boolean interpolate, boolean instanced,
+                   boolean levelOfDetail, float cellSize) {
         super();
 
         AppSettings settings = new AppSettings(true);
@@ -134,6 +289,11 @@ public final class JMEApp extends SimpleApplication {
 
         this.resultQueueHolder = resultQueueHolder;
         this.initialCam = initialCam;
+        this.computeLod = computeLod;
+        this.interpolate = interpolate;
+        this.instanced = instanced;
+        this.levelOfDetail = levelOfDetail;
+        this.cellSize = cellSize;
         geos = new HashMap<>(bodySize);
         lightSources = new HashMap<>();
     }
@@ -145,9 +305,11 @@ public final class JMEApp extends SimpleApplication {
      * start ran in the same thread and waited - hence the explicit Thread creation.
      */
     public static void start(int bodySize, ResultQueueHolder resultQueueHolder, SimpleVector initialCam,
-                             int [] resolution, boolean vSync, int frameRate, String threadName) {
-        new Thread(() -> new JMEApp(bodySize, resultQueueHolder, initialCam, resolution, vSync, frameRate)
-                .start(), threadName).start();
+                             int [] resolution, boolean vSync, int frameRate, ComputeLod computeLod,
+                             boolean interpolate, boolean instanced, boolean levelOfDetail, float cellSize,
+                             String threadName) {
+        new Thread(() -> new JMEApp(bodySize, resultQueueHolder, initialCam, resolution, vSync, frameRate,
+                computeLod, interpolate, instanced, levelOfDetail, cellSize).start(), threadName).start();
     }
 
     /**
@@ -179,43 +341,89 @@ public final class JMEApp extends SimpleApplication {
 
         // turn off debug stats initially
         stateManager.getState(StatsAppState.class).toggleStats();
+
+        meshLod = new MeshLod(assetManager);
+        sunSphere = new Sphere(40, 50, 1F);
+        sunMaterial = new Material(assetManager, "Common/MatDefs/Misc/Unshaded.j3md");
+        if (instanced) {
+            instances = new InstancedBodies(assetManager, rootNode, meshLod);
+        }
+        if (cellSize > 0) {
+            cells = new RenderCells(rootNode, cellSize);
+        }
     }
 
     /**
-     * Adds the passed BodyRenderInfo to the JME scene graph, and also to the local
+     * Adds the passed body from a result queue to the JME scene graph, and also to the local
      * {@code Map} of Geometry instances. Each Geometry instance holds the JME-specific info
-     * corresponding to a {@code Body} in the simulation.
+     * corresponding to a {@code Body} in the simulation. The mesh and material are shared: a unit
+     * sphere scaled to the body's radius, and the material for the body's color. See {@link #litMaterial}
      *
-     * @param b the instance to add
+     * @param id     the ID of the body
+     * @param x      x position
+     * @param y      y "
+     * @param z      z "
+     * @param radius radius
+     * @param isSun  true if the body is a sun
+     * @param color  body color
      */
-    private Geometry addBody(BodyRenderInfo b) {
+    private Geometry addBody(int id, float x, float y, float z, float radius, boolean isSun, Globals.Color color) {
         Material mat;
-        Sphere sphere;
-        if (b.isSun) {
-            sphere = new Sphere(40, 50, b.radius);
-            mat = new Material(assetManager, "Common/MatDefs/Misc/Unshaded.j3md");
+        Mesh sphere;
+        if (isSun) {
+            sphere = sunSphere;
+            mat = sunMaterial;
             PointLight pl = new PointLight();
-            pl.setPosition(new Vector3f(b.x, b.y, b.z));
+            pl.setPosition(new Vector3f(x, y, z));
             pl.setColor(ColorRGBA.White);
             pl.setRadius(0f);
             rootNode.addLight(pl);
-            lightSources.put(b.id, pl);
+            lightSources.put(id, pl);
         } else {
-            sphere = new Sphere(20, 20, b.radius);
+            sphere = meshLod.unitSphere(MeshLod.DEFAULT_LEVEL);
+            mat = litMaterial(color);
+        }
+        Geometry geo = cells != null ? cells.newGeometry(String.valueOf(id), sphere) :
+                new Geometry(String.valueOf(id), sphere);
+        geo.setLocalScale(radius);
+        geo.setLocalTranslation(x, y, z);
+        geo.setMaterial(mat);
+        if (cells != null) {
+            cells.add(geo);
+        } else {
+            rootNode.attachChild(geo);
+        }
+        geos.put(id, geo);
+        if (levelOfDetail && !isSun) {
+            planetLods.put(id, new PlanetLod(geo, radius));
+        }
+        return geo;
+    }
+
+    /**
+     * Gets the lit material for a planet color. The material for each named color is created once and shared by
+     * all the planets of that color. A random color is picked per planet, so each planet with a random color gets
+     * its own material
+     *
+     * @param color the {@code Body} color
+     *
+     * @return the material
+     */
+    private Material litMaterial(Globals.Color color) {
+        boolean shared = color != null && color != Globals.Color.RANDOM;
+        Material mat = shared ? litMaterials.get(color) : null;
+        if (mat == null) {
             mat = new Material(assetManager, "Common/MatDefs/Light/Lighting.j3md");
             mat.setFloat("Shininess", 25);
             mat.setBoolean("UseMaterialColors", true);
             mat.setColor("Ambient", ColorRGBA.Black);
-            mat.setColor("Diffuse", xlatColor(b.color));
+            mat.setColor("Diffuse", xlatColor(color));
             mat.setColor("Specular", ColorRGBA.Yellow);
+            if (shared) {
+                litMaterials.put(color, mat);
+            }
         }
-        Geometry geo = new Geometry(String.valueOf(b.id), sphere);
-        geo.setLocalScale(1f);
-        geo.setLocalTranslation(b.x, b.y, b.z);
-        geo.setMaterial(mat);
-        rootNode.attachChild(geo);
-        geos.put(b.id, geo);
-        return geo;
+        return mat;
     }
 
     /**
@@ -293,63 +501,336 @@ public final class JMEApp extends SimpleApplication {
      *
      * <p>This method uses the instance field {@link #resultQueueHolder} to get a queue of bodies whose positions
      * and other attributes have been computed by another thread. Assuming such a queue is available, it walks the
-     * queue and renders the bodies according to their updated positions and attributes.</p>
+     * queue and renders the bodies according to their updated positions and attributes, then hands the queue back
+     * to the holder for re-use.</p>
      *
      * <p>In some cases, a body is designated as no longer existing. In this case, the method removes the
-     * body from the scene graph.</p>
+     * body from the scene graph. A queue can be a delta that only holds the bodies that changed - see
+     * {@link ResultQueueHolder.ResultQueue} - so a body's radius and color are only checked if the queue says
+     * they may have changed.</p>
+     *
+     * <p>If compute level of detail is enabled, the method first publishes the camera to the computation.</p>
      *
-     * @param tpf unused
+     * <p>If instancing, planets are updated in {@link #instances} rather than in the scene graph, and the changes
+     * are flushed to the GPU at the end of the method. With level of detail, each planet's level is re-computed
+     * from the camera at the end of the method.</p>
+     *
+     * <p>With render cells, each cell is first tested against the camera, and moves of bodies within cells out of
+     * view are deferred. See {@link RenderCells}</p>
+     *
+     * <p>If interpolating, a new result queue sets where each body is headed rather than where it is displayed,
+     * and on every frame - whether or not a queue is available - the bodies are moved along their tracks. See
+     * {@link #tracks}</p>
+     *
+     * @param tpf seconds since the last frame. Used when interpolating
      */
     @Override
 public void simpleUpdate(float tpf) {
 
+        if (computeLod != null) {
+            publishCamera();
+        }
+        if (cells != null) {
+            cells.beginFrame(cam);
+        }
         ResultQueueHolder.ResultQueue rq = resultQueueHolder.nextComputedQueue();
         if (rq == null) {
             metricNoQueuesCount.incValue();
+            if (interpolate) {
+                advanceTracks(tpf);
+            }
+            finishFrame();
             return;
         }
+        if (interpolate) {
+            trackDuration = lastQueueNanos == 0 ? 0 :
+                    Math.min((rq.getNanos() - lastQueueNanos) / 1E9F, MAX_TRACK_SECONDS);
+            trackElapsed = 0;
+            lastQueueNanos = rq.getNanos();
+            // every body - whether or not it is in the queue - continues from where it is displayed now
+            for (Track t : tracks.values()) {
+                Vector3f at = displayedPosition(t);
+                t.fromX = at.x;
+                t.fromY = at.y;
+                t.fromZ = at.z;
+            }
+        }
         int countDetached = 0;
+        if (rq.isResync()) {
+            countDetached += removeBodiesNotIn(rq);
+        }
 
-        for (BodyRenderInfo b : rq.getQueue()) {
-            if (!b.exists) {
-                if (geos.containsKey(b.id)) {
-                    rootNode.detachChild(geos.get(b.id)); // remove from the scene graph
-                    geos.remove(b.id);
-                    if (lightSources.get(b.id) != null) {
-                        lightSources.remove(b.id);
-                    }
+        for (int i = 0; i < rq.size(); ++i) {
+            int id = rq.ids[i];
+            if (!rq.exists(i)) {
+                if (removeBody(id)) {
                     ++countDetached;
                 }
             } else {
-                Geometry g = geos.get(b.id);
-                if (g == null) {
-                    g = addBody(b);
-                }
-                Sphere s = (Sphere) g.getMesh();
-                // allow a body's radius to change
-                if (s.radius != b.radius) {
-                    s.updateGeometry(s.getZSamples(), s.getRadialSamples(), b.radius);
-                }
-                // allow a body's color to change
-                MatParam mp = g.getMaterial().getParam("Diffuse");
-                if (b.color != null && b.color != Globals.Color.RANDOM && mp != null) {
-                    ColorRGBA c = (ColorRGBA) mp.getValue();
-                    if (! c.equals(xlatColor(b.color))) {
-                        g.getMaterial().setColor("Diffuse", xlatColor(b.color));
+                float x = rq.x[i], y = rq.y[i], z = rq.z[i], radius = rq.radius[i];
+                Globals.Color color = rq.color(i);
+                Geometry g = geos.get(id);
+                if (g == null && instances != null && (instances.contains(id) || !rq.isSun(i))) {
+                    // an instanced planet
+                    if (!instances.contains(id)) {
+                        instances.add(id, x, y, z, radius, xlatColor(color));
+                    } else if (rq.hasAttrs(i)) {
+                        instances.setRadius(id, radius);
+                        if (color != null && color != Globals.Color.RANDOM) {
+                            instances.setColor(id, xlatColor(color));
+                        }
+                    }
+                } else if (g == null) {
+                    g = addBody(id, x, y, z, radius, rq.isSun(i), color);
+                } else if (rq.hasAttrs(i)) {
+                    PlanetLod lod = planetLods.get(id);
+                    // allow a body's radius to change - the mesh is a shared unit sphere, so scale it
+                    if (g.getLocalScale().x != radius) {
+                        g.setLocalScale(radius);
+                        if (lod != null) {
+                            lod.radius = radius;
+                        }
+                    }
+                    // allow a body's color to change - the material is shared, so switch materials
+                    if (color != null && color != Globals.Color.RANDOM && !lightSources.containsKey(id)) {
+                        Material lit = litMaterial(color);
+                        if (lod != null && lod.lit != null) {
+                            if (lod.lit != lit) {
+                                lod.lit = lit;
+                                g.setMaterial(meshLod.impostorMaterial(xlatColor(color)));
+                            }
+                        } else if (g.getMaterial() != lit) {
+                            g.setMaterial(lit);
+                        }
                     }
                 }
-                // update this body's position and if the body has a light source, also update that
-                g.setLocalTranslation(b.x, b.y, b.z);
-                PointLight pl = lightSources.get(b.id);
-                if (pl != null) {
-                    pl.setPosition(new Vector3f(b.x, b.y, b.z));
+                if (interpolate) {
+                    // head for the new position
+                    Track t = tracks.get(id);
+                    if (t == null) {
+                        tracks.put(id, new Track(id, g, lightSources.get(id), x, y, z));
+                    } else {
+                        t.toX = x;
+                        t.toY = y;
+                        t.toZ = z;
+                    }
+                } else if (g == null) {
+                    instances.move(id, x, y, z);
+                } else {
+                    // update this body's position and if the body has a light source, also update that
+                    moveGeometry(g, x, y, z);
+                    PointLight pl = lightSources.get(id);
+                    if (pl != null) {
+                        pl.setPosition(new Vector3f(x, y, z));
+                    }
                 }
             }
         }
+        resultQueueHolder.recycle(rq);
+        if (interpolate) {
+            advanceTracks(tpf);
+        }
+        finishFrame();
         if (countDetached > 0) {
             logger.info("Detached {} bodies from the root node", countDetached);
         }
         metricComputationCount.incValue();
-        metricBodyCountGauge.setValue(rootNode.getChildren().size());
+        metricBodyCountGauge.setValue(geos.size() + (instances == null ? 0 : instances.size()));
+    }
+
+    /**
+     * Removes a body from the scene graph
+     *
+     * @param id the ID of the body
+     *
+     * @return true if the body was in the scene graph
+     */
+    private boolean removeBody(int id) {
+        Geometry g = geos.remove(id);
+        if (g != null) {
+            // remove from the scene graph
+            if (cells != null) {
+                cells.remove(g);
+            } else {
+                rootNode.detachChild(g);
+            }
+            lightSources.remove(id);
+            planetLods.remove(id);
+        } else if (instances == null || !instances.remove(id)) {
+            return false;
+        }
+        tracks.remove(id);
+        return true;
+    }
+
+    /**
+     * Removes the bodies that are not in a resync result queue. Queues before it were dropped, so the removal
+     * of these bodies - or of their replacements - may have been missed
+     *
+     * @param rq a resync queue, which holds every body in the simulation
+     *
+     * @return the number of bodies removed
+     */
+    private int removeBodiesNotIn(ResultQueueHolder.ResultQueue rq) {
+        if (presentIds.length < rq.size()) {
+            presentIds = new int[rq.size()];
+        }
+        int present = 0;
+        for (int i = 0; i < rq.size(); ++i) {
+            if (rq.exists(i)) {
+                presentIds[present++] = rq.ids[i];
+            }
+        }
+        Arrays.sort(presentIds, 0, present);
+        int gone = collectGone(geos.keySet(), present, 0);
+        if (instances != null) {
+            gone = collectGone(instances.getIds(), present, gone);
+        }
+        for (int i = 0; i < gone; ++i) {
+            removeBody(goneIds[i]);
+        }
+        return gone;
+    }
+
+    /**
+     * Adds the IDs that are not among the first {@code present} of {@link #presentIds} to {@link #goneIds}
+     *
+     * @param ids     the IDs to check
+     * @param present the number of sorted IDs in {@link #presentIds}
+     * @param gone    the number of IDs in {@link #goneIds} so far
+     *
+     * @return the number of IDs in {@link #goneIds}
+     */
+    private int collectGone(Set<Integer> ids, int present, int gone) {
+        for (int id : ids) {
+            if (Arrays.binarySearch(presentIds, 0, present, id) < 0) {
+                if (gone == goneIds.length) {
+                    goneIds = Arrays.copyOf(goneIds, Math.max(gone * 2, 16));
+                }
+                goneIds[gone++] = id;
+            }
+        }
+        return gone;
+    }
+
+    /**
+     * Finishes a frame: re-computes the planets' levels of detail, flushes the instanced planets, and publishes
+     * the render cell counts
+     */
+    private void finishFrame() {
+        if (levelOfDetail) {
+            updateLevels();
+        }
+        if (instances != null) {
+            instances.flush();
+        }
+        if (cells != null) {
+            cells.endFrame();
+        }
+    }
+
+    /**
+     * Moves a body's geometry - through the render cells if they are enabled, which may defer the move
+     */
+    private void moveGeometry(Geometry g, float x, float y, float z) {
+        if (cells != null) {
+            cells.move(g, x, y, z);
+        } else {
+            g.setLocalTranslation(x, y, z);
+        }
+    }
+
+    /**
+     * @return where a body being interpolated is displayed - or for a body in an out-of-view render cell, where it
+     * would be displayed
+     */
+    private Vector3f displayedPosition(Track t) {
+        if (t.geo == null) {
+            return instances.getPosition(t.id, scratch);
+        }
+        return cells != null ? cells.getPosition(t.geo, scratch) : t.geo.getLocalTranslation();
+    }
+
+    /**
+     * Re-computes the level each planet is drawn at, from the camera
+     */
+    private void updateLevels() {
+        meshLod.setCamera(cam);
+        int impostors = 0;
+        if (instances != null) {
+            instances.updateLevels();
+            impostors = instances.size(MeshLod.IMPOSTOR);
+        }
+        for (PlanetLod lod : planetLods.values()) {
+            Vector3f at = lod.geo.getLocalTranslation();
+            int level = meshLod.level(at.x, at.y, at.z, lod.radius, lod.level);
+            if (level != lod.level) {
+                setLevel(lod, level);
+            }
+            if (lod.level == MeshLod.IMPOSTOR) {
+                ++impostors;
+            }
+        }
+        metricImpostorGauge.setValue(impostors);
+    }
+
+    /**
+     * Switches a planet's geometry to a level. An impostor swaps the planet's lit material for an unshaded
+     * point material of the same color, and the lit material is restored when the planet grows back into
+     * a sphere
+     */
+    private void setLevel(PlanetLod lod, int level) {
+        if (level == MeshLod.IMPOSTOR) {
+            lod.lit = lod.geo.getMaterial();
+            lod.geo.setMaterial(meshLod.impostorMaterial((ColorRGBA) lod.lit.getParam("Diffuse").getValue()));
+            lod.geo.setMesh(meshLod.point());
+        } else {
+            lod.geo.setMesh(meshLod.unitSphere(level));
+            if (lod.lit != null) {
+                lod.geo.setMaterial(lod.lit);
+                lod.lit = null;
+            }
+        }
+        lod.level = level;
+    }
+
+    /**
+     * Moves each body along its track
+     *
+     * @param tpf seconds since the last frame
+     */
+    private void advanceTracks(float tpf) {
+        trackElapsed += tpf;
+        float a = trackDuration <= 0 ? 1 : Math.min(trackElapsed / trackDuration, 1);
+        for (Track t : tracks.values()) {
+            float x = t.fromX + (t.toX - t.fromX) * a;
+            float y = t.fromY + (t.toY - t.fromY) * a;
+            float z = t.fromZ + (t.toZ - t.fromZ) * a;
+            if (t.geo != null) {
+                moveGeometry(t.geo, x, y, z);
+            } else {
+                instances.move(t.id, x, y, z);
+            }
+            if (t.light != null) {
+                t.light.setPosition(scratch.set(x, y, z));
+            }
+        }
+    }
+
+    /**
+     * Publishes the camera location and frustum to {@link #computeLod}
+     */
+    private void publishCamera() {
+        for (int i = 0; i < 6; ++i) {
+            Plane plane = cam.getWorldPlane(i);
+            Vector3f normal = plane.getNormal();
+            planes[i * 4] = normal.x;
+            planes[i * 4 + 1] = normal.y;
+            planes[i * 4 + 2] = normal.z;
+            planes[i * 4 + 3] = plane.getConstant();
+        }
+        Vector3f loc = cam.getLocation();
+        float pixelScale = cam.getHeight() * cam.getFrustumNear() / (2 * cam.getFrustumTop());
+        computeLod.publish(loc.x, loc.y, loc.z, planes, pixelScale);
     }
 }
@@ -0,0 +1,178 @@
+package org.ericace.nbody;
+
+import com.jme3.asset.AssetManager;
+import com.jme3.material.Material;
+import com.jme3.math.ColorRGBA;
+import com.jme3.math.Vector3f;
+import com.jme3.renderer.Camera;
+import com.jme3.scene.Mesh;
+import com.jme3.scene.VertexBuffer;
+import com.jme3.scene.shape.Sphere;
+import com.jme3.util.BufferUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Mesh level of detail for the renderer. A planet is drawn with a sphere whose tessellation depends on how big the
+ * planet is on screen, and a planet too small to show a sphere is drawn as a point - an impostor - at a fraction of
+ * the cost. Meshes are shared: there is one unit sphere per level, which each planet scales to its radius.
+ * <p>
+ * To keep a planet at the boundary between two levels from flickering between them, a planet only moves to a
+ * coarser level once it is {@link #HYSTERESIS} of the way below the boundary.</p>
+ * <p>
+ * Only the renderer thread calls this class.</p>
+ */
+final class MeshLod {
+    /**
+     * The min projected radius in pixels for each sphere level, finest first. A planet smaller than the last is an
+     * impostor
+     */
+    private static final float[] LEVEL_PIXELS = {24F, 6F, 1.5F};
+
+    /**
+     * The z and radial samples of the sphere for each level
+     */
+    private static final int[] LEVEL_SAMPLES = {32, 20, 10};
+
+    /**
+     * The level used when level of detail is not enabled - the tessellation planets had before level of detail
+     */
+    static final int DEFAULT_LEVEL = 1;
+
+    /**
+     * The impostor level
+     */
+    static final int IMPOSTOR = LEVEL_PIXELS.length;
+
+    /**
+     * The number of levels, including the impostor level
+     */
+    static final int LEVELS = IMPOSTOR + 1;
+
+    /**
+     * The size in pixels of an impostor point
+     */
+    private static final float IMPOSTOR_POINT_SIZE = 2F;
+
+    /**
+     * A planet moves to a coarser level when its projected radius is less than this fraction of the boundary
+     */
+    private static final float HYSTERESIS = .8F;
+
+    private final AssetManager assetManager;
+
+    private final Mesh[] unitSpheres = new Mesh[IMPOSTOR];
+    private final Map<ColorRGBA, Material> impostorMaterials = new HashMap<>();
+    private Mesh point;
+
+    /**
+     * The camera location, and the number of pixels on screen per unit of size one unit in front of the camera.
+     * Set each frame by {@link #setCamera}
+     */
+    private final Vector3f camLocation = new Vector3f();
+    private float pixelScale;
+
+    MeshLod(AssetManager assetManager) {
+        this.assetManager = assetManager;
+    }
+
+    /**
+     * Captures the camera for the frame
+     */
+    void setCamera(Camera cam) {
+        camLocation.set(cam.getLocation());
+        pixelScale = cam.getHeight() * cam.getFrustumNear() / (2 * cam.getFrustumTop());
+    }
+
+    /**
+     * Determines the level to draw a planet at
+     *
+     * @param x       the planet's position
+     * @param y       "
+     * @param z       "
+     * @param radius  the planet's radius
+     * @param current the level the planet is drawn at now
+     *
+     * @return the level to draw the planet at
+     */
+    int level(float x, float y, float z, float radius, int current) {
+        float dx = x - camLocation.x, dy = y - camLocation.y, dz = z - camLocation.z;
+        float dist = (float) Math.sqrt(dx * dx + dy * dy + dz * dz);
+        if (dist <= radius) {
+            return 0;
+        }
+        float pixels = radius / dist * pixelScale;
+        int level = levelFor(pixels);
+        if (level > current) {
+            level = Math.max(current, levelFor(pixels / HYSTERESIS));
+        }
+        return level;
+    }
+
+    private static int levelFor(float pixels) {
+        for (int level = 0; level < LEVEL_PIXELS.length; ++level) {
+            if (pixels >= LEVEL_PIXELS[level]) {
+                return level;
+            }
+        }
+        return IMPOSTOR;
+    }
+
+    /**
+     * @param level a sphere level
+     *
+     * @return the shared unit sphere for the level
+     */
+    Mesh unitSphere(int level) {
+        if (unitSpheres[level] == null) {
+            unitSpheres[level] = new Sphere(LEVEL_SAMPLES[level], LEVEL_SAMPLES[level], 1F);
+        }
+        return unitSpheres[level];
+    }
+
+    /**
+     * @return the shared impostor mesh: a single point at the origin
+     */
+    Mesh point() {
+        if (point == null) {
+            point = new Mesh();
+            point.setMode(Mesh.Mode.Points);
+            point.setBuffer(VertexBuffer.Type.Position, 3, BufferUtils.createFloatBuffer(0F, 0F, 0F));
+            point.setBuffer(VertexBuffer.Type.Index, 1, BufferUtils.createIntBuffer(0));
+            point.updateBound();
+        }
+        return point;
+    }
+
+    /**
+     * @param color the planet color
+     *
+     * @return the shared impostor material for the color
+     */
+    Material impostorMaterial(ColorRGBA color) {
+        Material mat = impostorMaterials.get(color);
+        if (mat == null) {
+            mat = newImpostorMaterial();
+            mat.setColor("Color", color);
+            impostorMaterials.put(color.clone(), mat);
+        }
+        return mat;
+    }
+
+    /**
+     * @return a new impostor material for instancing, which takes each point's color from the instance data
+     */
+    Material instancedImpostorMaterial() {
+        Material mat = newImpostorMaterial();
+        mat.setBoolean("UseInstancing", true);
+        mat.setBoolean("VertexColor", true);
+        return mat;
+    }
+
+    private Material newImpostorMaterial() {
+        Material mat = new Material(assetManager, "Common/MatDefs/Misc/Unshaded.j3md");
+        mat.setFloat("PointSize", IMPOSTOR_POINT_SIZE);
+        return mat;
+    }
+}
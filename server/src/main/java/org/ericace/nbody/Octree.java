@@ -0,0 +1,681 @@
+package org.ericace.nbody;
+
+import org.ericace.instrumentation.InstrumentationManager;
+import org.ericace.instrumentation.Metric;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * A Barnes-Hut octree over the bodies in the simulation. Each node is a cubic cell. A leaf holds up to
+ * {@link #LEAF_CAPACITY} bodies - linked through {@link Body#octreeNext} - and splits into eight children when
+ * it overflows. After the tree is updated, each node holds the total mass and center of mass of the bodies
+ * under it, and the bounding box, max radius, and max speed of those bodies. The force computation uses these
+ * to treat a distant node as a single mass - see {@link Body}{@code .calcForceFromTree} - reducing the force
+ * computation from O(n&#178;) to about O(n log n).
+ * <p>
+ * Rebuilding the tree every cycle is a large part of the cost when bodies move slowly relative to the size of
+ * the cells - e.g. bodies in stable orbits. So the tree is updated incrementally: each cycle, the bodies that
+ * have left their leaf cell are removed from their leaf and re-inserted from the root, new bodies are inserted,
+ * and then the moments and bounds are recomputed bottom-up. Because the node bounds are recomputed from the
+ * bodies - rather than taken from the cells - the force computation stays accurate however far the bodies have
+ * moved. But leaves that bodies have left are never merged, so the tree gets less efficient as bodies move.
+ * When the number of bodies re-inserted since the last rebuild exceeds {@link #REBUILD_FRACTION} of the bodies
+ * in the tree, or a body leaves the root cell, the tree is rebuilt from scratch.</p>
+ * <p>
+ * Once the tree holds more than {@link #PARALLEL_THRESHOLD} bodies, a rebuild and the moment computation are
+ * spread over the compute thread pool - the same pool the force computers run in, which is idle at that point
+ * of the cycle. A rebuild quantizes each body's position within the root cell into a Morton key, whose every
+ * three bits - from the top down - select the child cell at the next level. Once the keys are sorted, the bodies
+ * under any node are a contiguous range of the keys, so the tree is emitted top-down by splitting ranges, with
+ * no per-body descent from the root. The moments are computed for separate subtrees in parallel, and then for
+ * the few nodes above those subtrees. Each node's moments are always summed from the same children in the same
+ * order, so the results don't depend on the number of threads.</p>
+ * <p>
+ * The nodes are held in parallel arrays, and children are always created after their parent, so iterating
+ * the nodes from last to first visits every child before its parent. The tree is only modified by the
+ * computation runner thread, between force computations, and is read by the force computers.</p>
+ */
+final class Octree {
+    private static final Metric metricRebuildCount = InstrumentationManager.getInstrumentation()
+            .registerCounter("nbody_octree_rebuild_count", "Count of full octree rebuilds");
+    private static final Metric metricRefitCount = InstrumentationManager.getInstrumentation()
+            .registerCounter("nbody_octree_refit_count", "Count of incremental octree refits");
+    private static final Metric metricReinsertCount = InstrumentationManager.getInstrumentation()
+            .registerCounter("nbody_octree_reinsert_count", "Count of bodies re-inserted into the octree");
+    private static final Metric metricUpdateNanos = InstrumentationManager.getInstrumentation()
+            .registerSummary("nbody_octree_update_nanos", "Octree update time in nanoseconds");
+    private static final Metric metricNodeGauge = InstrumentationManager.getInstrumentation()
+            .registerGauge("nbody_octree_node_gauge", "Number of octree nodes");
+    private static final Metric metricBuildNanos = InstrumentationManager.getInstrumentation()
+            .registerSummary("nbody_octree_build_nanos", "Octree rebuild time in nanoseconds");
+    private static final Metric metricMomentsNanos = InstrumentationManager.getInstrumentation()
+            .registerSummary("nbody_octree_moments_nanos", "Octree moment computation time in nanoseconds");
+
+    /**
+     * The default opening angle. A node is treated as a single mass if its size divided by its distance from
+     * the body is less than this
+     */
+    static final float DEFAULT_THETA = .5F;
+
+    /**
+     * A leaf splits when it holds more than this many bodies
+     */
+    private static final int LEAF_CAPACITY = 8;
+
+    /**
+     * Leaves at this depth don't split, so coincident bodies don't recurse forever
+     */
+    static final int MAX_DEPTH = 20;
+
+    /**
+     * Rebuild when more than this fraction of the bodies have been re-inserted since the last rebuild
+     */
+    private static final float REBUILD_FRACTION = .25F;
+
+    /**
+     * The root cell is made this much larger than the bounds of the bodies when the tree is built, so that
+     * bodies can move for a while before they leave it
+     */
+    private static final float ROOT_MARGIN = 1.5F;
+
+    /**
+     * Below this many bodies, the tree is built and its moments are computed in the calling thread, because
+     * handing the work to the thread pool would cost more than it saves
+     */
+    private static final int PARALLEL_THRESHOLD = 4096;
+
+    /**
+     * Parallel work is split into this many tasks per pool thread, to even out the load
+     */
+    private static final int TASKS_PER_THREAD = 4;
+
+    /**
+     * The pool that parallel work is run in
+     */
+    private final ThreadPoolExecutor executor;
+    private final ParallelRanges ranges;
+
+    /**
+     * The opening angle
+     */
+    private volatile float theta = DEFAULT_THETA;
+
+    /**
+     * The cells: center and half the side length
+     */
+    float[] cellX = new float[0], cellY = new float[0], cellZ = new float[0], cellHalf = new float[0];
+
+    /**
+     * The index of the first of the eight children of each node, or -1 if the node is a leaf
+     */
+    int[] firstChild = new int[0];
+
+    /**
+     * The depth of each node. The root is zero
+     */
+    private int[] depth = new int[0];
+
+    /**
+     * The first body in each leaf
+     */
+    Body[] head = new Body[0];
+
+    /**
+     * The number of bodies in each leaf's list
+     */
+    private int[] leafCount = new int[0];
+
+    /**
+     * Computed bottom-up by {@link #update}: the number of bodies that contribute to the force under each node,
+     * their total mass and center of mass, the bounds of their positions, and their max radius and speed
+     */
+    int[] bodyCount = new int[0];
+    double[] mass = new double[0], comX = new double[0], comY = new double[0], comZ = new double[0];
+    float[] minX = new float[0], minY = new float[0], minZ = new float[0];
+    float[] maxX = new float[0], maxY = new float[0], maxZ = new float[0];
+    float[] maxRadius = new float[0], maxSpeed = new float[0];
+
+    private int nodeCount;
+
+    /**
+     * The number of bodies in the tree
+     */
+    private int bodies;
+
+    private int reinsertedSinceRebuild;
+    private boolean built;
+
+    /**
+     * Re-used by {@link #rebuild}: the bodies in store order, and the sorted Morton keys, each holding an index
+     * into {@link #order} in its low bits
+     */
+    private Body[] order = new Body[0];
+    private long[] keys = new long[0];
+
+    /**
+     * @param executor the thread pool to build the tree in. Must not be running tasks that wait on the tree
+     */
+    Octree(ThreadPoolExecutor executor) {
+        this.executor = executor;
+        ranges = new ParallelRanges(executor, "Octree update");
+    }
+
+    /**
+     * @param theta the opening angle. Zero opens every node, which is equivalent to the direct computation
+     */
+    void setTheta(float theta) {
+        this.theta = Math.max(theta, 0);
+    }
+
+    float getTheta() {
+        return theta;
+    }
+
+    /**
+     * @return true if the tree currently holds the bodies - i.e. {@link #update} has been called since the tree
+     * was last cleared
+     */
+    boolean isBuilt() {
+        return built;
+    }
+
+    /**
+     * Brings the tree up to date with the bodies in the store: incrementally if possible, otherwise by rebuilding
+     * it. Then recomputes the node moments and bounds. Called by the computation runner before the force
+     * computation
+     *
+     * @param bodyStore the bodies in the simulation
+     *
+     * @throws InterruptedException if interrupted waiting for the thread pool
+     */
+    void update(BodyStore bodyStore) throws InterruptedException {
+        long start = System.nanoTime();
+        boolean rebuild = !built;
+        if (!rebuild) {
+            int reinserted = 0;
+            for (Body body : bodyStore) {
+                int leaf = body.octreeLeaf;
+                if (leaf >= 0 && inCell(leaf, body)) {
+                    continue;
+                }
+                if (!inCell(0, body)) {
+                    rebuild = true;
+                    break;
+                }
+                if (leaf >= 0) {
+                    unlink(body);
+                    ++reinserted;
+                    metricReinsertCount.incValue();
+                }
+                insert(body, 0);
+            }
+            reinsertedSinceRebuild += reinserted;
+            rebuild = rebuild || reinsertedSinceRebuild > bodies * REBUILD_FRACTION;
+        }
+        if (rebuild) {
+            rebuild(bodyStore);
+            metricRebuildCount.incValue();
+        } else {
+            metricRefitCount.incValue();
+        }
+        computeMoments();
+        metricNodeGauge.setValue(nodeCount);
+        metricUpdateNanos.setValue(System.nanoTime() - start);
+    }
+
+    /**
+     * Removes a body from the tree. Called by the computation runner when the body is removed from the store
+     *
+     * @param body the body
+     */
+    void remove(Body body) {
+        if (body.octreeLeaf >= 0) {
+            unlink(body);
+        }
+    }
+
+    /**
+     * Removes all the bodies and nodes. Called by the computation runner when the tree is no longer used
+     */
+    void clear() {
+        for (int n = 0; n < nodeCount; ++n) {
+            Body body = head[n];
+            while (body != null) {
+                Body next = body.octreeNext;
+                body.octreeLeaf = -1;
+                body.octreeNext = null;
+                body = next;
+            }
+            head[n] = null;
+        }
+        nodeCount = 0;
+        bodies = 0;
+        built = false;
+    }
+
+    /**
+     * Determines whether a body might touch - or, if {@code margin} includes a sweep distance, be touched
+     * during the time step by - any of the bodies under a node
+     *
+     * @param n      the node
+     * @param x      the position of the body
+     * @param y      "
+     * @param z      "
+     * @param margin the radius of the body plus any distance the bodies could close within the time step
+     *
+     * @return false if the body definitely can't touch any body under the node
+     */
+    boolean mayTouch(int n, float x, float y, float z, float margin) {
+        float ex = Math.max(Math.max(minX[n] - x, x - maxX[n]), 0);
+        float ey = Math.max(Math.max(minY[n] - y, y - maxY[n]), 0);
+        float ez = Math.max(Math.max(minZ[n] - z, z - maxZ[n]), 0);
+        float reach = margin + maxRadius[n];
+        return ex * ex + ey * ey + ez * ez <= reach * reach;
+    }
+
+    /**
+     * Builds the tree from scratch with a root cell enclosing all the bodies. The bounds of the bodies and their
+     * Morton keys are computed in parallel, the keys are sorted in parallel, and then the nodes are emitted from
+     * the sorted keys
+     */
+    private void rebuild(BodyStore bodyStore) throws InterruptedException {
+        long start = System.nanoTime();
+        clear();
+        int count = 0;
+        for (Body body : bodyStore) {
+            if (count == order.length) {
+                order = Arrays.copyOf(order, Math.max(count * 2, 64));
+            }
+            order[count++] = body;
+        }
+        if (keys.length < count) {
+            keys = new long[order.length];
+        }
+        Body[] order = this.order;
+        long[] keys = this.keys;
+        int tasks = tasks(count);
+        float[] bounds = new float[tasks * 6];
+        forEachRange(count, tasks, (task, from, to) -> {
+            float lx = Float.MAX_VALUE, ly = Float.MAX_VALUE, lz = Float.MAX_VALUE;
+            float hx = -Float.MAX_VALUE, hy = -Float.MAX_VALUE, hz = -Float.MAX_VALUE;
+            for (int i = from; i < to; ++i) {
+                Body body = order[i];
+                lx = Math.min(lx, body.getX());
+                ly = Math.min(ly, body.getY());
+                lz = Math.min(lz, body.getZ());
+                hx = Math.max(hx, body.getX());
+                hy = Math.max(hy, body.getY());
+                hz = Math.max(hz, body.getZ());
+            }
+            int b = task * 6;
+            bounds[b] = lx;
+            bounds[b + 1] = ly;
+            bounds[b + 2] = lz;
+            bounds[b + 3] = hx;
+            bounds[b + 4] = hy;
+            bounds[b + 5] = hz;
+        });
+        float lx = Float.MAX_VALUE, ly = Float.MAX_VALUE, lz = Float.MAX_VALUE;
+        float hx = -Float.MAX_VALUE, hy = -Float.MAX_VALUE, hz = -Float.MAX_VALUE;
+        for (int b = 0; b < bounds.length; b += 6) {
+            lx = Math.min(lx, bounds[b]);
+            ly = Math.min(ly, bounds[b + 1]);
+            lz = Math.min(lz, bounds[b + 2]);
+            hx = Math.max(hx, bounds[b + 3]);
+            hy = Math.max(hy, bounds[b + 4]);
+            hz = Math.max(hz, bounds[b + 5]);
+        }
+        if (lx > hx) {
+            // no bodies
+            lx = ly = lz = hx = hy = hz = 0;
+        }
+        float half = Math.max(Math.max(hx - lx, hy - ly), Math.max(hz - lz, 1F)) * ROOT_MARGIN / 2;
+        newNode((lx + hx) / 2, (ly + hy) / 2, (lz + hz) / 2, half, 0);
+
+        // the index into the order array goes in the low bits of each key, which leaves fewer bits for the
+        // levels of the tree as the number of bodies grows
+        int indexBits = 32 - Integer.numberOfLeadingZeros(Math.max(count - 1, 1));
+        int levels = Math.min(MAX_DEPTH, (63 - indexBits) / 3);
+        long maxCell = (1L << levels) - 1;
+        double scale = (1L << levels) / (2.0 * half);
+        double originX = cellX[0] - half, originY = cellY[0] - half, originZ = cellZ[0] - half;
+        forEachRange(count, tasks, (task, from, to) -> {
+            for (int i = from; i < to; ++i) {
+                Body body = order[i];
+                long morton = BodyStore.spread(quantize(body.getX() - originX, scale, maxCell)) |
+                        BodyStore.spread(quantize(body.getY() - originY, scale, maxCell)) << 1 |
+                        BodyStore.spread(quantize(body.getZ() - originZ, scale, maxCell)) << 2;
+                keys[i] = morton << indexBits | i;
+            }
+        });
+        Arrays.parallelSort(keys, 0, count);
+        emit(0, 0, count, indexBits, levels);
+        Arrays.fill(order, 0, count, null);
+        reinsertedSinceRebuild = 0;
+        built = true;
+        metricBuildNanos.setValue(System.nanoTime() - start);
+    }
+
+    /**
+     * Emits the subtree under a node from a range of the sorted keys. If the range fits in a leaf, the bodies are
+     * linked into the node. Otherwise the node gets eight children, and the range is split between them by the
+     * three key bits for the children's level. If the keys have no bits left for that level, the bodies are
+     * inserted one at a time instead, which splits the cells as needed
+     *
+     * @param n         the node. Must be a leaf with no bodies
+     * @param from      the first key in the range
+     * @param to        one past the last key in the range
+     * @param indexBits the number of low bits in each key that hold the index into {@link #order}
+     * @param levels    the number of levels below the root that the keys resolve
+     */
+    private void emit(int n, int from, int to, int indexBits, int levels) {
+        long indexMask = (1L << indexBits) - 1;
+        int count = to - from;
+        if (count > LEAF_CAPACITY && depth[n] < MAX_DEPTH) {
+            if (depth[n] < levels) {
+                int first = addChildren(n);
+                int shift = indexBits + 3 * (levels - depth[n] - 1);
+                int lo = from;
+                for (int c = 0; c < 8; ++c) {
+                    int hi = lo;
+                    while (hi < to && (int) (keys[hi] >>> shift & 7) == c) {
+                        ++hi;
+                    }
+                    emit(first + c, lo, hi, indexBits, levels);
+                    lo = hi;
+                }
+            } else {
+                for (int i = from; i < to; ++i) {
+                    insert(order[(int) (keys[i] & indexMask)], n);
+                }
+            }
+            return;
+        }
+        for (int i = to - 1; i >= from; --i) {
+            Body body = order[(int) (keys[i] & indexMask)];
+            body.octreeNext = head[n];
+            head[n] = body;
+            body.octreeLeaf = n;
+        }
+        leafCount[n] = count;
+        bodies += count;
+    }
+
+    /**
+     * @return the cell on one axis that the passed offset from the root cell's lower corner falls in
+     */
+    private static long quantize(double offset, double scale, long maxCell) {
+        return Math.min(Math.max((long) (offset * scale), 0), maxCell);
+    }
+
+    /**
+     * Inserts a body into the leaf under the passed node whose cell contains the body, splitting the leaf if
+     * it overflows
+     */
+    private void insert(Body body, int n) {
+        while (firstChild[n] >= 0) {
+            n = childFor(n, body.getX(), body.getY(), body.getZ());
+        }
+        body.octreeNext = head[n];
+        head[n] = body;
+        body.octreeLeaf = n;
+        ++bodies;
+        if (++leafCount[n] > LEAF_CAPACITY && depth[n] < MAX_DEPTH) {
+            split(n);
+        }
+    }
+
+    /**
+     * Turns a leaf into an internal node with eight children, and moves the leaf's bodies into the children
+     */
+    private void split(int n) {
+        addChildren(n);
+        Body body = head[n];
+        head[n] = null;
+        bodies -= leafCount[n];
+        leafCount[n] = 0;
+        while (body != null) {
+            Body next = body.octreeNext;
+            insert(body, n);
+            body = next;
+        }
+    }
+
+    /**
+     * Creates the eight children of a node. The bit values of each child's index within the eight - 1, 2, and
+     * 4 - select the upper half of the parent's cell on the x, y, and z axes respectively
+     *
+     * @return the index of the first child
+     */
+    private int addChildren(int n) {
+        float h = cellHalf[n] / 2;
+        int first = nodeCount;
+        for (int i = 0; i < 8; ++i) {
+            newNode(cellX[n] + ((i & 1) == 0 ? -h : h), cellY[n] + ((i & 2) == 0 ? -h : h),
+                    cellZ[n] + ((i & 4) == 0 ? -h : h), h, depth[n] + 1);
+        }
+        firstChild[n] = first;
+        return first;
+    }
+
+    /**
+     * Removes a body from its leaf's list
+     */
+    private void unlink(Body body) {
+        int n = body.octreeLeaf;
+        Body prev = null;
+        for (Body b = head[n]; b != null; prev = b, b = b.octreeNext) {
+            if (b == body) {
+                if (prev == null) {
+                    head[n] = b.octreeNext;
+                } else {
+                    prev.octreeNext = b.octreeNext;
+                }
+                --leafCount[n];
+                --bodies;
+                break;
+            }
+        }
+        body.octreeLeaf = -1;
+        body.octreeNext = null;
+    }
+
+    /**
+     * Computes the moments and bounds of every node, children first. In parallel, if the tree is large enough:
+     * the tree is expanded breadth-first from the root until there are enough subtrees to keep the thread pool
+     * busy, the subtrees are computed in parallel, and then the nodes above them are computed in reverse
+     * breadth-first order
+     */
+    private void computeMoments() throws InterruptedException {
+        long start = System.nanoTime();
+        int tasks = tasks(bodies);
+        if (tasks == 1) {
+            for (int n = nodeCount - 1; n >= 0; --n) {
+                computeNode(n);
+            }
+        } else {
+            List<Integer> above = new ArrayList<>();
+            List<Integer> subtrees = Collections.singletonList(0);
+            boolean expanded = true;
+            while (expanded && subtrees.size() < tasks) {
+                List<Integer> next = new ArrayList<>();
+                expanded = false;
+                for (int n : subtrees) {
+                    if (firstChild[n] < 0) {
+                        next.add(n);
+                    } else {
+                        above.add(n);
+                        for (int c = firstChild[n]; c < firstChild[n] + 8; ++c) {
+                            next.add(c);
+                        }
+                        expanded = true;
+                    }
+                }
+                subtrees = next;
+            }
+            List<Integer> roots = subtrees;
+            forEachRange(roots.size(), Math.min(tasks, roots.size()), (task, from, to) -> {
+                for (int i = from; i < to; ++i) {
+                    computeSubtree(roots.get(i));
+                }
+            });
+            for (int i = above.size() - 1; i >= 0; --i) {
+                computeNode(above.get(i));
+            }
+        }
+        metricMomentsNanos.setValue(System.nanoTime() - start);
+    }
+
+    /**
+     * Computes the moments and bounds of every node in a subtree, children first
+     *
+     * @param n the root of the subtree
+     */
+    private void computeSubtree(int n) {
+        if (firstChild[n] >= 0) {
+            for (int c = firstChild[n]; c < firstChild[n] + 8; ++c) {
+                computeSubtree(c);
+            }
+        }
+        computeNode(n);
+    }
+
+    /**
+     * Computes the moments and bounds of a node from its bodies if it is a leaf, or from its children - which
+     * must already be computed - if not
+     *
+     * @param n the node
+     */
+    private void computeNode(int n) {
+        int count = 0;
+        double m = 0, mx = 0, my = 0, mz = 0;
+        float lx = Float.MAX_VALUE, ly = Float.MAX_VALUE, lz = Float.MAX_VALUE;
+        float hx = -Float.MAX_VALUE, hy = -Float.MAX_VALUE, hz = -Float.MAX_VALUE;
+        float r = 0, s = 0;
+        if (firstChild[n] < 0) {
+            for (Body body = head[n]; body != null; body = body.octreeNext) {
+                if (!body.exists() || body.isFragmenting()) {
+                    continue;
+                }
+                float x = body.getX(), y = body.getY(), z = body.getZ();
+                double bm = body.getMass();
+                ++count;
+                m += bm;
+                mx += bm * x;
+                my += bm * y;
+                mz += bm * z;
+                lx = Math.min(lx, x);
+                ly = Math.min(ly, y);
+                lz = Math.min(lz, z);
+                hx = Math.max(hx, x);
+                hy = Math.max(hy, y);
+                hz = Math.max(hz, z);
+                r = Math.max(r, body.getRadius());
+                float vx = body.getVx(), vy = body.getVy(), vz = body.getVz();
+                s = Math.max(s, (float) Math.sqrt(vx * vx + vy * vy + vz * vz));
+            }
+        } else {
+            for (int c = firstChild[n]; c < firstChild[n] + 8; ++c) {
+                if (bodyCount[c] == 0) {
+                    continue;
+                }
+                count += bodyCount[c];
+                m += mass[c];
+                mx += mass[c] * comX[c];
+                my += mass[c] * comY[c];
+                mz += mass[c] * comZ[c];
+                lx = Math.min(lx, minX[c]);
+                ly = Math.min(ly, minY[c]);
+                lz = Math.min(lz, minZ[c]);
+                hx = Math.max(hx, maxX[c]);
+                hy = Math.max(hy, maxY[c]);
+                hz = Math.max(hz, maxZ[c]);
+                r = Math.max(r, maxRadius[c]);
+                s = Math.max(s, maxSpeed[c]);
+            }
+        }
+        bodyCount[n] = count;
+        mass[n] = m;
+        comX[n] = m > 0 ? mx / m : cellX[n];
+        comY[n] = m > 0 ? my / m : cellY[n];
+        comZ[n] = m > 0 ? mz / m : cellZ[n];
+        minX[n] = lx;
+        minY[n] = ly;
+        minZ[n] = lz;
+        maxX[n] = hx;
+        maxY[n] = hy;
+        maxZ[n] = hz;
+        maxRadius[n] = r;
+        maxSpeed[n] = s;
+    }
+
+    /**
+     * @param count the number of bodies or nodes to process
+     *
+     * @return the number of tasks to split the processing into - one if it isn't worth running in parallel
+     */
+    private int tasks(int count) {
+        return count < PARALLEL_THRESHOLD ? 1 : Math.max(executor.getCorePoolSize(), 1) * TASKS_PER_THREAD;
+    }
+
+    /**
+     * Processes a range of indexes in the thread pool - see {@link ParallelRanges#forEach}
+     */
+    private void forEachRange(int count, int tasks, ParallelRanges.Range range) throws InterruptedException {
+        ranges.forEach(count, tasks, range);
+    }
+
+    private boolean inCell(int n, Body body) {
+        float h = cellHalf[n];
+        return Math.abs(body.getX() - cellX[n]) <= h && Math.abs(body.getY() - cellY[n]) <= h &&
+                Math.abs(body.getZ() - cellZ[n]) <= h;
+    }
+
+    private int childFor(int n, float x, float y, float z) {
+        return firstChild[n] + (x >= cellX[n] ? 1 : 0) + (y >= cellY[n] ? 2 : 0) + (z >= cellZ[n] ? 4 : 0);
+    }
+
+    private void newNode(float x, float y, float z, float half, int nodeDepth) {
+        if (nodeCount == firstChild.length) {
+            grow(Math.max(nodeCount * 2, 64));
+        }
+        int n = nodeCount++;
+        cellX[n] = x;
+        cellY[n] = y;
+        cellZ[n] = z;
+        cellHalf[n] = half;
+        firstChild[n] = -1;
+        depth[n] = nodeDepth;
+        head[n] = null;
+        leafCount[n] = 0;
+        bodyCount[n] = 0;
+    }
+
+    private void grow(int capacity) {
+        cellX = Arrays.copyOf(cellX, capacity);
+        cellY = Arrays.copyOf(cellY, capacity);
+        cellZ = Arrays.copyOf(cellZ, capacity);
+        cellHalf = Arrays.copyOf(cellHalf, capacity);
+        firstChild = Arrays.copyOf(firstChild, capacity);
+        depth = Arrays.copyOf(depth, capacity);
+        head = Arrays.copyOf(head, capacity);
+        leafCount = Arrays.copyOf(leafCount, capacity);
+        bodyCount = Arrays.copyOf(bodyCount, capacity);
+        mass = Arrays.copyOf(mass, capacity);
+        comX = Arrays.copyOf(comX, capacity);
+        comY = Arrays.copyOf(comY, capacity);
+        comZ = Arrays.copyOf(comZ, capacity);
+        minX = Arrays.copyOf(minX, capacity);
+        minY = Arrays.copyOf(minY, capacity);
+        minZ = Arrays.copyOf(minZ, capacity);
+        maxX = Arrays.copyOf(maxX, capacity);
+        maxY = Arrays.copyOf(maxY, capacity);
+        maxZ = Arrays.copyOf(maxZ, capacity);
+        maxRadius = Arrays.copyOf(maxRadius, capacity);
+        maxSpeed = Arrays.copyOf(maxSpeed, capacity);
+    }
+}
@@ -0,0 +1,145 @@
+package org.ericace.nbody;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Splits a range of indexes into contiguous sub-ranges and processes them in a thread pool. Each sub-range is
+ * processed by one task, so a task can write to the indexes in its own sub-range - or to storage set aside per
+ * task - without synchronization.
+ * <p>
+ * An instance is meant to be used every compute cycle, so it keeps its tasks and re-uses them, and the calling
+ * thread waits for them on a counter rather than on futures. Other than what the executor itself does to queue a
+ * task, processing the ranges doesn't allocate. An instance must only be used by one thread at a time.</p>
+ */
+final class ParallelRanges {
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Describes the work, for the exception thrown if a task fails
+     */
+    private final String what;
+
+    private Task[] tasks = new Task[0];
+
+    /**
+     * The range being processed. Written by the calling thread before the tasks are submitted
+     */
+    private Range range;
+
+    /**
+     * The number of submitted tasks that haven't finished. The task that finishes last wakes the waiting thread
+     */
+    private final AtomicInteger remaining = new AtomicInteger();
+    private volatile Thread waiter;
+
+    /**
+     * The first exception thrown by a task
+     */
+    private volatile Throwable failure;
+
+    /**
+     * @param executor the thread pool. Must not be running tasks that wait on the caller
+     * @param what     describes the work, for the exception thrown if a task fails
+     */
+    ParallelRanges(ThreadPoolExecutor executor, String what) {
+        this.executor = executor;
+        this.what = what;
+    }
+
+    /**
+     * Processes the sub-ranges in the thread pool, waiting until all are processed. The calling thread sees
+     * everything the tasks wrote. If there is only one task, it runs in the calling thread. If the calling thread
+     * is interrupted, it still waits for the tasks that are running - so they are done with the range - and then
+     * throws
+     *
+     * @param count     the number of indexes, starting from zero
+     * @param taskCount the number of sub-ranges
+     * @param range     processes one sub-range
+     */
+    void forEach(int count, int taskCount, Range range) throws InterruptedException {
+        if (taskCount <= 1) {
+            range.process(0, 0, count);
+            return;
+        }
+        if (tasks.length < taskCount) {
+            Task[] grown = new Task[taskCount];
+            for (int t = 0; t < taskCount; ++t) {
+                grown[t] = t < tasks.length ? tasks[t] : new Task(t);
+            }
+            tasks = grown;
+        }
+        this.range = range;
+        failure = null;
+        waiter = Thread.currentThread();
+        remaining.set(taskCount);
+        for (int t = 0; t < taskCount; ++t) {
+            Task task = tasks[t];
+            task.from = (int) ((long) count * t / taskCount);
+            task.to = (int) ((long) count * (t + 1) / taskCount);
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // the tasks that weren't submitted will never count down
+                failure = e;
+                remaining.addAndGet(t - taskCount);
+                break;
+            }
+        }
+        boolean interrupted = false;
+        while (remaining.get() > 0) {
+            LockSupport.park(this);
+            interrupted |= Thread.interrupted();
+        }
+        this.range = null;
+        if (interrupted) {
+            throw new InterruptedException();
+        }
+        Throwable failure = this.failure;
+        if (failure != null) {
+            throw new RuntimeException(what + " failed", failure);
+        }
+    }
+
+    /**
+     * Processes one sub-range. Re-used every time the ranges are processed
+     */
+    private final class Task implements Runnable {
+        private final int index;
+        private int from, to;
+
+        Task(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public void run() {
+            try {
+                range.process(index, from, to);
+            } catch (Throwable e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            } finally {
+                if (remaining.decrementAndGet() == 0) {
+                    LockSupport.unpark(waiter);
+                }
+            }
+        }
+    }
+
+    /**
+     * Processes a sub-range of indexes for {@link #forEach}
+     */
+    @FunctionalInterface
+    interface Range {
+        /**
+         * @param task the index of the sub-range
+         * @param from the first index
+         * @param to   one past the last index
+         */
+        void process(int task, int from, int to);
+    }
+}
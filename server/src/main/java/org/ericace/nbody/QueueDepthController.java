@@ -0,0 +1,113 @@
+package org.ericace.nbody;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sizes the result queue holder to the smallest depth at which the renderer doesn't starve. Every queue in the
+ * holder is a cycle the renderer displays late, so a deeper holder adds latency - but too shallow a holder
+ * leaves the renderer without a queue whenever a compute cycle runs long, even if the computation is on average
+ * faster than the renderer.
+ * <p>
+ * The controller works in windows of {@link #WINDOW_FRAMES} render frames. In each window it counts the frames
+ * that found no computed queue, and the cycles the computation published into a full holder - meaning the
+ * computation was ahead of the renderer. A window starves if more than {@link #STARVED_FRACTION} of its frames
+ * found no queue, which tolerates the odd late cycle. A window that starved in which the computation was also ahead
+ * means the holder was too shallow to absorb the variation in cycle time, so the depth grows by one. Starved
+ * frames in a window in which the computation was never ahead mean the computation is simply slower than the
+ * renderer, which no depth can fix, so the depth is left alone. After {@link #SHRINK_WINDOWS} windows in a row
+ * without starving, the depth shrinks by one - but not back to a depth that starved, until
+ * {@link #RETRY_WINDOWS} windows in a row have passed without starving.</p>
+ * <p>
+ * {@link #frame} is only called by the render thread. {@link #ahead} is called by the computation thread.</p>
+ */
+final class QueueDepthController {
+    private static final Logger logger = LogManager.getLogger(QueueDepthController.class);
+
+    /**
+     * The number of render frames in a window - about two seconds at 60 FPS
+     */
+    static final int WINDOW_FRAMES = 120;
+
+    /**
+     * A window starves if more than this fraction of its frames found no computed queue
+     */
+    static final float STARVED_FRACTION = .01F;
+
+    /**
+     * The depth never grows past this
+     */
+    static final int MAX_DEPTH = 32;
+
+    /**
+     * The number of windows in a row without starving before the depth shrinks
+     */
+    static final int SHRINK_WINDOWS = 3;
+
+    /**
+     * The number of windows in a row without starving before a depth that starved is tried again
+     */
+    static final int RETRY_WINDOWS = 30;
+
+    private final ResultQueueHolder holder;
+
+    /**
+     * The number of cycles published into a full holder in the current window. Written by the computation thread
+     */
+    private final AtomicInteger aheadCount = new AtomicInteger();
+
+    /**
+     * Render thread state: the frames and starved frames in the current window, the windows in a row without
+     * starving, and the highest depth that starved since the last retry
+     */
+    private int frames, starved, cleanWindows, starvedDepth;
+
+    QueueDepthController(ResultQueueHolder holder) {
+        this.holder = holder;
+    }
+
+    /**
+     * Records that a cycle was published into a full holder
+     */
+    void ahead() {
+        aheadCount.incrementAndGet();
+    }
+
+    /**
+     * Records a render frame, and adjusts the depth at the end of a window
+     *
+     * @param gotQueue true if the frame found a computed queue
+     */
+    void frame(boolean gotQueue) {
+        if (!gotQueue) {
+            ++starved;
+        }
+        if (++frames < WINDOW_FRAMES) {
+            return;
+        }
+        int depth = holder.getMaxQueues();
+        boolean ahead = aheadCount.getAndSet(0) > 0;
+        if (starved <= WINDOW_FRAMES * STARVED_FRACTION) {
+            if (++cleanWindows % RETRY_WINDOWS == 0) {
+                starvedDepth = 0;
+            }
+            if (cleanWindows % SHRINK_WINDOWS == 0 && depth - 1 > starvedDepth) {
+                setDepth(depth - 1);
+            }
+        } else {
+            cleanWindows = 0;
+            if (ahead && depth < MAX_DEPTH) {
+                starvedDepth = Math.max(starvedDepth, depth);
+                setDepth(depth + 1);
+            }
+        }
+        frames = starved = 0;
+    }
+
+    private void setDepth(int depth) {
+        logger.debug("Result queue depth {} -> {}", holder.getMaxQueues(), depth);
+        holder.setMaxQueues(depth);
+    }
+}
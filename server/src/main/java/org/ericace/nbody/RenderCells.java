@@ -0,0 +1,292 @@
+package org.ericace.nbody;
+
+import com.jme3.bounding.BoundingBox;
+import com.jme3.math.Vector3f;
+import com.jme3.renderer.Camera;
+import com.jme3.scene.Geometry;
+import com.jme3.scene.Mesh;
+import com.jme3.scene.Node;
+import org.ericace.instrumentation.InstrumentationManager;
+import org.ericace.instrumentation.Metric;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Groups the renderer's geometries into the cells of a uniform grid, with a scene graph node per cell, so the
+ * engine culls a whole cell at a time rather than testing every geometry against the camera. It also saves the
+ * renderer the cost of moving bodies nobody can see: at the start of each frame, each cell is tested against the
+ * camera frustum, and a body that moves within a cell outside the frustum is not moved in the scene graph. Its
+ * latest position is kept, and applied when the cell comes back into view. A body that moves to a different cell is
+ * always moved, so a cell's node only ever holds geometries whose latest positions are in the cell - which is what
+ * makes the cell test safe.
+ * <p>
+ * The geometries are created by {@link #newGeometry}, so each one carries its own cell membership, and a move
+ * doesn't have to look it up.</p>
+ * <p>
+ * Only the renderer thread calls this class.</p>
+ */
+final class RenderCells {
+    private static final Metric metricSkippedGauge = InstrumentationManager.getInstrumentation()
+            .registerGauge("nbody_render_cell_skipped_gauge",
+                    "Fraction of body moves in the last frame deferred because the body's cell was out of view");
+    private static final Metric metricCulledGauge = InstrumentationManager.getInstrumentation()
+            .registerGauge("nbody_render_cell_culled_gauge", "Number of render cells out of view in the last frame");
+
+    /**
+     * The parent of the cell nodes
+     */
+    private final Node node = new Node("render cells");
+    private final float cellSize, invCellSize;
+    private final Map<Long, Cell> cells = new HashMap<>();
+
+    /**
+     * Counts for the frame in progress
+     */
+    private int moves, skipped;
+
+    /**
+     * Scratch for testing a cell against the camera
+     */
+    private final BoundingBox box = new BoundingBox();
+    private final Vector3f min = new Vector3f(), max = new Vector3f();
+
+    /**
+     * @param parent   the node to attach the cells to
+     * @param cellSize the length of the side of a cell, in world units
+     */
+    RenderCells(Node parent, float cellSize) {
+        parent.attachChild(node);
+        this.cellSize = cellSize;
+        invCellSize = 1 / cellSize;
+    }
+
+    /**
+     * Starts a frame: tests each cell against the camera, and applies the deferred moves of the bodies in the
+     * cells that came back into view. Empty cells aren't tested. Once more than half the cells are empty, they are
+     * removed
+     */
+    void beginFrame(Camera cam) {
+        moves = skipped = 0;
+        int culled = 0, empty = 0;
+        for (Cell cell : cells.values()) {
+            if (cell.members.isEmpty()) {
+                // so a body that moves into the cell before the next test is moved
+                cell.visible = true;
+                ++empty;
+                continue;
+            }
+            float margin = cell.maxRadius;
+            min.set(cell.cx * cellSize - margin, cell.cy * cellSize - margin, cell.cz * cellSize - margin);
+            max.set((cell.cx + 1) * cellSize + margin, (cell.cy + 1) * cellSize + margin,
+                    (cell.cz + 1) * cellSize + margin);
+            box.setMinMax(min, max);
+            cam.setPlaneState(0);
+            boolean visible = cam.contains(box) != Camera.FrustumIntersect.Outside;
+            if (visible && !cell.visible) {
+                for (Member m : cell.members) {
+                    if (m.pending) {
+                        m.setLocalTranslation(m.x, m.y, m.z);
+                        m.pending = false;
+                    }
+                }
+            }
+            cell.visible = visible;
+            if (!visible) {
+                ++culled;
+            }
+        }
+        metricCulledGauge.setValue(culled);
+        if (empty > cells.size() / 2) {
+            removeEmptyCells();
+        }
+    }
+
+    /**
+     * Removes the empty cells. Detaching one child is linear in the number of children, so the cell nodes are
+     * detached all at once and the remaining ones are re-attached
+     */
+    private void removeEmptyCells() {
+        node.detachAllChildren();
+        for (Iterator<Cell> it = cells.values().iterator(); it.hasNext(); ) {
+            Cell cell = it.next();
+            if (cell.members.isEmpty()) {
+                it.remove();
+            } else {
+                node.attachChild(cell.node);
+            }
+        }
+    }
+
+    /**
+     * Ends a frame, and publishes the fraction of moves that were deferred
+     */
+    void endFrame() {
+        metricSkippedGauge.setValue(moves == 0 ? 0 : (float) skipped / moves);
+    }
+
+    /**
+     * Creates a geometry that can be added to the cells
+     *
+     * @param name the name of the geometry
+     * @param mesh the mesh
+     *
+     * @return the geometry
+     */
+    Geometry newGeometry(String name, Mesh mesh) {
+        return new Member(name, mesh);
+    }
+
+    /**
+     * Adds a geometry to the cell its translation is in
+     *
+     * @param geo a geometry from {@link #newGeometry}
+     */
+    void add(Geometry geo) {
+        Member m = (Member) geo;
+        Vector3f at = m.getLocalTranslation();
+        m.x = at.x;
+        m.y = at.y;
+        m.z = at.z;
+        join(m, cellOf(at.x, at.y, at.z));
+    }
+
+    /**
+     * Removes a geometry from its cell and from the scene graph
+     *
+     * @param geo a geometry from {@link #newGeometry}
+     */
+    void remove(Geometry geo) {
+        Member m = (Member) geo;
+        if (m.cell != null) {
+            leave(m);
+        }
+    }
+
+    /**
+     * Moves a geometry. If it stays in a cell that is out of view, the geometry isn't moved until the cell comes
+     * back into view
+     *
+     * @param geo a geometry from {@link #newGeometry}
+     */
+    void move(Geometry geo, float x, float y, float z) {
+        Member m = (Member) geo;
+        ++moves;
+        m.x = x;
+        m.y = y;
+        m.z = z;
+        Cell cell = m.cell;
+        if (floor(x) != cell.cx || floor(y) != cell.cy || floor(z) != cell.cz) {
+            cell = cellOf(x, y, z);
+            leave(m);
+            join(m, cell);
+        } else {
+            cell.maxRadius = Math.max(cell.maxRadius, m.getLocalScale().x);
+            if (!cell.visible) {
+                m.pending = true;
+                ++skipped;
+                return;
+            }
+        }
+        m.setLocalTranslation(x, y, z);
+        m.pending = false;
+    }
+
+    /**
+     * Gets a geometry's latest position, which is ahead of its translation if the move was deferred
+     *
+     * @param geo   a geometry from {@link #newGeometry}
+     * @param store receives the position
+     *
+     * @return the passed store
+     */
+    Vector3f getPosition(Geometry geo, Vector3f store) {
+        Member m = (Member) geo;
+        return store.set(m.x, m.y, m.z);
+    }
+
+    /**
+     * Gets the cell containing a position, creating it if need be. A new cell is treated as in view until the
+     * next frame tests it
+     */
+    private Cell cellOf(float x, float y, float z) {
+        int cx = floor(x), cy = floor(y), cz = floor(z);
+        long key = ((long) (cx & 0x1FFFFF) << 42) | ((long) (cy & 0x1FFFFF) << 21) | (cz & 0x1FFFFF);
+        Cell cell = cells.get(key);
+        if (cell == null) {
+            cell = new Cell(cx, cy, cz);
+            cells.put(key, cell);
+            node.attachChild(cell.node);
+        }
+        return cell;
+    }
+
+    /**
+     * @return the grid coordinate of a world coordinate
+     */
+    private int floor(float v) {
+        float f = v * invCellSize;
+        int i = (int) f;
+        return f < i ? i - 1 : i;
+    }
+
+    private void join(Member m, Cell cell) {
+        m.cell = cell;
+        m.index = cell.members.size();
+        cell.members.add(m);
+        cell.maxRadius = Math.max(cell.maxRadius, m.getLocalScale().x);
+        cell.node.attachChild(m);
+    }
+
+    /**
+     * Removes a member from its cell. An empty cell is left in place until {@link #beginFrame} removes the empty
+     * cells, so bodies moving back and forth across a cell boundary don't repeatedly add and remove the cell
+     */
+    private void leave(Member m) {
+        Cell cell = m.cell;
+        Member last = cell.members.remove(cell.members.size() - 1);
+        if (last != m) {
+            cell.members.set(m.index, last);
+            last.index = m.index;
+        }
+        cell.node.detachChild(m);
+        m.cell = null;
+    }
+
+    /**
+     * A grid cell. The max radius of the bodies that have been in the cell pads the cell when it is tested against
+     * the camera, so a body whose center is just outside the view but whose surface is in it is still moved
+     */
+    private static final class Cell {
+        final int cx, cy, cz;
+        final Node node;
+        final List<Member> members = new ArrayList<>();
+        float maxRadius;
+        boolean visible = true;
+
+        Cell(int cx, int cy, int cz) {
+            this.cx = cx;
+            this.cy = cy;
+            this.cz = cz;
+            node = new Node("cell " + cx + "," + cy + "," + cz);
+        }
+    }
+
+    /**
+     * A geometry with its cell and its index in the cell's member list, and its latest position. If
+     * {@code pending}, the position hasn't been applied to the translation yet
+     */
+    private static final class Member extends Geometry {
+        Cell cell;
+        int index;
+        float x, y, z;
+        boolean pending;
+
+        Member(String name, Mesh mesh) {
+            super(name, mesh);
+        }
+    }
+}
@@ -2,13 +2,13 @@ package org.ericace.nbody;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.ericace.globals.Globals;
 import org.ericace.instrumentation.InstrumentationManager;
 import org.ericace.instrumentation.Metric;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.NoSuchElementException;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * A queue of queues. The outer queue is a FIFO queue of nested queues.
@@ -16,14 +16,19 @@ import java.util.concurrent.ConcurrentLinkedDeque;
  * The nested {@link ResultQueueHolder.ResultQueue} class holds the result of one computation cycle: the positions
  * of all the bodies in the sim. There can be multiple of these result queues enqueued in the outer class if the
  * computation thread is faster than the render thread. However there is a limit to the number of result queues
- * the class can hold. Once that limit is reached, the computation thread won't do any additional work until the
- * render thread draws the queue down to less than its max size. (This has the effect of pegging the number
- * of n-body computations per second to the number of render cycles per second.)</p>
+ * the class can hold. What happens once that limit is reached depends on the {@link OverflowPolicy}. By default,
+ * the computation thread won't do any additional work until the render thread draws the queue down to less than
+ * its max size. (This has the effect of pegging the number of n-body computations per second to the number of
+ * render cycles per second.)</p>
  * <p>
  * Storing the computation results outside of the bodies that are used to perform the calculation lets the rendering
  * engine have access to the computation results without any thread synchronization between the compute thread(s)
- * and the rendering thread. Though there is the garbage collection expense of continually allocating and freeing
- * the storage.</p>
+ * and the rendering thread. The computation runner thread is the only producer of result queues, and the render
+ * thread is the only consumer, so the outer queue is a lock-free single-producer single-consumer ring - see
+ * {@link FrameRing}. To avoid the garbage collection expense of continually allocating and freeing the
+ * storage, a result queue holds its bodies in parallel primitive arrays, and once the consumer is done with a
+ * queue it hands it back via {@link #recycle} so the arrays are re-used for a later cycle. In steady state the
+ * hand-off doesn't allocate.</p>
  */
 public final class ResultQueueHolder {
     private static final Logger logger = LogManager.getLogger(ResultQueueHolder.class);
@@ -31,78 +36,307 @@ public final class ResultQueueHolder {
             .registerGauge("nbody_result_queue_max_size", "Max cached computation results");
     private static final Metric metricResultQueueSizeGauge = InstrumentationManager.getInstrumentation()
             .registerGauge("nbody_result_queue_size", "Current cached computation results");
+    private static final Metric metricResultQueueAllocCount = InstrumentationManager.getInstrumentation()
+            .registerCounter("nbody_result_queue_alloc_count", "Result queues allocated because none could be recycled");
+    private static final Metric metricResultQueueDroppedCount = InstrumentationManager.getInstrumentation()
+            .registerCounter("nbody_result_queue_dropped_count", "Computed result queues that were never rendered");
+    private static final Metric metricResultQueueEntriesGauge = InstrumentationManager.getInstrumentation()
+            .registerGauge("nbody_result_queue_entries_gauge", "Bodies in the most recent result queue");
+    private static final Metric metricResultQueueLatencyNanos = InstrumentationManager.getInstrumentation()
+            .registerSummary("nbody_result_queue_latency_nanos",
+                    "Time from a result queue being computed to the render thread taking it, in nanoseconds");
+
+    /**
+     * The upper bound of {@link #getMaxQueues}
+     */
+    public static final int MAX_QUEUES = 1024;
+
+    /**
+     * Defines what happens when the computation thread has filled the holder with computed queues that the render
+     * thread has not consumed:
+     * <ul>
+     *     <li>BLOCK - the computation thread waits until the render thread takes a queue</li>
+     *     <li>LATEST_WINS - the computation thread keeps running, dropping the oldest queue to make room for the
+     *         newest, and the render thread always takes the newest queue - dropping any older ones. So the
+     *         computation runs at full speed and the render thread always shows the most recent cycle</li>
+     *     <li>DROP_OLDEST - the computation thread keeps running, dropping the oldest queue to make room for the
+     *         newest, and the render thread takes the queues in order</li>
+     * </ul>
+     */
+    public enum OverflowPolicy {
+        BLOCK, LATEST_WINS, DROP_OLDEST
+    }
 
     /**
      * The maximum number of {@link ResultQueue} instances that the class will hold
      */
-    private int maxQueues;
+    private volatile int maxQueues;
+
+    /**
+     * What happens when the holder is full
+     */
+    private volatile OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
 
     /**
-     * Allows assignment of a unique increasing ID to each result queue
+     * Allows assignment of a unique increasing ID to each result queue. Only accessed by the producer
      */
     private int queNum = 0;
 
     /**
-     * The queue of queues
+     * The queue of queues: computed queues, oldest first
+     */
+    private final FrameRing<ResultQueue> queues = new FrameRing<>(MAX_QUEUES);
+
+    /**
+     * Result queues that the consumer has handed back, for re-use by the producer
+     */
+    private final FrameRing<ResultQueue> free = new FrameRing<>(MAX_QUEUES);
+
+    /**
+     * Result queues that the producer dropped from {@link #queues}, for re-use by the producer. Only accessed
+     * by the producer
+     */
+    private final ArrayDeque<ResultQueue> dropped = new ArrayDeque<>();
+
+    /**
+     * Set when a computed queue is dropped by either thread, so the next queue is a resync
+     */
+    private final AtomicBoolean queueDropped = new AtomicBoolean();
+
+    /**
+     * The distance a body has to move to be included in a delta queue. Negative disables delta queues
+     */
+    private volatile float deltaEpsilon = -1;
+
+    /**
+     * If not null, sizes the holder automatically - see {@link #setAutoDepth}
      */
-    private final ConcurrentLinkedDeque<ResultQueue> queues;
+    private volatile QueueDepthController depthController;
 
     /**
-     * Holds the result of one computation cycle: all bodies in the simulation with whatever info is
-     * needed by the rendering engine
+     * The {@link ResultQueue#queNum} of the queue the render thread took most recently. Only accessed by the
+     * render thread
+     */
+    private int takenQueNum;
+
+    /**
+     * Holds the result of one computation cycle: the bodies in the simulation with whatever info is
+     * needed by the rendering engine. The values for each body are held at the same index in a set of
+     * parallel arrays. For simplicity the arrays are accessible to the package rather than being wrapped in
+     * getters. The arrays can be longer than the number of bodies - see {@link #size}
+     * <p>
+     * A full queue holds every body in the simulation. If delta queues are enabled - see
+     * {@link #setDeltaEpsilon} - then most queues are deltas, holding only the bodies that were added, removed,
+     * changed radius, color, or sun flag, or moved more than the configured distance since they were last in a
+     * queue. A consumer applies each queue to the state built from the queues before it, so a delta only applies
+     * on top of the queue created just before it - see {@link #baseQueNum}. If a queue was ever dropped, the
+     * render thread skips deltas until a full queue arrives. That queue is flagged as a resync, and the consumer
+     * removes any body that is not in it. The {@link #ATTRS} flag tells the consumer whether a body's radius, color, and sun flag need to be
+     * applied, or only its position.</p>
      */
     static final class ResultQueue {
         /**
-         * Initially a queue is created as un-computed. Once it is filled with all the bodies in the
-         * sim - the class consumer sets the queue to computed. The rendering engine won't act on the
-         * result queue until it is computed.
+         * Bits in {@link #flags}
+         */
+        static final int EXISTS = 1;
+        static final int SUN = 2;
+        static final int ATTRS = 4;
+
+        /**
+         * Translates {@link #colors} back to the enum
          */
-        private volatile boolean computed = false;
+        private static final Globals.Color[] COLORS = Globals.Color.values();
 
         /**
          * Diagnostic aid - monotonically increasing value
          */
-        private final int queNum;
+        private int queNum;
+
+        /**
+         * The {@link #queNum} of the queue created just before this one. If this is a delta, it only holds the
+         * changes since that queue
+         */
+        private int baseQueNum;
+
+        /**
+         * The number of bodies in the queue
+         */
+        private int count;
+
+        /**
+         * The {@link System#nanoTime} at which the queue was published
+         */
+        private long nanos;
 
         /**
-         * The bodies to render
+         * True if the queue holds every body, and if the consumer has to remove the bodies it is not holding
          */
-        private final List<BodyRenderInfo> queue;
+        private boolean full, resync;
+
+        /**
+         * The ID of each body. The ID is used to find the corresponding JME object by the rendering code
+         */
+        int[] ids;
+
+        /**
+         * The position and radius of each body
+         */
+        float[] x, y, z, radius;
+
+        /**
+         * The {@link #EXISTS}, {@link #SUN}, and {@link #ATTRS} bits of each body. A body that no longer exists is
+         * in the queue
+         * so the rendering engine removes it from the scene. The computation loop will subsequently remove it from
+         * the body store
+         */
+        int[] flags;
+
+        /**
+         * The ordinal of the {@link Globals.Color} of each body, or -1 if the body has no color
+         */
+        int[] colors;
 
         /**
          * Creates an instance with an initial capacity
          *
-         * @param capacity the initial number of BodyRenderInfo instances that will be enqueued (could grow)
+         * @param capacity the initial number of bodies that will be enqueued (could grow)
+         */
+        private ResultQueue(int capacity) {
+            allocate(Math.max(capacity, 1));
+        }
+
+        /**
+         * Prepares the instance to be filled with the result of a computation cycle
          */
-        ResultQueue(int queNum, int capacity) {
-            queue = new ArrayList<>(capacity);
+        private void reset(int queNum, int baseQueNum, int capacity, boolean full, boolean resync) {
             this.queNum = queNum;
+            this.baseQueNum = baseQueNum;
+            this.full = full;
+            this.resync = resync;
+            count = 0;
+            if (ids.length < capacity) {
+                allocate(capacity);
+            }
+        }
+
+        /**
+         * Adds a body that exists
+         *
+         * @param id     the ID of the body
+         * @param x      x position
+         * @param y      y "
+         * @param z      z "
+         * @param radius radius
+         * @param isSun  true if this is a sun (the rendering engine should create a light source for it)
+         * @param color  body color
+         * @param attrs  true if the radius, color, or sun flag are new or changed - always true in a full queue
+         */
+        void add(int id, float x, float y, float z, float radius, boolean isSun, Globals.Color color,
+                 boolean attrs) {
+            set(next(), id, x, y, z, radius, isSun, color, attrs);
+        }
+
+        /**
+         * Adds a body that no longer exists. This instructs the rendering thread to remove the object
+         * from the scene
+         *
+         * @param id the ID of the body
+         */
+        void addRemoved(int id) {
+            setRemoved(next(), id);
+        }
+
+        /**
+         * Writes a body that exists at an index, without changing the size of the queue. Used to fill disjoint
+         * ranges of the queue from multiple threads, which are then moved into place by {@link #append}
+         *
+         * @param i the index, less than the capacity passed to {@link ResultQueueHolder#newQueue}
+         *
+         * @see #add
+         */
+        void set(int i, int id, float x, float y, float z, float radius, boolean isSun, Globals.Color color,
+                 boolean attrs) {
+            ids[i] = id;
+            this.x[i] = x;
+            this.y[i] = y;
+            this.z[i] = z;
+            this.radius[i] = radius;
+            flags[i] = EXISTS | (isSun ? SUN : 0) | (attrs ? ATTRS : 0);
+            colors[i] = color == null ? -1 : color.ordinal();
         }
 
         /**
-         * Sets the queue to computed. The graphics engine checks this and will not consume the
-         * queue until it is computed
+         * Writes a body that no longer exists at an index, without changing the size of the queue
+         *
+         * @param i the index, less than the capacity passed to {@link ResultQueueHolder#newQueue}
+         *
+         * @see #addRemoved
+         * @see #set
          */
-        void setComputed() {
-            computed = true;
+        void setRemoved(int i, int id) {
+            ids[i] = id;
+            x[i] = y[i] = z[i] = radius[i] = 0;
+            flags[i] = 0;
+            colors[i] = -1;
         }
 
         /**
-         * Adds the passed instance to the result queue
+         * Appends bodies written by {@link #set} and {@link #setRemoved} to the queue, moving them down to follow
+         * the bodies already in it
          *
-         * @param bodyRenderInfo whatever is needed by the graphics engine to render the body
+         * @param from  the index of the first body to append. Not less than {@link #size}
+         * @param count the number of bodies to append
          */
-        void addRenderInfo(BodyRenderInfo bodyRenderInfo) {
-            if (bodyRenderInfo != null) {
-                queue.add(bodyRenderInfo);
+        void append(int from, int count) {
+            int to = this.count;
+            if (from != to) {
+                System.arraycopy(ids, from, ids, to, count);
+                System.arraycopy(x, from, x, to, count);
+                System.arraycopy(y, from, y, to, count);
+                System.arraycopy(z, from, z, to, count);
+                System.arraycopy(radius, from, radius, to, count);
+                System.arraycopy(flags, from, flags, to, count);
+                System.arraycopy(colors, from, colors, to, count);
             }
+            this.count = to + count;
         }
 
         /**
-         * @return the queue managed by the class
+         * @return the number of bodies in the queue
          */
-        List <BodyRenderInfo> getQueue() {
-            return queue;
+        int size() {
+            return count;
+        }
+
+        boolean exists(int i) {
+            return (flags[i] & EXISTS) != 0;
+        }
+
+        boolean hasAttrs(int i) {
+            return (flags[i] & ATTRS) != 0;
+        }
+
+        /**
+         * @return true if the queue holds every body in the simulation, false if it is a delta
+         */
+        boolean isFull() {
+            return full;
+        }
+
+        /**
+         * @return true if queues before this one were dropped, so the consumer has to remove any body that is not
+         * in this one. A resync queue is always full
+         */
+        boolean isResync() {
+            return resync;
+        }
+
+        boolean isSun(int i) {
+            return (flags[i] & SUN) != 0;
+        }
+
+        Globals.Color color(int i) {
+            return colors[i] < 0 ? null : COLORS[colors[i]];
         }
 
         /**
@@ -111,6 +345,40 @@ public final class ResultQueueHolder {
         int getQueNum() {
             return queNum;
         }
+
+        /**
+         * @return see {@link #nanos}
+         */
+        long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * @return the index of the next body, growing the arrays if they are full
+         */
+        private int next() {
+            if (count == ids.length) {
+                int capacity = ids.length * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                x = Arrays.copyOf(x, capacity);
+                y = Arrays.copyOf(y, capacity);
+                z = Arrays.copyOf(z, capacity);
+                radius = Arrays.copyOf(radius, capacity);
+                flags = Arrays.copyOf(flags, capacity);
+                colors = Arrays.copyOf(colors, capacity);
+            }
+            return count++;
+        }
+
+        private void allocate(int capacity) {
+            ids = new int[capacity];
+            x = new float[capacity];
+            y = new float[capacity];
+            z = new float[capacity];
+            radius = new float[capacity];
+            flags = new int[capacity];
+            colors = new int[capacity];
+        }
     }
 
     /**
@@ -120,34 +388,105 @@ public final class ResultQueueHolder {
      */
     public ResultQueueHolder(int maxQueues) {
         setMaxQueues(maxQueues);
-        queues = new ConcurrentLinkedDeque<>();
     }
 
     /**
-     * Creates a new result queue of the specified capacity
+     * Gets an empty result queue of the specified capacity for the computation thread to fill - re-using one
+     * that was dropped or handed back via {@link #recycle} if there is one. Once filled, the queue is passed to
+     * {@link #publish}. With {@link OverflowPolicy#BLOCK}, the computation thread first checks {@link #isFull}
      *
-     * @param capacity the number of bodyRenderInfo instances in the result queue
+     * @param capacity the number of bodies in the result queue
      *
-     * @return the created queue, or null if the max number of result queues are already
-     * held by the instance
+     * @return the queue
      */
     ResultQueue newQueue(int capacity) {
-        if (isFull()) {
-            return null;
+        ResultQueue rq = dropped.poll();
+        if (rq == null) {
+            rq = free.poll();
+        }
+        if (rq == null) {
+            rq = new ResultQueue(capacity);
+            metricResultQueueAllocCount.incValue();
+        }
+        boolean resync = queueDropped.getAndSet(false);
+        // with latest-wins, the render thread skips queues all the time, which would break every chain of deltas
+        boolean full = resync || deltaEpsilon < 0 || overflowPolicy == OverflowPolicy.LATEST_WINS;
+        int baseQueNum = queNum;
+        rq.reset(nextQueNum(), baseQueNum, capacity, full, resync);
+        if (logger.isDebugEnabled()) {
+            // guarded so the args aren't boxed every cycle
+            logger.debug("Adding result queue ID {} with size={}", rq.queNum, capacity);
         }
-        ResultQueue rq = new ResultQueue(nextQueNum(), capacity);
-        queues.add(rq);
-        logger.info("Adding result queue ID {} with size={}", rq.queNum, capacity);
-        metricResultQueueSizeGauge.setValue(queues.size());
         return rq;
     }
 
     /**
-     * @return true if the queue is at capacity and therefore cannot be increased
-     * via a call to {@link #newQueue}
+     * Makes a filled result queue available to the render thread. Unless the policy is
+     * {@link OverflowPolicy#BLOCK}, drops the oldest queues to make room for it if the holder is full. Only
+     * called by the computation thread
+     *
+     * @param rq a queue obtained from {@link #newQueue}
+     */
+    void publish(ResultQueue rq) {
+        rq.nanos = System.nanoTime();
+        int max = maxQueues;
+        if (overflowPolicy != OverflowPolicy.BLOCK) {
+            while (queues.size() >= max) {
+                ResultQueue oldest = queues.poll();
+                if (oldest == null) {
+                    break;
+                }
+                dropped.push(oldest);
+                queueDropped.set(true);
+                metricResultQueueDroppedCount.incValue();
+            }
+        }
+        if (!queues.offer(rq)) {
+            // not expected: the max number of queues never exceeds the ring capacity
+            dropped.push(rq);
+            queueDropped.set(true);
+            metricResultQueueDroppedCount.incValue();
+        }
+        int size = queues.size();
+        QueueDepthController controller = depthController;
+        if (controller != null && size >= max) {
+            // the computation is ahead of the renderer
+            controller.ahead();
+        }
+        metricResultQueueSizeGauge.setValue(size);
+        metricResultQueueEntriesGauge.setValue(rq.size());
+    }
+
+    /**
+     * Hands back a result queue that was obtained from {@link #nextComputedQueue}, once the consumer is done
+     * with it. The queue must not be used after this. Only called by the render thread
+     *
+     * @param rq the queue
+     */
+    void recycle(ResultQueue rq) {
+        free.offer(rq);
+    }
+
+    /**
+     * Takes the next computed queue if there is one, and recycles it without consuming it. Used when not rendering
+     *
+     * @return true if there was a computed queue
+     */
+    public boolean discardComputedQueue() {
+        ResultQueue rq = nextComputedQueue();
+        if (rq == null) {
+            return false;
+        }
+        recycle(rq);
+        return true;
+    }
+
+    /**
+     * @return true if the policy is {@link OverflowPolicy#BLOCK} and the queue is at capacity and therefore cannot
+     * be increased via a call to {@link #newQueue}
      */
     boolean isFull() {
-        return queues.size() >= maxQueues;
+        return overflowPolicy == OverflowPolicy.BLOCK && queues.size() >= maxQueues;
     }
 
     /**
@@ -158,26 +497,112 @@ public final class ResultQueueHolder {
     }
 
     /**
-     * Sets the max number of result queues the class will allow
+     * Sets the max number of result queues the class will allow. If the holder is sized automatically, the
+     * controller may change the value - see {@link #setAutoDepth}
      *
-     * @param maxQueues the value to set
+     * @param maxQueues the value to set, from one to {@link #MAX_QUEUES}
      */
     public void setMaxQueues(int maxQueues) {
-        this.maxQueues = maxQueues;
-        metricResultQueueMaxSizeGauge.setValue(maxQueues);
+        this.maxQueues = Math.max(1, Math.min(maxQueues, MAX_QUEUES));
+        metricResultQueueMaxSizeGauge.setValue(this.maxQueues);
+    }
+
+    /**
+     * @return true if the holder is sized automatically
+     */
+    public boolean getAutoDepth() {
+        return depthController != null;
     }
 
     /**
-     * @return the next computed queue or null if there are no computed queues
+     * Enables or disables sizing the holder automatically, to the smallest max number of result queues at which
+     * the render thread doesn't run out of queues. See {@link QueueDepthController}. The
+     * {@code nbody_result_queue_max_size} metric shows the chosen size
+     *
+     * @param autoDepth true to size the holder automatically, starting from the current max
      */
-    public ResultQueue nextComputedQueue() {
-        try {
-            return queues.getFirst().computed ? queues.poll() : null;
-        } catch (NoSuchElementException e) {
-            return null;
+    public void setAutoDepth(boolean autoDepth) {
+        if (autoDepth != getAutoDepth()) {
+            depthController = autoDepth ? new QueueDepthController(this) : null;
         }
     }
 
+    /**
+     * @return the distance a body has to move to be included in a delta queue. Negative means delta queues are
+     * disabled
+     */
+    public float getDeltaEpsilon() {
+        return deltaEpsilon;
+    }
+
+    /**
+     * Enables or disables delta queues - see {@link ResultQueue}. Delta queues are not sent with
+     * {@link OverflowPolicy#LATEST_WINS}, under which most queues are skipped
+     *
+     * @param deltaEpsilon the distance a body has to move to be included in a delta queue. Negative disables
+     *                     delta queues, so every queue holds every body
+     */
+    public void setDeltaEpsilon(float deltaEpsilon) {
+        this.deltaEpsilon = deltaEpsilon;
+    }
+
+    /**
+     * @return what happens when the holder is full
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Sets what happens when the holder is full
+     *
+     * @param overflowPolicy the policy
+     */
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Takes the next computed queue. Only called by the render thread, once per frame - each call is a frame to
+     * the automatic sizing
+     *
+     * @return the next computed queue - or with {@link OverflowPolicy#LATEST_WINS}, the newest computed queue - or
+     * null if there are no computed queues, or if the next queue is a delta that can't be applied because a queue
+     * before it was dropped. Once done with it, the caller hands the queue back via {@link #recycle}
+     */
+    ResultQueue nextComputedQueue() {
+        ResultQueue rq = queues.poll();
+        if (rq != null && overflowPolicy == OverflowPolicy.LATEST_WINS) {
+            for (ResultQueue newer; (newer = queues.poll()) != null; ) {
+                recycle(rq);
+                queueDropped.set(true);
+                metricResultQueueDroppedCount.incValue();
+                rq = newer;
+            }
+        }
+        if (rq != null && rq.baseQueNum != takenQueNum) {
+            // a queue between the one taken last and this one was dropped, so the consumer may have missed
+            // removals - and if this is a delta, it is missing changes. The drop makes the producer send a full
+            // queue, and deltas are skipped until it arrives
+            if (rq.full) {
+                rq.resync = true;
+            } else {
+                recycle(rq);
+                metricResultQueueDroppedCount.incValue();
+                rq = null;
+            }
+        }
+        if (rq != null) {
+            takenQueNum = rq.queNum;
+            metricResultQueueLatencyNanos.setValue(System.nanoTime() - rq.nanos);
+        }
+        QueueDepthController controller = depthController;
+        if (controller != null) {
+            controller.frame(rq != null);
+        }
+        return rq;
+    }
+
     /**
      * @return next queue number, wrapping: it's only a diagnostic aid
      */
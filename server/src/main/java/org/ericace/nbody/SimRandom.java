@@ -0,0 +1,83 @@
+package org.ericace.nbody;
+
+import java.util.SplittableRandom;
+
+/**
+ * The source of random numbers for the simulation. Unless a seed is set, the numbers differ from run to run.
+ * Once a seed is set with {@link #setSeed}, every random number the simulation uses is derived from it:
+ * <ul>
+ *   <li>Each thread that calls {@link #nextFloat} gets its own stream, split from a root stream in the order
+ *   in which threads first ask for a number. The sim generators run in the main thread before any other thread
+ *   starts, so the initial state of a generated sim is reproducible.</li>
+ *   <li>Each body that needs random numbers - e.g. to place its fragments - gets its own stream derived from the
+ *   seed and the body ID by {@link #forBody}. So a body's numbers don't depend on which thread is computing the
+ *   body, or on how many other bodies drew numbers before it.</li>
+ * </ul>
+ */
+public final class SimRandom {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * The seed all streams are derived from
+     */
+    private static volatile long seed = new SplittableRandom().nextLong();
+
+    /**
+     * The stream that per-thread streams are split from
+     */
+    private static SplittableRandom root = new SplittableRandom(seed);
+
+    private static final ThreadLocal<SplittableRandom> threadRandom = ThreadLocal.withInitial(SimRandom::splitRoot);
+
+    private SimRandom() {}
+
+    /**
+     * Seeds all random number streams. Must be called before any random numbers are generated - threads that
+     * already have a stream keep it
+     *
+     * @param seed the seed
+     */
+    public static synchronized void setSeed(long seed) {
+        SimRandom.seed = seed;
+        root = new SplittableRandom(seed);
+    }
+
+    /**
+     * @return a float from the calling thread's stream, greater than or equal to zero and less than one
+     */
+    public static float nextFloat() {
+        return (float) threadRandom.get().nextDouble();
+    }
+
+    /**
+     * @return the calling thread's stream
+     */
+    static SplittableRandom current() {
+        return threadRandom.get();
+    }
+
+    /**
+     * Creates the stream for a body. The seed is the body ID mixed with the sim seed, so the streams for
+     * different bodies don't overlap
+     *
+     * @param id the body ID
+     *
+     * @return a new stream, which always produces the same numbers for the same sim seed and body ID
+     */
+    static SplittableRandom forBody(int id) {
+        return new SplittableRandom(mix64(seed + GOLDEN_GAMMA * (id + 1L)));
+    }
+
+    private static synchronized SplittableRandom splitRoot() {
+        return root.split();
+    }
+
+    /**
+     * The SplitMix64 finalizer - spreads a sequence of similar longs across the full range of longs
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,6 +1,7 @@
 package org.ericace.nbody;
 
 import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * A simple value class. Rather than pulling the JME <i>Vector3f</i> class
@@ -36,11 +37,24 @@ public class SimpleVector {
      */
     @SuppressWarnings("unused")
     public static SimpleVector getVectorEven(SimpleVector center, float radius) {
+        return getVectorEven(center, radius, SimRandom.current());
+    }
+
+    /**
+     * Same as {@link #getVectorEven(SimpleVector, float)} but draws from the passed random number stream
+     *
+     * @param center The Vector around which to center the generated vector
+     * @param radius The radius within which to generate the vector
+     * @param random The random number stream
+     *
+     * @return a vector as as described
+     */
+    public static SimpleVector getVectorEven(SimpleVector center, float radius, SplittableRandom random) {
         float d, x, y, z;
         do {
-            x = (float) Math.random() * 2F - 1F;
-            y = (float) Math.random() * 2F - 1F;
-            z = (float) Math.random() * 2F - 1F;
+            x = (float) random.nextDouble() * 2F - 1F;
+            y = (float) random.nextDouble() * 2F - 1F;
+            z = (float) random.nextDouble() * 2F - 1F;
             d = x*x + y*y + z*z;
         } while (d > 1.0);
         return new SimpleVector(((x * radius) + center.x), ((y * radius) + center.y), ((z * radius) + center.z));
@@ -59,14 +73,14 @@ public class SimpleVector {
      */
     @SuppressWarnings("unused")
     public static SimpleVector getVectorConcentrated(SimpleVector center, float radius) {
-        float x = (float) Math.random() - 0.5F;
-        float y = (float) Math.random() - 0.5F;
-        float z = (float) Math.random() - 0.5F;
+        float x = SimRandom.nextFloat() - 0.5F;
+        float y = SimRandom.nextFloat() - 0.5F;
+        float z = SimRandom.nextFloat() - 0.5F;
         float mag = (float) Math.sqrt(x * x + y * y + z * z);
         x /= mag;
         y /= mag;
         z /= mag;
-        float d = (float) Math.random() * radius;
+        float d = SimRandom.nextFloat() * radius;
         return new SimpleVector(((x * d) + center.x), ((y * d) + center.y), ((z * d) + center.z));
     }
 
@@ -83,7 +97,7 @@ public class SimpleVector {
      */
     @SuppressWarnings("unused")
     public static SimpleVector getVectorOnSphere(SimpleVector center, float radius) {
-        Random r = new Random();
+        Random r = new Random(SimRandom.current().nextLong());
         float x = (float) r.nextGaussian();
         float y = (float) r.nextGaussian();
         float z = (float) r.nextGaussian();
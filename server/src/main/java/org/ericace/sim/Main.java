@@ -2,6 +2,8 @@ package org.ericace.sim;
 
 import org.ericace.globals.Globals;
 import org.ericace.nbody.Body;
+import org.ericace.nbody.ComputationRunner;
+import org.ericace.nbody.SimRandom;
 import org.ericace.nbody.SimpleVector;
 
 import java.lang.reflect.Method;
@@ -30,6 +32,25 @@ public class Main {
     private static String simArgs = null;
     private static boolean vSync = true;
     private static int frameRate = -1;
+    private static Body.CollisionSolver collisionSolver = Body.CollisionSolver.PLASMA;
+    private static boolean continuousCollision = false;
+    private static float sleepThreshold = 0;
+    private static int sleepCycles = 30;
+    private static float [] coarsening = null;
+    private static boolean deterministic = false;
+    private static Long seed = null;
+    private static String offHeap = null;
+    private static int mortonSortInterval = 0;
+    private static ComputationRunner.ForceMode forceMode = ComputationRunner.ForceMode.DIRECT;
+    private static float theta = .5F;
+    private static int contactCacheAge = 0;
+    private static int computeLod = 0;
+    private static boolean interpolate = false;
+    private static float deltaFrames = -1;
+    private static boolean instanced = false;
+    private static boolean meshLod = false;
+    private static float renderCells = 0;
+    private static boolean autoQueueDepth = false;
 
     /**
      * Entry point. Instantiates and runs the simulation class: {@link NBodySim}. Parses args to set params,
@@ -45,6 +66,10 @@ public class Main {
         if (!parseArgs(args)) {
             return;
         }
+        if (seed != null) {
+            // before the sim is generated, so the generated sim is reproducible
+            SimRandom.setSeed(seed);
+        }
         Sim t;
         if (csvPath != null) {
             List<Body> bodies = SimGenerator.fromCSV(csvPath, bodyCount, defaultCollisionBehavior, defaultBodyColor);
@@ -73,6 +98,22 @@ public class Main {
                 .resolution(resolution)
                 .vSync(vSync)
                 .frameRate(frameRate)
+                .collisionSolver(collisionSolver)
+                .continuousCollision(continuousCollision)
+                .islandSleep(sleepThreshold, sleepCycles)
+                .coarsening(coarsening)
+                .deterministic(deterministic)
+                .offHeap(offHeap)
+                .mortonSortInterval(mortonSortInterval)
+                .forceMode(forceMode, theta)
+                .contactCacheAge(contactCacheAge)
+                .computeLod(computeLod)
+                .interpolate(interpolate)
+                .deltaFrames(deltaFrames)
+                .instanced(instanced)
+                .meshLod(meshLod)
+                .renderCells(renderCells)
+                .autoQueueDepth(autoQueueDepth)
                 .build()
                 .run();
     }
@@ -176,6 +217,69 @@ public class Main {
                     case "--initial-cam":
                         initialCam = parseVector(argQueue.poll());
                         break;
+                    case "--collision-solver":
+                        collisionSolver = Body.CollisionSolver.valueOf(argQueue.poll().toUpperCase());
+                        break;
+                    case "--ccd":
+                        continuousCollision = true;
+                        break;
+                    case "--sleep-threshold":
+                        sleepThreshold = Float.parseFloat(argQueue.poll());
+                        break;
+                    case "--sleep-cycles":
+                        sleepCycles = Integer.parseInt(argQueue.poll());
+                        break;
+                    case "--coarsening":
+                        String c = argQueue.poll();
+                        String [] cSplit = c.split(",");
+                        if (cSplit.length != 3) {
+                            throw new RuntimeException("Invalid coarsening: " + c);
+                        }
+                        coarsening = new float[] {Float.parseFloat(cSplit[0]), Float.parseFloat(cSplit[1]),
+                                Float.parseFloat(cSplit[2])};
+                        break;
+                    case "--deterministic":
+                        deterministic = true;
+                        break;
+                    case "--seed":
+                        seed = Long.parseLong(argQueue.poll());
+                        break;
+                    case "--off-heap":
+                        offHeap = argQueue.poll();
+                        break;
+                    case "--morton-sort":
+                        mortonSortInterval = Integer.parseInt(argQueue.poll());
+                        break;
+                    case "--force":
+                        forceMode = ComputationRunner.ForceMode.valueOf(argQueue.poll().toUpperCase());
+                        break;
+                    case "--theta":
+                        theta = Float.parseFloat(argQueue.poll());
+                        break;
+                    case "--contact-cache":
+                        contactCacheAge = Integer.parseInt(argQueue.poll());
+                        break;
+                    case "--compute-lod":
+                        computeLod = Integer.parseInt(argQueue.poll());
+                        break;
+                    case "--interpolate":
+                        interpolate = true;
+                        break;
+                    case "--delta-frames":
+                        deltaFrames = Float.parseFloat(argQueue.poll());
+                        break;
+                    case "--instanced":
+                        instanced = true;
+                        break;
+                    case "--mesh-lod":
+                        meshLod = true;
+                        break;
+                    case "--render-cells":
+                        renderCells = Float.parseFloat(argQueue.poll());
+                        break;
+                    case "--auto-queue-depth":
+                        autoQueueDepth = true;
+                        break;
                     case "-h":
                     case "--help":
                         System.out.println("Sorry: help not implemented yet...");
@@ -196,6 +300,9 @@ public class Main {
         if (simName == null && csvPath == null) {
             simName = DEFAULT_SIM_NAME;
         }
+        if (deterministic && seed == null) {
+            seed = 0L;
+        }
         return true;
     }
 
@@ -9,8 +9,12 @@ import org.ericace.instrumentation.Instrumentation;
 import org.ericace.instrumentation.InstrumentationManager;
 import org.ericace.nbody.*;
 
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Set;
 
 /**
  * Simulation runner
@@ -35,6 +39,11 @@ class NBodySim {
      */
     private static final int NO_RENDER_SLEEP_MS = 5;
 
+    /**
+     * The {@link #offHeap} value that holds the off-heap body values in direct memory rather than a file
+     */
+    private static final String OFF_HEAP_DIRECT = "direct";
+
     /**
      * A list of bodies to start the simulation with
      */
@@ -58,7 +67,7 @@ class NBodySim {
     /**
      * If not null, then the method will call the {@code start} method on the instance after
      * the sim is started. The {@code start} method is expected to start a thread which will
-     * then modify the body queue while the sim is running.
+     * then modify the body store while the sim is running.
      */
     private SimThread simThread;
 
@@ -84,13 +93,99 @@ class NBodySim {
      */
     private int frameRate;
 
+    /**
+     * The elastic collision solver
+     */
+    private Body.CollisionSolver collisionSolver;
+
+    /**
+     * If true, enables continuous collision detection
+     */
+    private boolean continuousCollision;
+
+    /**
+     * Contact island sleep threshold and cycle count. A threshold of zero disables island sleeping
+     */
+    private float sleepThreshold;
+    private int sleepCycles;
+
+    /**
+     * If not null, fragment coarsening distance, velocity, and max members
+     */
+    private float [] coarsening;
+
+    /**
+     * If true, the sim state does not depend on thread count or scheduling. See {@link Body#setDeterministic}
+     */
+    private boolean deterministic;
+
+    /**
+     * If not null, holds the body values off the heap: either {@link #OFF_HEAP_DIRECT}, or the path of a file
+     * to map it to
+     */
+    private String offHeap;
+
+    /**
+     * The number of compute cycles between Morton re-sorts of the body store. Zero disables re-sorting
+     */
+    private int mortonSortInterval;
+
+    /**
+     * How the force on each body is computed, and the octree opening angle
+     */
+    private ComputationRunner.ForceMode forceMode;
+    private float theta;
+
+    /**
+     * The number of cycles a pair of bodies stays in the contact cache after their last contact. Zero disables
+     * the cache
+     */
+    private int contactCacheAge;
+
+    /**
+     * The max number of cycles between force computations of bodies the camera can't see. Less than two
+     * disables camera-aware compute level of detail
+     */
+    private int computeLod;
+
+    /**
+     * If true, the renderer interpolates body positions between computed cycles, and the computation is not
+     * paced to the renderer
+     */
+    private boolean interpolate;
+
+    /**
+     * The distance a body has to move to be included in a delta result queue. Negative disables delta queues
+     */
+    private float deltaFrames;
+
+    /**
+     * If true, the renderer draws planets with hardware instancing
+     */
+    private boolean instanced;
+
+    /**
+     * If true, the renderer draws planets with a mesh level of detail based on their size on screen
+     */
+    private boolean meshLod;
+
+    /**
+     * The side of the renderer's culling cells in world units. Zero disables the cells
+     */
+    private float renderCells;
+
+    /**
+     * If true, the max number of result queues is sized automatically rather than fixed
+     */
+    private boolean autoQueueDepth;
+
     /**
      * Simulation runner
      *
      * <ol>
      *     <li>Initializes instrumentation which - depending on JVM properties - could be
      *         NOP instrumentation, or Prometheus instrumentation</li>
-     *     <li>Initializes a queue to hold all the bodies in the simulation from the {@link #bodies} field</li>
+     *     <li>Initializes a body store to hold all the bodies in the simulation from the {@link #bodies} field</li>
      *     <li>Initializes a result queue holder to hold computed results</li>
      *     <li>Initializes a computation runner and starts it, which perpetually computes the sim in a thread,
      *         placing the computed results into the result queue holder</li>
@@ -104,15 +199,38 @@ class NBodySim {
      */
     void run() {
         try {
-            ConcurrentLinkedQueue<Body> bodyQueue = new ConcurrentLinkedQueue<>(bodies);
+            Body.setCollisionSolver(collisionSolver);
+            Body.setContinuousCollisionDetection(continuousCollision);
+            Body.setDeterministic(deterministic);
+            Body.setContactCacheAge(contactCacheAge);
+            if (coarsening != null) {
+                Body.setCoarsening(coarsening[0], coarsening[1], (int) coarsening[2]);
+            }
+            BodyStore bodyStore = new BodyStore(bodies);
+            if (offHeap != null) {
+                bodyStore.enableOffHeap(OFF_HEAP_DIRECT.equalsIgnoreCase(offHeap) ? null : Paths.get(offHeap));
+            }
+            bodyStore.setMortonSortInterval(mortonSortInterval);
             ResultQueueHolder resultQueueHolder = new ResultQueueHolder(DEFAULT_MAX_RESULT_QUEUES);
+            resultQueueHolder.setDeltaEpsilon(deltaFrames);
+            resultQueueHolder.setAutoDepth(autoQueueDepth);
+            if (interpolate) {
+                // the renderer smooths over however many cycles the computation manages per frame
+                resultQueueHolder.setOverflowPolicy(ResultQueueHolder.OverflowPolicy.LATEST_WINS);
+            }
+            ComputeLod lod = render && computeLod > 1 ? new ComputeLod(computeLod) : null;
             if (render) {
-                JMEApp.start(bodies.size(), resultQueueHolder, initialCam, resolution, vSync, frameRate, JME_THREAD_NAME);
+                JMEApp.start(bodies.size(), resultQueueHolder, initialCam, resolution, vSync, frameRate, lod,
+                        interpolate, instanced, meshLod, renderCells, JME_THREAD_NAME);
             }
-            ComputationRunner.start(threads, bodyQueue, scaling, resultQueueHolder);
-            NBodyServiceServer.start(new ConfigurablesImpl(bodyQueue, resultQueueHolder, ComputationRunner.getInstance()));
+            ComputationRunner runner = ComputationRunner.create(threads, bodyStore, scaling, resultQueueHolder);
+            runner.setIslandSleep(sleepThreshold, sleepCycles);
+            runner.setForceMode(forceMode, theta);
+            runner.setComputeLod(lod);
+            runner.startThread();
+            NBodyServiceServer.start(new ConfigurablesImpl(bodyStore, resultQueueHolder, ComputationRunner.getInstance()));
             if (simThread != null) {
-                simThread.start(bodyQueue);
+                simThread.start(bodyStore);
             }
             getJmeThread(render, resultQueueHolder).join();
         } catch (Exception e) {
@@ -155,7 +273,7 @@ class NBodySim {
                 boolean running = true;
                 while (running) {
                     try {
-                        if (resultQueueHolder.nextComputedQueue() == null) {
+                        if (!resultQueueHolder.discardComputedQueue()) {
                             Thread.sleep(NO_RENDER_SLEEP_MS);
                         }
                     } catch (InterruptedException e) {
@@ -171,7 +289,7 @@ class NBodySim {
     /**
      * Handles the requests from the gRPC server to get and set configurables affecting the
      * behavior of the simulation. This is a facade class that delegates everything to the
-     * {@link #resultQueueHolder}, {@link #bodyQueue}, and {@link #computationRunner} instance
+     * {@link #resultQueueHolder}, {@link #bodyStore}, and {@link #computationRunner} instance
      * fields. The class is called by the gRPC server: {@link NBodyServiceServer}
      *
      * @see NBodyServiceServer
@@ -180,7 +298,7 @@ class NBodySim {
         /**
          * Holds all the bodies in the simulation
          */
-        private final ConcurrentLinkedQueue<Body> bodyQueue;
+        private final BodyStore bodyStore;
 
         /**
          * Holds computation results that are provided to the rendering engine
@@ -195,15 +313,17 @@ class NBodySim {
         /**
          * Saves the passed refs to instance fields with the same name to delegate calls to
          */
-        ConfigurablesImpl(ConcurrentLinkedQueue<Body> bodyQueue, ResultQueueHolder resultQueueHolder,
+        ConfigurablesImpl(BodyStore bodyStore, ResultQueueHolder resultQueueHolder,
                           ComputationRunner computationRunner) {
-            this.bodyQueue = bodyQueue;
+            this.bodyStore = bodyStore;
             this.resultQueueHolder = resultQueueHolder;
             this.computationRunner = computationRunner;
         }
 
         @Override
         public void setResultQueueSize(int queueSize)  {
+            // an explicit size overrides automatic sizing
+            resultQueueHolder.setAutoDepth(false);
             resultQueueHolder.setMaxQueues(queueSize);
         }
 
@@ -212,6 +332,16 @@ class NBodySim {
             return resultQueueHolder.getMaxQueues();
         }
 
+        @Override
+        public void setResultQueuePolicy(ResultQueueHolder.OverflowPolicy policy) {
+            resultQueueHolder.setOverflowPolicy(policy);
+        }
+
+        @Override
+        public ResultQueueHolder.OverflowPolicy getResultQueuePolicy() {
+            return resultQueueHolder.getOverflowPolicy();
+        }
+
         @Override
         public void setSmoothing(float smoothing)  {
             computationRunner.setTimeScaling(smoothing);
@@ -242,6 +372,26 @@ class NBodySim {
             return Body.getRestitutionCoefficient();
         }
 
+        @Override
+        public void setCoarsening(float distance, float velocity, int maxMembers) {
+            Body.setCoarsening(distance, velocity, maxMembers);
+        }
+
+        @Override
+        public float getCoarseningDistance() {
+            return Body.getCoarseningDistance();
+        }
+
+        @Override
+        public float getCoarseningVelocity() {
+            return Body.getCoarseningVelocity();
+        }
+
+        @Override
+        public int getCoarseningMaxMembers() {
+            return Body.getCoarseningMaxMembers();
+        }
+
         /**
          * Makes a best effort to remove the passed number of bodies from the simulation, with the removals
          * distributed evenly across the body queue. Pinned objects aren't removed (with the exception described
@@ -254,16 +404,16 @@ class NBodySim {
         @Override
         public void removeBodies(int countToRemove)  {
             if (countToRemove == -1) {
-                for (Body b : bodyQueue) {
+                for (Body b : bodyStore) {
                     b.setNotExists();
                 }
                 return;
             }
             int removedCnt = 0;
-            int step = countToRemove > bodyQueue.size() ? 1 : bodyQueue.size() / countToRemove;
+            int step = countToRemove > bodyStore.size() ? 1 : bodyStore.size() / countToRemove;
             int iter = 0;
             boolean shouldRemove = false;
-            for (Body b : bodyQueue) {
+            for (Body b : bodyStore) {
                 if (iter++ % step == 0) {
                     shouldRemove = true;
                 }
@@ -280,7 +430,7 @@ class NBodySim {
 
         @Override
         public int getBodyCount() {
-            return bodyQueue.size();
+            return bodyStore.size();
         }
 
         @Override
@@ -288,25 +438,35 @@ class NBodySim {
                            float radius, boolean isSun, Globals.CollisionBehavior behavior, Globals.Color bodyColor,
                            float fragFactor, float fragStep, boolean withTelemetry, String name, String clas,
                            boolean pinned)  {
-            Body b = new Body(Body.nextID(), x, y, z, vx, vy, vz, mass, radius, behavior, bodyColor, fragFactor,
+            Body b = Body.obtain(x, y, z, vx, vy, vz, mass, radius, behavior, bodyColor, fragFactor,
                     fragStep, withTelemetry, name, clas, pinned);
             if (isSun) {
                 b.setSun();
             }
-            bodyQueue.add(b);
+            bodyStore.add(b);
             return b.getId();
         }
 
+        /**
+         * Searches the staged bodies as well as the store, so a body can be modified by the ID returned by
+         * {@link #addBody} before the body enters the simulation
+         */
         @Override
         public ModBodyResult modBody(int id, String bodyName, String bodyClass, List<BodyMod> bodyMods)  {
             int modified = 0;
             int found = 0;
-            for (Body b : bodyQueue) {
-                if (!StringUtils.isEmpty(bodyClass) && bodyClass.equalsIgnoreCase(b.getClas()) ||
-                    !StringUtils.isEmpty(bodyName) && bodyName.equalsIgnoreCase(b.getName()) ||
-                    id == b.getId()) {
-                    ++found;
-                    modified += b.mod(bodyMods) ? 1 : 0;
+            // a body that moves into the store during the search can be seen twice, so only modify it once
+            Set<Body> matched = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Iterable<Body> bodies : Arrays.asList(bodyStore.getStaged(), bodyStore)) {
+                for (Body b : bodies) {
+                    // if the body is re-used from the pool after it matches, the mod is refused
+                    int generation = b.getGeneration();
+                    if ((!StringUtils.isEmpty(bodyClass) && bodyClass.equalsIgnoreCase(b.getClas()) ||
+                        !StringUtils.isEmpty(bodyName) && bodyName.equalsIgnoreCase(b.getName()) ||
+                        id == b.getId()) && matched.add(b)) {
+                        ++found;
+                        modified += b.mod(generation, bodyMods) ? 1 : 0;
+                    }
                 }
             }
             if (found == 0) return ModBodyResult.NO_MATCH;
@@ -315,15 +475,34 @@ class NBodySim {
             return ModBodyResult.MOD_SOME;
         }
 
+        /**
+         * Searches the staged bodies as well as the store - see {@link #modBody}
+         */
         @Override
         public Body getBody(int id, String bodyName) {
-            for (Body b : bodyQueue) {
-                if (!StringUtils.isEmpty(bodyName) && bodyName.equalsIgnoreCase(b.getName()) || id == b.getId()) {
-                    return b;
+            for (Iterable<Body> bodies : Arrays.asList(bodyStore.getStaged(), bodyStore)) {
+                for (Body b : bodies) {
+                    if (!StringUtils.isEmpty(bodyName) && bodyName.equalsIgnoreCase(b.getName()) || id == b.getId()) {
+                        // a copy, because the body may be re-used from the pool while the caller still holds it
+                        Body copy = b.snapshot();
+                        if (copy != null) {
+                            return copy;
+                        }
+                    }
                 }
             }
             return null;
         }
+
+        @Override
+        public List<Body> findBodiesInSphere(float x, float y, float z, float radius) {
+            return computationRunner.findBodiesInSphere(x, y, z, radius);
+        }
+
+        @Override
+        public List<Body> findNearestBodies(float x, float y, float z, int maxCount) {
+            return computationRunner.findNearestBodies(x, y, z, maxCount);
+        }
     }
 
     /**
@@ -339,6 +518,24 @@ class NBodySim {
         this.resolution = builder.resolution;
         this.vSync = builder.vSync;
         this.frameRate = builder.frameRate;
+        this.collisionSolver = builder.collisionSolver;
+        this.continuousCollision = builder.continuousCollision;
+        this.sleepThreshold = builder.sleepThreshold;
+        this.sleepCycles = builder.sleepCycles;
+        this.coarsening = builder.coarsening;
+        this.deterministic = builder.deterministic;
+        this.offHeap = builder.offHeap;
+        this.mortonSortInterval = builder.mortonSortInterval;
+        this.forceMode = builder.forceMode;
+        this.theta = builder.theta;
+        this.contactCacheAge = builder.contactCacheAge;
+        this.computeLod = builder.computeLod;
+        this.interpolate = builder.interpolate;
+        this.instanced = builder.instanced;
+        this.meshLod = builder.meshLod;
+        this.renderCells = builder.renderCells;
+        this.deltaFrames = builder.deltaFrames;
+        this.autoQueueDepth = builder.autoQueueDepth;
     }
 
     /**
@@ -354,6 +551,24 @@ class NBodySim {
         private int [] resolution;
         private boolean vSync;
         private int frameRate;
+        private Body.CollisionSolver collisionSolver = Body.CollisionSolver.PLASMA;
+        private boolean continuousCollision;
+        private float sleepThreshold;
+        private int sleepCycles;
+        private float [] coarsening;
+        private boolean deterministic;
+        private String offHeap;
+        private int mortonSortInterval;
+        private ComputationRunner.ForceMode forceMode = ComputationRunner.ForceMode.DIRECT;
+        private float theta;
+        private int contactCacheAge;
+        private int computeLod;
+        private boolean interpolate;
+        private boolean instanced;
+        private boolean meshLod;
+        private float renderCells;
+        private float deltaFrames = -1;
+        private boolean autoQueueDepth;
 
         Builder bodies(List<Body> bodies) {
             this.bodies = bodies;
@@ -391,6 +606,72 @@ class NBodySim {
             this.frameRate = frameRate;
             return this;
         }
+        Builder collisionSolver(Body.CollisionSolver collisionSolver) {
+            this.collisionSolver = collisionSolver;
+            return this;
+        }
+        Builder continuousCollision(boolean continuousCollision) {
+            this.continuousCollision = continuousCollision;
+            return this;
+        }
+        Builder islandSleep(float sleepThreshold, int sleepCycles) {
+            this.sleepThreshold = sleepThreshold;
+            this.sleepCycles = sleepCycles;
+            return this;
+        }
+        Builder coarsening(float [] coarsening) {
+            this.coarsening = coarsening;
+            return this;
+        }
+        Builder deterministic(boolean deterministic) {
+            this.deterministic = deterministic;
+            return this;
+        }
+        Builder offHeap(String offHeap) {
+            this.offHeap = offHeap;
+            return this;
+        }
+        Builder mortonSortInterval(int mortonSortInterval) {
+            this.mortonSortInterval = mortonSortInterval;
+            return this;
+        }
+        Builder forceMode(ComputationRunner.ForceMode forceMode, float theta) {
+            this.forceMode = forceMode;
+            this.theta = theta;
+            return this;
+        }
+        Builder contactCacheAge(int contactCacheAge) {
+            this.contactCacheAge = contactCacheAge;
+            return this;
+        }
+        Builder computeLod(int computeLod) {
+            this.computeLod = computeLod;
+            return this;
+        }
+        Builder interpolate(boolean interpolate) {
+            this.interpolate = interpolate;
+            return this;
+        }
+        Builder deltaFrames(float deltaFrames) {
+            this.deltaFrames = deltaFrames;
+            return this;
+        }
+        Builder instanced(boolean instanced) {
+            this.instanced = instanced;
+            return this;
+        }
+        Builder meshLod(boolean meshLod) {
+            this.meshLod = meshLod;
+            return this;
+        }
+        Builder renderCells(float renderCells) {
+            this.renderCells = renderCells;
+            return this;
+        }
+        Builder autoQueueDepth(boolean autoQueueDepth) {
+            this.autoQueueDepth = autoQueueDepth;
+            return this;
+        }
         NBodySim build() {
             return new NBodySim(this);
         }
@@ -2,6 +2,8 @@ package org.ericace.sim;
 
 import org.ericace.globals.Globals;
 import org.ericace.nbody.Body;
+import org.ericace.nbody.BodyStore;
+import org.ericace.nbody.SimRandom;
 import org.ericace.nbody.SimpleVector;
 
 import java.io.BufferedReader;
@@ -9,7 +11,6 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Utility class that generates various canned simulations:
@@ -57,8 +58,8 @@ public class SimGenerator {
                 else if (i ==  1 && j ==  1) {vx =  V; vz = -V; y = +100; color = defaultBodyColor == null ? Globals.Color.LIGHTGRAY : defaultBodyColor;}
                 else                         {vx = -V; vz = -V; y = -100; color = defaultBodyColor == null ? Globals.Color.CYAN : defaultBodyColor;}
                 for (int c = 0; c < bodyCount / 4; ++c) {
-                    vy = .5F - (float) Math.random(); // mostly in the same y plane
-                    float f = (float) Math.random();
+                    vy = .5F - SimRandom.nextFloat(); // mostly in the same y plane
+                    float f = SimRandom.nextFloat();
                     radius = c < bodyCount * .0025 ? 8 * f : 3 * f;
                     mass = radius * SOLAR_MASS * .000005F;
                     SimpleVector v = SimpleVector.getVectorEven(new SimpleVector(xc, y, zc), clumpRadius);
@@ -89,8 +90,8 @@ public class SimGenerator {
         createSunAndAddToQueue(bodies, 0, 0, 0, 25F * SOLAR_MASS * .1F, 25);
         for (int i = 0; i < bodyCount; ++i) {
             SimpleVector v = SimpleVector.getVectorEven(new SimpleVector(500.0F, 500.0F, 500.0F), 50);
-            float mass = 2 * ((float) Math.random()) * SOLAR_MASS * .000005F;
-            float radius = (float) Math.random() * 4;
+            float mass = 2 * (SimRandom.nextFloat()) * SOLAR_MASS * .000005F;
+            float radius = SimRandom.nextFloat() * 4;
             bodies.add(new Body(Body.nextID(), v.x, v.y, v.z, -1124500000F, -824500000F, -1124500000F, mass,
                     radius, collisionBehavior, defaultBodyColor, 1, 1, false, null, null, false));
         }
@@ -148,7 +149,7 @@ public class SimGenerator {
      */
     private static class sim3Thread implements SimThread, Runnable {
         private boolean running = true;
-        private ConcurrentLinkedQueue<Body> bodyQueue;
+        private BodyStore bodyStore;
         private final Globals.CollisionBehavior collisionBehavior;
         private final Globals.Color defaultBodyColor;
         private final int injectCnt;
@@ -164,8 +165,8 @@ public class SimGenerator {
         }
 
         @Override
-        public void start(ConcurrentLinkedQueue<Body> bodyQueue) {
-            this.bodyQueue = bodyQueue;
+        public void start(BodyStore bodyStore) {
+            this.bodyStore = bodyStore;
             new Thread(this).start();
         }
         @Override
@@ -178,15 +179,15 @@ public class SimGenerator {
                         System.out.println("Done: added " + injectCnt + " bodies");
                     } else {
                         ++cnt;
-                        float x = (float) Math.random() * 5 - 200;
-                        float y = (float) Math.random() * 5 + 400;
-                        float z = (float) Math.random() * 5 - 200;
-                        float radius = (float) Math.random() * 5;
+                        float x = SimRandom.nextFloat() * 5 - 200;
+                        float y = SimRandom.nextFloat() * 5 + 400;
+                        float z = SimRandom.nextFloat() * 5 - 200;
+                        float radius = SimRandom.nextFloat() * 5;
                         float mass = radius * 2.93E+12F;
                         Globals.Color color = defaultBodyColor == null ? Globals.Color.BLUE : defaultBodyColor;
-                        Body b = new Body(Body.nextID(), x, y, z, -99827312, 112344240, 323464000, mass, radius,
+                        Body b = Body.obtain(x, y, z, -99827312, 112344240, 323464000, mass, radius,
                                 collisionBehavior, color, 1, 1, false, null, null, false);
-                        bodyQueue.add(b);
+                        bodyStore.add(b);
                         Thread.sleep(500);
                     }
                 } catch (Exception e) {
@@ -273,7 +274,7 @@ public class SimGenerator {
      */
     private static class sim5Thread implements SimThread, Runnable {
         private boolean running = true;
-        private ConcurrentLinkedQueue<Body> bodyQueue;
+        private BodyStore bodyStore;
         private Body planet;
 
         @Override
@@ -282,9 +283,9 @@ public class SimGenerator {
         }
 
         @Override
-        public void start(ConcurrentLinkedQueue<Body> bodyQueue) {
-            this.bodyQueue = bodyQueue;
-            for (Body b : bodyQueue) {
+        public void start(BodyStore bodyStore) {
+            this.bodyStore = bodyStore;
+            for (Body b : bodyStore) {
                 if (b.getId() == 1) {
                     planet = b;
                     break;
@@ -296,7 +297,7 @@ public class SimGenerator {
         public void run() {
             while (running) {
                 try {
-                    if (bodyQueue.size() > 6) {
+                    if (bodyStore.size() > 6) {
                         planet.setCollisionBehavior(Globals.CollisionBehavior.SUBSUME);
                         running = false;
                     } else {
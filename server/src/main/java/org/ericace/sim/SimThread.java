@@ -1,8 +1,6 @@
 package org.ericace.sim;
 
-import org.ericace.nbody.Body;
-
-import java.util.concurrent.ConcurrentLinkedQueue;
+import org.ericace.nbody.BodyStore;
 
 /**
  * Implementers of this interface can inject bodies into the simulation while it is running
@@ -16,8 +14,8 @@ public interface SimThread {
     /**
      * Starts a thread
      *
-     * @param bodyQueue the queue of bodies comprising the simulation. The thread can modify the simulation
-     *                  by, for example, adding bodies to the queue
+     * @param bodyStore the bodies comprising the simulation. The thread can modify the simulation
+     *                  by, for example, adding bodies to the store
      */
-    void start(ConcurrentLinkedQueue<Body> bodyQueue);
+    void start(BodyStore bodyStore);
 }
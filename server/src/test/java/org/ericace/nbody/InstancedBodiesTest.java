@@ -0,0 +1,142 @@
+package org.ericace.nbody;
+
+import com.jme3.asset.AssetManager;
+import com.jme3.asset.DesktopAssetManager;
+import com.jme3.math.ColorRGBA;
+import com.jme3.math.Vector3f;
+import com.jme3.renderer.Camera;
+import com.jme3.scene.Node;
+import com.jme3.scene.Spatial;
+import com.jme3.scene.VertexBuffer;
+import com.jme3.scene.instancing.InstancedGeometry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.Buffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Checks the scene-graph cost of {@link InstancedBodies} without a GL context: the bodies are rendered by a plain
+ * {@code Node} of instanced geometry, which is never drawn
+ */
+public class InstancedBodiesTest {
+    private Node parent;
+    private MeshLod meshLod;
+    private InstancedBodies bodies;
+
+    @Before
+    public void setUp() {
+        AssetManager assetManager = new DesktopAssetManager(true);
+        Camera cam = new Camera(800, 600);
+        cam.setFrustumPerspective(45, 800F / 600, 1, 100000);
+        cam.setLocation(Vector3f.ZERO);
+        meshLod = new MeshLod(assetManager);
+        meshLod.setCamera(cam);
+        parent = new Node();
+        bodies = new InstancedBodies(assetManager, parent, meshLod);
+    }
+
+    /**
+     * Bodies at different distances from the camera are drawn at different levels, with one geometry - one draw
+     * call - per level in use, however many bodies are at the level
+     */
+    @Test
+    public void oneGeometryPerNonEmptyLevel() {
+        float[] distances = {5, 100, 200, 10000};
+        int id = 0;
+        for (float distance : distances) {
+            for (int i = 0; i < 10; ++i) {
+                bodies.add(id++, i, 0, distance, 1, ColorRGBA.Blue);
+            }
+        }
+        bodies.updateLevels();
+        bodies.flush();
+        for (int level = 0; level < MeshLod.LEVELS; ++level) {
+            assertEquals("bodies at level " + level, 10, bodies.size(level));
+        }
+        assertEquals(MeshLod.LEVELS, drawn().size());
+
+        // empty the finest level. Its geometry stays in the scene but is not drawn
+        for (int i = 0; i < 10; ++i) {
+            bodies.remove(i);
+        }
+        bodies.flush();
+        assertEquals(0, bodies.size(0));
+        assertEquals(MeshLod.LEVELS - 1, drawn().size());
+        int instances = 0;
+        for (InstancedGeometry geometry : drawn()) {
+            instances += geometry.getActualNumInstances();
+        }
+        assertEquals(bodies.size(), instances);
+    }
+
+    /**
+     * Moving bodies only changes the contents of the instance buffers. The buffers themselves are replaced only
+     * when a batch outgrows them
+     */
+    @Test
+    public void instanceBuffersAreReusedUntilOutgrown() {
+        for (int id = 0; id < 10; ++id) {
+            bodies.add(id, id, 0, 100, 1, ColorRGBA.Red);
+        }
+        bodies.flush();
+        InstancedGeometry batch = drawn().get(0);
+        VertexBuffer[] data = batch.getAllInstanceData();
+        Buffer[] buffers = buffers(data);
+
+        for (int frame = 1; frame <= 30; ++frame) {
+            for (int id = 0; id < 10; ++id) {
+                bodies.move(id, id, frame, 100);
+            }
+            bodies.flush();
+            assertEquals(1, drawn().size());
+            assertSame(batch, drawn().get(0));
+            VertexBuffer[] frameData = batch.getAllInstanceData();
+            for (int i = 0; i < data.length; ++i) {
+                assertSame(data[i], frameData[i]);
+                assertSame(buffers[i], frameData[i].getData());
+            }
+        }
+
+        for (int id = 10; id < InstancedBodies.INITIAL_CAPACITY; ++id) {
+            bodies.add(id, id, 0, 100, 1, ColorRGBA.Red);
+        }
+        bodies.flush();
+        for (int i = 0; i < data.length; ++i) {
+            assertSame("full but not outgrown", buffers[i], batch.getAllInstanceData()[i].getData());
+        }
+
+        bodies.add(InstancedBodies.INITIAL_CAPACITY, 0, 0, 100, 1, ColorRGBA.Red);
+        bodies.flush();
+        for (int i = 0; i < data.length; ++i) {
+            assertNotSame("outgrown", buffers[i], batch.getAllInstanceData()[i].getData());
+        }
+        assertEquals(InstancedBodies.INITIAL_CAPACITY + 1, batch.getActualNumInstances());
+    }
+
+    /**
+     * @return the instanced geometries in the scene that draw at least one instance
+     */
+    private List<InstancedGeometry> drawn() {
+        List<InstancedGeometry> drawn = new ArrayList<>();
+        for (Spatial child : parent.getChildren()) {
+            if (child instanceof InstancedGeometry && ((InstancedGeometry) child).getActualNumInstances() > 0) {
+                drawn.add((InstancedGeometry) child);
+            }
+        }
+        return drawn;
+    }
+
+    private static Buffer[] buffers(VertexBuffer[] data) {
+        Buffer[] buffers = new Buffer[data.length];
+        for (int i = 0; i < data.length; ++i) {
+            buffers[i] = data[i].getData();
+        }
+        return buffers;
+    }
+}